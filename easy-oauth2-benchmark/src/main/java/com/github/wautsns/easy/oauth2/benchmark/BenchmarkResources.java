@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Benchmark resources.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class BenchmarkResources {
+
+    /**
+     * Read the given classpath resource as text.
+     *
+     * @param name resource name
+     * @return text
+     */
+    public static @NotNull String readAsText(@NotNull String name) {
+        try (InputStream inputStream = Objects.requireNonNull(
+                BenchmarkResources.class.getClassLoader().getResourceAsStream(name), name)) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int length; (length = inputStream.read(buffer)) >= 0; ) {
+                outputStream.write(buffer, 0, length);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ######################################################################################
+
+    /** Utility. */
+    private BenchmarkResources() {}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark launcher.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Usage: {@code java -jar easy-oauth2-benchmark/target/benchmarks.jar [jmh options]}, e.g. {@code
+ * GitHubOAuth2ClientBenchmark -t 4}.</li>
+ * <li>The {@linkplain GCProfiler gc profiler} is always enabled, so that allocation rate per operation is reported
+ * along with throughput.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class BenchmarkLauncher {
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args jmh command line options
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(commandLineOptions).addProfiler(GCProfiler.class).build()).run();
+    }
+
+    // ######################################################################################
+
+    /** Utility. */
+    private BenchmarkLauncher() {}
+
+}
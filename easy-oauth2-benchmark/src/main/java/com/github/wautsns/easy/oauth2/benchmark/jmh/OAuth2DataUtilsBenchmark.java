@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.wautsns.easy.oauth2.benchmark.BenchmarkResources;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2IOException;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link OAuth2DataUtils}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class OAuth2DataUtilsBenchmark {
+
+    /** Body of GitHub user. */
+    private byte[] githubUser;
+
+    // ######################################################################################
+
+    @Setup
+    public void setup() {
+        githubUser = BenchmarkResources.readAsText("github-user.json").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ######################################################################################
+
+    @Benchmark
+    public JsonNode readJSONAsTree() throws OAuth2IOException {
+        return OAuth2DataUtils.readJSONAsTree(new ByteArrayInputStream(githubUser));
+    }
+
+}
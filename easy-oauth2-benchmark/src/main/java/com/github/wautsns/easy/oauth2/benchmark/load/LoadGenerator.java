@@ -0,0 +1,491 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load;
+
+import com.github.wautsns.easy.oauth2.benchmark.load.configuration.LoadGeneratorProperties;
+import com.github.wautsns.easy.oauth2.benchmark.mock.MockOAuth2Provider;
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2LatencyDistribution;
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2ProviderProperties;
+import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorFactoryManager;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.BuiltinOAuth2Platform;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.GiteeOAuth2Client;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2ApplicationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2AuthorizationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2Permission;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.GitHubOAuth2Client;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2ApplicationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2AuthorizationProperties;
+import org.HdrHistogram.Histogram;
+import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator, which drives logins of a builtin client against {@link MockOAuth2Provider}.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Usage: {@code java -cp easy-oauth2-benchmark/target/benchmarks.jar
+ * com.github.wautsns.easy.oauth2.benchmark.load.LoadGenerator [--name=value]...}, run with {@code --help} for
+ * names.</li>
+ * <li>A login is {@code initializeAuthorizeURL -> exchangeForToken -> exchangeForUser -> refreshToken} (the last step
+ * only for platforms whose tokens are refreshable), see {@link LoadStep}.</li>
+ * <li>With a target rate, logins are scheduled open loop and their latencies are measured from the intended start,
+ * so that a stalled client is not hidden by coordinated omission. Without a target rate, {@code concurrency} logins
+ * are driven as fast as possible.</li>
+ * <li>Every second, interval throughput and latency, live threads and established connections to the mock provider
+ * (Linux only) are printed. A report with p50/p99/p999 latencies of every step and errors by exception is printed at
+ * the end.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class LoadGenerator {
+
+    /** Usage. */
+    private static final String USAGE = String.join(
+            System.lineSeparator(),
+            "Usage: LoadGenerator [--name=value]...",
+            "  --platform=gitee|github                 platform of builtin client (default: gitee)",
+            "  --request-executor-factory=<id>         identifier of request executor factory",
+            "  --async=true|false                      drive asynchronous apis (default: false)",
+            "  --concurrency=<n>                       max concurrent logins (default: 32)",
+            "  --rate=<n>                              target logins per second, 0 is unlimited (default: 0)",
+            "  --warm-up=<duration>                    e.g. PT5S (default: PT5S)",
+            "  --duration=<duration>                   e.g. PT30S (default: PT30S)",
+            "  --latency=<duration>                    mean latency of mock provider (default: PT0S)",
+            "  --latency-distribution=<distribution>   CONSTANT|UNIFORM|EXPONENTIAL|LOG_NORMAL (default: CONSTANT)",
+            "  --error-rate=<rate>                     injected error rate of mock provider (default: 0.0)",
+            "  --error-status=<status>                 status of injected errors (default: 503)",
+            "  --rate-limit=<n>                        rate limit per window of mock provider, 0 is unlimited",
+            "  --rate-limit-window=<duration>          window of rate limit (default: PT1H)",
+            "  --access-token-time-to-live=<duration>  time to live of Gitee access tokens (default: PT24H)"
+    );
+
+    /** Properties. */
+    private final @NotNull LoadGeneratorProperties properties;
+    /** Output of reports. */
+    private final @NotNull PrintStream out;
+
+    // ######################################################################################
+    // #################### run #############################################################
+    // ######################################################################################
+
+    /**
+     * Run load generator.
+     *
+     * @return statistics of measurement (excluding warm-up)
+     * @throws IOException if failed to start mock oauth2 provider
+     * @throws InterruptedException if interrupted
+     */
+    public @NotNull LoadStatistics run() throws IOException, InterruptedException {
+        out.println("Run load generator with properties: " + properties);
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(properties.getMockProvider())) {
+            AbstractOAuth2RequestExecutor<?> requestExecutor = provider.redirect(
+                    OAuth2RequestExecutorFactoryManager.one(properties.getRequestExecutorFactory())
+                            .create(properties.getRequestExecutor())
+            );
+            LoginFlow<?> flow = initializeLoginFlow(requestExecutor);
+            int port = Integer.parseInt(provider.baseURL().substring(provider.baseURL().lastIndexOf(':') + 1));
+            if (!properties.getWarmUp().isZero()) {
+                runPhase("warm-up", flow, properties.getWarmUp(), port);
+            }
+            return runPhase("measurement", flow, properties.getDuration(), port);
+        }
+    }
+
+    /**
+     * Run a phase.
+     *
+     * @param name phase name
+     * @param flow login flow
+     * @param duration duration
+     * @param port port of mock oauth2 provider
+     * @return statistics
+     * @throws InterruptedException if interrupted
+     */
+    private @NotNull LoadStatistics runPhase(
+            @NotNull String name, @NotNull LoginFlow<?> flow, @NotNull Duration duration, int port)
+            throws InterruptedException {
+        LoadStatistics statistics = new LoadStatistics();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        threadMXBean.resetPeakThreadCount();
+        AtomicInteger peakConnections = new AtomicInteger();
+        long startNanos = System.nanoTime();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "easy-oauth2-load-generator-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicLong lastFailed = new AtomicLong();
+        reporter.scheduleAtFixedRate(() -> {
+            Histogram logins = drain(statistics);
+            long failed = statistics.failed();
+            int connections = countEstablishedConnections(port);
+            peakConnections.accumulateAndGet(connections, Math::max);
+            out.printf(
+                    Locale.ROOT, "[%s %5.1fs] logins: %8d/s, p50: %8.3f ms, p99: %8.3f ms, failed: %6d/s, "
+                            + "threads: %4d, connections: %4d%n",
+                    name, (System.nanoTime() - startNanos) / 1e9, logins.getTotalCount(),
+                    logins.getValueAtPercentile(50) / 1e3, logins.getValueAtPercentile(99) / 1e3,
+                    failed - lastFailed.getAndSet(failed), threadMXBean.getThreadCount(), connections
+            );
+        }, 1, 1, TimeUnit.SECONDS);
+        try {
+            if (properties.getAsync()) {
+                driveAsynchronously(flow, statistics, startNanos, duration);
+            } else {
+                driveSynchronously(flow, statistics, startNanos, duration);
+            }
+        } finally {
+            reporter.shutdownNow();
+            reporter.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        drain(statistics);
+        report(name, statistics, elapsedNanos, threadMXBean.getPeakThreadCount(), peakConnections.get());
+        return statistics;
+    }
+
+    /**
+     * Drive logins synchronously with {@code concurrency} threads.
+     *
+     * @param flow login flow
+     * @param statistics statistics
+     * @param startNanos start in nanoseconds
+     * @param duration duration
+     * @throws InterruptedException if interrupted
+     */
+    private void driveSynchronously(
+            @NotNull LoginFlow<?> flow, @NotNull LoadStatistics statistics, long startNanos,
+            @NotNull Duration duration) throws InterruptedException {
+        long endNanos = startNanos + duration.toNanos();
+        long intervalNanos = (properties.getRate() > 0) ? (TimeUnit.SECONDS.toNanos(1) / properties.getRate()) : 0;
+        AtomicLong sequence = new AtomicLong();
+        List<Thread> workers = new ArrayList<>(properties.getConcurrency());
+        for (int i = 0; i < properties.getConcurrency(); i++) {
+            Thread worker = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    long intendedStartNanos = (intervalNanos > 0)
+                            ? (startNanos + sequence.getAndIncrement() * intervalNanos)
+                            : System.nanoTime();
+                    if (intendedStartNanos - endNanos >= 0) { break; }
+                    parkUntil(intendedStartNanos);
+                    flow.login(statistics, intendedStartNanos);
+                }
+            }, "easy-oauth2-load-generator-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) { worker.join(); }
+    }
+
+    /**
+     * Drive logins asynchronously with at most {@code concurrency} in-flight logins.
+     *
+     * @param flow login flow
+     * @param statistics statistics
+     * @param startNanos start in nanoseconds
+     * @param duration duration
+     * @throws InterruptedException if interrupted
+     */
+    private void driveAsynchronously(
+            @NotNull LoginFlow<?> flow, @NotNull LoadStatistics statistics, long startNanos,
+            @NotNull Duration duration) throws InterruptedException {
+        long endNanos = startNanos + duration.toNanos();
+        long intervalNanos = (properties.getRate() > 0) ? (TimeUnit.SECONDS.toNanos(1) / properties.getRate()) : 0;
+        Semaphore permits = new Semaphore(properties.getConcurrency());
+        for (long sequence = 0; ; sequence++) {
+            long intendedStartNanos = (intervalNanos > 0) ? (startNanos + sequence * intervalNanos) : System.nanoTime();
+            if (intendedStartNanos - endNanos >= 0) { break; }
+            parkUntil(intendedStartNanos);
+            permits.acquire();
+            flow.loginAsync(statistics, intendedStartNanos).whenComplete((result, throwable) -> permits.release());
+        }
+        // Wait for in-flight logins.
+        long timeoutMillis = properties.getRequestExecutor().getReadTimeout().toMillis() * 4;
+        if (!permits.tryAcquire(properties.getConcurrency(), timeoutMillis, TimeUnit.MILLISECONDS)) {
+            out.println("Timed out waiting for in-flight logins.");
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize login flow of the platform.
+     *
+     * @param requestExecutor request executor
+     * @return login flow
+     */
+    private @NotNull LoginFlow<?> initializeLoginFlow(@NotNull AbstractOAuth2RequestExecutor<?> requestExecutor) {
+        String platform = properties.getPlatform();
+        if (BuiltinOAuth2Platform.GITHUB.getIdentifier().equals(platform)) {
+            return LoginFlow.of(new GitHubOAuth2Client(new OAuth2ClientMetadata<>(
+                    platform,
+                    new GitHubOAuth2ApplicationProperties()
+                            .setClientId("client-id")
+                            .setClientSecret("client-secret")
+                            .setAuthorizeCallbackURL("https://example.com/oauth2/callback/github"),
+                    new GitHubOAuth2AuthorizationProperties(),
+                    requestExecutor
+            )));
+        } else if (BuiltinOAuth2Platform.GITEE.getIdentifier().equals(platform)) {
+            return LoginFlow.of(new GiteeOAuth2Client(new OAuth2ClientMetadata<>(
+                    platform,
+                    new GiteeOAuth2ApplicationProperties()
+                            .setClientId("client-id")
+                            .setClientSecret("client-secret")
+                            .setCallbacks(Collections.singletonList("https://example.com/oauth2/callback/gitee")),
+                    new GiteeOAuth2AuthorizationProperties()
+                            .setPermissions(new LinkedHashSet<>(
+                                    Collections.singletonList(GiteeOAuth2Permission.USER_INFO)
+                            )),
+                    requestExecutor
+            )));
+        } else {
+            throw new IllegalArgumentException(String.format("Unsupported platform: %s", platform));
+        }
+    }
+
+    /**
+     * Drain latencies of all steps.
+     *
+     * @param statistics statistics
+     * @return login latencies recorded since last drain
+     */
+    private static @NotNull Histogram drain(@NotNull LoadStatistics statistics) {
+        Histogram logins = null;
+        for (LoadStep step : LoadStep.values()) {
+            Histogram interval = statistics.drain(step);
+            if (step == LoadStep.LOGIN) { logins = interval; }
+        }
+        return logins;
+    }
+
+    /**
+     * Print report of a phase.
+     *
+     * @param name phase name
+     * @param statistics statistics
+     * @param elapsedNanos elapsed time in nanoseconds
+     * @param peakThreads peak live threads
+     * @param peakConnections peak established connections to mock oauth2 provider
+     */
+    private void report(
+            @NotNull String name, @NotNull LoadStatistics statistics, long elapsedNanos,
+            int peakThreads, int peakConnections) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        out.printf(Locale.ROOT, "########## Report of %s (%.1fs) ##########%n", name, elapsedSeconds);
+        out.printf(
+                Locale.ROOT, "logins: %d succeeded (%.1f/s), %d failed%n",
+                statistics.succeeded(), statistics.succeeded() / elapsedSeconds, statistics.failed()
+        );
+        out.printf(
+                Locale.ROOT, "%-24s %10s %10s %10s %10s %10s%n",
+                "step", "count", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"
+        );
+        for (LoadStep step : LoadStep.values()) {
+            Histogram histogram = statistics.histogram(step);
+            if (histogram.getTotalCount() == 0) { continue; }
+            out.printf(
+                    Locale.ROOT, "%-24s %10d %10.3f %10.3f %10.3f %10.3f%n",
+                    step.displayName(), histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                    histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMaxValue() / 1e3
+            );
+        }
+        Map<String, Long> errors = statistics.errors();
+        if (!errors.isEmpty()) {
+            out.println("errors:");
+            errors.forEach((error, count) -> out.printf(Locale.ROOT, "  %-40s %10d%n", error, count));
+        }
+        out.printf(Locale.ROOT, "peak threads: %d, peak connections: %d%n", peakThreads, peakConnections);
+    }
+
+    /**
+     * Park the current thread until the given {@code deadlineNanos}.
+     *
+     * @param deadlineNanos deadline in nanoseconds
+     */
+    private static void parkUntil(long deadlineNanos) {
+        for (long remainingNanos; (remainingNanos = deadlineNanos - System.nanoTime()) > 0; ) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    /**
+     * Count established tcp connections to the given remote {@code port}.
+     *
+     * @param port remote port
+     * @return number of established connections, or {@code -1} if unsupported (only Linux is supported)
+     */
+    private static int countEstablishedConnections(int port) {
+        String remotePort = String.format(":%04X", port);
+        int count = 0;
+        for (String name : new String[]{"/proc/net/tcp", "/proc/net/tcp6"}) {
+            Path path = Paths.get(name);
+            if (!Files.isReadable(path)) { continue; }
+            try {
+                for (String line : Files.readAllLines(path, StandardCharsets.US_ASCII)) {
+                    // e.g. "0: 0100007F:A1B2 0100007F:1F90 01 ...", 01 means established.
+                    String[] columns = line.trim().split("\\s+");
+                    if ((columns.length > 3) && columns[2].endsWith(remotePort) && "01".equals(columns[3])) {
+                        count++;
+                    }
+                }
+            } catch (IOException e) {
+                return -1;
+            }
+        }
+        return count;
+    }
+
+    // ######################################################################################
+    // #################### main ############################################################
+    // ######################################################################################
+
+    /**
+     * Run load generator with the given arguments.
+     *
+     * @param args arguments like {@code --name=value}
+     * @throws Exception if an error occurs
+     */
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(USAGE);
+            return;
+        }
+        LoadGeneratorProperties properties;
+        try {
+            properties = parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+        new LoadGenerator(properties, System.out).run();
+        // Request executors may hold non-daemon threads (e.g. I/O reactors of apache httpasyncclient).
+        System.exit(0);
+    }
+
+    /**
+     * Parse the given arguments.
+     *
+     * @param args arguments like {@code --name=value}
+     * @return load generator properties
+     * @throws IllegalArgumentException if an argument is illegal
+     */
+    static @NotNull LoadGeneratorProperties parseArguments(@NotNull String[] args) {
+        LoadGeneratorProperties properties = new LoadGeneratorProperties();
+        MockOAuth2ProviderProperties mockProvider = new MockOAuth2ProviderProperties();
+        properties.setMockProvider(mockProvider);
+        for (String arg : args) {
+            int index = arg.indexOf('=');
+            if (!arg.startsWith("--") || (index < 0)) { throw new IllegalArgumentException("Illegal argument: " + arg); }
+            String name = arg.substring(2, index);
+            String value = arg.substring(index + 1);
+            switch (name) {
+                case "platform":
+                    properties.setPlatform(value);
+                    break;
+                case "request-executor-factory":
+                    properties.setRequestExecutorFactory(value);
+                    break;
+                case "async":
+                    properties.setAsync(Boolean.parseBoolean(value));
+                    break;
+                case "concurrency":
+                    properties.setConcurrency(Integer.parseInt(value));
+                    break;
+                case "rate":
+                    properties.setRate(Integer.parseInt(value));
+                    break;
+                case "warm-up":
+                    properties.setWarmUp(Duration.parse(value));
+                    break;
+                case "duration":
+                    properties.setDuration(Duration.parse(value));
+                    break;
+                case "latency":
+                    mockProvider.setLatency(Duration.parse(value));
+                    break;
+                case "latency-distribution":
+                    mockProvider.setLatencyDistribution(MockOAuth2LatencyDistribution.valueOf(value));
+                    break;
+                case "error-rate":
+                    mockProvider.setErrorRate(Double.parseDouble(value));
+                    break;
+                case "error-status":
+                    mockProvider.setErrorStatus(Integer.parseInt(value));
+                    break;
+                case "rate-limit":
+                    mockProvider.setRateLimit(Integer.parseInt(value));
+                    break;
+                case "rate-limit-window":
+                    mockProvider.setRateLimitWindow(Duration.parse(value));
+                    break;
+                case "access-token-time-to-live":
+                    mockProvider.setAccessTokenTimeToLive(Duration.parse(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+        return properties.rewriteNullToDefaultValue();
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties properties
+     * @param out output of reports
+     */
+    public LoadGenerator(@NotNull LoadGeneratorProperties properties, @NotNull PrintStream out) {
+        this.properties = properties.rewriteNullToDefaultValue();
+        this.out = out;
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load;
+
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.jetbrains.annotations.NotNull;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load statistics.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Latencies are recorded in microseconds by lock-free {@link Recorder}s, and are accumulated into {@link
+ * Histogram}s when {@linkplain #drain(LoadStep) drained} by the single reporting thread.</li>
+ * <li>Errors are counted by the simple name of the unwrapped exception class, e.g. {@code "OAuth2IOException"}.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class LoadStatistics {
+
+    /** Highest trackable latency in microseconds. */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    /** Number of significant value digits of histograms. */
+    private static final int NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = 3;
+
+    /** Recorders of steps. */
+    private final @NotNull Map<LoadStep, Recorder> recorders = new EnumMap<>(LoadStep.class);
+    /** Accumulated histograms of steps. */
+    private final @NotNull Map<LoadStep, Histogram> histograms = new EnumMap<>(LoadStep.class);
+    /** Number of succeeded logins. */
+    private final @NotNull LongAdder succeeded = new LongAdder();
+    /** Number of failed logins, key is the simple name of exception class. */
+    private final @NotNull ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    // ######################################################################################
+    // #################### record ##########################################################
+    // ######################################################################################
+
+    /**
+     * Record latency of the given {@code step}.
+     *
+     * @param step step
+     * @param startNanos start in nanoseconds
+     * @param endNanos end in nanoseconds
+     */
+    public void record(@NotNull LoadStep step, long startNanos, long endNanos) {
+        long micros = Math.min(Math.max(0, (endNanos - startNanos) / 1000), HIGHEST_TRACKABLE_MICROS);
+        recorders.get(step).recordValue(micros);
+    }
+
+    /** Record a succeeded login. */
+    public void succeed() {
+        succeeded.increment();
+    }
+
+    /**
+     * Record a failed login.
+     *
+     * @param throwable cause of failure
+     */
+    public void fail(@NotNull Throwable throwable) {
+        String name = OAuth2FutureUtils.unwrap(throwable).getClass().getSimpleName();
+        errors.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    // ######################################################################################
+    // #################### read ############################################################
+    // ######################################################################################
+
+    /**
+     * Drain latencies recorded since last drain of the given {@code step}, and accumulate them.
+     *
+     * @param step step
+     * @return latencies recorded since last drain, in microseconds
+     */
+    public synchronized @NotNull Histogram drain(@NotNull LoadStep step) {
+        Histogram interval = recorders.get(step).getIntervalHistogram();
+        histograms.get(step).add(interval);
+        return interval;
+    }
+
+    /**
+     * Return accumulated latencies of the given {@code step}.
+     *
+     * @param step step
+     * @return accumulated latencies in microseconds (drain before reading)
+     */
+    public synchronized @NotNull Histogram histogram(@NotNull LoadStep step) {
+        return histograms.get(step).copy();
+    }
+
+    /**
+     * Return number of succeeded logins.
+     *
+     * @return number of succeeded logins
+     */
+    public long succeeded() {
+        return succeeded.sum();
+    }
+
+    /**
+     * Return number of failed logins.
+     *
+     * @return number of failed logins
+     */
+    public long failed() {
+        long failed = 0;
+        for (LongAdder counter : errors.values()) { failed += counter.sum(); }
+        return failed;
+    }
+
+    /**
+     * Return number of failed logins by error.
+     *
+     * @return number of failed logins, key is the simple name of exception class
+     */
+    public @NotNull Map<String, Long> errors() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errors.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /** Construct an instance. */
+    public LoadStatistics() {
+        for (LoadStep step : LoadStep.values()) {
+            recorders.put(step, new Recorder(HIGHEST_TRACKABLE_MICROS, NUMBER_OF_SIGNIFICANT_VALUE_DIGITS));
+            histograms.put(step, new Histogram(HIGHEST_TRACKABLE_MICROS, NUMBER_OF_SIGNIFICANT_VALUE_DIGITS));
+        }
+    }
+
+}
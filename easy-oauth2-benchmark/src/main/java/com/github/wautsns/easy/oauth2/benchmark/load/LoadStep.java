@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Load step, the latency of each step is recorded separately.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public enum LoadStep {
+
+    /** Initialize authorize url. */
+    INITIALIZE_AUTHORIZE_URL("initializeAuthorizeURL"),
+    /** Exchange callback query for token. */
+    EXCHANGE_FOR_TOKEN("exchangeForToken"),
+    /** Exchange token for user. */
+    EXCHANGE_FOR_USER("exchangeForUser"),
+    /** Refresh token (only for platforms whose tokens are refreshable). */
+    REFRESH_TOKEN("refreshToken"),
+    /** The whole login, measured from its intended start to avoid coordinated omission. */
+    LOGIN("login");
+
+    // ######################################################################################
+
+    /** Display name. */
+    private final @NotNull String displayName;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return display name.
+     *
+     * @return display name
+     */
+    public @NotNull String displayName() {
+        return displayName;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param displayName display name
+     */
+    LoadStep(@NotNull String displayName) {
+        this.displayName = displayName;
+    }
+
+}
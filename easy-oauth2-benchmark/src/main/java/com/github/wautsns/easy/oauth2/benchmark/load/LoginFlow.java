@@ -0,0 +1,186 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load;
+
+import com.github.wautsns.easy.oauth2.core.client.AbstractTokenAvailableOAuth2Client;
+import com.github.wautsns.easy.oauth2.core.client.AbstractTokenRefreshableOAuth2Client;
+import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Login flow: initialize authorize url, exchange callback query for token, exchange token for user and refresh token
+ * (if refreshable).
+ *
+ * @param <T> the type of oauth2 token
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+final class LoginFlow<T extends AbstractOAuth2Token> {
+
+    /** OAuth2 client. */
+    private final @NotNull AbstractTokenAvailableOAuth2Client<?, ?, T, ?> client;
+    /** Refresh token, {@code null} if token is not refreshable. */
+    private final @Nullable OAuth2FutureUtils.OAuth2Function<T, ?> refreshToken;
+    /** Refresh token asynchronously, {@code null} if token is not refreshable. */
+    private final @Nullable Function<T, CompletableFuture<?>> refreshTokenAsync;
+
+    // ######################################################################################
+    // #################### login ###########################################################
+    // ######################################################################################
+
+    /**
+     * Login.
+     *
+     * @param statistics statistics
+     * @param intendedStartNanos intended start in nanoseconds
+     */
+    void login(@NotNull LoadStatistics statistics, long intendedStartNanos) {
+        try {
+            long startNanos = System.nanoTime();
+            String state = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            client.initializeAuthorizeURL(state);
+            long authorizedNanos = System.nanoTime();
+            statistics.record(LoadStep.INITIALIZE_AUTHORIZE_URL, startNanos, authorizedNanos);
+            T token = client.exchangeForToken(callbackQuery(state));
+            long tokenExchangedNanos = System.nanoTime();
+            statistics.record(LoadStep.EXCHANGE_FOR_TOKEN, authorizedNanos, tokenExchangedNanos);
+            client.exchangeForUser(token);
+            long endNanos = System.nanoTime();
+            statistics.record(LoadStep.EXCHANGE_FOR_USER, tokenExchangedNanos, endNanos);
+            if (refreshToken != null) {
+                long userExchangedNanos = endNanos;
+                refreshToken.apply(token);
+                endNanos = System.nanoTime();
+                statistics.record(LoadStep.REFRESH_TOKEN, userExchangedNanos, endNanos);
+            }
+            statistics.record(LoadStep.LOGIN, intendedStartNanos, endNanos);
+            statistics.succeed();
+        } catch (OAuth2Exception | RuntimeException e) {
+            statistics.fail(e);
+        }
+    }
+
+    /**
+     * Login asynchronously.
+     *
+     * @param statistics statistics
+     * @param intendedStartNanos intended start in nanoseconds
+     * @return future which will be completed (never exceptionally) when the login finishes
+     */
+    @NotNull CompletableFuture<Void> loginAsync(@NotNull LoadStatistics statistics, long intendedStartNanos) {
+        long startNanos = System.nanoTime();
+        String state = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        try {
+            client.initializeAuthorizeURL(state);
+        } catch (OAuth2Exception | RuntimeException e) {
+            statistics.fail(e);
+            return CompletableFuture.completedFuture(null);
+        }
+        long authorizedNanos = System.nanoTime();
+        statistics.record(LoadStep.INITIALIZE_AUTHORIZE_URL, startNanos, authorizedNanos);
+        return client.exchangeForTokenAsync(callbackQuery(state))
+                .thenCompose(token -> {
+                    long tokenExchangedNanos = System.nanoTime();
+                    statistics.record(LoadStep.EXCHANGE_FOR_TOKEN, authorizedNanos, tokenExchangedNanos);
+                    return client.exchangeForUserAsync(token).thenCompose(user -> {
+                        long userExchangedNanos = System.nanoTime();
+                        statistics.record(LoadStep.EXCHANGE_FOR_USER, tokenExchangedNanos, userExchangedNanos);
+                        if (refreshTokenAsync == null) { return CompletableFuture.completedFuture(userExchangedNanos); }
+                        return refreshTokenAsync.apply(token).thenApply(refreshedToken -> {
+                            long tokenRefreshedNanos = System.nanoTime();
+                            statistics.record(LoadStep.REFRESH_TOKEN, userExchangedNanos, tokenRefreshedNanos);
+                            return tokenRefreshedNanos;
+                        });
+                    });
+                })
+                .handle((endNanos, throwable) -> {
+                    if (throwable == null) {
+                        statistics.record(LoadStep.LOGIN, intendedStartNanos, endNanos);
+                        statistics.succeed();
+                    } else {
+                        statistics.fail(throwable);
+                    }
+                    return null;
+                });
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return a callback query as if the user has authorized with the given {@code state}.
+     *
+     * @param state state
+     * @return callback query
+     */
+    private static @NotNull OAuth2CallbackQuery callbackQuery(@NotNull String state) {
+        String code = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return new OAuth2CallbackQuery(OAuth2DataUtils.newObjectNode().put("code", code).put("state", state));
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Return a login flow of the given token available {@code client}.
+     *
+     * @param <T> the type of oauth2 token
+     * @param client oauth2 client
+     * @return login flow
+     */
+    static <T extends AbstractOAuth2Token> @NotNull LoginFlow<T> of(
+            @NotNull AbstractTokenAvailableOAuth2Client<?, ?, T, ?> client) {
+        return new LoginFlow<>(client, null, null);
+    }
+
+    /**
+     * Return a login flow of the given token refreshable {@code client}.
+     *
+     * @param <T> the type of oauth2 token
+     * @param client oauth2 client
+     * @return login flow
+     */
+    static <T extends AbstractRefreshableOAuth2Token> @NotNull LoginFlow<T> of(
+            @NotNull AbstractTokenRefreshableOAuth2Client<?, ?, T, ?> client) {
+        return new LoginFlow<>(client, client::refreshToken, client::refreshTokenAsync);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param client oauth2 client
+     * @param refreshToken refresh token
+     * @param refreshTokenAsync refresh token asynchronously
+     */
+    private LoginFlow(
+            @NotNull AbstractTokenAvailableOAuth2Client<?, ?, T, ?> client,
+            @Nullable OAuth2FutureUtils.OAuth2Function<T, ?> refreshToken,
+            @Nullable Function<T, CompletableFuture<?>> refreshTokenAsync) {
+        this.client = client;
+        this.refreshToken = refreshToken;
+        this.refreshTokenAsync = refreshTokenAsync;
+    }
+
+}
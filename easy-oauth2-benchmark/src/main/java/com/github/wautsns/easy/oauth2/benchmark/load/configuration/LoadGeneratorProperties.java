@@ -0,0 +1,209 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load.configuration;
+
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2ProviderProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.BuiltinOAuth2Platform;
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpclient.OAuth2RequestExecutorFactoryBasedOnApacheHttpclient;
+import java.time.Duration;
+
+/**
+ * Load generator properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class LoadGeneratorProperties {
+
+    /**
+     * Default load generator properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>platform: {@code "gitee"}</li>
+     * <li>requestExecutorFactory: {@code OAuth2RequestExecutorFactoryBasedOnApacheHttpclient.class.getCanonicalName()}
+     * </li>
+     * <li>async: {@code false}</li>
+     * <li>concurrency: {@code 32}</li>
+     * <li>rate: {@code 0}</li>
+     * <li>warmUp: {@code Duration.parse("PT5S")}</li>
+     * <li>duration: {@code Duration.parse("PT30S")}</li>
+     * <li>requestExecutor: {@code new OAuth2RequestExecutorProperties()} with maxConcurrentRequests set to
+     * concurrency</li>
+     * <li>mockProvider: {@code new MockOAuth2ProviderProperties()}</li>
+     * </ul>
+     */
+    public static final LoadGeneratorProperties DEFAULT = new LoadGeneratorProperties()
+            .setPlatform(BuiltinOAuth2Platform.GITEE.getIdentifier())
+            .setRequestExecutorFactory(OAuth2RequestExecutorFactoryBasedOnApacheHttpclient.class.getCanonicalName())
+            .setAsync(false)
+            .setConcurrency(32)
+            .setRate(0)
+            .setWarmUp(Duration.parse("PT5S"))
+            .setDuration(Duration.parse("PT30S"));
+
+    // ######################################################################################
+
+    /** Identifier of builtin platform, {@code "github"} or {@code "gitee"}. */
+    private String platform;
+    /** Identifier of request executor factory. */
+    private String requestExecutorFactory;
+    /** Whether to drive clients with asynchronous apis. */
+    private Boolean async;
+    /** Max concurrent logins (threads in synchronous mode, in-flight logins in asynchronous mode). */
+    private Integer concurrency;
+    /** Target logins per second, {@code 0} means as fast as possible (closed loop). */
+    private Integer rate;
+    /** Duration of warm-up, whose statistics are discarded. */
+    private Duration warmUp;
+    /** Duration of measurement. */
+    private Duration duration;
+    /** Request executor properties. */
+    private OAuth2RequestExecutorProperties requestExecutor;
+    /** Mock oauth2 provider properties. */
+    private MockOAuth2ProviderProperties mockProvider;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public LoadGeneratorProperties rewriteNullToDefaultValue() {
+        if (platform == null) { platform = DEFAULT.platform; }
+        if (requestExecutorFactory == null) { requestExecutorFactory = DEFAULT.requestExecutorFactory; }
+        if (async == null) { async = DEFAULT.async; }
+        if (concurrency == null) { concurrency = DEFAULT.concurrency; }
+        if (rate == null) { rate = DEFAULT.rate; }
+        if (warmUp == null) { warmUp = DEFAULT.warmUp; }
+        if (duration == null) { duration = DEFAULT.duration; }
+        if (requestExecutor == null) { requestExecutor = new OAuth2RequestExecutorProperties(); }
+        if (requestExecutor.getMaxConcurrentRequests() == null) { requestExecutor.setMaxConcurrentRequests(concurrency); }
+        requestExecutor.rewriteNullToDefaultValue();
+        if (mockProvider == null) { mockProvider = new MockOAuth2ProviderProperties(); }
+        mockProvider.rewriteNullToDefaultValue();
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "LoadGeneratorProperties{" +
+                "platform='" + platform + '\'' +
+                ", requestExecutorFactory='" + requestExecutorFactory + '\'' +
+                ", async=" + async +
+                ", concurrency=" + concurrency +
+                ", rate=" + rate +
+                ", warmUp=" + warmUp +
+                ", duration=" + duration +
+                ", requestExecutor=" + requestExecutor +
+                ", mockProvider=" + mockProvider +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public LoadGeneratorProperties setPlatform(String platform) {
+        this.platform = platform;
+        return this;
+    }
+
+    public String getRequestExecutorFactory() {
+        return requestExecutorFactory;
+    }
+
+    public LoadGeneratorProperties setRequestExecutorFactory(String requestExecutorFactory) {
+        this.requestExecutorFactory = requestExecutorFactory;
+        return this;
+    }
+
+    public Boolean getAsync() {
+        return async;
+    }
+
+    public LoadGeneratorProperties setAsync(Boolean async) {
+        this.async = async;
+        return this;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public LoadGeneratorProperties setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public Integer getRate() {
+        return rate;
+    }
+
+    public LoadGeneratorProperties setRate(Integer rate) {
+        this.rate = rate;
+        return this;
+    }
+
+    public Duration getWarmUp() {
+        return warmUp;
+    }
+
+    public LoadGeneratorProperties setWarmUp(Duration warmUp) {
+        this.warmUp = warmUp;
+        return this;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public LoadGeneratorProperties setDuration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    public OAuth2RequestExecutorProperties getRequestExecutor() {
+        return requestExecutor;
+    }
+
+    public LoadGeneratorProperties setRequestExecutor(OAuth2RequestExecutorProperties requestExecutor) {
+        this.requestExecutor = requestExecutor;
+        return this;
+    }
+
+    public MockOAuth2ProviderProperties getMockProvider() {
+        return mockProvider;
+    }
+
+    public LoadGeneratorProperties setMockProvider(MockOAuth2ProviderProperties mockProvider) {
+        this.mockProvider = mockProvider;
+        return this;
+    }
+
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.mock;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.wautsns.easy.oauth2.benchmark.BenchmarkResources;
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2ProviderProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mock oauth2 provider, an in-process http server standing in for GitHub and Gitee.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Endpoints: {@code POST /login/oauth/access_token} and {@code GET /user} of GitHub, {@code POST /oauth/token}
+ * (authorization code and refresh token grants) and {@code GET /api/v5/user} of Gitee. Responses have the same json
+ * shapes as the real platforms, including their error responses, so that builtin clients parse them as usual.</li>
+ * <li>Tokens are self-describing (Gitee tokens carry their expiration), so the provider keeps no state per token and
+ * can serve long load tests with constant memory. Authorize code {@link #INVALID_AUTHORIZE_CODE} is always
+ * rejected.</li>
+ * <li>GitHub user responses carry an entity tag and conditional requests are answered with {@code 304}.</li>
+ * <li>Latency, injected errors and rate limit are configured by {@link MockOAuth2ProviderProperties}. Responses are
+ * delayed without occupying handler threads.</li>
+ * <li>Use {@link #redirect(AbstractOAuth2RequestExecutor)} to point clients at {@code this} provider.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class MockOAuth2Provider implements AutoCloseable {
+
+    /** Logger. */
+    private static final Logger log = LoggerFactory.getLogger(MockOAuth2Provider.class);
+
+    /** Origins served by mock oauth2 provider. */
+    public static final List<String> ORIGINS = Collections.unmodifiableList(Arrays.asList(
+            "https://github.com", "https://api.github.com", "https://gitee.com"
+    ));
+    /** Authorize code which is always rejected. */
+    public static final String INVALID_AUTHORIZE_CODE = "invalid";
+
+    /** Path: GitHub exchange callback query for token. */
+    private static final String PATH_GITHUB_TOKEN = "/login/oauth/access_token";
+    /** Path: GitHub exchange token for user. */
+    private static final String PATH_GITHUB_USER = "/user";
+    /** Path: Gitee exchange callback query for token or refresh token. */
+    private static final String PATH_GITEE_TOKEN = "/oauth/token";
+    /** Path: Gitee exchange token for user. */
+    private static final String PATH_GITEE_USER = "/api/v5/user";
+    /** Alphanumeric characters, used to generate GitHub access tokens. */
+    private static final char[] ALPHANUMERIC =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    static {
+        // Headers and body of responses are written separately, without TCP_NODELAY responses on kept-alive
+        // connections wait for delayed acknowledgements (about 40ms each). It must be set before the first server.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    // ######################################################################################
+
+    /** Properties. */
+    private final @NotNull MockOAuth2ProviderProperties properties;
+    /** Raw http server. */
+    private final @NotNull HttpServer server;
+    /** Executor handling requests and sending responses. */
+    private final @NotNull ExecutorService handlerExecutor;
+    /** Executor delaying responses. */
+    private final @NotNull ScheduledExecutorService delayExecutor;
+    /** Number of requests, key is path. */
+    private final @NotNull ConcurrentMap<String, LongAdder> requests = new ConcurrentHashMap<>();
+    /** Body of GitHub user. */
+    private final byte @NotNull [] githubUser;
+    /** Entity tag of GitHub user. */
+    private final @NotNull String githubUserETag;
+    /** Body of Gitee user. */
+    private final byte @NotNull [] giteeUser;
+
+    /** End of current rate limit window in milliseconds (guarded by {@code this}). */
+    private long rateLimitWindowEndMillis;
+    /** Used requests in current rate limit window (guarded by {@code this}). */
+    private int rateLimitUsed;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return base url, e.g. {@code "http://127.0.0.1:8080"}.
+     *
+     * @return base url
+     */
+    public @NotNull String baseURL() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ':' + address.getPort();
+    }
+
+    /**
+     * Return number of requests received on the given {@code path}.
+     *
+     * @param path path, e.g. {@code "/user"}
+     * @return number of requests
+     */
+    public long requests(@NotNull String path) {
+        LongAdder counter = requests.get(path);
+        return (counter == null) ? 0 : counter.sum();
+    }
+
+    /**
+     * Return a request executor redirecting requests to {@link #ORIGINS} to {@code this} provider.
+     *
+     * @param requestExecutor request executor actually executing requests
+     * @return redirecting request executor
+     */
+    public @NotNull OAuth2RequestExecutorBasedOnRedirection redirect(
+            @NotNull AbstractOAuth2RequestExecutor<?> requestExecutor) {
+        OAuth2RequestExecutorBasedOnRedirection redirection =
+                new OAuth2RequestExecutorBasedOnRedirection(requestExecutor);
+        String baseURL = baseURL();
+        for (String origin : ORIGINS) { redirection.redirect(origin, baseURL); }
+        return redirection;
+    }
+
+    // ######################################################################################
+
+    /** Stop {@code this} provider immediately. */
+    @Override
+    public void close() {
+        server.stop(0);
+        delayExecutor.shutdownNow();
+        handlerExecutor.shutdownNow();
+    }
+
+    // ######################################################################################
+    // #################### handle ##########################################################
+    // ######################################################################################
+
+    /**
+     * Handle the given {@code exchange}.
+     *
+     * @param exchange exchange
+     */
+    private void handle(@NotNull HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        requests.computeIfAbsent(path, key -> new LongAdder()).increment();
+        MockResponse response;
+        try {
+            response = respond(exchange, path);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to handle request. path: {}", path, e);
+            response = new MockResponse(500, apiError(e.toString()));
+        }
+        long latencyNanos = properties.getLatencyDistribution().nextNanos(
+                properties.getLatency().toNanos(), ThreadLocalRandom.current()
+        );
+        if (latencyNanos <= 0) {
+            send(exchange, response);
+        } else {
+            MockResponse delayedResponse = response;
+            delayExecutor.schedule(
+                    () -> handlerExecutor.execute(() -> send(exchange, delayedResponse)),
+                    latencyNanos, TimeUnit.NANOSECONDS
+            );
+        }
+    }
+
+    /**
+     * Respond to the given {@code exchange}.
+     *
+     * @param exchange exchange
+     * @param path path
+     * @return response
+     * @throws IOException if I/O error occurs
+     */
+    private @NotNull MockResponse respond(@NotNull HttpExchange exchange, @NotNull String path) throws IOException {
+        Map<String, String> parameters = readParameters(exchange);
+        boolean tokenEndpoint = PATH_GITHUB_TOKEN.equals(path) || PATH_GITEE_TOKEN.equals(path);
+        Map<String, String> rateLimitHeaders = new LinkedHashMap<>();
+        MockResponse response;
+        if (!acquireRateLimit(rateLimitHeaders)) {
+            String message = "API rate limit exceeded.";
+            response = new MockResponse(
+                    429, tokenEndpoint ? tokenError("rate_limit_exceeded", message) : apiError(message)
+            );
+        } else if (ThreadLocalRandom.current().nextDouble() < properties.getErrorRate()) {
+            String message = "Injected error.";
+            response = new MockResponse(
+                    properties.getErrorStatus(), tokenEndpoint ? tokenError("server_error", message) : apiError(message)
+            );
+        } else if (PATH_GITHUB_TOKEN.equals(path)) {
+            response = respondGitHubToken(parameters);
+        } else if (PATH_GITHUB_USER.equals(path)) {
+            response = respondGitHubUser(exchange.getRequestHeaders());
+        } else if (PATH_GITEE_TOKEN.equals(path)) {
+            response = respondGiteeToken(parameters);
+        } else if (PATH_GITEE_USER.equals(path)) {
+            response = respondGiteeUser(parameters);
+        } else {
+            response = new MockResponse(404, apiError("Not Found"));
+        }
+        response.headers.putAll(rateLimitHeaders);
+        return response;
+    }
+
+    /**
+     * Send the given {@code response} to the {@code exchange}.
+     *
+     * @param exchange exchange
+     * @param response response
+     */
+    private static void send(@NotNull HttpExchange exchange, @NotNull MockResponse response) {
+        try {
+            Headers headers = exchange.getResponseHeaders();
+            response.headers.forEach(headers::set);
+            if (response.body == null) {
+                exchange.sendResponseHeaders(response.status, -1);
+            } else {
+                headers.set("Content-Type", "application/json; charset=utf-8");
+                exchange.sendResponseHeaders(response.status, response.body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(response.body);
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Failed to send response.", e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Acquire rate limit.
+     *
+     * @param headers headers to which rate limit headers will be added
+     * @return {@code true} if acquired or rate limit is disabled, otherwise {@code false}
+     */
+    private synchronized boolean acquireRateLimit(@NotNull Map<String, String> headers) {
+        int limit = properties.getRateLimit();
+        if (limit <= 0) { return true; }
+        long nowMillis = System.currentTimeMillis();
+        if (nowMillis >= rateLimitWindowEndMillis) {
+            rateLimitWindowEndMillis = nowMillis + properties.getRateLimitWindow().toMillis();
+            rateLimitUsed = 0;
+        }
+        boolean acquired = rateLimitUsed < limit;
+        if (acquired) { rateLimitUsed++; }
+        headers.put("X-RateLimit-Limit", Integer.toString(limit));
+        headers.put("X-RateLimit-Remaining", Integer.toString(limit - rateLimitUsed));
+        headers.put("X-RateLimit-Used", Integer.toString(rateLimitUsed));
+        headers.put("X-RateLimit-Reset", Long.toString((rateLimitWindowEndMillis + 999) / 1000));
+        if (!acquired) {
+            long retryAfterSeconds = Math.max(1, (rateLimitWindowEndMillis - nowMillis + 999) / 1000);
+            headers.put("Retry-After", Long.toString(retryAfterSeconds));
+        }
+        return acquired;
+    }
+
+    // ######################################################################################
+    // #################### endpoint ########################################################
+    // ######################################################################################
+
+    /**
+     * Respond to GitHub exchange callback query for token.
+     *
+     * @param parameters request parameters
+     * @return response
+     */
+    private @NotNull MockResponse respondGitHubToken(@NotNull Map<String, String> parameters) {
+        // GitHub answers token errors with status 200.
+        if ((parameters.get("client_id") == null) || (parameters.get("client_secret") == null)) {
+            return new MockResponse(200, tokenError(
+                    "incorrect_client_credentials", "The client_id and/or client_secret passed are incorrect."
+            ));
+        }
+        String code = parameters.get("code");
+        if ((code == null) || INVALID_AUTHORIZE_CODE.equals(code)) {
+            return new MockResponse(200, tokenError(
+                    "bad_verification_code", "The code passed is incorrect or expired."
+            ));
+        }
+        char[] accessToken = new char[36];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < accessToken.length; i++) {
+            accessToken[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+        }
+        return new MockResponse(200, OAuth2DataUtils.newObjectNode()
+                .put("access_token", "gho_" + new String(accessToken))
+                .put("token_type", "bearer")
+                .put("scope", "read:user,user:email"));
+    }
+
+    /**
+     * Respond to GitHub exchange token for user.
+     *
+     * @param headers request headers
+     * @return response
+     */
+    private @NotNull MockResponse respondGitHubUser(@NotNull Headers headers) {
+        String authorization = headers.getFirst("Authorization");
+        String accessToken = (authorization == null) ? null : authorization.substring(authorization.indexOf(' ') + 1);
+        if ((accessToken == null) || !accessToken.startsWith("gho_")) {
+            return new MockResponse(401, OAuth2DataUtils.newObjectNode()
+                    .put("message", "Bad credentials")
+                    .put("documentation_url", "https://docs.github.com/rest"));
+        }
+        MockResponse response = githubUserETag.equals(headers.getFirst("If-None-Match"))
+                ? new MockResponse(304, (byte[]) null)
+                : new MockResponse(200, githubUser);
+        response.headers.put("ETag", githubUserETag);
+        return response;
+    }
+
+    /**
+     * Respond to Gitee exchange callback query for token or refresh token.
+     *
+     * @param parameters request parameters
+     * @return response
+     */
+    private @NotNull MockResponse respondGiteeToken(@NotNull Map<String, String> parameters) {
+        String grantType = parameters.get("grant_type");
+        String invalidGrant = "授权方式无效，或者登录回调地址无效、过期或已被撤销";
+        if ("authorization_code".equals(grantType)) {
+            if ((parameters.get("client_id") == null) || (parameters.get("client_secret") == null)) {
+                String invalidClient = "由于未知的客户端，不包含客户端验证，或使用了不支持的认证方法，客户端验证失败";
+                return new MockResponse(401, tokenError("invalid_client", invalidClient));
+            }
+            String code = parameters.get("code");
+            if ((code == null) || INVALID_AUTHORIZE_CODE.equals(code)) {
+                return new MockResponse(401, tokenError("invalid_grant", invalidGrant));
+            }
+        } else if ("refresh_token".equals(grantType)) {
+            String refreshToken = parameters.get("refresh_token");
+            if (parseExpiresAtMillis(refreshToken) < System.currentTimeMillis()) {
+                return new MockResponse(401, tokenError("invalid_grant", invalidGrant));
+            }
+        } else {
+            String unsupportedGrantType = "授权类型不被授权服务器所支持";
+            return new MockResponse(400, tokenError("unsupported_grant_type", unsupportedGrantType));
+        }
+        long nowMillis = System.currentTimeMillis();
+        long accessTokenTimeToLiveMillis = properties.getAccessTokenTimeToLive().toMillis();
+        long refreshTokenTimeToLiveMillis = properties.getRefreshTokenTimeToLive().toMillis();
+        return new MockResponse(200, OAuth2DataUtils.newObjectNode()
+                .put("access_token", generateGiteeToken(nowMillis + accessTokenTimeToLiveMillis))
+                .put("token_type", "bearer")
+                .put("expires_in", accessTokenTimeToLiveMillis / 1000)
+                .put("refresh_token", generateGiteeToken(nowMillis + refreshTokenTimeToLiveMillis))
+                .put("scope", "user_info emails")
+                .put("created_at", nowMillis / 1000));
+    }
+
+    /**
+     * Respond to Gitee exchange token for user.
+     *
+     * @param parameters request parameters
+     * @return response
+     */
+    private @NotNull MockResponse respondGiteeUser(@NotNull Map<String, String> parameters) {
+        long expiresAtMillis = parseExpiresAtMillis(parameters.get("access_token"));
+        if (expiresAtMillis < 0) {
+            return new MockResponse(401, apiError("401 Unauthorized: Access token does not exist"));
+        } else if (expiresAtMillis < System.currentTimeMillis()) {
+            return new MockResponse(401, apiError("401 Unauthorized: Access token is expired"));
+        } else {
+            return new MockResponse(200, giteeUser);
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Generate a Gitee token (access token or refresh token), which carries its expiration.
+     *
+     * @param expiresAtMillis expiration in milliseconds
+     * @return Gitee token
+     */
+    private static @NotNull String generateGiteeToken(long expiresAtMillis) {
+        return String.format("%016x%016x", expiresAtMillis, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Parse expiration of the given Gitee {@code token}.
+     *
+     * @param token Gitee token (access token or refresh token)
+     * @return expiration in milliseconds, or {@code -1} if the token is invalid
+     */
+    private static long parseExpiresAtMillis(@Nullable String token) {
+        if ((token == null) || (token.length() != 32)) { return -1; }
+        try {
+            return Long.parseUnsignedLong(token.substring(0, 16), 16);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Return an oauth2 token endpoint error.
+     *
+     * @param error error code
+     * @param description error description
+     * @return error
+     */
+    private static @NotNull ObjectNode tokenError(@NotNull String error, @NotNull String description) {
+        return OAuth2DataUtils.newObjectNode().put("error", error).put("error_description", description);
+    }
+
+    /**
+     * Return an api endpoint error.
+     *
+     * @param message message
+     * @return error
+     */
+    private static @NotNull ObjectNode apiError(@NotNull String message) {
+        return OAuth2DataUtils.newObjectNode().put("message", message);
+    }
+
+    /**
+     * Read parameters of the given {@code exchange} from query and url encoded form body.
+     *
+     * @param exchange exchange
+     * @return parameters, only the first value of each name is kept
+     * @throws IOException if I/O error occurs
+     */
+    private static @NotNull Map<String, String> readParameters(@NotNull HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = new HashMap<>();
+        readParameters(exchange.getRequestURI().getRawQuery(), parameters);
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if ((contentType != null) && contentType.startsWith("application/x-www-form-urlencoded")) {
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                for (int length; (length = inputStream.read(buffer)) >= 0; ) { body.write(buffer, 0, length); }
+                readParameters(new String(body.toByteArray(), StandardCharsets.UTF_8), parameters);
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Read parameters from the given url encoded {@code text}.
+     *
+     * @param text url encoded text, e.g. {@code "key1=value1&key2=value2"}
+     * @param parameters parameters to which parameters will be put
+     * @throws UnsupportedEncodingException never
+     */
+    private static void readParameters(@Nullable String text, @NotNull Map<String, String> parameters)
+            throws UnsupportedEncodingException {
+        if ((text == null) || text.isEmpty()) { return; }
+        String charset = StandardCharsets.UTF_8.name();
+        for (String unit : text.split("&")) {
+            int index = unit.indexOf('=');
+            String name = URLDecoder.decode((index < 0) ? unit : unit.substring(0, index), charset);
+            String value = (index < 0) ? "" : URLDecoder.decode(unit.substring(index + 1), charset);
+            parameters.putIfAbsent(name, value);
+        }
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance and start it on a random port of the loopback address.
+     *
+     * @param properties properties
+     * @throws IOException if failed to start http server
+     */
+    public MockOAuth2Provider(@NotNull MockOAuth2ProviderProperties properties) throws IOException {
+        this.properties = properties.rewriteNullToDefaultValue();
+        String githubUserText = BenchmarkResources.readAsText("github-user.json");
+        this.githubUser = githubUserText.getBytes(StandardCharsets.UTF_8);
+        this.githubUserETag = "W/\"" + Integer.toHexString(githubUserText.hashCode()) + '"';
+        this.giteeUser = BenchmarkResources.readAsText("gitee-user.json").getBytes(StandardCharsets.UTF_8);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.handlerExecutor = Executors.newFixedThreadPool(properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "easy-oauth2-mock-provider-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.delayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "easy-oauth2-mock-provider-delayer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(handlerExecutor);
+        this.server.start();
+        log.info("Mock oauth2 provider has been started at {} with properties: {}", baseURL(), properties);
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Mock response. */
+    private static final class MockResponse {
+
+        /** Status. */
+        private final int status;
+        /** Headers. */
+        private final @NotNull Map<String, String> headers = new LinkedHashMap<>();
+        /** Body, {@code null} if the response has no body. */
+        private final byte @Nullable [] body;
+
+        /**
+         * Construct an instance.
+         *
+         * @param status status
+         * @param body body
+         */
+        private MockResponse(int status, byte @Nullable [] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param status status
+         * @param body json body
+         */
+        private MockResponse(int status, @NotNull ObjectNode body) {
+            this(status, OAuth2DataUtils.writeObjectAsJSONBytes(body));
+        }
+
+    }
+
+}
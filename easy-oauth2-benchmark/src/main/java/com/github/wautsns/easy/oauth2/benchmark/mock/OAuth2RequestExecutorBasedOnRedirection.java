@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.mock;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2IOException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2Headers;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth2 request executor based on redirection.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Requests whose url starts with a redirected origin will be rewritten to the target origin, then executed by the
+ * delegate request executor, so that clients with fixed endpoints (e.g. builtin clients) can be pointed at {@link
+ * MockOAuth2Provider} with real transports.</li>
+ * <li>Requests are rebuilt for the delegate, so the overhead of this executor should be subtracted when comparing
+ * with direct executions.</li>
+ * <li>The {@linkplain OAuth2MetricsContext metrics context} is not passed to the delegate, so that executions are
+ * recorded only once (by this executor).</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorBasedOnRedirection extends AbstractOAuth2RequestExecutor<OAuth2Request<AbstractOAuth2RequestEntity>> {
+
+    /** Delegate request executor. */
+    private final @NotNull AbstractOAuth2RequestExecutor<?> delegate;
+    /** Redirections, key is source origin, value is target origin. */
+    private final @NotNull Map<String, String> redirections = new LinkedHashMap<>();
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Redirect requests to the {@code source} origin to the {@code target} origin.
+     *
+     * @param source source origin, e.g. {@code "https://github.com"}
+     * @param target target origin, e.g. {@code "http://127.0.0.1:8080"}
+     * @return self reference
+     */
+    public @NotNull OAuth2RequestExecutorBasedOnRedirection redirect(@NotNull String source, @NotNull String target) {
+        redirections.put(Objects.requireNonNull(source), Objects.requireNonNull(target));
+        return this;
+    }
+
+    // #########################################################################################
+    // #################### implement protected abstract method ################################
+    // #########################################################################################
+
+    @Override
+    protected @NotNull OAuth2Request<AbstractOAuth2RequestEntity> initializeActualRequest(
+            @NotNull OAuth2RequestMethod method, @NotNull String url) {
+        String redirectedURL = url;
+        for (Map.Entry<String, String> redirection : redirections.entrySet()) {
+            String source = redirection.getKey();
+            if (url.startsWith(source) && ((url.length() == source.length())
+                    || (url.charAt(source.length()) == '/') || (url.charAt(source.length()) == '?'))) {
+                redirectedURL = redirection.getValue() + url.substring(source.length());
+                break;
+            }
+        }
+        // The url is already in text format, so it is passed as a whole without query.
+        return new OAuth2Request<>(method, new OAuth2URL(redirectedURL, 0));
+    }
+
+    @Override
+    protected void addHeader(
+            @NotNull OAuth2Request<AbstractOAuth2RequestEntity> actualRequest,
+            @NotNull String name, @NotNull String value) {
+        OAuth2Headers headers = actualRequest.headers();
+        if (headers == null) {
+            headers = new OAuth2Headers(4);
+            actualRequest.headers(headers);
+        }
+        headers.repeatable(name, value);
+    }
+
+    @Override
+    protected void setContentTypeAndEntity(
+            @NotNull OAuth2Request<AbstractOAuth2RequestEntity> actualRequest,
+            @NotNull AbstractOAuth2RequestEntity entity) {
+        actualRequest.entity(entity);
+    }
+
+    @Override
+    protected @NotNull AbstractOAuth2Response executeActualRequest(
+            @NotNull OAuth2Request<AbstractOAuth2RequestEntity> actualRequest) throws IOException {
+        OAuth2MetricsContext metricsContext = unbindMetricsContext();
+        try {
+            return delegate.execute(actualRequest);
+        } catch (OAuth2IOException e) {
+            throw e.getCause();
+        } catch (OAuth2Exception e) {
+            throw new IOException(e.getCause());
+        } finally {
+            OAuth2MetricsContext.restore(metricsContext);
+        }
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(
+            @NotNull OAuth2Request<AbstractOAuth2RequestEntity> actualRequest) {
+        OAuth2MetricsContext metricsContext = unbindMetricsContext();
+        try {
+            return delegate.executeAsync(actualRequest);
+        } finally {
+            OAuth2MetricsContext.restore(metricsContext);
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Unbind metrics context from the current thread.
+     *
+     * @return unbound metrics context which should be restored later, or {@code null}
+     */
+    private static @Nullable OAuth2MetricsContext unbindMetricsContext() {
+        OAuth2MetricsContext metricsContext = OAuth2MetricsContext.current();
+        OAuth2MetricsContext.restore(null);
+        return metricsContext;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param delegate delegate request executor
+     */
+    public OAuth2RequestExecutorBasedOnRedirection(@NotNull AbstractOAuth2RequestExecutor<?> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+}
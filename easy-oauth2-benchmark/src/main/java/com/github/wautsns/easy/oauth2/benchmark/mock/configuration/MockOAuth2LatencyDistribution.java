@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.mock.configuration;
+
+import org.jetbrains.annotations.NotNull;
+import java.util.Random;
+
+/**
+ * Latency distribution of mock oauth2 provider.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public enum MockOAuth2LatencyDistribution {
+
+    /** Every response is delayed by the mean. */
+    CONSTANT {
+        @Override
+        public long nextNanos(long meanNanos, @NotNull Random random) {
+            return meanNanos;
+        }
+    },
+
+    /** Responses are delayed uniformly in {@code [0, 2 * mean)}. */
+    UNIFORM {
+        @Override
+        public long nextNanos(long meanNanos, @NotNull Random random) {
+            return (long) (random.nextDouble() * 2 * meanNanos);
+        }
+    },
+
+    /** Responses are delayed exponentially with the mean, which is typical for queueing servers. */
+    EXPONENTIAL {
+        @Override
+        public long nextNanos(long meanNanos, @NotNull Random random) {
+            return (long) (-Math.log(1 - random.nextDouble()) * meanNanos);
+        }
+    },
+
+    /**
+     * Responses are delayed log-normally ({@code sigma = 1}) with the mean, which has a long tail like real remote
+     * services.
+     */
+    LOG_NORMAL {
+        @Override
+        public long nextNanos(long meanNanos, @NotNull Random random) {
+            if (meanNanos <= 0) { return 0; }
+            return (long) Math.exp(Math.log(meanNanos) - 0.5 + random.nextGaussian());
+        }
+    };
+
+    // ######################################################################################
+
+    /**
+     * Return the next latency.
+     *
+     * @param meanNanos mean latency in nanoseconds
+     * @param random random
+     * @return next latency in nanoseconds
+     */
+    public abstract long nextNanos(long meanNanos, @NotNull Random random);
+
+}
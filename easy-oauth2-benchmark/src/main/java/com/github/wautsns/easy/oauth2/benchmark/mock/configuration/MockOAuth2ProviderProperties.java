@@ -0,0 +1,202 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.mock.configuration;
+
+import java.time.Duration;
+
+/**
+ * Mock oauth2 provider properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class MockOAuth2ProviderProperties {
+
+    /**
+     * Default mock oauth2 provider properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>threads: {@code 16}</li>
+     * <li>latencyDistribution: {@code MockOAuth2LatencyDistribution.CONSTANT}</li>
+     * <li>latency: {@code Duration.parse("PT0S")}</li>
+     * <li>errorRate: {@code 0.0}</li>
+     * <li>errorStatus: {@code 503}</li>
+     * <li>rateLimit: {@code 0}</li>
+     * <li>rateLimitWindow: {@code Duration.parse("PT1H")}</li>
+     * <li>accessTokenTimeToLive: {@code Duration.parse("PT24H")}</li>
+     * <li>refreshTokenTimeToLive: {@code Duration.parse("P7D")}</li>
+     * </ul>
+     */
+    public static final MockOAuth2ProviderProperties DEFAULT = new MockOAuth2ProviderProperties()
+            .setThreads(16)
+            .setLatencyDistribution(MockOAuth2LatencyDistribution.CONSTANT)
+            .setLatency(Duration.parse("PT0S"))
+            .setErrorRate(0.0)
+            .setErrorStatus(503)
+            .setRateLimit(0)
+            .setRateLimitWindow(Duration.parse("PT1H"))
+            .setAccessTokenTimeToLive(Duration.parse("PT24H"))
+            .setRefreshTokenTimeToLive(Duration.parse("P7D"));
+
+    // ######################################################################################
+
+    /** Number of threads handling requests, responses are delayed without occupying them. */
+    private Integer threads;
+    /** Distribution of response latency. */
+    private MockOAuth2LatencyDistribution latencyDistribution;
+    /** Mean of response latency. */
+    private Duration latency;
+    /** Rate of requests answered with {@link #errorStatus}, between {@code 0.0} and {@code 1.0}. */
+    private Double errorRate;
+    /** Status of injected errors. */
+    private Integer errorStatus;
+    /** Max requests per {@link #rateLimitWindow}, {@code 0} means unlimited and no rate limit headers. */
+    private Integer rateLimit;
+    /** Window of rate limit. */
+    private Duration rateLimitWindow;
+    /** Time to live of access token (only Gitee access tokens expire). */
+    private Duration accessTokenTimeToLive;
+    /** Time to live of refresh token. */
+    private Duration refreshTokenTimeToLive;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public MockOAuth2ProviderProperties rewriteNullToDefaultValue() {
+        if (threads == null) { threads = DEFAULT.threads; }
+        if (latencyDistribution == null) { latencyDistribution = DEFAULT.latencyDistribution; }
+        if (latency == null) { latency = DEFAULT.latency; }
+        if (errorRate == null) { errorRate = DEFAULT.errorRate; }
+        if (errorStatus == null) { errorStatus = DEFAULT.errorStatus; }
+        if (rateLimit == null) { rateLimit = DEFAULT.rateLimit; }
+        if (rateLimitWindow == null) { rateLimitWindow = DEFAULT.rateLimitWindow; }
+        if (accessTokenTimeToLive == null) { accessTokenTimeToLive = DEFAULT.accessTokenTimeToLive; }
+        if (refreshTokenTimeToLive == null) { refreshTokenTimeToLive = DEFAULT.refreshTokenTimeToLive; }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "MockOAuth2ProviderProperties{" +
+                "threads=" + threads +
+                ", latencyDistribution=" + latencyDistribution +
+                ", latency=" + latency +
+                ", errorRate=" + errorRate +
+                ", errorStatus=" + errorStatus +
+                ", rateLimit=" + rateLimit +
+                ", rateLimitWindow=" + rateLimitWindow +
+                ", accessTokenTimeToLive=" + accessTokenTimeToLive +
+                ", refreshTokenTimeToLive=" + refreshTokenTimeToLive +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public MockOAuth2ProviderProperties setThreads(Integer threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public MockOAuth2LatencyDistribution getLatencyDistribution() {
+        return latencyDistribution;
+    }
+
+    public MockOAuth2ProviderProperties setLatencyDistribution(MockOAuth2LatencyDistribution latencyDistribution) {
+        this.latencyDistribution = latencyDistribution;
+        return this;
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public MockOAuth2ProviderProperties setLatency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public Double getErrorRate() {
+        return errorRate;
+    }
+
+    public MockOAuth2ProviderProperties setErrorRate(Double errorRate) {
+        this.errorRate = errorRate;
+        return this;
+    }
+
+    public Integer getErrorStatus() {
+        return errorStatus;
+    }
+
+    public MockOAuth2ProviderProperties setErrorStatus(Integer errorStatus) {
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    public Integer getRateLimit() {
+        return rateLimit;
+    }
+
+    public MockOAuth2ProviderProperties setRateLimit(Integer rateLimit) {
+        this.rateLimit = rateLimit;
+        return this;
+    }
+
+    public Duration getRateLimitWindow() {
+        return rateLimitWindow;
+    }
+
+    public MockOAuth2ProviderProperties setRateLimitWindow(Duration rateLimitWindow) {
+        this.rateLimitWindow = rateLimitWindow;
+        return this;
+    }
+
+    public Duration getAccessTokenTimeToLive() {
+        return accessTokenTimeToLive;
+    }
+
+    public MockOAuth2ProviderProperties setAccessTokenTimeToLive(Duration accessTokenTimeToLive) {
+        this.accessTokenTimeToLive = accessTokenTimeToLive;
+        return this;
+    }
+
+    public Duration getRefreshTokenTimeToLive() {
+        return refreshTokenTimeToLive;
+    }
+
+    public MockOAuth2ProviderProperties setRefreshTokenTimeToLive(Duration refreshTokenTimeToLive) {
+        this.refreshTokenTimeToLive = refreshTokenTimeToLive;
+        return this;
+    }
+
+}
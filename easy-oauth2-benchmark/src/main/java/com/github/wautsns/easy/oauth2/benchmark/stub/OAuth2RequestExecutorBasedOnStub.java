@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.stub;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth2 request executor based on stub.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Requests are never sent, responses are looked up by url without query and anchor, so benchmarks measure the
+ * overhead of the library itself.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorBasedOnStub extends AbstractOAuth2RequestExecutor<String> {
+
+    /** Responses, key is url without query and anchor. */
+    private final @NotNull Map<@NotNull String, @NotNull OAuth2ResponseBasedOnStub> responses = new HashMap<>();
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Respond to requests to the given {@code urlWithoutQueryAndAnchor} with the given {@code response}.
+     *
+     * @param urlWithoutQueryAndAnchor url without query and anchor
+     * @param response response
+     * @return self reference
+     */
+    public @NotNull OAuth2RequestExecutorBasedOnStub respond(
+            @NotNull String urlWithoutQueryAndAnchor, @NotNull OAuth2ResponseBasedOnStub response) {
+        responses.put(urlWithoutQueryAndAnchor, response);
+        return this;
+    }
+
+    // #########################################################################################
+    // #################### implement protected abstract method ################################
+    // #########################################################################################
+
+    @Override
+    protected @NotNull String initializeActualRequest(@NotNull OAuth2RequestMethod method, @NotNull String url) {
+        return url;
+    }
+
+    @Override
+    protected void addHeader(@NotNull String actualRequest, @NotNull String name, @NotNull String value) {}
+
+    @Override
+    protected void setContentTypeAndEntity(@NotNull String actualRequest, @NotNull AbstractOAuth2RequestEntity entity) {
+        entity.bytes();
+    }
+
+    @Override
+    protected @NotNull AbstractOAuth2Response executeActualRequest(@NotNull String actualRequest) throws IOException {
+        int end = 0;
+        while ((end < actualRequest.length()) && (actualRequest.charAt(end) != '?') && (actualRequest.charAt(end) != '#')) {
+            end++;
+        }
+        String urlWithoutQueryAndAnchor = actualRequest.substring(0, end);
+        OAuth2ResponseBasedOnStub response = responses.get(urlWithoutQueryAndAnchor);
+        if (response == null) { throw new IOException(String.format("No stub response: %s", actualRequest)); }
+        return response;
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(@NotNull String actualRequest) {
+        try {
+            return CompletableFuture.completedFuture(executeActualRequest(actualRequest));
+        } catch (IOException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+    }
+
+}
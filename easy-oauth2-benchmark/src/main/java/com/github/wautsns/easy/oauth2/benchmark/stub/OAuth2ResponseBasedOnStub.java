@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.stub;
+
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OAuth2 response based on stub.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The response is immutable once served, and a new body input stream is returned on each call, so one response
+ * can be shared by all requests.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2ResponseBasedOnStub extends AbstractOAuth2Response {
+
+    /** Status. */
+    private final int status;
+    /** Headers, key is lower case header name. */
+    private final @NotNull Map<@NotNull String, @NotNull List<@NotNull String>> headers = new LinkedHashMap<>();
+    /** Body. */
+    private final byte @NotNull [] body;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    @Override
+    public int status() {
+        return status;
+    }
+
+    // ######################################################################################
+
+    @Override
+    public @Nullable String firstHeader(@NotNull String name) {
+        List<String> values = headers.get(name.toLowerCase());
+        return (values == null) ? null : values.get(0);
+    }
+
+    @Override
+    public @Nullable String lastHeader(@NotNull String name) {
+        List<String> values = headers.get(name.toLowerCase());
+        return (values == null) ? null : values.get(values.size() - 1);
+    }
+
+    @Override
+    public @NotNull List<@NotNull String> headers(@NotNull String name) {
+        List<String> values = headers.get(name.toLowerCase());
+        return (values == null) ? Collections.emptyList() : Collections.unmodifiableList(values);
+    }
+
+    // ######################################################################################
+
+    @Override
+    public @NotNull InputStream bodyInputStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Add header.
+     *
+     * @param name header name
+     * @param value header value
+     * @return self reference
+     */
+    public @NotNull OAuth2ResponseBasedOnStub header(@NotNull String name, @NotNull String value) {
+        headers.computeIfAbsent(name.toLowerCase(), key -> new ArrayList<>(1)).add(value);
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param status status
+     * @param body body
+     */
+    public OAuth2ResponseBasedOnStub(int status, @NotNull String body) {
+        this.status = status;
+        this.body = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.load;
+
+import com.github.wautsns.easy.oauth2.benchmark.load.configuration.LoadGeneratorProperties;
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2LatencyDistribution;
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpasyncclient.OAuth2RequestExecutorFactoryBasedOnApacheHttpasyncclient;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.Duration;
+
+/**
+ * Test {@link LoadGenerator}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class LoadGeneratorTest {
+
+    @Test
+    public void testParseArguments() {
+        LoadGeneratorProperties properties = LoadGenerator.parseArguments(new String[]{
+                "--platform=github", "--async=true", "--concurrency=8", "--rate=100", "--duration=PT10S",
+                "--latency=PT0.01S", "--latency-distribution=LOG_NORMAL", "--error-rate=0.1"
+        });
+        Assert.assertEquals("github", properties.getPlatform());
+        Assert.assertTrue(properties.getAsync());
+        Assert.assertEquals(8, (int) properties.getConcurrency());
+        Assert.assertEquals(8, (int) properties.getRequestExecutor().getMaxConcurrentRequests());
+        Assert.assertEquals(100, (int) properties.getRate());
+        Assert.assertEquals(Duration.ofSeconds(10), properties.getDuration());
+        Assert.assertEquals(Duration.ofMillis(10), properties.getMockProvider().getLatency());
+        Assert.assertEquals(
+                MockOAuth2LatencyDistribution.LOG_NORMAL, properties.getMockProvider().getLatencyDistribution()
+        );
+        Assert.assertEquals(0.1, properties.getMockProvider().getErrorRate(), 0);
+    }
+
+    @Test
+    public void testRunSynchronously() throws Exception {
+        LoadStatistics statistics = run(new LoadGeneratorProperties()
+                .setPlatform("gitee")
+                .setConcurrency(2));
+        Assert.assertTrue(statistics.succeeded() > 0);
+        Assert.assertEquals(0, statistics.failed());
+        Assert.assertEquals(statistics.succeeded(), statistics.histogram(LoadStep.REFRESH_TOKEN).getTotalCount());
+        Assert.assertEquals(statistics.succeeded(), statistics.histogram(LoadStep.LOGIN).getTotalCount());
+    }
+
+    @Test
+    public void testRunAsynchronously() throws Exception {
+        LoadStatistics statistics = run(new LoadGeneratorProperties()
+                .setPlatform("github")
+                .setRequestExecutorFactory(
+                        OAuth2RequestExecutorFactoryBasedOnApacheHttpasyncclient.class.getCanonicalName()
+                )
+                .setAsync(true)
+                .setConcurrency(4)
+                .setRate(50));
+        Assert.assertTrue(statistics.succeeded() > 0);
+        Assert.assertEquals(0, statistics.failed());
+        Assert.assertEquals(0, statistics.histogram(LoadStep.REFRESH_TOKEN).getTotalCount());
+        Assert.assertEquals(statistics.succeeded(), statistics.histogram(LoadStep.LOGIN).getTotalCount());
+    }
+
+    // ######################################################################################
+
+    /**
+     * Run load generator for one second without warm-up.
+     *
+     * @param properties properties
+     * @return statistics
+     * @throws Exception if an error occurs
+     */
+    private static LoadStatistics run(LoadGeneratorProperties properties) throws Exception {
+        properties.setWarmUp(Duration.ZERO).setDuration(Duration.ofSeconds(1));
+        return new LoadGenerator(properties, new PrintStream(new ByteArrayOutputStream())).run();
+    }
+
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.benchmark.mock;
+
+import com.github.wautsns.easy.oauth2.benchmark.mock.configuration.MockOAuth2ProviderProperties;
+import com.github.wautsns.easy.oauth2.core.client.cache.configuration.OAuth2TokenCacheProperties;
+import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
+import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsRecorderBasedOnLongAdder;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsSnapshot;
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorFactoryManager;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Tracer;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.BuiltinOAuth2Platform;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.GiteeOAuth2Client;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2ApplicationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2AuthorizationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2Permission;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.model.GiteeOAuth2Token;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.GitHubOAuth2Client;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2ApplicationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2AuthorizationProperties;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.model.GitHubOAuth2Token;
+import com.github.wautsns.easy.oauth2.extension.client.builtin.github.model.GitHubOAuth2User;
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpasyncclient.OAuth2RequestExecutorFactoryBasedOnApacheHttpasyncclient;
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpclient.OAuth2RequestExecutorFactoryBasedOnApacheHttpclient;
+import org.assertj.core.api.Assertions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test {@link MockOAuth2Provider}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class MockOAuth2ProviderTest {
+
+    /** Identifier of request executor factory based on apache httpclient. */
+    private static final String APACHE_HTTPCLIENT =
+            OAuth2RequestExecutorFactoryBasedOnApacheHttpclient.class.getCanonicalName();
+    /** Identifier of request executor factory based on apache httpasyncclient. */
+    private static final String APACHE_HTTPASYNCCLIENT =
+            OAuth2RequestExecutorFactoryBasedOnApacheHttpasyncclient.class.getCanonicalName();
+
+    // ######################################################################################
+
+    @Test
+    public void testGitHub() throws Exception {
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(new MockOAuth2ProviderProperties())) {
+            GitHubOAuth2Client client = initializeGitHubOAuth2Client(provider, APACHE_HTTPCLIENT);
+            GitHubOAuth2Token token = client.exchangeForToken(callbackQuery("code"));
+            Assert.assertTrue(token.accessToken().startsWith("gho_"));
+            Assert.assertEquals("583231", client.exchangeForUserIdentifier(token));
+            Assert.assertEquals("octocat", client.exchangeForUser(token).username());
+            Assert.assertEquals(1, provider.requests("/login/oauth/access_token"));
+            Assert.assertEquals(2, provider.requests("/user"));
+            OAuth2CallbackQuery invalidCallbackQuery = callbackQuery(MockOAuth2Provider.INVALID_AUTHORIZE_CODE);
+            Assertions.assertThatThrownBy(() -> client.exchangeForToken(invalidCallbackQuery))
+                    .isInstanceOf(OAuth2Exception.class);
+        }
+    }
+
+    @Test
+    public void testGitHubConditionalRequest() throws Exception {
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(new MockOAuth2ProviderProperties())) {
+            GitHubOAuth2Client client = initializeGitHubOAuth2Client(provider, APACHE_HTTPCLIENT);
+            OAuth2MetricsRecorderBasedOnLongAdder recorder = new OAuth2MetricsRecorderBasedOnLongAdder();
+            client.metricsRecorder(recorder);
+            GitHubOAuth2Token token = client.exchangeForToken(callbackQuery("code"));
+            // Entity tag cache is disabled by default, so users are always transferred.
+            GitHubOAuth2User user = client.exchangeForUser(token);
+            Assert.assertNotSame(user, client.exchangeForUser(token));
+            client.etagCache(new OAuth2TokenCacheProperties());
+            GitHubOAuth2User etaggedUser = client.exchangeForUser(token);
+            // Users are revalidated with If-None-Match, the cached user is reused when answered with 304.
+            Assert.assertSame(etaggedUser, client.exchangeForUser(token));
+            Assert.assertSame(etaggedUser, client.exchangeForUserAsync(token).join());
+            Assert.assertEquals(5, provider.requests("/user"));
+            List<OAuth2MetricsSnapshot.Meter> executions = recorder.snapshot().executions();
+            Assert.assertEquals(3, count(executions, OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, 200));
+            Assert.assertEquals(2, count(executions, OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, 304));
+            // Disabling entity tag cache drops cached entity tags.
+            client.etagCache(null);
+            Assert.assertNotSame(etaggedUser, client.exchangeForUser(token));
+        }
+    }
+
+    @Test
+    public void testGiteeAsync() throws Exception {
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(new MockOAuth2ProviderProperties())) {
+            GiteeOAuth2Client client = initializeGiteeOAuth2Client(provider, APACHE_HTTPASYNCCLIENT);
+            GiteeOAuth2Token token = client.exchangeForTokenAsync(callbackQuery("code")).join();
+            Assert.assertEquals(Duration.ofHours(24), token.accessTokenValidTime());
+            Assert.assertEquals("1937041", client.exchangeForUserAsync(token).join().identifier());
+            GiteeOAuth2Token refreshedToken = client.refreshTokenAsync(token).join();
+            Assert.assertNotEquals(token.accessToken(), refreshedToken.accessToken());
+            Assert.assertEquals("wautsns", client.exchangeForUserAsync(refreshedToken).join().username());
+        }
+    }
+
+    @Test
+    public void testExpiredGiteeAccessToken() throws Exception {
+        MockOAuth2ProviderProperties properties = new MockOAuth2ProviderProperties()
+                .setAccessTokenTimeToLive(Duration.ZERO);
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(properties)) {
+            GiteeOAuth2Client client = initializeGiteeOAuth2Client(provider, APACHE_HTTPCLIENT);
+            GiteeOAuth2Token token = client.exchangeForToken(callbackQuery("code"));
+            // The access token is known to be expired, so it is refreshed pre-emptively (to another expired one).
+            Assertions.assertThatThrownBy(() -> client.exchangeForUser(token)).isInstanceOf(OAuth2Exception.class);
+            Assert.assertEquals(2, provider.requests("/oauth/token"));
+            Assert.assertEquals(1, provider.requests("/api/v5/user"));
+        }
+    }
+
+    @Test
+    public void testMetricsAsync() throws Exception {
+        MockOAuth2ProviderProperties properties = new MockOAuth2ProviderProperties()
+                .setAccessTokenTimeToLive(Duration.ZERO);
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(properties)) {
+            GiteeOAuth2Client client = initializeGiteeOAuth2Client(provider, APACHE_HTTPASYNCCLIENT);
+            OAuth2MetricsRecorderBasedOnLongAdder recorder = new OAuth2MetricsRecorderBasedOnLongAdder();
+            client.metricsRecorder(recorder);
+            GiteeOAuth2Token token = client.exchangeForTokenAsync(callbackQuery("code")).join();
+            // The request retried after refreshing is executed in an I/O thread, but still belongs to the operation.
+            Assertions.assertThatThrownBy(() -> client.exchangeForUserAsync(token).join())
+                    .hasCauseInstanceOf(OAuth2Exception.class);
+            OAuth2MetricsSnapshot snapshot = recorder.snapshot();
+            List<OAuth2MetricsSnapshot.Meter> executions = snapshot.executions();
+            Assert.assertEquals(1, count(executions, OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_TOKEN, 200));
+            Assert.assertEquals(1, count(executions, OAuth2ClientOperation.REFRESH_TOKEN, 200));
+            Assert.assertEquals(1, count(executions, OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, 401));
+            Assert.assertEquals(3, snapshot.operations().size());
+            for (OAuth2MetricsSnapshot.Meter meter : snapshot.operations()) {
+                Assert.assertEquals(BuiltinOAuth2Platform.GITEE.getIdentifier(), meter.platform());
+                Assert.assertEquals(1, meter.count());
+                if (meter.operation() == OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER) {
+                    Assert.assertNotNull(meter.exceptionType());
+                } else {
+                    Assert.assertNull(meter.exceptionType());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTracingAsync() throws Exception {
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(new MockOAuth2ProviderProperties())) {
+            GitHubOAuth2Client gitHubClient = initializeGitHubOAuth2Client(provider, APACHE_HTTPASYNCCLIENT);
+            RecordingTracer gitHubTracer = new RecordingTracer();
+            gitHubClient.tracer(gitHubTracer);
+            Assert.assertEquals("octocat", gitHubClient.exchangeForUserAsync(callbackQuery("code")).join().username());
+            assertCallbackQueryForUserSpans(gitHubTracer);
+            GiteeOAuth2Client giteeClient = initializeGiteeOAuth2Client(provider, APACHE_HTTPASYNCCLIENT);
+            RecordingTracer giteeTracer = new RecordingTracer();
+            giteeClient.tracer(giteeTracer);
+            Assert.assertEquals("wautsns", giteeClient.exchangeForUserAsync(callbackQuery("code")).join().username());
+            assertCallbackQueryForUserSpans(giteeTracer);
+        }
+    }
+
+    @Test
+    public void testLatencyAndErrorRate() throws Exception {
+        MockOAuth2ProviderProperties properties = new MockOAuth2ProviderProperties()
+                .setLatency(Duration.ofMillis(100))
+                .setErrorRate(1.0);
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(properties)) {
+            GitHubOAuth2Client client = initializeGitHubOAuth2Client(provider, APACHE_HTTPCLIENT);
+            long startNanos = System.nanoTime();
+            Assertions.assertThatThrownBy(() -> client.exchangeForToken(callbackQuery("code")))
+                    .isInstanceOf(OAuth2Exception.class);
+            Assert.assertTrue(System.nanoTime() - startNanos >= Duration.ofMillis(100).toNanos());
+        }
+    }
+
+    @Test
+    public void testRateLimit() throws Exception {
+        MockOAuth2ProviderProperties properties = new MockOAuth2ProviderProperties().setRateLimit(2);
+        try (MockOAuth2Provider provider = new MockOAuth2Provider(properties)) {
+            GitHubOAuth2Client client = initializeGitHubOAuth2Client(provider, APACHE_HTTPCLIENT);
+            GitHubOAuth2Token token = client.exchangeForToken(callbackQuery("code"));
+            client.exchangeForUser(token);
+            Assertions.assertThatThrownBy(() -> client.exchangeForUser(token)).isInstanceOf(OAuth2Exception.class);
+            Assert.assertEquals(2, provider.requests("/user"));
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return count of executions with the given {@code operation} and {@code status}.
+     *
+     * @param executions meters of executions
+     * @param operation operation
+     * @param status response status
+     * @return count of executions
+     */
+    private static long count(
+            List<OAuth2MetricsSnapshot.Meter> executions, OAuth2ClientOperation operation, int status) {
+        return executions.stream()
+                .filter(meter -> (meter.operation() == operation) && (meter.status() == status))
+                .mapToLong(OAuth2MetricsSnapshot.Meter::count)
+                .sum();
+    }
+
+    /**
+     * Assert that exchanging token for user runs as a child of exchanging callback query for user, even though it
+     * runs in an I/O thread.
+     *
+     * @param tracer tracer of the client which exchanged callback query for user asynchronously
+     */
+    private static void assertCallbackQueryForUserSpans(RecordingTracer tracer) {
+        List<RecordingTracer.Span> spans = tracer.spans;
+        Assert.assertEquals(5, spans.size());
+        RecordingTracer.Span root = spans.get(0);
+        Assert.assertEquals(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_USER.name(), root.name);
+        Assert.assertNull(root.parent);
+        RecordingTracer.Span exchangeForToken = spans.get(1);
+        Assert.assertEquals(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_TOKEN.name(), exchangeForToken.name);
+        Assert.assertSame(root, exchangeForToken.parent);
+        Assert.assertSame(exchangeForToken, spans.get(2).parent);
+        RecordingTracer.Span exchangeForUser = spans.get(3);
+        Assert.assertEquals(OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER.name(), exchangeForUser.name);
+        Assert.assertSame(root, exchangeForUser.parent);
+        Assert.assertSame(exchangeForUser, spans.get(4).parent);
+        for (RecordingTracer.Span span : spans) { Assert.assertTrue(span.ended); }
+    }
+
+    /**
+     * Return a callback query with the given {@code code}.
+     *
+     * @param code authorize code
+     * @return callback query
+     */
+    private static OAuth2CallbackQuery callbackQuery(String code) {
+        return new OAuth2CallbackQuery(OAuth2DataUtils.newObjectNode().put("code", code).put("state", "state"));
+    }
+
+    /**
+     * Initialize a request executor redirecting to the {@code provider}.
+     *
+     * @param provider mock oauth2 provider
+     * @param factoryIdentifier identifier of request executor factory
+     * @return request executor
+     */
+    private static AbstractOAuth2RequestExecutor<?> initializeRequestExecutor(
+            MockOAuth2Provider provider, String factoryIdentifier) {
+        return provider.redirect(OAuth2RequestExecutorFactoryManager.one(factoryIdentifier).create(
+                new OAuth2RequestExecutorProperties().rewriteNullToDefaultValue()
+        ));
+    }
+
+    /**
+     * Initialize GitHub oauth2 client.
+     *
+     * @param provider mock oauth2 provider
+     * @param factoryIdentifier identifier of request executor factory
+     * @return GitHub oauth2 client
+     */
+    private static GitHubOAuth2Client initializeGitHubOAuth2Client(
+            MockOAuth2Provider provider, String factoryIdentifier) {
+        return new GitHubOAuth2Client(new OAuth2ClientMetadata<>(
+                BuiltinOAuth2Platform.GITHUB.getIdentifier(),
+                new GitHubOAuth2ApplicationProperties()
+                        .setClientId("client-id")
+                        .setClientSecret("client-secret")
+                        .setAuthorizeCallbackURL("https://example.com/oauth2/callback/github"),
+                new GitHubOAuth2AuthorizationProperties(),
+                initializeRequestExecutor(provider, factoryIdentifier)
+        ));
+    }
+
+    /**
+     * Initialize Gitee oauth2 client.
+     *
+     * @param provider mock oauth2 provider
+     * @param factoryIdentifier identifier of request executor factory
+     * @return Gitee oauth2 client
+     */
+    private static GiteeOAuth2Client initializeGiteeOAuth2Client(
+            MockOAuth2Provider provider, String factoryIdentifier) {
+        return new GiteeOAuth2Client(new OAuth2ClientMetadata<>(
+                BuiltinOAuth2Platform.GITEE.getIdentifier(),
+                new GiteeOAuth2ApplicationProperties()
+                        .setClientId("client-id")
+                        .setClientSecret("client-secret")
+                        .setCallbacks(Collections.singletonList("https://example.com/oauth2/callback/gitee")),
+                new GiteeOAuth2AuthorizationProperties()
+                        .setPermissions(new LinkedHashSet<>(
+                                Collections.singletonList(GiteeOAuth2Permission.USER_INFO)
+                        )),
+                initializeRequestExecutor(provider, factoryIdentifier)
+        ));
+    }
+
+
+    // ######################################################################################
+
+    /** Tracer recording started spans. */
+    private static final class RecordingTracer implements OAuth2Tracer {
+
+        /** Started spans, in order. */
+        private final List<Span> spans = new CopyOnWriteArrayList<>();
+
+        @Override
+        public @NotNull OAuth2Span startOperation(
+                @Nullable OAuth2Span parent, @NotNull String platform, @NotNull OAuth2ClientOperation operation) {
+            return start(operation.name(), parent);
+        }
+
+        @Override
+        public @NotNull OAuth2Span startExecution(@NotNull OAuth2Span parent, @NotNull OAuth2Request<?> request) {
+            return start(request.url().urlWithoutQueryAndAnchor(), parent);
+        }
+
+        /**
+         * Start a span.
+         *
+         * @param name name of span
+         * @param parent parent span
+         * @return started span
+         */
+        private Span start(String name, OAuth2Span parent) {
+            Span span = new Span(name, (Span) parent);
+            spans.add(span);
+            return span;
+        }
+
+        /** Recorded span. */
+        private static final class Span implements OAuth2Span {
+
+            /** Name of span. */
+            private final String name;
+            /** Parent span. */
+            private final Span parent;
+            /** Whether the span is ended. */
+            private volatile boolean ended;
+
+            @Override
+            public void end(int status, @Nullable Throwable throwable) {
+                ended = true;
+            }
+
+            /**
+             * Construct an instance.
+             *
+             * @param name name of span
+             * @param parent parent span
+             */
+            private Span(String name, Span parent) {
+                this.name = name;
+                this.parent = parent;
+            }
+
+        }
+
+    }
+
+}
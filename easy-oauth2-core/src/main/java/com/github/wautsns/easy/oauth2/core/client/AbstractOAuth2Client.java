@@ -25,12 +25,25 @@ import com.github.wautsns.easy.oauth2.core.client.function.operation.OAuth2Opera
 import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
 import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsRecorder;
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
 import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Tracer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Abstract oauth2 client.
@@ -45,7 +58,8 @@ public abstract class AbstractOAuth2Client<A extends AbstractOAuth2ApplicationPr
         implements OAuth2PlatformIdentifierSupplier,
                    OAuth2OperationInitializeAuthorizeURL,
                    OAuth2APIExchangeCallbackQueryForUserIdentifier,
-                   OAuth2APIExchangeCallbackQueryForUser<U> {
+                   OAuth2APIExchangeCallbackQueryForUser<U>,
+                   AutoCloseable {
 
     /** Logger. */
     protected final @NotNull Logger log = LoggerFactory.getLogger(getClass());
@@ -62,10 +76,24 @@ public abstract class AbstractOAuth2Client<A extends AbstractOAuth2ApplicationPr
     /** OAuth2 api: exchange callback query for user. */
     protected final @NotNull OAuth2APIExchangeCallbackQueryForUser<U> exchangeCallbackQueryForUser;
 
+    /** Metrics recorder. */
+    private volatile @Nullable OAuth2MetricsRecorder metricsRecorder;
+    /** Tracer. */
+    private volatile @Nullable OAuth2Tracer tracer;
+
     // ######################################################################################
     // #################### enhanced getter #################################################
     // ######################################################################################
 
+    /**
+     * Return metadata.
+     *
+     * @return metadata
+     */
+    public final @NotNull OAuth2ClientMetadata<A, O> metadata() {
+        return metadata;
+    }
+
     /**
      * Return platform identifier.
      *
@@ -76,55 +104,318 @@ public abstract class AbstractOAuth2Client<A extends AbstractOAuth2ApplicationPr
         return metadata.application().platformIdentifier();
     }
 
+    /**
+     * Return metrics recorder.
+     *
+     * @return metrics recorder, or {@code null} if metrics is disabled
+     */
+    public final @Nullable OAuth2MetricsRecorder metricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Return tracer.
+     *
+     * @return tracer, or {@code null} if tracing is disabled
+     */
+    public final @Nullable OAuth2Tracer tracer() {
+        return tracer;
+    }
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Set metrics recorder.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If set, every oauth2 function of {@code this} client (including asynchronous variants) will be recorded as
+     * an operation, every request executed during the operation will be recorded as an execution of the
+     * operation.</li>
+     * </ul>
+     *
+     * @param metricsRecorder metrics recorder, {@code null} to disable metrics
+     */
+    public final void metricsRecorder(@Nullable OAuth2MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * Set tracer.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If set, a span will be started for every oauth2 function of {@code this} client (including asynchronous
+     * variants), and a child span will be started for every request executed during the function.</li>
+     * </ul>
+     *
+     * @param tracer tracer, {@code null} to disable tracing
+     */
+    public final void tracer(@Nullable OAuth2Tracer tracer) {
+        this.tracer = tracer;
+    }
+
     // #########################################################################################
     // #################### oauth2 function ####################################################
     // #########################################################################################
 
     @Override
     public final @NotNull OAuth2URL initializeAuthorizeURL(@Nullable String state) throws OAuth2Exception {
-        log.debug("Ready to initialize authorize url. state: {}", state);
-        try {
-            OAuth2URL url = initializeAuthorizeURL.initializeAuthorizeURL(state);
-            log.debug("Authorize url has been initialized. url: {}", url);
-            return url;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to initialize authorize url. state: {}", state, e);
-            throw e;
-        }
+        return measure(OAuth2ClientOperation.INITIALIZE_AUTHORIZE_URL, () -> {
+            log.debug("Ready to initialize authorize url. state: {}", state);
+            try {
+                OAuth2URL url = initializeAuthorizeURL.initializeAuthorizeURL(state);
+                log.debug("Authorize url has been initialized. url: {}", url);
+                return url;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to initialize authorize url. state: {}", state, e);
+                throw e;
+            }
+        });
     }
 
     @Override
     public final @NotNull String exchangeForUserIdentifier(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
-        log.debug("Ready to exchange callback query for user identifier. callbackQuery: {}", query.raw());
-        try {
-            String userIdentifier = exchangeCallbackQueryForUserIdentifier.exchangeForUserIdentifier(query);
-            log.debug(
-                    "User identifier has been exchanged with callback query. callbackQuery: {}, userIdentifier: {}",
-                    query.raw(), userIdentifier
-            );
-            return userIdentifier;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to exchange callback query for user identifier. callbackQuery: {}", query.raw(), e);
-            throw e;
-        }
+        return measure(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_USER_IDENTIFIER, () -> {
+            log.debug("Ready to exchange callback query for user identifier. callbackQuery: {}", query.raw());
+            try {
+                String userIdentifier = exchangeCallbackQueryForUserIdentifier.exchangeForUserIdentifier(query);
+                log.debug(
+                        "User identifier has been exchanged with callback query. callbackQuery: {}, userIdentifier: {}",
+                        query.raw(), userIdentifier
+                );
+                return userIdentifier;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to exchange callback query for user identifier. callbackQuery: {}", query.raw(), e);
+                throw e;
+            }
+        });
     }
 
     @Override
     public final @NotNull U exchangeForUser(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
-        log.debug("Ready to exchange callback query for user. callbackQuery: {}", query.raw());
-        try {
-            U user = exchangeCallbackQueryForUser.exchangeForUser(query);
+        return measure(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_USER, () -> {
+            log.debug("Ready to exchange callback query for user. callbackQuery: {}", query.raw());
+            try {
+                U user = exchangeCallbackQueryForUser.exchangeForUser(query);
+                log.debug(
+                        "User has been exchanged with callback query. callbackQuery: {}, user: {}",
+                        query.raw(), user.raw()
+                );
+                return user;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to exchange callback query for user. callbackQuery: {}", query.raw(), e);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public final @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull OAuth2CallbackQuery query) {
+        return measureAsync(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_USER_IDENTIFIER, () -> {
             log.debug(
-                    "User has been exchanged with callback query. callbackQuery: {}, user: {}",
-                    query.raw(), user.raw()
+                    "Ready to exchange callback query for user identifier asynchronously. callbackQuery: {}",
+                    query.raw()
             );
-            return user;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to exchange callback query for user. callbackQuery: {}", query.raw(), e);
+            CompletableFuture<String> future;
+            try {
+                future = exchangeCallbackQueryForUserIdentifier.exchangeForUserIdentifierAsync(query);
+            } catch (RuntimeException e) {
+                future = OAuth2FutureUtils.failedFuture(e);
+            }
+            return future.whenComplete((userIdentifier, throwable) -> {
+                if (throwable == null) {
+                    log.debug(
+                            "User identifier has been exchanged with callback query. " +
+                                    "callbackQuery: {}, userIdentifier: {}",
+                            query.raw(), userIdentifier
+                    );
+                } else {
+                    log.error(
+                            "Failed to exchange callback query for user identifier. callbackQuery: {}",
+                            query.raw(), OAuth2FutureUtils.unwrap(throwable)
+                    );
+                }
+            });
+        });
+    }
+
+    @Override
+    public final @NotNull CompletableFuture<U> exchangeForUserAsync(@NotNull OAuth2CallbackQuery query) {
+        return measureAsync(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_USER, () -> {
+            log.debug("Ready to exchange callback query for user asynchronously. callbackQuery: {}", query.raw());
+            CompletableFuture<U> future;
+            try {
+                future = exchangeCallbackQueryForUser.exchangeForUserAsync(query);
+            } catch (RuntimeException e) {
+                future = OAuth2FutureUtils.failedFuture(e);
+            }
+            return future.whenComplete((user, throwable) -> {
+                if (throwable == null) {
+                    log.debug(
+                            "User has been exchanged with callback query. callbackQuery: {}, user: {}",
+                            query.raw(), user.raw()
+                    );
+                } else {
+                    log.error(
+                            "Failed to exchange callback query for user. callbackQuery: {}",
+                            query.raw(), OAuth2FutureUtils.unwrap(throwable)
+                    );
+                }
+            });
+        });
+    }
+
+    // ######################################################################################
+    // #################### metrics #########################################################
+    // ######################################################################################
+
+    /**
+     * Invoke the given {@code supplier} as the given {@code operation}, record and trace it if metrics or tracing is
+     * enabled.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>A {@link OAuth2MetricsContext} will be bound to the calling thread while the {@code supplier} is
+     * invoking.</li>
+     * </ul>
+     *
+     * @param <R> the type of result
+     * @param operation operation
+     * @param supplier supplier
+     * @return result
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
+    protected final <R> R measure(
+            @NotNull OAuth2ClientOperation operation,
+            @NotNull OAuth2FutureUtils.OAuth2Supplier<R> supplier) throws OAuth2Exception {
+        OAuth2MetricsContext context = startOperation(operation);
+        if (context == null) { return supplier.get(); }
+        OAuth2MetricsContext previous = context.bind();
+        long startNanos = System.nanoTime();
+        try {
+            R result = supplier.get();
+            context.endOperation(startNanos, null);
+            return result;
+        } catch (RuntimeException | Error | OAuth2Exception e) {
+            context.endOperation(startNanos, e);
             throw e;
+        } finally {
+            OAuth2MetricsContext.restore(previous);
         }
     }
 
+    /**
+     * Invoke the given {@code supplier} as the given {@code operation} asynchronously, record and trace it when the
+     * returned future completes if metrics or tracing is enabled.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>A {@link OAuth2MetricsContext} will be bound to the calling thread while the {@code supplier} is
+     * invoking.</li>
+     * </ul>
+     *
+     * @param <R> the type of result
+     * @param operation operation
+     * @param supplier supplier
+     * @return future of result
+     */
+    protected final <R> @NotNull CompletableFuture<R> measureAsync(
+            @NotNull OAuth2ClientOperation operation, @NotNull Supplier<@NotNull CompletableFuture<R>> supplier) {
+        OAuth2MetricsContext context = startOperation(operation);
+        if (context == null) { return supplier.get(); }
+        OAuth2MetricsContext previous = context.bind();
+        long startNanos = System.nanoTime();
+        CompletableFuture<R> future;
+        try {
+            future = supplier.get();
+        } catch (RuntimeException e) {
+            future = OAuth2FutureUtils.failedFuture(e);
+        } finally {
+            OAuth2MetricsContext.restore(previous);
+        }
+        return future.whenComplete((result, throwable) -> context.endOperation(
+                startNanos, (throwable == null) ? null : OAuth2FutureUtils.unwrap(throwable)
+        ));
+    }
+
+    /**
+     * Bind the {@link OAuth2MetricsContext} of the calling thread (if any) to the given asynchronous continuation
+     * {@code function}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Continuations (e.g. {@link CompletableFuture#thenCompose(Function)}) run in the thread which completes the
+     * previous step, it should be invoked in the supplier of {@link #measureAsync(OAuth2ClientOperation, Supplier)},
+     * so that operations invoked by the continuation are recorded (and traced) as part of the current one.</li>
+     * </ul>
+     *
+     * @param <T> the type of input
+     * @param <R> the type of result
+     * @param function asynchronous continuation
+     * @return bound function, or the {@code function} itself if there is no context
+     */
+    protected static <T, R> @NotNull Function<T, R> bindMetricsContext(@NotNull Function<T, R> function) {
+        OAuth2MetricsContext context = OAuth2MetricsContext.current();
+        return (context == null) ? function : context.wrap(function);
+    }
+
+    /**
+     * Start the given {@code operation}.
+     *
+     * @param operation operation
+     * @return context of the operation, or {@code null} if both metrics and tracing are disabled
+     */
+    private @Nullable OAuth2MetricsContext startOperation(@NotNull OAuth2ClientOperation operation) {
+        OAuth2MetricsRecorder recorder = metricsRecorder;
+        OAuth2Tracer currentTracer = tracer;
+        if ((recorder == null) && (currentTracer == null)) { return null; }
+        return new OAuth2MetricsContext(recorder, currentTracer, platformIdentifier(), operation);
+    }
+
+    // ######################################################################################
+    // #################### lifecycle #######################################################
+    // ######################################################################################
+
+    /**
+     * Warm up connections to the {@linkplain #warmUpURLs() endpoints} of {@code this} client.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>It is recommended to wait for the returned future before admitting traffic, so that the first requests do
+     * not pay for dns resolution and connection establishment.</li>
+     * </ul>
+     *
+     * @param connectionsPerOrigin count of connections to establish for each origin
+     * @return future of count of succeeded warm-up requests
+     * @see AbstractOAuth2RequestExecutor#warmUp(Collection, int)
+     */
+    public final @NotNull CompletableFuture<Integer> warmUp(int connectionsPerOrigin) {
+        return metadata.requestExecutor().warmUp(warmUpURLs(), connectionsPerOrigin);
+    }
+
+    /**
+     * Close {@code this} client by closing its {@linkplain #metadata() metadata}.
+     *
+     * @see OAuth2ClientMetadata#close()
+     */
+    @Override
+    public void close() {
+        metadata.close();
+    }
+
+    /**
+     * Close {@code this} client by closing its {@linkplain #metadata() metadata}.
+     *
+     * @param drainTimeout max time to wait for in-flight requests
+     * @see OAuth2ClientMetadata#close(Duration)
+     */
+    public void close(@NotNull Duration drainTimeout) {
+        metadata.close(drainTimeout);
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
@@ -167,4 +458,22 @@ public abstract class AbstractOAuth2Client<A extends AbstractOAuth2ApplicationPr
      */
     protected abstract @NotNull OAuth2APIExchangeCallbackQueryForUser<U> initializeOAuth2APIExchangeCallbackQueryForUser();
 
+    // ######################################################################################
+
+    /**
+     * Return urls of endpoints requested by {@code this} client, used to {@linkplain #warmUp(int) warm up}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Only endpoints requested by the request executor (e.g. token endpoint, user endpoint) should be included.
+     * The authorize url is visited by user agents, so it should not be included.</li>
+     * <li>The default implementation returns an empty list.</li>
+     * </ul>
+     *
+     * @return urls of endpoints
+     */
+    protected @NotNull List<@NotNull String> warmUpURLs() {
+        return Collections.emptyList();
+    }
+
 }
@@ -15,6 +15,7 @@
  */
 package com.github.wautsns.easy.oauth2.core.client;
 
+import com.github.wautsns.easy.oauth2.core.client.cache.OAuth2TokenCache;
 import com.github.wautsns.easy.oauth2.core.client.configuration.AbstractOAuth2ApplicationProperties;
 import com.github.wautsns.easy.oauth2.core.client.configuration.AbstractOAuth2AuthorizationProperties;
 import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
@@ -23,10 +24,15 @@ import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchange
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUserIdentifier;
 import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
 import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Token available oauth2 client.
@@ -51,53 +57,211 @@ public abstract class AbstractTokenAvailableOAuth2Client<A extends AbstractOAuth
     /** OAuth2 api: exchange token for user. */
     protected final @NotNull OAuth2APIExchangeTokenForUser<T, U> exchangeTokenForUser;
 
+    /** User cache, key is access token of token. */
+    private volatile @Nullable OAuth2TokenCache<U> userCache;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return user cache.
+     *
+     * @return user cache, or {@code null} if user cache is disabled
+     */
+    public final @Nullable OAuth2TokenCache<U> userCache() {
+        return userCache;
+    }
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Set user cache.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If set, {@link #exchangeForUser(AbstractOAuth2Token)} and {@link #exchangeForUserIdentifier(
+     * AbstractOAuth2Token)} (and their asynchronous variants) will read users from the cache first, users exchanged
+     * with tokens will be written to the cache.</li>
+     * <li>Refreshable tokens whose access token is known to be expired will never read from the cache. The validity
+     * of tokens which are not refreshable is often a guess (e.g. GitHub), so they rely on the time to live of the cache
+     * only.</li>
+     * </ul>
+     *
+     * @param userCache user cache, {@code null} to disable user cache
+     */
+    public final void userCache(@Nullable OAuth2TokenCache<U> userCache) {
+        this.userCache = userCache;
+    }
+
     // #########################################################################################
     // #################### oauth2 function ####################################################
     // #########################################################################################
 
     @Override
     public @NotNull T exchangeForToken(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
-        log.debug("Ready to exchange callback query for token. callbackQuery: {}", query.raw());
-        try {
-            T token = exchangeCallbackQueryForToken.exchangeForToken(query);
-            log.debug(
-                    "Token has been exchanged with callback query. callbackQuery: {}, token: {}",
-                    query.raw(), token.raw()
-            );
-            return token;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to exchange callback query for token. callbackQuery: {}", query.raw(), e);
-            throw e;
-        }
+        return measure(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_TOKEN, () -> {
+            log.debug("Ready to exchange callback query for token. callbackQuery: {}", query.raw());
+            try {
+                T token = exchangeCallbackQueryForToken.exchangeForToken(query);
+                log.debug(
+                        "Token has been exchanged with callback query. callbackQuery: {}, token: {}",
+                        query.raw(), token.raw()
+                );
+                return token;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to exchange callback query for token. callbackQuery: {}", query.raw(), e);
+                throw e;
+            }
+        });
     }
 
     @Override
     public final @NotNull String exchangeForUserIdentifier(@NotNull T token) throws OAuth2Exception {
-        log.debug("Ready to exchange token for user identifier. token: {}", token.raw());
-        try {
-            String userIdentifier = exchangeTokenForUserIdentifier.exchangeForUserIdentifier(token);
-            log.debug(
-                    "User identifier has been exchanged with token. token: {}, userIdentifier: {}",
-                    token.raw(), userIdentifier
-            );
-            return userIdentifier;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to exchange token for user identifier. token: {}", token.raw(), e);
-            throw e;
-        }
+        return measure(OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER_IDENTIFIER, () -> {
+            log.debug("Ready to exchange token for user identifier. token: {}", token.raw());
+            U cachedUser = readUserCache(token);
+            if (cachedUser != null) { return cachedUser.identifier(); }
+            try {
+                String userIdentifier = exchangeTokenForUserIdentifier.exchangeForUserIdentifier(token);
+                log.debug(
+                        "User identifier has been exchanged with token. token: {}, userIdentifier: {}",
+                        token.raw(), userIdentifier
+                );
+                return userIdentifier;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to exchange token for user identifier. token: {}", token.raw(), e);
+                throw e;
+            }
+        });
     }
 
     @Override
     public final @NotNull U exchangeForUser(@NotNull T token) throws OAuth2Exception {
-        log.debug("Ready to exchange token for user. token: {}", token.raw());
-        try {
-            U user = exchangeTokenForUser.exchangeForUser(token);
-            log.debug("User has been exchanged with token. token: {}, user: {}", token.raw(), user.raw());
-            return user;
-        } catch (RuntimeException | OAuth2Exception e) {
-            log.error("Failed to exchange token for user. token: {}", token.raw(), e);
-            throw e;
+        return measure(OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, () -> {
+            log.debug("Ready to exchange token for user. token: {}", token.raw());
+            U cachedUser = readUserCache(token);
+            if (cachedUser != null) { return cachedUser; }
+            try {
+                U user = exchangeTokenForUser.exchangeForUser(token);
+                log.debug("User has been exchanged with token. token: {}, user: {}", token.raw(), user.raw());
+                writeUserCache(token, user);
+                return user;
+            } catch (RuntimeException | OAuth2Exception e) {
+                log.error("Failed to exchange token for user. token: {}", token.raw(), e);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public @NotNull CompletableFuture<T> exchangeForTokenAsync(@NotNull OAuth2CallbackQuery query) {
+        return measureAsync(OAuth2ClientOperation.EXCHANGE_CALLBACK_QUERY_FOR_TOKEN, () -> {
+            log.debug("Ready to exchange callback query for token asynchronously. callbackQuery: {}", query.raw());
+            CompletableFuture<T> future;
+            try {
+                future = exchangeCallbackQueryForToken.exchangeForTokenAsync(query);
+            } catch (RuntimeException e) {
+                future = OAuth2FutureUtils.failedFuture(e);
+            }
+            return future.whenComplete((token, throwable) -> {
+                if (throwable == null) {
+                    log.debug(
+                            "Token has been exchanged with callback query. callbackQuery: {}, token: {}",
+                            query.raw(), token.raw()
+                    );
+                } else {
+                    log.error(
+                            "Failed to exchange callback query for token. callbackQuery: {}",
+                            query.raw(), OAuth2FutureUtils.unwrap(throwable)
+                    );
+                }
+            });
+        });
+    }
+
+    @Override
+    public final @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull T token) {
+        return measureAsync(OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER_IDENTIFIER, () -> {
+            log.debug("Ready to exchange token for user identifier asynchronously. token: {}", token.raw());
+            U cachedUser = readUserCache(token);
+            if (cachedUser != null) { return CompletableFuture.completedFuture(cachedUser.identifier()); }
+            CompletableFuture<String> future;
+            try {
+                future = exchangeTokenForUserIdentifier.exchangeForUserIdentifierAsync(token);
+            } catch (RuntimeException e) {
+                future = OAuth2FutureUtils.failedFuture(e);
+            }
+            return future.whenComplete((userIdentifier, throwable) -> {
+                if (throwable == null) {
+                    log.debug(
+                            "User identifier has been exchanged with token. token: {}, userIdentifier: {}",
+                            token.raw(), userIdentifier
+                    );
+                } else {
+                    log.error(
+                            "Failed to exchange token for user identifier. token: {}",
+                            token.raw(), OAuth2FutureUtils.unwrap(throwable)
+                    );
+                }
+            });
+        });
+    }
+
+    @Override
+    public final @NotNull CompletableFuture<U> exchangeForUserAsync(@NotNull T token) {
+        return measureAsync(OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, () -> {
+            log.debug("Ready to exchange token for user asynchronously. token: {}", token.raw());
+            U cachedUser = readUserCache(token);
+            if (cachedUser != null) { return CompletableFuture.completedFuture(cachedUser); }
+            CompletableFuture<U> future;
+            try {
+                future = exchangeTokenForUser.exchangeForUserAsync(token);
+            } catch (RuntimeException e) {
+                future = OAuth2FutureUtils.failedFuture(e);
+            }
+            return future.whenComplete((user, throwable) -> {
+                if (throwable == null) {
+                    log.debug("User has been exchanged with token. token: {}, user: {}", token.raw(), user.raw());
+                    writeUserCache(token, user);
+                } else {
+                    Throwable cause = OAuth2FutureUtils.unwrap(throwable);
+                    log.error("Failed to exchange token for user. token: {}", token.raw(), cause);
+                }
+            });
+        });
+    }
+
+    // ######################################################################################
+
+    /**
+     * Read user of the given {@code token} from user cache.
+     *
+     * @param token token
+     * @return cached user, or {@code null} if user cache is disabled, the refreshable token has expired or cache misses
+     */
+    private @Nullable U readUserCache(@NotNull T token) {
+        OAuth2TokenCache<U> cache = userCache;
+        if (cache == null) { return null; }
+        if ((token instanceof AbstractRefreshableOAuth2Token) && token.isAccessTokenExpired(metadata.clock())) {
+            return null;
         }
+        U user = cache.get(token);
+        if (user != null) { log.debug("User has been read from cache. token: {}, user: {}", token.raw(), user.raw()); }
+        return user;
+    }
+
+    /**
+     * Write the given {@code user} of the given {@code token} to user cache.
+     *
+     * @param token token
+     * @param user user
+     */
+    private void writeUserCache(@NotNull T token, @NotNull U user) {
+        OAuth2TokenCache<U> cache = userCache;
+        if (cache != null) { cache.put(token, user); }
     }
 
     // ######################################################################################
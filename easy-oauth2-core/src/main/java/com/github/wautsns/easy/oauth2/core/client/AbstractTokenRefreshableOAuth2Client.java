@@ -27,10 +27,16 @@ import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshabl
 import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
 import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2AccessTokenExpiredException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 /**
  * Token refreshable oauth2 client.
@@ -49,9 +55,12 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
     /** OAuth2 api: refresh token. */
     protected final @NotNull OAuth2APIRefreshToken<T> refreshToken;
     /** OAuth2 callbacks: before refreshing token. */
-    protected final @NotNull List<@NotNull OAuth2CallbackBeforeRefreshingToken<T>> callbacksBeforeRefreshingToken = new LinkedList<>();
+    protected final @NotNull List<@NotNull OAuth2CallbackBeforeRefreshingToken<T>> callbacksBeforeRefreshingToken = new CopyOnWriteArrayList<>();
     /** OAuth2 callbacks: after refreshing token. */
-    protected final @NotNull List<@NotNull OAuth2CallbackAfterRefreshingToken<T>> callbacksAfterRefreshingToken = new LinkedList<>();
+    protected final @NotNull List<@NotNull OAuth2CallbackAfterRefreshingToken<T>> callbacksAfterRefreshingToken = new CopyOnWriteArrayList<>();
+
+    /** In-flight refreshing, key is refresh token. */
+    private final @NotNull ConcurrentMap<@NotNull String, @NotNull CompletableFuture<T>> refreshings = new ConcurrentHashMap<>();
 
     // ######################################################################################
     // #################### enhanced getter #################################################
@@ -60,6 +69,11 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
     /**
      * Return callbacks before refreshing token.
      *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The returned list is thread-safe, callbacks can be added or removed while tokens are refreshing.</li>
+     * </ul>
+     *
      * @return callbacks before refreshing token
      */
     public final @NotNull List<@NotNull OAuth2CallbackBeforeRefreshingToken<T>> callbacksBeforeRefreshingToken() {
@@ -69,6 +83,11 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
     /**
      * Return callbacks after refreshing token.
      *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The returned list is thread-safe, callbacks can be added or removed while tokens are refreshing.</li>
+     * </ul>
+     *
      * @return callbacks after refreshing token
      */
     public final @NotNull List<@NotNull OAuth2CallbackAfterRefreshingToken<T>> callbacksAfterRefreshingToken() {
@@ -79,8 +98,88 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
     // #################### oauth2 function ####################################################
     // #########################################################################################
 
+    /**
+     * Refresh token.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Concurrent refreshing of tokens with the same refresh token will be coalesced: only the first caller sends
+     * the request (and invokes the callbacks), others wait for and share its result. This is important for platforms
+     * that rotate refresh token (e.g. Gitee), with which only one of the concurrent refreshing can succeed.</li>
+     * </ul>
+     *
+     * @param token token
+     * @return refreshed token
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
     @Override
     public final @NotNull T refreshToken(@NotNull T token) throws OAuth2Exception {
+        return measure(OAuth2ClientOperation.REFRESH_TOKEN, () -> {
+            String key = token.refreshToken();
+            CompletableFuture<T> refreshing = new CompletableFuture<>();
+            CompletableFuture<T> inFlightRefreshing = refreshings.putIfAbsent(key, refreshing);
+            if (inFlightRefreshing != null) {
+                log.debug("Join in-flight refreshing of token. token: {}", token.raw());
+                return OAuth2FutureUtils.join(inFlightRefreshing);
+            }
+            try {
+                T refreshedToken = doRefreshToken(token);
+                refreshing.complete(refreshedToken);
+                return refreshedToken;
+            } catch (RuntimeException | Error | OAuth2Exception e) {
+                refreshing.completeExceptionally(e);
+                throw e;
+            } finally {
+                refreshings.remove(key, refreshing);
+            }
+        });
+    }
+
+    /**
+     * Refresh token asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Concurrent refreshing will be coalesced as {@link #refreshToken(AbstractRefreshableOAuth2Token)} does, both
+     * synchronous and asynchronous callers share the same in-flight refreshing.</li>
+     * </ul>
+     *
+     * @param token token
+     * @return future of refreshed token
+     */
+    @Override
+    public final @NotNull CompletableFuture<T> refreshTokenAsync(@NotNull T token) {
+        return measureAsync(OAuth2ClientOperation.REFRESH_TOKEN, () -> {
+            String key = token.refreshToken();
+            CompletableFuture<T> refreshing = new CompletableFuture<>();
+            CompletableFuture<T> inFlightRefreshing = refreshings.putIfAbsent(key, refreshing);
+            if (inFlightRefreshing != null) {
+                log.debug("Join in-flight refreshing of token asynchronously. token: {}", token.raw());
+                return inFlightRefreshing.thenApply(Function.identity());
+            }
+            CompletableFuture<T> future = doRefreshTokenAsync(token);
+            future.whenComplete((refreshedToken, throwable) -> {
+                if (throwable == null) {
+                    refreshing.complete(refreshedToken);
+                } else {
+                    refreshing.completeExceptionally(OAuth2FutureUtils.unwrap(throwable));
+                }
+                refreshings.remove(key, refreshing);
+            });
+            return future;
+        });
+    }
+
+    // ######################################################################################
+
+    /**
+     * Refresh token without coalescing.
+     *
+     * @param token token
+     * @return refreshed token
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
+    private @NotNull T doRefreshToken(@NotNull T token) throws OAuth2Exception {
         log.debug("Ready to refresh token. token: {}", token.raw());
         try {
             for (OAuth2CallbackBeforeRefreshingToken<T> callback : callbacksBeforeRefreshingToken) {
@@ -98,6 +197,36 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
         }
     }
 
+    /**
+     * Refresh token asynchronously without coalescing.
+     *
+     * @param token token
+     * @return future of refreshed token
+     */
+    private @NotNull CompletableFuture<T> doRefreshTokenAsync(@NotNull T token) {
+        log.debug("Ready to refresh token asynchronously. token: {}", token.raw());
+        CompletableFuture<T> future;
+        try {
+            for (OAuth2CallbackBeforeRefreshingToken<T> callback : callbacksBeforeRefreshingToken) {
+                callback.beforeRefreshingToken(token);
+            }
+            future = OAuth2FutureUtils.thenApply(refreshToken.refreshTokenAsync(token), refreshedToken -> {
+                log.debug("Token has been refreshed. old: {}, new: {}", token.raw(), refreshedToken.raw());
+                for (OAuth2CallbackAfterRefreshingToken<T> callback : callbacksAfterRefreshingToken) {
+                    callback.afterRefreshingToken(token, refreshedToken);
+                }
+                return refreshedToken;
+            });
+        } catch (RuntimeException | OAuth2Exception e) {
+            future = OAuth2FutureUtils.failedFuture(e);
+        }
+        return future.whenComplete((refreshedToken, throwable) -> {
+            if (throwable != null) {
+                log.error("Failed to refresh token. token: {}", token.raw(), OAuth2FutureUtils.unwrap(throwable));
+            }
+        });
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
@@ -126,12 +255,24 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
         OAuth2APIExchangeTokenForUserIdentifier<T> api = Objects.requireNonNull(
                 initializeOAuth2APIExchangeTokenForUserIdentifierWithoutTryingToRefreshTokenAutomatically()
         );
-        return token -> {
-            try {
-                return api.exchangeForUserIdentifier(token);
-            } catch (OAuth2AccessTokenExpiredException e) {
-                log.warn("Try to refresh token automatically due to expired token. token: {}", token.raw(), e);
-                return api.exchangeForUserIdentifier(refreshToken(token));
+        return new OAuth2APIExchangeTokenForUserIdentifier<T>() {
+            @Override
+            public @NotNull String exchangeForUserIdentifier(@NotNull T token) throws OAuth2Exception {
+                if (token.isAccessTokenExpired(metadata.clock())) {
+                    log.debug("Try to refresh token pre-emptively due to expired token. token: {}", token.raw());
+                    return api.exchangeForUserIdentifier(refreshToken(token));
+                }
+                try {
+                    return api.exchangeForUserIdentifier(token);
+                } catch (OAuth2AccessTokenExpiredException e) {
+                    log.warn("Try to refresh token automatically due to expired token. token: {}", token.raw(), e);
+                    return api.exchangeForUserIdentifier(refreshToken(token));
+                }
+            }
+
+            @Override
+            public @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull T token) {
+                return tryToRefreshTokenAutomaticallyAsync(token, api::exchangeForUserIdentifierAsync);
             }
         };
     }
@@ -142,16 +283,64 @@ public abstract class AbstractTokenRefreshableOAuth2Client<A extends AbstractOAu
                 Objects.requireNonNull(
                         initializeOAuth2APIExchangeTokenForUserWithoutTryingToRefreshTokenAutomatically()
                 );
-        return token -> {
-            try {
-                return api.exchangeForUser(token);
-            } catch (OAuth2AccessTokenExpiredException e) {
-                log.warn("Try to refresh token automatically due to expired token. token: {}", token.raw(), e);
-                return api.exchangeForUser(refreshToken(token));
+        return new OAuth2APIExchangeTokenForUser<T, U>() {
+            @Override
+            public @NotNull U exchangeForUser(@NotNull T token) throws OAuth2Exception {
+                if (token.isAccessTokenExpired(metadata.clock())) {
+                    log.debug("Try to refresh token pre-emptively due to expired token. token: {}", token.raw());
+                    return api.exchangeForUser(refreshToken(token));
+                }
+                try {
+                    return api.exchangeForUser(token);
+                } catch (OAuth2AccessTokenExpiredException e) {
+                    log.warn("Try to refresh token automatically due to expired token. token: {}", token.raw(), e);
+                    return api.exchangeForUser(refreshToken(token));
+                }
+            }
+
+            @Override
+            public @NotNull CompletableFuture<U> exchangeForUserAsync(@NotNull T token) {
+                return tryToRefreshTokenAutomaticallyAsync(token, api::exchangeForUserAsync);
             }
         };
     }
 
+    /**
+     * Invoke the given {@code api} with the given {@code token} asynchronously, if the token is expired, refresh it
+     * and invoke the {@code api} again with the refreshed token.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the token is known to be expired according to {@link OAuth2ClientMetadata#clock()}, it will be refreshed
+     * before invoking the {@code api}.</li>
+     * </ul>
+     *
+     * @param <R> the type of result
+     * @param token token
+     * @param unboundApi async api
+     * @return future of result
+     */
+    private <R> @NotNull CompletableFuture<R> tryToRefreshTokenAutomaticallyAsync(
+            @NotNull T token, @NotNull Function<@NotNull T, @NotNull CompletableFuture<R>> unboundApi) {
+        // Refreshing and retrying run in the thread which completes the previous step, bind the current metrics
+        // context to it, so that they are recorded (and traced) as part of the current operation.
+        Function<T, CompletableFuture<R>> api = bindMetricsContext(unboundApi);
+        Function<T, CompletableFuture<T>> refresh = bindMetricsContext(this::refreshTokenAsync);
+        if (token.isAccessTokenExpired(metadata.clock())) {
+            log.debug("Try to refresh token pre-emptively due to expired token. token: {}", token.raw());
+            return refresh.apply(token).thenCompose(api);
+        }
+        return api.apply(token).handle((result, throwable) -> {
+            if (throwable == null) { return CompletableFuture.completedFuture(result); }
+            Throwable cause = OAuth2FutureUtils.unwrap(throwable);
+            if (!(cause instanceof OAuth2AccessTokenExpiredException)) {
+                return OAuth2FutureUtils.<R>failedFuture(cause);
+            }
+            log.warn("Try to refresh token automatically due to expired token. token: {}", token.raw(), cause);
+            return refresh.apply(token).thenCompose(api);
+        }).thenCompose(Function.identity());
+    }
+
     // ######################################################################################
 
     /**
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.cache;
+
+import com.github.wautsns.easy.oauth2.core.client.cache.configuration.OAuth2TokenCacheProperties;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OAuth2 token cache, which caches values by access token of oauth2 token.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Keys are SHA-256 digests of access tokens, access tokens themselves are never retained.</li>
+ * <li>Entries expire after {@link OAuth2TokenCacheProperties#getTimeToLive()}, and the least recently used entries
+ * will be evicted when the size exceeds {@link OAuth2TokenCacheProperties#getMaxSize()}. The cache is split into
+ * segments to reduce lock contention, so the eviction is LRU per segment.</li>
+ * </ul>
+ *
+ * @param <V> the type of value
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TokenCache<V> {
+
+    /** Message digest of SHA-256 for each thread. */
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    // ######################################################################################
+
+    /** Segments. */
+    private final @NotNull Segment<V>[] segments;
+    /** Time to live in nanos. */
+    private final long timeToLiveNanos;
+    /** Hit count. */
+    private final @NotNull LongAdder hits = new LongAdder();
+    /** Miss count. */
+    private final @NotNull LongAdder misses = new LongAdder();
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return the number of entries (including entries expired but not yet removed).
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Return hit count.
+     *
+     * @return hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Return miss count.
+     *
+     * @return miss count
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    // ######################################################################################
+    // #################### operation #######################################################
+    // ######################################################################################
+
+    /**
+     * Return the value cached for the given {@code token}.
+     *
+     * @param token token
+     * @return value cached for the token, or {@code null} if absent or expired
+     */
+    public @Nullable V get(@NotNull AbstractOAuth2Token token) {
+        ByteBuffer key = key(token);
+        Segment<V> segment = segment(key);
+        Entry<V> entry;
+        synchronized (segment) {
+            entry = segment.get(key);
+            if ((entry != null) && (entry.expiresAtNanos - System.nanoTime() <= 0)) {
+                segment.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        } else {
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Cache the given {@code value} for the given {@code token}.
+     *
+     * @param token token
+     * @param value value
+     */
+    public void put(@NotNull AbstractOAuth2Token token, @NotNull V value) {
+        ByteBuffer key = key(token);
+        Segment<V> segment = segment(key);
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + timeToLiveNanos);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Invalidate the value cached for the given {@code token}.
+     *
+     * @param token token
+     */
+    public void invalidate(@NotNull AbstractOAuth2Token token) {
+        ByteBuffer key = key(token);
+        Segment<V> segment = segment(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /** Invalidate all cached values. */
+    public void invalidateAll() {
+        for (Segment<V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return key of the given {@code token}.
+     *
+     * @param token token
+     * @return key
+     */
+    private static @NotNull ByteBuffer key(@NotNull AbstractOAuth2Token token) {
+        byte[] accessToken = token.accessToken().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.wrap(SHA256.get().digest(accessToken));
+    }
+
+    /**
+     * Return segment of the given {@code key}.
+     *
+     * @param key key
+     * @return segment
+     */
+    private @NotNull Segment<V> segment(@NotNull ByteBuffer key) {
+        // The key is a digest, so its leading bytes are already uniformly distributed.
+        return segments[(key.getInt(0) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties cache properties
+     */
+    @SuppressWarnings("unchecked")
+    public OAuth2TokenCache(@NotNull OAuth2TokenCacheProperties properties) {
+        properties.rewriteNullToDefaultValue();
+        int maxSize = properties.getMaxSize();
+        if (maxSize <= 0) { throw new IllegalArgumentException("Max size must be positive."); }
+        int segmentCount = (maxSize >= 1024) ? 16 : 1;
+        int segmentMaxSize = (maxSize + segmentCount - 1) / segmentCount;
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>(segmentMaxSize);
+        }
+        this.timeToLiveNanos = properties.getTimeToLive().toNanos();
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /**
+     * Cache entry.
+     *
+     * @param <V> the type of value
+     */
+    private static final class Entry<V> {
+
+        /** Value. */
+        private final @NotNull V value;
+        /** Expires at in nanos (based on {@link System#nanoTime()}). */
+        private final long expiresAtNanos;
+
+        /**
+         * Construct an instance.
+         *
+         * @param value value
+         * @param expiresAtNanos expires at in nanos
+         */
+        private Entry(@NotNull V value, long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+    }
+
+    /**
+     * Cache segment, an access ordered map which evicts the eldest entry when exceeding max size.
+     *
+     * @param <V> the type of value
+     */
+    private static final class Segment<V> extends LinkedHashMap<ByteBuffer, Entry<V>> {
+
+        private static final long serialVersionUID = 1L;
+
+        /** Max size. */
+        private final int maxSize;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ByteBuffer, OAuth2TokenCache.Entry<V>> eldest) {
+            return size() > maxSize;
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param maxSize max size
+         */
+        private Segment(int maxSize) {
+            super(16, 0.75F, true);
+            this.maxSize = maxSize;
+        }
+
+    }
+
+}
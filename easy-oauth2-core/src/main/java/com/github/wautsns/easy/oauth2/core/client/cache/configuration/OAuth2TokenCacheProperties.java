@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.cache.configuration;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 token cache properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TokenCacheProperties {
+
+    /**
+     * Default oauth2 token cache properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>maxSize: {@code 10000}</li>
+     * <li>timeToLive: {@code Duration.parse("PT5M")}</li>
+     * </ul>
+     */
+    public static final OAuth2TokenCacheProperties DEFAULT = new OAuth2TokenCacheProperties()
+            .setMaxSize(10000)
+            .setTimeToLive(Duration.parse("PT5M"));
+
+    // ######################################################################################
+
+    /** Max size of cache, the least recently used entries will be evicted when exceeded. */
+    private Integer maxSize;
+    /** Time to live of cache entry after written. */
+    private Duration timeToLive;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public OAuth2TokenCacheProperties rewriteNullToDefaultValue() {
+        if (maxSize == null) { maxSize = DEFAULT.maxSize; }
+        if (timeToLive == null) { timeToLive = DEFAULT.timeToLive; }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2TokenCacheProperties{" +
+                "maxSize=" + maxSize +
+                ", timeToLive=" + timeToLive +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getMaxSize() {
+        return maxSize;
+    }
+
+    public OAuth2TokenCacheProperties setMaxSize(Integer maxSize) {
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public OAuth2TokenCacheProperties setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+}
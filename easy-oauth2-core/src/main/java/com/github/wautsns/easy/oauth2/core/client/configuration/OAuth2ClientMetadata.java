@@ -17,17 +17,30 @@ package com.github.wautsns.easy.oauth2.core.client.configuration;
 
 import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
 import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * OAuth2 client metadata.
  *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The metadata holds one reference of the request executor, which is released when {@code this} metadata is
+ * {@linkplain #close() closed}. To share an executor among clients, each client should hold its own reference (e.g.
+ * through {@link com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorFactoryManager#share}).</li>
+ * <li>Closing is idempotent, the reference is released only once no matter how many times {@code this} metadata is
+ * closed.</li>
+ * </ul>
+ *
  * @param <A> the type of oauth2 application properties
  * @param <O> the type of oauth2 authorization properties
  * @author wautsns
  * @since Apr 02, 2021
  */
-public final class OAuth2ClientMetadata<A extends AbstractOAuth2ApplicationProperties, O extends AbstractOAuth2AuthorizationProperties> {
+public final class OAuth2ClientMetadata<A extends AbstractOAuth2ApplicationProperties, O extends AbstractOAuth2AuthorizationProperties>
+        implements AutoCloseable {
 
     /** Identifier. */
     private final @NotNull String identifier;
@@ -37,6 +50,10 @@ public final class OAuth2ClientMetadata<A extends AbstractOAuth2ApplicationPrope
     private final @NotNull O authorization;
     /** Request executor. */
     private final @NotNull AbstractOAuth2RequestExecutor<?> requestExecutor;
+    /** Clock, used to record issued at of tokens and check whether tokens have expired. */
+    private final @NotNull Clock clock;
+    /** Whether the reference of request executor has been released. */
+    private final @NotNull AtomicBoolean closed = new AtomicBoolean();
 
     // ######################################################################################
     // #################### enhanced getter #################################################
@@ -78,12 +95,49 @@ public final class OAuth2ClientMetadata<A extends AbstractOAuth2ApplicationPrope
         return requestExecutor;
     }
 
+    /**
+     * Return clock.
+     *
+     * @return clock
+     */
+    public @NotNull Clock clock() {
+        return clock;
+    }
+
+    // ######################################################################################
+    // #################### lifecycle #######################################################
+    // ######################################################################################
+
+    /**
+     * Release the reference of request executor held by {@code this} metadata.
+     *
+     * @see AbstractOAuth2RequestExecutor#close()
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            requestExecutor.close();
+        }
+    }
+
+    /**
+     * Release the reference of request executor held by {@code this} metadata.
+     *
+     * @param drainTimeout max time to wait for in-flight requests
+     * @see AbstractOAuth2RequestExecutor#close(Duration)
+     */
+    public void close(@NotNull Duration drainTimeout) {
+        if (closed.compareAndSet(false, true)) {
+            requestExecutor.close(drainTimeout);
+        }
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
 
     /**
-     * Construct an instance.
+     * Construct an instance with {@linkplain Clock#systemUTC() system clock}.
      *
      * @param identifier identifier
      * @param application application properties
@@ -95,10 +149,29 @@ public final class OAuth2ClientMetadata<A extends AbstractOAuth2ApplicationPrope
             @NotNull A application,
             @NotNull O authorization,
             @NotNull AbstractOAuth2RequestExecutor<?> requestExecutor) {
+        this(identifier, application, authorization, requestExecutor, Clock.systemUTC());
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param identifier identifier
+     * @param application application properties
+     * @param authorization authorization properties
+     * @param requestExecutor request executor
+     * @param clock clock
+     */
+    public OAuth2ClientMetadata(
+            @NotNull String identifier,
+            @NotNull A application,
+            @NotNull O authorization,
+            @NotNull AbstractOAuth2RequestExecutor<?> requestExecutor,
+            @NotNull Clock clock) {
         this.identifier = Objects.requireNonNull(identifier);
         this.application = Objects.requireNonNull(application);
         this.authorization = Objects.requireNonNull(authorization);
         this.requestExecutor = Objects.requireNonNull(requestExecutor);
+        this.clock = Objects.requireNonNull(clock);
     }
 
 }
@@ -18,7 +18,9 @@ package com.github.wautsns.easy.oauth2.core.client.function.api;
 import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OAuth2 api: exchange oauth2 callback query for oauth2 token.
@@ -39,4 +41,22 @@ public interface OAuth2APIExchangeCallbackQueryForToken<T extends AbstractOAuth2
      */
     @NotNull T exchangeForToken(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception;
 
+    /**
+     * Exchange callback query for token asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The default implementation invokes {@link #exchangeForToken} in the calling thread,
+     * implementations based on non-blocking requests should override it.</li>
+     * <li>The method should not throw any exception, all errors should be delivered through the returned
+     * future.</li>
+     * </ul>
+     *
+     * @param query callback query
+     * @return future of token
+     */
+    default @NotNull CompletableFuture<T> exchangeForTokenAsync(@NotNull OAuth2CallbackQuery query) {
+        return OAuth2FutureUtils.supply(() -> exchangeForToken(query));
+    }
+
 }
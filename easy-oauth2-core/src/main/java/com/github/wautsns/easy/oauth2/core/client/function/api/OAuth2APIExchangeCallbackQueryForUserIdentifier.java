@@ -17,7 +17,9 @@ package com.github.wautsns.easy.oauth2.core.client.function.api;
 
 import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OAuth2 api: exchange oauth2 callback query for oauth2 user identifier.
@@ -37,4 +39,22 @@ public interface OAuth2APIExchangeCallbackQueryForUserIdentifier {
      */
     @NotNull String exchangeForUserIdentifier(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception;
 
+    /**
+     * Exchange callback query for user identifier asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The default implementation invokes {@link #exchangeForUserIdentifier} in the calling thread,
+     * implementations based on non-blocking requests should override it.</li>
+     * <li>The method should not throw any exception, all errors should be delivered through the returned
+     * future.</li>
+     * </ul>
+     *
+     * @param query callback query
+     * @return future of user identifier
+     */
+    default @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull OAuth2CallbackQuery query) {
+        return OAuth2FutureUtils.supply(() -> exchangeForUserIdentifier(query));
+    }
+
 }
@@ -18,7 +18,9 @@ package com.github.wautsns.easy.oauth2.core.client.function.api;
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
 import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OAuth2 api: exchange oauth2 token for oauth2 user.
@@ -40,4 +42,22 @@ public interface OAuth2APIExchangeTokenForUser<T extends AbstractOAuth2Token, U
      */
     @NotNull U exchangeForUser(@NotNull T token) throws OAuth2Exception;
 
+    /**
+     * Exchange token for user asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The default implementation invokes {@link #exchangeForUser} in the calling thread,
+     * implementations based on non-blocking requests should override it.</li>
+     * <li>The method should not throw any exception, all errors should be delivered through the returned
+     * future.</li>
+     * </ul>
+     *
+     * @param token token
+     * @return future of user
+     */
+    default @NotNull CompletableFuture<U> exchangeForUserAsync(@NotNull T token) {
+        return OAuth2FutureUtils.supply(() -> exchangeForUser(token));
+    }
+
 }
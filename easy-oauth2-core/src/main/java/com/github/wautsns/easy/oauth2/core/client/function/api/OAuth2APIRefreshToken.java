@@ -17,7 +17,9 @@ package com.github.wautsns.easy.oauth2.core.client.function.api;
 
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * OAuth2 api: refresh oauth2 token.
@@ -38,4 +40,22 @@ public interface OAuth2APIRefreshToken<T extends AbstractRefreshableOAuth2Token>
      */
     @NotNull T refreshToken(@NotNull T token) throws OAuth2Exception;
 
+    /**
+     * Refresh token asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The default implementation invokes {@link #refreshToken} in the calling thread,
+     * implementations based on non-blocking requests should override it.</li>
+     * <li>The method should not throw any exception, all errors should be delivered through the returned
+     * future.</li>
+     * </ul>
+     *
+     * @param token token
+     * @return future of refreshed token
+     */
+    default @NotNull CompletableFuture<T> refreshTokenAsync(@NotNull T token) {
+        return OAuth2FutureUtils.supply(() -> refreshToken(token));
+    }
+
 }
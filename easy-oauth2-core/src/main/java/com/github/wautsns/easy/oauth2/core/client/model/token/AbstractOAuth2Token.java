@@ -16,21 +16,36 @@
 package com.github.wautsns.easy.oauth2.core.client.model.token;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2PlatformIdentifierSupplier;
 import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 
 /**
  * Abstract oauth2 token.
  *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Issued at is recorded into the {@linkplain #raw() raw token} as {@value #ISSUED_AT} (epoch millis), so a token
+ * persisted with its raw token and restored with {@link #AbstractOAuth2Token(JsonNode, Clock)} keeps its issued
+ * at.</li>
+ * </ul>
+ *
  * @author wautsns
  * @since Mar 31, 2021
  */
 public abstract class AbstractOAuth2Token implements OAuth2PlatformIdentifierSupplier {
 
+    /** Name of the field recording issued at in the raw token. */
+    public static final @NotNull String ISSUED_AT = "easy_oauth2_issued_at";
+
     /** Raw oauth2 token. */
     protected final @NotNull JsonNode raw;
+    /** Issued at. */
+    protected final @NotNull Instant issuedAt;
 
     // ######################################################################################
     // #################### enhanced getter #################################################
@@ -45,6 +60,15 @@ public abstract class AbstractOAuth2Token implements OAuth2PlatformIdentifierSup
         return raw;
     }
 
+    /**
+     * Return issued at.
+     *
+     * @return issued at
+     */
+    public final @NotNull Instant issuedAt() {
+        return issuedAt;
+    }
+
     // ######################################################################################
 
     /**
@@ -61,17 +85,89 @@ public abstract class AbstractOAuth2Token implements OAuth2PlatformIdentifierSup
      */
     public abstract @NotNull Duration accessTokenValidTime();
 
+    /**
+     * Return access token expires at.
+     *
+     * @return access token expires at
+     */
+    public final @NotNull Instant accessTokenExpiresAt() {
+        return issuedAt.plus(accessTokenValidTime());
+    }
+
+    /**
+     * Return whether access token has expired at the current instant of the given {@code clock}.
+     *
+     * @param clock clock
+     * @return {@code true} if access token has expired, otherwise {@code false}
+     */
+    public final boolean isAccessTokenExpired(@NotNull Clock clock) {
+        return !clock.instant().isBefore(accessTokenExpiresAt());
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
 
     /**
-     * Construct an instance.
+     * Construct an instance restored from the given {@code raw} token with the system clock.
      *
      * @param raw raw oauth2 token
+     * @see #AbstractOAuth2Token(JsonNode, Clock)
      */
     protected AbstractOAuth2Token(@NotNull JsonNode raw) {
-        this.raw = Objects.requireNonNull(raw);
+        this(raw, Clock.systemUTC());
+    }
+
+    /**
+     * Construct an instance restored from the given {@code raw} token.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Issued at is restored from {@value #ISSUED_AT} of the raw token if present, otherwise it is the current
+     * instant of the given {@code clock}.</li>
+     * </ul>
+     *
+     * @param raw raw oauth2 token
+     * @param clock clock
+     */
+    protected AbstractOAuth2Token(@NotNull JsonNode raw, @NotNull Clock clock) {
+        this(raw, issuedAt(raw, clock));
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The given {@code issuedAt} will be recorded into a copy of the raw token if it is a json object, the given
+     * {@code raw} itself is never modified, so it can be reused by the caller.</li>
+     * </ul>
+     *
+     * @param raw raw oauth2 token
+     * @param issuedAt issued at
+     */
+    protected AbstractOAuth2Token(@NotNull JsonNode raw, @NotNull Instant issuedAt) {
+        this.issuedAt = Objects.requireNonNull(issuedAt);
+        this.raw = (raw instanceof ObjectNode)
+                   ? ((ObjectNode) raw).deepCopy().put(ISSUED_AT, issuedAt.toEpochMilli())
+                   : Objects.requireNonNull(raw);
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return issued at recorded in the given {@code raw} token, or the current instant of the given {@code clock} if
+     * absent.
+     *
+     * @param raw raw oauth2 token
+     * @param clock clock
+     * @return issued at
+     */
+    protected static @NotNull Instant issuedAt(@NotNull JsonNode raw, @NotNull Clock clock) {
+        JsonNode issuedAt = raw.get(ISSUED_AT);
+        return (issuedAt != null && issuedAt.canConvertToLong())
+                ? Instant.ofEpochMilli(issuedAt.asLong())
+                : clock.instant();
     }
 
 }
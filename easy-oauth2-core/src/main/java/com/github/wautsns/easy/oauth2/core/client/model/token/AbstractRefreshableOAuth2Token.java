@@ -17,7 +17,9 @@ package com.github.wautsns.easy.oauth2.core.client.model.token;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * Abstract refreshable oauth2 token.
@@ -45,17 +47,58 @@ public abstract class AbstractRefreshableOAuth2Token extends AbstractOAuth2Token
      */
     public abstract @NotNull Duration refreshTokenValidTime();
 
+    /**
+     * Return refresh token expires at.
+     *
+     * @return refresh token expires at
+     */
+    public final @NotNull Instant refreshTokenExpiresAt() {
+        return issuedAt.plus(refreshTokenValidTime());
+    }
+
+    /**
+     * Return whether refresh token has expired at the current instant of the given {@code clock}.
+     *
+     * @param clock clock
+     * @return {@code true} if refresh token has expired, otherwise {@code false}
+     */
+    public final boolean isRefreshTokenExpired(@NotNull Clock clock) {
+        return !clock.instant().isBefore(refreshTokenExpiresAt());
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
 
     /**
-     * Construct an instance.
+     * Construct an instance restored from the given {@code raw} token with the system clock.
      *
      * @param raw raw refreshable oauth2 token
+     * @see AbstractOAuth2Token#AbstractOAuth2Token(JsonNode, Clock)
      */
     protected AbstractRefreshableOAuth2Token(@NotNull JsonNode raw) {
         super(raw);
     }
 
+    /**
+     * Construct an instance restored from the given {@code raw} token.
+     *
+     * @param raw raw refreshable oauth2 token
+     * @param clock clock
+     * @see AbstractOAuth2Token#AbstractOAuth2Token(JsonNode, Clock)
+     */
+    protected AbstractRefreshableOAuth2Token(@NotNull JsonNode raw, @NotNull Clock clock) {
+        super(raw, clock);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param raw raw refreshable oauth2 token
+     * @param issuedAt issued at
+     */
+    protected AbstractRefreshableOAuth2Token(@NotNull JsonNode raw, @NotNull Instant issuedAt) {
+        super(raw, issuedAt);
+    }
+
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.scheduler;
+
+import com.github.wautsns.easy.oauth2.core.client.AbstractTokenRefreshableOAuth2Client;
+import com.github.wautsns.easy.oauth2.core.client.function.callback.OAuth2CallbackAfterRefreshingToken;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
+import com.github.wautsns.easy.oauth2.core.client.scheduler.configuration.OAuth2TokenRefreshSchedulerProperties;
+import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2RefreshTokenExpiredException;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth2 token refresh scheduler.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Registered tokens will be refreshed by {@link AbstractTokenRefreshableOAuth2Client#refreshTokenAsync(
+ * AbstractRefreshableOAuth2Token)} ahead of the expiration of access token or refresh token (whichever comes first),
+ * so the refreshed tokens are delivered through the {@linkplain
+ * AbstractTokenRefreshableOAuth2Client#callbacksAfterRefreshingToken() callbacks after refreshing token} of the
+ * client.</li>
+ * <li>Refreshed tokens (no matter refreshed by the scheduler or by others, e.g. automatic refreshing of the client)
+ * will replace the registered old tokens and be scheduled again.</li>
+ * <li>Tokens whose refresh token has expired will be unregistered, other failures will be retried after {@link
+ * OAuth2TokenRefreshSchedulerProperties#getRetryInterval()}.</li>
+ * </ul>
+ *
+ * @param <T> the type of refreshable oauth2 token
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TokenRefreshScheduler<T extends AbstractRefreshableOAuth2Token> implements AutoCloseable {
+
+    /** Logger. */
+    private final @NotNull Logger log = LoggerFactory.getLogger(getClass());
+
+    // ######################################################################################
+
+    /** Token refreshable oauth2 client. */
+    private final @NotNull AbstractTokenRefreshableOAuth2Client<?, ?, T, ?> client;
+    /** Scheduler properties. */
+    private final @NotNull OAuth2TokenRefreshSchedulerProperties properties;
+    /** Scheduled executor. */
+    private final @NotNull ScheduledThreadPoolExecutor scheduledExecutor;
+    /** Callback after refreshing token, registered to the client. */
+    private final @NotNull OAuth2CallbackAfterRefreshingToken<T> callbackAfterRefreshingToken;
+    /** Scheduled refreshing, key is refresh token. */
+    private final @NotNull ConcurrentMap<@NotNull String, @NotNull ScheduledFuture<?>> scheduledRefreshings = new ConcurrentHashMap<>();
+    /** Whether {@code this} scheduler has been closed. */
+    private volatile boolean closed;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return the number of registered tokens.
+     *
+     * @return the number of registered tokens
+     */
+    public int size() {
+        return scheduledRefreshings.size();
+    }
+
+    /**
+     * Return the remaining delay of the scheduled refreshing of the given {@code token}.
+     *
+     * @param token token
+     * @return the remaining delay, or {@code null} if the token is not registered
+     */
+    @Nullable Duration delay(@NotNull T token) {
+        ScheduledFuture<?> scheduledRefreshing = scheduledRefreshings.get(token.refreshToken());
+        if (scheduledRefreshing == null) { return null; }
+        return Duration.ofMillis(scheduledRefreshing.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    // ######################################################################################
+    // #################### register ########################################################
+    // ######################################################################################
+
+    /**
+     * Register the given {@code token}, it will be refreshed ahead of expiration.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Tokens registered after {@code this} scheduler is closed will be ignored.</li>
+     * </ul>
+     *
+     * @param token token
+     */
+    public void register(@NotNull T token) {
+        if (closed) { return; }
+        Instant expiresAt = token.accessTokenExpiresAt();
+        if (token.refreshTokenExpiresAt().isBefore(expiresAt)) { expiresAt = token.refreshTokenExpiresAt(); }
+        long validMillis = Duration.between(client.metadata().clock().instant(), expiresAt).toMillis();
+        long advanceMillis = properties.getAdvance().toMillis();
+        long jitterMillis = properties.getJitter().toMillis();
+        if (jitterMillis > 0) { advanceMillis += ThreadLocalRandom.current().nextLong(jitterMillis + 1); }
+        schedule(token, Math.max(0, validMillis - advanceMillis));
+    }
+
+    /**
+     * Unregister the given {@code token}.
+     *
+     * @param token token
+     * @return {@code true} if the token has been registered, otherwise {@code false}
+     */
+    public boolean unregister(@NotNull T token) {
+        ScheduledFuture<?> scheduledRefreshing = scheduledRefreshings.remove(token.refreshToken());
+        if (scheduledRefreshing == null) { return false; }
+        scheduledRefreshing.cancel(false);
+        return true;
+    }
+
+    // ######################################################################################
+
+    /**
+     * Schedule refreshing of the given {@code token}.
+     *
+     * @param token token
+     * @param delayMillis delay millis
+     */
+    private void schedule(@NotNull T token, long delayMillis) {
+        ScheduledFuture<?> scheduledRefreshing;
+        try {
+            scheduledRefreshing = scheduledExecutor.schedule(() -> refresh(token), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed concurrently, the token is simply dropped.
+            if (closed) { return; }
+            throw e;
+        }
+        ScheduledFuture<?> previous = scheduledRefreshings.put(token.refreshToken(), scheduledRefreshing);
+        if (previous != null) { previous.cancel(false); }
+        log.debug("Token refreshing has been scheduled. token: {}, delayMillis: {}", token.raw(), delayMillis);
+    }
+
+    /**
+     * Refresh the given {@code token}.
+     *
+     * @param token token
+     */
+    private void refresh(@NotNull T token) {
+        client.refreshTokenAsync(token).whenComplete((refreshedToken, throwable) -> {
+            // Refreshed token will be rescheduled by callback after refreshing token.
+            if (throwable == null) { return; }
+            Throwable cause = OAuth2FutureUtils.unwrap(throwable);
+            if (cause instanceof OAuth2RefreshTokenExpiredException) {
+                log.warn("Token is unregistered due to expired refresh token. token: {}", token.raw(), cause);
+                scheduledRefreshings.remove(token.refreshToken());
+            } else if (reschedule(token, properties.getRetryInterval().toMillis())) {
+                log.warn("Failed to refresh token, it will be retried later. token: {}", token.raw(), cause);
+            }
+        });
+    }
+
+    /**
+     * Reschedule refreshing of the given {@code token} if it is still registered.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The scheduled refreshing is replaced atomically, so the token unregistered concurrently will not be
+     * registered again.</li>
+     * </ul>
+     *
+     * @param token token
+     * @param delayMillis delay millis
+     * @return {@code true} if the token has been rescheduled, otherwise {@code false}
+     */
+    private boolean reschedule(@NotNull T token, long delayMillis) {
+        if (closed) { return false; }
+        // Scheduling inside the atomic computation keeps it ordered with concurrent unregistering and rescheduling.
+        ScheduledFuture<?> scheduledRefreshing = scheduledRefreshings.computeIfPresent(
+                token.refreshToken(), (refreshToken, previous) -> {
+                    try {
+                        return scheduledExecutor.schedule(() -> refresh(token), delayMillis, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // Closed concurrently, the token is simply dropped.
+                        if (closed) { return null; }
+                        throw e;
+                    }
+                });
+        if (scheduledRefreshing == null) { return false; }
+        log.debug("Token refreshing has been rescheduled. token: {}, delayMillis: {}", token.raw(), delayMillis);
+        return true;
+    }
+
+    // ######################################################################################
+    // #################### close ###########################################################
+    // ######################################################################################
+
+    /**
+     * Close {@code this} scheduler.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>All registered tokens will be unregistered, and in-flight refreshing will not be interrupted.</li>
+     * <li>Closing {@code this} scheduler more than once has no effect.</li>
+     * </ul>
+     */
+    @Override
+    public void close() {
+        if (closed) { return; }
+        closed = true;
+        client.callbacksAfterRefreshingToken().remove(callbackAfterRefreshingToken);
+        scheduledExecutor.shutdownNow();
+        scheduledRefreshings.clear();
+        log.info("Token refresh scheduler has been closed.");
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param client token refreshable oauth2 client
+     * @param properties scheduler properties
+     */
+    public OAuth2TokenRefreshScheduler(
+            @NotNull AbstractTokenRefreshableOAuth2Client<?, ?, T, ?> client,
+            @NotNull OAuth2TokenRefreshSchedulerProperties properties) {
+        this.client = Objects.requireNonNull(client);
+        this.properties = properties.rewriteNullToDefaultValue();
+        AtomicInteger threadNumber = new AtomicInteger();
+        String threadNamePrefix = "easy-oauth2-token-refresh-scheduler-" + client.platformIdentifier() + "-";
+        this.scheduledExecutor = new ScheduledThreadPoolExecutor(this.properties.getThreads(), runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduledExecutor.setRemoveOnCancelPolicy(true);
+        this.callbackAfterRefreshingToken = (token, refreshedToken) -> {
+            if (unregister(token)) { register(refreshedToken); }
+        };
+        // The callback list of the client is copy-on-write, so it is safe to add and remove the callback while tokens
+        // are refreshing.
+        client.callbacksAfterRefreshingToken().add(callbackAfterRefreshingToken);
+        log.info("Token refresh scheduler has been initialized with properties: {}", this.properties);
+    }
+
+}
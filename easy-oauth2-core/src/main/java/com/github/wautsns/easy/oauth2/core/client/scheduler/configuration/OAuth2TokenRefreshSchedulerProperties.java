@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.scheduler.configuration;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 token refresh scheduler properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TokenRefreshSchedulerProperties {
+
+    /**
+     * Default oauth2 token refresh scheduler properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>advance: {@code Duration.parse("PT5M")}</li>
+     * <li>jitter: {@code Duration.parse("PT1M")}</li>
+     * <li>retryInterval: {@code Duration.parse("PT30S")}</li>
+     * <li>threads: {@code 1}</li>
+     * </ul>
+     */
+    public static final OAuth2TokenRefreshSchedulerProperties DEFAULT = new OAuth2TokenRefreshSchedulerProperties()
+            .setAdvance(Duration.parse("PT5M"))
+            .setJitter(Duration.parse("PT1M"))
+            .setRetryInterval(Duration.parse("PT30S"))
+            .setThreads(1);
+
+    // ######################################################################################
+
+    /** How long before expiration to refresh token. */
+    private Duration advance;
+    /** Max random time added to advance, to spread refreshing of tokens issued at the same time. */
+    private Duration jitter;
+    /** Interval to retry refreshing after a failure. */
+    private Duration retryInterval;
+    /** Threads of scheduler. */
+    private Integer threads;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public OAuth2TokenRefreshSchedulerProperties rewriteNullToDefaultValue() {
+        if (advance == null) { advance = DEFAULT.advance; }
+        if (jitter == null) { jitter = DEFAULT.jitter; }
+        if (retryInterval == null) { retryInterval = DEFAULT.retryInterval; }
+        if (threads == null) { threads = DEFAULT.threads; }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2TokenRefreshSchedulerProperties{" +
+                "advance=" + advance +
+                ", jitter=" + jitter +
+                ", retryInterval=" + retryInterval +
+                ", threads=" + threads +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Duration getAdvance() {
+        return advance;
+    }
+
+    public OAuth2TokenRefreshSchedulerProperties setAdvance(Duration advance) {
+        this.advance = advance;
+        return this;
+    }
+
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    public OAuth2TokenRefreshSchedulerProperties setJitter(Duration jitter) {
+        this.jitter = jitter;
+        return this;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public OAuth2TokenRefreshSchedulerProperties setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+        return this;
+    }
+
+    public Integer getThreads() {
+        return threads;
+    }
+
+    public OAuth2TokenRefreshSchedulerProperties setThreads(Integer threads) {
+        this.threads = threads;
+        return this;
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OAuth2 circuit breaker open exception.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The exception is thrown when a request is rejected because the circuit breaker of its endpoint is open, i.e.
+ * the endpoint has been failing or slow recently.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2CircuitBreakerOpenException extends OAuth2RequestRejectedException {
+
+    private static final long serialVersionUID = 5902739381684209741L;
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param name name of the circuit breaker
+     */
+    public OAuth2CircuitBreakerOpenException(@NotNull String name) {
+        super(String.format("Circuit breaker %s is open.", name));
+    }
+
+}
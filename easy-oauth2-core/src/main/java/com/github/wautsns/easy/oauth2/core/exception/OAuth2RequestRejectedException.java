@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OAuth2 request rejected exception.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The exception is thrown when a request is rejected by the request executor before being sent (e.g. the
+ * executor has been closed), so it is always safe to retry the request elsewhere.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestRejectedException extends OAuth2Exception {
+
+    private static final long serialVersionUID = 2650284016939281742L;
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param message message
+     */
+    public OAuth2RequestRejectedException(@NotNull String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.exception;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OAuth2 request saturated exception.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The exception is thrown when the request executor is saturated, i.e. all concurrent requests are in use and the
+ * request can not be queued (the queue is full) or has waited in the queue too long.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestSaturatedException extends OAuth2RequestRejectedException {
+
+    private static final long serialVersionUID = -3196473262958823412L;
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param message message
+     */
+    public OAuth2RequestSaturatedException(@NotNull String message) {
+        super(message);
+    }
+
+}
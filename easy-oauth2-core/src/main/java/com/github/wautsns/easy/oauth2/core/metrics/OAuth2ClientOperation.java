@@ -0,0 +1,66 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OAuth2 client operation.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public enum OAuth2ClientOperation {
+
+    INITIALIZE_AUTHORIZE_URL("initializeAuthorizeURL"),
+    EXCHANGE_CALLBACK_QUERY_FOR_TOKEN("exchangeCallbackQueryForToken"),
+    EXCHANGE_CALLBACK_QUERY_FOR_USER_IDENTIFIER("exchangeCallbackQueryForUserIdentifier"),
+    EXCHANGE_CALLBACK_QUERY_FOR_USER("exchangeCallbackQueryForUser"),
+    EXCHANGE_TOKEN_FOR_USER_IDENTIFIER("exchangeTokenForUserIdentifier"),
+    EXCHANGE_TOKEN_FOR_USER("exchangeTokenForUser"),
+    REFRESH_TOKEN("refreshToken"),
+    ;
+
+    /** Operation name. */
+    private final @NotNull String operationName;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return operation name.
+     *
+     * @return operation name
+     */
+    public @NotNull String operationName() {
+        return operationName;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param operationName operation name
+     */
+    OAuth2ClientOperation(@NotNull String operationName) {
+        this.operationName = operationName;
+    }
+
+}
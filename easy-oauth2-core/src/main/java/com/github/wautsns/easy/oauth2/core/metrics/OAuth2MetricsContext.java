@@ -0,0 +1,287 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Tracer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * OAuth2 metrics context.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>A context is bound to the current thread while an operation of oauth2 client is invoking, so that request
+ * executors can record executions with the platform and the operation that trigger them.</li>
+ * <li>A context carries the metrics recorder and the tracer (with the span of the operation) of the client, at least
+ * one of them is not {@code null}.</li>
+ * <li>Asynchronous continuations run in other threads, use {@link #wrap(Function)} to bind the context to them.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2MetricsContext {
+
+    /** Context bound to the current thread. */
+    private static final @NotNull ThreadLocal<OAuth2MetricsContext> CURRENT = new ThreadLocal<>();
+
+    /** Metrics recorder. */
+    private final @Nullable OAuth2MetricsRecorder recorder;
+    /** Tracer. */
+    private final @Nullable OAuth2Tracer tracer;
+    /** Platform identifier. */
+    private final @NotNull String platform;
+    /** Operation. */
+    private final @NotNull OAuth2ClientOperation operation;
+    /** Span of the operation, {@code null} if tracer is {@code null}. */
+    private final @Nullable OAuth2Span span;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return context bound to the current thread.
+     *
+     * @return context bound to the current thread, or {@code null} if there is no context
+     */
+    public static @Nullable OAuth2MetricsContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Return platform identifier.
+     *
+     * @return platform identifier
+     */
+    public @NotNull String platform() {
+        return platform;
+    }
+
+    /**
+     * Return operation.
+     *
+     * @return operation
+     */
+    public @NotNull OAuth2ClientOperation operation() {
+        return operation;
+    }
+
+    /**
+     * Return span of the operation.
+     *
+     * @return span of the operation, or {@code null} if tracing is disabled
+     */
+    public @Nullable OAuth2Span span() {
+        return span;
+    }
+
+    // ######################################################################################
+    // #################### bind ############################################################
+    // ######################################################################################
+
+    /**
+     * Bind {@code this} context to the current thread.
+     *
+     * @return previous context which should be passed to {@link #restore(OAuth2MetricsContext)}, or {@code null}
+     */
+    public @Nullable OAuth2MetricsContext bind() {
+        OAuth2MetricsContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Restore the given {@code previous} context to the current thread.
+     *
+     * @param previous previous context returned by {@link #bind()}
+     */
+    public static void restore(@Nullable OAuth2MetricsContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Return a function which invokes the given {@code function} with {@code this} context bound.
+     *
+     * @param <T> the type of input
+     * @param <R> the type of result
+     * @param function function
+     * @return wrapped function
+     */
+    public <T, R> @NotNull Function<T, R> wrap(@NotNull Function<T, R> function) {
+        return input -> {
+            OAuth2MetricsContext previous = bind();
+            try {
+                return function.apply(input);
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    // ######################################################################################
+    // #################### record ##########################################################
+    // ######################################################################################
+
+    /**
+     * End the operation started at the given {@code startNanos}: record it and end its span.
+     *
+     * @param startNanos start time in nanoseconds, from {@link System#nanoTime()}
+     * @param throwable unwrapped throwable if the operation failed, or {@code null} if the operation succeeded
+     */
+    public void endOperation(long startNanos, @Nullable Throwable throwable) {
+        if (recorder != null) {
+            recorder.recordOperation(platform, operation, System.nanoTime() - startNanos, throwable);
+        }
+        if (span != null) { span.end(0, throwable); }
+    }
+
+    /**
+     * Start an execution of the given {@code request} during the operation.
+     *
+     * @param request request
+     * @return started execution, which should be ended by {@link Execution#end(int, Throwable)}
+     */
+    public @NotNull Execution startExecution(@NotNull OAuth2Request<?> request) {
+        OAuth2Span executionSpan = ((tracer == null) || (span == null)) ? null : tracer.startExecution(span, request);
+        return new Execution(this, System.nanoTime(), executionSpan);
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Execution of request during an operation. */
+    public static final class Execution {
+
+        /** Context of the operation. */
+        private final @NotNull OAuth2MetricsContext context;
+        /** Start time in nanoseconds, from {@link System#nanoTime()}. */
+        private final long startNanos;
+        /** Span of the execution. */
+        private final @Nullable OAuth2Span span;
+
+        /**
+         * End {@code this} execution with the received {@code response}: record it and end its span.
+         *
+         * @param response received response
+         */
+        public void end(@NotNull AbstractOAuth2Response response) {
+            record(response.status(), null);
+            if (span != null) { span.end(response); }
+        }
+
+        /**
+         * End {@code this} execution: record it and end its span.
+         *
+         * @param status response status, or {@code 0} if no response is received
+         * @param throwable unwrapped throwable if no response is received, otherwise {@code null}
+         */
+        public void end(int status, @Nullable Throwable throwable) {
+            record(status, throwable);
+            if (span != null) { span.end(status, throwable); }
+        }
+
+        /**
+         * Record {@code this} execution if metrics is enabled.
+         *
+         * @param status response status, or {@code 0} if no response is received
+         * @param throwable unwrapped throwable if no response is received, otherwise {@code null}
+         */
+        private void record(int status, @Nullable Throwable throwable) {
+            OAuth2MetricsRecorder recorder = context.recorder;
+            if (recorder != null) {
+                recorder.recordExecution(
+                        context.platform, context.operation, status, System.nanoTime() - startNanos, throwable
+                );
+            }
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param context context of the operation
+         * @param startNanos start time in nanoseconds
+         * @param span span of the execution
+         */
+        private Execution(@NotNull OAuth2MetricsContext context, long startNanos, @Nullable OAuth2Span span) {
+            this.context = context;
+            this.startNanos = startNanos;
+            this.span = span;
+        }
+
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance without tracing.
+     *
+     * @param recorder metrics recorder
+     * @param platform platform identifier
+     * @param operation operation
+     */
+    public OAuth2MetricsContext(
+            @NotNull OAuth2MetricsRecorder recorder, @NotNull String platform,
+            @NotNull OAuth2ClientOperation operation) {
+        this(Objects.requireNonNull(recorder), null, platform, operation);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the {@code tracer} is not {@code null}, a span of the operation will be started, the span of the context
+     * bound to the current thread (if any) will be its parent.</li>
+     * </ul>
+     *
+     * @param recorder metrics recorder, {@code null} to disable metrics
+     * @param tracer tracer, {@code null} to disable tracing
+     * @param platform platform identifier
+     * @param operation operation
+     */
+    public OAuth2MetricsContext(
+            @Nullable OAuth2MetricsRecorder recorder, @Nullable OAuth2Tracer tracer,
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation) {
+        if ((recorder == null) && (tracer == null)) {
+            throw new IllegalArgumentException("At least one of recorder and tracer should not be null.");
+        }
+        this.recorder = recorder;
+        this.tracer = tracer;
+        this.platform = Objects.requireNonNull(platform);
+        this.operation = Objects.requireNonNull(operation);
+        if (tracer == null) {
+            this.span = null;
+        } else {
+            OAuth2MetricsContext parent = CURRENT.get();
+            this.span = tracer.startOperation((parent == null) ? null : parent.span, platform, operation);
+        }
+    }
+
+}
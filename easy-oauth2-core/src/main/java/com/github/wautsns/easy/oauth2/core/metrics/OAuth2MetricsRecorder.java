@@ -0,0 +1,61 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * OAuth2 metrics recorder.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Methods are invoked in the thread which completes the operation or the execution (maybe an I/O thread of the
+ * request executor), so implementations should be thread-safe and should return quickly.</li>
+ * <li>Exceptions thrown by implementations will not be caught.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public interface OAuth2MetricsRecorder {
+
+    /**
+     * Record an operation of oauth2 client.
+     *
+     * @param platform platform identifier
+     * @param operation operation
+     * @param durationNanos duration in nanoseconds
+     * @param throwable unwrapped throwable if the operation failed, or {@code null} if the operation succeeded
+     */
+    void recordOperation(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            long durationNanos, @Nullable Throwable throwable);
+
+    /**
+     * Record an execution of request which is executed during an operation of oauth2 client.
+     *
+     * @param platform platform identifier
+     * @param operation operation during which the request is executed
+     * @param status response status, or {@code 0} if no response is received
+     * @param durationNanos duration in nanoseconds
+     * @param throwable unwrapped throwable if no response is received, otherwise {@code null}
+     */
+    void recordExecution(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            int status, long durationNanos, @Nullable Throwable throwable);
+
+}
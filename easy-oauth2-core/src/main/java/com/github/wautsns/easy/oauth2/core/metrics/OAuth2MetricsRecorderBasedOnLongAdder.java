@@ -0,0 +1,223 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OAuth2 metrics recorder based on long adder.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Recording is lock-free: counters are {@link LongAdder}s, durations are counted to log-linear histogram buckets
+ * (an {@link AtomicLongArray}) whose relative error is less than 1/16.</li>
+ * <li>Meters are cumulative, {@link #snapshot()} copies them without blocking recording, so counts of a meter in a
+ * snapshot may be slightly inconsistent with each other.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2MetricsRecorderBasedOnLongAdder implements OAuth2MetricsRecorder {
+
+    /** Meters of operations. */
+    private final @NotNull ConcurrentMap<@NotNull Tags, @NotNull Meter> operations = new ConcurrentHashMap<>();
+    /** Meters of executions. */
+    private final @NotNull ConcurrentMap<@NotNull Tags, @NotNull Meter> executions = new ConcurrentHashMap<>();
+
+    // ######################################################################################
+    // #################### record ##########################################################
+    // ######################################################################################
+
+    @Override
+    public void recordOperation(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            long durationNanos, @Nullable Throwable throwable) {
+        meter(operations, new Tags(platform, operation, 0, exceptionType(throwable))).record(durationNanos);
+    }
+
+    @Override
+    public void recordExecution(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            int status, long durationNanos, @Nullable Throwable throwable) {
+        meter(executions, new Tags(platform, operation, status, exceptionType(throwable))).record(durationNanos);
+    }
+
+    // ######################################################################################
+    // #################### snapshot ########################################################
+    // ######################################################################################
+
+    /**
+     * Return a snapshot of all meters.
+     *
+     * @return snapshot
+     */
+    public @NotNull OAuth2MetricsSnapshot snapshot() {
+        return new OAuth2MetricsSnapshot(snapshot(operations), snapshot(executions));
+    }
+
+    /**
+     * Return snapshots of the given {@code meters}.
+     *
+     * @param meters meters
+     * @return snapshots of meters
+     */
+    private static @NotNull List<OAuth2MetricsSnapshot.@NotNull Meter> snapshot(
+            @NotNull ConcurrentMap<@NotNull Tags, @NotNull Meter> meters) {
+        List<OAuth2MetricsSnapshot.Meter> snapshots = new ArrayList<>(meters.size());
+        for (Map.Entry<Tags, Meter> entry : meters.entrySet()) {
+            snapshots.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        return snapshots;
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return meter with the given {@code tags}, create one if absent.
+     *
+     * @param meters meters
+     * @param tags tags
+     * @return meter
+     */
+    private static @NotNull Meter meter(
+            @NotNull ConcurrentMap<@NotNull Tags, @NotNull Meter> meters, @NotNull Tags tags) {
+        Meter meter = meters.get(tags);
+        return (meter != null) ? meter : meters.computeIfAbsent(tags, ignored -> new Meter());
+    }
+
+    /**
+     * Return exception type of the given {@code throwable}.
+     *
+     * @param throwable throwable
+     * @return simple name of class of the throwable, or {@code null} if the throwable is {@code null}
+     */
+    private static @Nullable String exceptionType(@Nullable Throwable throwable) {
+        if (throwable == null) { return null; }
+        String simpleName = throwable.getClass().getSimpleName();
+        return simpleName.isEmpty() ? throwable.getClass().getName() : simpleName;
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Tags of meter. */
+    private static final class Tags {
+
+        /** Platform identifier. */
+        private final @NotNull String platform;
+        /** Operation. */
+        private final @NotNull OAuth2ClientOperation operation;
+        /** Response status. */
+        private final int status;
+        /** Exception type. */
+        private final @Nullable String exceptionType;
+
+        /**
+         * Construct an instance.
+         *
+         * @param platform platform identifier
+         * @param operation operation
+         * @param status response status
+         * @param exceptionType exception type
+         */
+        private Tags(
+                @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+                int status, @Nullable String exceptionType) {
+            this.platform = platform;
+            this.operation = operation;
+            this.status = status;
+            this.exceptionType = exceptionType;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) { return true; }
+            if (!(obj instanceof Tags)) { return false; }
+            Tags that = (Tags) obj;
+            return (status == that.status)
+                    && (operation == that.operation)
+                    && platform.equals(that.platform)
+                    && Objects.equals(exceptionType, that.exceptionType);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = platform.hashCode();
+            hash = 31 * hash + operation.hashCode();
+            hash = 31 * hash + status;
+            hash = 31 * hash + Objects.hashCode(exceptionType);
+            return hash;
+        }
+
+    }
+
+    /** Meter. */
+    private static final class Meter {
+
+        /** Count. */
+        private final @NotNull LongAdder count = new LongAdder();
+        /** Total nanoseconds. */
+        private final @NotNull LongAdder totalNanos = new LongAdder();
+        /** Max nanoseconds. */
+        private final @NotNull LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        /** Counts of buckets. */
+        private final @NotNull AtomicLongArray buckets = new AtomicLongArray(OAuth2MetricsSnapshot.BUCKETS);
+
+        /**
+         * Record the given {@code durationNanos}.
+         *
+         * @param durationNanos duration in nanoseconds
+         */
+        private void record(long durationNanos) {
+            long value = Math.max(durationNanos, 0L);
+            count.increment();
+            totalNanos.add(value);
+            maxNanos.accumulate(value);
+            buckets.incrementAndGet(OAuth2MetricsSnapshot.bucketIndex(value));
+        }
+
+        /**
+         * Return a snapshot of {@code this} meter.
+         *
+         * @param tags tags
+         * @return snapshot
+         */
+        private OAuth2MetricsSnapshot.@NotNull Meter snapshot(@NotNull Tags tags) {
+            int length = buckets.length();
+            while ((length > 0) && (buckets.get(length - 1) == 0L)) { length--; }
+            long[] copiedBuckets = new long[length];
+            for (int i = 0; i < length; i++) { copiedBuckets[i] = buckets.get(i); }
+            return new OAuth2MetricsSnapshot.Meter(
+                    tags.platform, tags.operation, tags.status, tags.exceptionType,
+                    count.sum(), totalNanos.sum(), maxNanos.get(), copiedBuckets
+            );
+        }
+
+    }
+
+}
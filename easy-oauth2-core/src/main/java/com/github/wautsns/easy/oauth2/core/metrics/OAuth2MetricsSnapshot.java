@@ -0,0 +1,299 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * OAuth2 metrics snapshot.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2MetricsSnapshot {
+
+    /** Number of sub-buckets of each power of two is {@code 2^SUB_BUCKET_BITS}, relative error is less than 1/16. */
+    private static final int SUB_BUCKET_BITS = 4;
+    /** Values larger than or equal to this (about 18 minutes in nanoseconds) will be counted to the last bucket. */
+    private static final long MAX_TRACKABLE_VALUE = 1L << 40;
+    /** Number of buckets. */
+    static final int BUCKETS = bucketIndex(MAX_TRACKABLE_VALUE - 1) + 1;
+
+    /** Meters of operations. */
+    private final @NotNull List<@NotNull Meter> operations;
+    /** Meters of executions. */
+    private final @NotNull List<@NotNull Meter> executions;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return meters of operations.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>{@link Meter#status()} of meters of operations is always {@code 0}.</li>
+     * </ul>
+     *
+     * @return meters of operations (unmodifiable)
+     */
+    public @NotNull List<@NotNull Meter> operations() {
+        return operations;
+    }
+
+    /**
+     * Return meters of executions.
+     *
+     * @return meters of executions (unmodifiable)
+     */
+    public @NotNull List<@NotNull Meter> executions() {
+        return executions;
+    }
+
+    // ######################################################################################
+    // #################### bucket ##########################################################
+    // ######################################################################################
+
+    /**
+     * Return index of bucket which the given {@code value} belongs to.
+     *
+     * @param value value
+     * @return index of bucket
+     */
+    static int bucketIndex(long value) {
+        long clamped = Math.min(Math.max(value, 0L), MAX_TRACKABLE_VALUE - 1);
+        if (clamped < (1L << SUB_BUCKET_BITS)) { return (int) clamped; }
+        int shift = 63 - Long.numberOfLeadingZeros(clamped) - SUB_BUCKET_BITS;
+        int subBucket = (int) (clamped >>> shift) & ((1 << SUB_BUCKET_BITS) - 1);
+        return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * Return the highest value of the bucket at the given {@code index}.
+     *
+     * @param index index of bucket
+     * @return the highest value of the bucket
+     */
+    static long bucketValue(int index) {
+        if (index < (1 << SUB_BUCKET_BITS)) { return index; }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long top = (1L << SUB_BUCKET_BITS) + (index & ((1 << SUB_BUCKET_BITS) - 1));
+        return ((top + 1) << shift) - 1;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param operations meters of operations
+     * @param executions meters of executions
+     */
+    OAuth2MetricsSnapshot(@NotNull List<@NotNull Meter> operations, @NotNull List<@NotNull Meter> executions) {
+        this.operations = Collections.unmodifiableList(operations);
+        this.executions = Collections.unmodifiableList(executions);
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public @NotNull String toString() {
+        return "{operations=" + operations +
+                ", executions=" + executions +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Meter of operations or executions with the same tags. */
+    public static final class Meter {
+
+        /** Platform identifier. */
+        private final @NotNull String platform;
+        /** Operation. */
+        private final @NotNull OAuth2ClientOperation operation;
+        /** Response status. */
+        private final int status;
+        /** Exception type. */
+        private final @Nullable String exceptionType;
+        /** Count. */
+        private final long count;
+        /** Total nanoseconds. */
+        private final long totalNanos;
+        /** Max nanoseconds. */
+        private final long maxNanos;
+        /** Counts of buckets, trailing empty buckets are trimmed. */
+        private final long @NotNull [] buckets;
+
+        // ##################################################################################
+        // #################### enhanced getter #############################################
+        // ##################################################################################
+
+        /**
+         * Return platform identifier.
+         *
+         * @return platform identifier
+         */
+        public @NotNull String platform() {
+            return platform;
+        }
+
+        /**
+         * Return operation.
+         *
+         * @return operation
+         */
+        public @NotNull OAuth2ClientOperation operation() {
+            return operation;
+        }
+
+        /**
+         * Return response status.
+         *
+         * @return response status, or {@code 0} if no response is received or the meter is a meter of operations
+         */
+        public int status() {
+            return status;
+        }
+
+        /**
+         * Return exception type.
+         *
+         * @return simple name of exception class, or {@code null} if there is no exception
+         */
+        public @Nullable String exceptionType() {
+            return exceptionType;
+        }
+
+        /**
+         * Return count.
+         *
+         * @return count
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Return total nanoseconds.
+         *
+         * @return total nanoseconds
+         */
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * Return max nanoseconds.
+         *
+         * @return max nanoseconds
+         */
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Return mean nanoseconds.
+         *
+         * @return mean nanoseconds, or {@code 0} if count is {@code 0}
+         */
+        public long meanNanos() {
+            return (count == 0) ? 0L : (totalNanos / count);
+        }
+
+        /**
+         * Return nanoseconds at the given {@code percentile}.
+         *
+         * <ul>
+         * <li style="list-style-type:none">########## Notes ###############</li>
+         * <li>The result is the highest value of the bucket which the percentile falls in (but not larger than {@link
+         * #maxNanos()}), relative error is less than 1/16.</li>
+         * </ul>
+         *
+         * @param percentile percentile, between {@code 0} and {@code 100}
+         * @return nanoseconds at the percentile, or {@code 0} if count is {@code 0}
+         */
+        public long percentileNanos(double percentile) {
+            long total = 0L;
+            for (long bucket : buckets) { total += bucket; }
+            if (total == 0L) { return 0L; }
+            long rank = Math.max(1L, (long) Math.ceil(Math.min(Math.max(percentile, 0.0), 100.0) / 100.0 * total));
+            long accumulated = 0L;
+            for (int i = 0; i < buckets.length; i++) {
+                accumulated += buckets[i];
+                if (accumulated >= rank) { return Math.min(bucketValue(i), maxNanos); }
+            }
+            return maxNanos;
+        }
+
+        // ##################################################################################
+        // #################### constructor #################################################
+        // ##################################################################################
+
+        /**
+         * Construct an instance.
+         *
+         * @param platform platform identifier
+         * @param operation operation
+         * @param status response status
+         * @param exceptionType exception type
+         * @param count count
+         * @param totalNanos total nanoseconds
+         * @param maxNanos max nanoseconds
+         * @param buckets counts of buckets
+         */
+        Meter(
+                @NotNull String platform, @NotNull OAuth2ClientOperation operation, int status,
+                @Nullable String exceptionType, long count, long totalNanos, long maxNanos, long @NotNull [] buckets) {
+            this.platform = platform;
+            this.operation = operation;
+            this.status = status;
+            this.exceptionType = exceptionType;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        // ##################################################################################
+        // #################### stringifier #################################################
+        // ##################################################################################
+
+        @Override
+        public @NotNull String toString() {
+            return "{platform=" + platform +
+                    ", operation=" + operation.operationName() +
+                    ", status=" + status +
+                    ", exceptionType=" + exceptionType +
+                    ", count=" + count +
+                    ", meanNanos=" + meanNanos() +
+                    ", maxNanos=" + maxNanos +
+                    '}';
+        }
+
+    }
+
+}
@@ -17,61 +17,793 @@ package com.github.wautsns.easy.oauth2.core.request.executor;
 
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2IOException;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestRejectedException;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
 import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2Headers;
 import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
 import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
 import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
 import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract oauth2 request executor.
  *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The executor is reference counted. It is created with one reference, and the underlying resources (e.g.
+ * connection pool) will be released when the last reference is {@linkplain #close() closed}.</li>
+ * <li>When the last reference is closed, the executor stops accepting new requests and waits for in-flight requests
+ * to complete (up to a drain timeout) before releasing the underlying resources.</li>
+ * <li>If the executor is constructed with properties which {@linkplain
+ * OAuth2RequestExecutorProperties#isPartitionedByHost() partition concurrent requests by host}, requests exceeding the
+ * limit (or reservations) of their hosts will be rejected with {@link OAuth2RequestRejectedException}.</li>
+ * <li>If the executor is constructed with properties which set {@link
+ * OAuth2RequestExecutorProperties#getMaxQueueLength()}, every attempt of requests will go through an {@linkplain
+ * #admission() admission} behind the {@linkplain #interceptors() interceptors}, so that interceptors waiting between
+ * attempts (e.g. backing off before retrying) do not hold admissions.</li>
+ * <li>If the executor is constructed with properties which set {@link
+ * OAuth2RequestExecutorProperties#getAdaptiveLimit()}, concurrent requests to each host will be limited by an
+ * {@linkplain #adaptiveLimiter() adaptive limiter} driven by the observed round-trip time.</li>
+ * </ul>
+ *
  * @param <Q> the type of actual request
  * @author wautsns
  * @since Mar 27, 2021
  */
-public abstract class AbstractOAuth2RequestExecutor<Q> {
+public abstract class AbstractOAuth2RequestExecutor<Q> implements AutoCloseable {
+
+    /** Default drain timeout used by {@link #close()}. */
+    public static final @NotNull Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10);
+    /** Max count of threads used by {@link #warmUp(Collection, int)}. */
+    static final int MAX_WARM_UP_THREADS = 16;
 
     /** Logger. */
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     // ######################################################################################
 
+    /** Interceptors. */
+    private volatile @NotNull List<@NotNull OAuth2RequestInterceptor> interceptors = Collections.emptyList();
+    /** Head of interceptor chain, {@code null} if there is no interceptor. */
+    private volatile @Nullable OAuth2RequestInterceptorChain interceptorChain;
+    /** Reference count, {@code 0} if {@code this} executor has been closed. */
+    private final @NotNull AtomicInteger referenceCount = new AtomicInteger(1);
+    /** Callback to run after {@code this} executor is closed, {@code null} if absent. */
+    private volatile @Nullable Runnable closeCallback;
+    /** Count of in-flight requests. */
+    private final @NotNull AtomicInteger inFlightRequests = new AtomicInteger();
+    /** Lock used to wait for in-flight requests while draining. */
+    private final @NotNull Object drainLock = new Object();
+    /** Host partitions, {@code null} if concurrent requests are not partitioned by host. */
+    private final @Nullable OAuth2RequestHostPartitions hostPartitions;
+    /** Admission, {@code null} if requests are not queued. */
+    private final @Nullable OAuth2RequestAdmission admission;
+    /** Adaptive limiter, {@code null} if concurrent requests are not limited adaptively. */
+    private final @Nullable OAuth2RequestAdaptiveLimiter adaptiveLimiter;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return whether {@code this} executor has been closed.
+     *
+     * @return {@code true} if {@code this} executor has been closed, otherwise {@code false}
+     */
+    public final boolean isClosed() {
+        return referenceCount.get() <= 0;
+    }
+
+    /**
+     * Return count of in-flight requests.
+     *
+     * @return count of in-flight requests
+     */
+    public final int inFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    /**
+     * Return admission, which exposes queue depth, wait time and rejections for monitoring.
+     *
+     * @return admission, or {@code null} if requests are not queued
+     */
+    public final @Nullable OAuth2RequestAdmission admission() {
+        return admission;
+    }
+
+    /**
+     * Return adaptive limiter, which exposes current limits of hosts for monitoring.
+     *
+     * @return adaptive limiter, or {@code null} if concurrent requests are not limited adaptively
+     */
+    public final @Nullable OAuth2RequestAdaptiveLimiter adaptiveLimiter() {
+        return adaptiveLimiter;
+    }
+
+    /**
+     * Return interceptors.
+     *
+     * @return unmodifiable interceptors, in order
+     */
+    public final @NotNull List<@NotNull OAuth2RequestInterceptor> interceptors() {
+        return interceptors;
+    }
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Add the given {@code interceptor} to the end of the interceptors.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The first added interceptor is the outermost one.</li>
+     * </ul>
+     *
+     * @param interceptor interceptor
+     */
+    public final synchronized void addInterceptor(@NotNull OAuth2RequestInterceptor interceptor) {
+        List<OAuth2RequestInterceptor> newInterceptors = new ArrayList<>(interceptors);
+        newInterceptors.add(Objects.requireNonNull(interceptor));
+        updateInterceptors(newInterceptors);
+    }
+
+    /**
+     * Remove the given {@code interceptor}.
+     *
+     * @param interceptor interceptor
+     * @return {@code true} if the {@code interceptor} is removed, otherwise {@code false}
+     */
+    public final synchronized boolean removeInterceptor(@NotNull OAuth2RequestInterceptor interceptor) {
+        List<OAuth2RequestInterceptor> newInterceptors = new ArrayList<>(interceptors);
+        if (!newInterceptors.remove(interceptor)) { return false; }
+        updateInterceptors(newInterceptors);
+        return true;
+    }
+
+    /**
+     * Update interceptors and rebuild interceptor chain.
+     *
+     * @param newInterceptors new interceptors
+     */
+    private void updateInterceptors(@NotNull List<@NotNull OAuth2RequestInterceptor> newInterceptors) {
+        this.interceptorChain = OAuth2RequestInterceptorChain.build(this, newInterceptors);
+        this.interceptors = Collections.unmodifiableList(newInterceptors);
+    }
+
+    // #########################################################################################
+    // #################### lifecycle ##########################################################
+    // #########################################################################################
+
+    /**
+     * Acquire a reference of {@code this} executor.
+     *
+     * @return {@code true} if the reference is acquired, or {@code false} if {@code this} executor has been closed
+     */
+    final boolean retain() {
+        while (true) {
+            int count = referenceCount.get();
+            if (count <= 0) { return false; }
+            if (referenceCount.compareAndSet(count, count + 1)) { return true; }
+        }
+    }
+
+    /**
+     * Set callback to run after {@code this} executor is closed.
+     *
+     * @param closeCallback callback
+     */
+    final void closeCallback(@NotNull Runnable closeCallback) {
+        this.closeCallback = closeCallback;
+    }
+
+    /**
+     * Release a reference of {@code this} executor, draining with {@link #DEFAULT_DRAIN_TIMEOUT}.
+     *
+     * @see #close(Duration)
+     */
+    @Override
+    public final void close() {
+        close(DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    /**
+     * Release a reference of {@code this} executor.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>When the last reference is released, {@code this} executor stops accepting new requests (they will fail
+     * with {@link OAuth2RequestRejectedException}), waits up to the {@code drainTimeout} for in-flight requests to
+     * complete, and then releases the underlying resources. Errors occurred while releasing will be logged rather than
+     * thrown.</li>
+     * <li>Calling the method on a closed executor has no effect.</li>
+     * </ul>
+     *
+     * @param drainTimeout max time to wait for in-flight requests
+     */
+    public final void close(@NotNull Duration drainTimeout) {
+        int count;
+        do {
+            count = referenceCount.get();
+            if (count <= 0) { return; }
+        } while (!referenceCount.compareAndSet(count, count - 1));
+        if (count > 1) { return; }
+        if (!drain(drainTimeout)) {
+            log.warn(
+                    "Request executor is closing with {} in-flight requests after waiting {}.",
+                    inFlightRequests.get(), drainTimeout
+            );
+        }
+        try {
+            closeActualExecutor();
+            log.info("Request executor has been closed.");
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to close request executor.", e);
+        }
+        Runnable callback = closeCallback;
+        if (callback != null) { callback.run(); }
+    }
+
+    /**
+     * Wait up to the given {@code timeout} for in-flight requests to complete.
+     *
+     * @param timeout timeout
+     * @return {@code true} if all in-flight requests have completed, otherwise {@code false}
+     */
+    private boolean drain(@NotNull Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (drainLock) {
+            while (inFlightRequests.get() > 0) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) { return false; }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(drainLock, remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Enter an in-flight request.
+     *
+     * @throws OAuth2RequestRejectedException if {@code this} executor has been closed
+     */
+    private void enter() throws OAuth2RequestRejectedException {
+        inFlightRequests.incrementAndGet();
+        // The reference count is checked after incrementing, so a draining executor will always wait for the request.
+        if (isClosed()) {
+            exit();
+            throw new OAuth2RequestRejectedException("Request executor has been closed.");
+        }
+    }
+
+    /** Exit an in-flight request. */
+    private void exit() {
+        if ((inFlightRequests.decrementAndGet() == 0) && isClosed()) {
+            synchronized (drainLock) {
+                drainLock.notifyAll();
+            }
+        }
+    }
+
+    // #########################################################################################
+    // #################### warm up ############################################################
+    // #########################################################################################
+
+    /**
+     * Warm up connections to the origins of the given {@code urls}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>For each distinct origin (scheme, host and port), the host will be resolved in advance to fill the dns cache
+     * of jvm, and then {@code connectionsPerOrigin} HEAD requests will be executed concurrently, so that the same
+     * number of keep-alive connections are established and pooled. Executors based on HTTP/2 may multiplex the
+     * requests over fewer connections.</li>
+     * <li>At most {@value #MAX_WARM_UP_THREADS} threads are used, so executors based on blocking I/O execute at most
+     * that many warm-up requests at a time, the others wait for idle threads.</li>
+     * <li>Warming up is best effort: errors will be logged, and the returned future will never be completed
+     * exceptionally.</li>
+     * <li>Warm-up requests do not go through the {@linkplain #interceptors() interceptors} and are not recorded by
+     * metrics.</li>
+     * </ul>
+     *
+     * @param urls urls to warm up, only their origins are used
+     * @param connectionsPerOrigin count of connections to establish for each origin
+     * @return future of count of succeeded warm-up requests
+     */
+    public final @NotNull CompletableFuture<Integer> warmUp(
+            @NotNull Collection<@NotNull String> urls, int connectionsPerOrigin) {
+        Set<String> origins = new LinkedHashSet<>();
+        for (String url : urls) {
+            try {
+                URI uri = URI.create(url);
+                if ((uri.getScheme() == null) || (uri.getHost() == null)) {
+                    log.warn("Ignored url without scheme or host when warming up. url: {}", url);
+                    continue;
+                }
+                String port = (uri.getPort() < 0) ? "" : (":" + uri.getPort());
+                origins.add(uri.getScheme() + "://" + uri.getHost() + port + "/");
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignored illegal url when warming up. url: {}", url);
+            }
+        }
+        if (origins.isEmpty() || (connectionsPerOrigin <= 0)) { return CompletableFuture.completedFuture(0); }
+        // Blocking executors occupy a thread per warm-up request, so that they also establish connections
+        // concurrently. Threads are bounded, since the count of requests is not.
+        int threads = (int) Math.min((long) origins.size() * connectionsPerOrigin, MAX_WARM_UP_THREADS);
+        ExecutorService warmUpThreads = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "easy-oauth2-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (String origin : origins) {
+            CompletableFuture<Void> resolved = CompletableFuture.runAsync(() -> resolve(origin), warmUpThreads);
+            for (int i = 0; i < connectionsPerOrigin; i++) {
+                futures.add(resolved.thenComposeAsync(ignored -> warmUpConnection(origin), warmUpThreads));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .handle((ignored, throwable) -> {
+                    warmUpThreads.shutdown();
+                    int succeeded = (int) futures.stream().filter(future -> future.getNow(false)).count();
+                    log.info("Request executor has been warmed up. origins: {}, succeeded: {}", origins, succeeded);
+                    return succeeded;
+                });
+    }
+
+    /**
+     * Resolve host of the given {@code origin}.
+     *
+     * @param origin origin
+     */
+    private void resolve(@NotNull String origin) {
+        String host = URI.create(origin).getHost();
+        try {
+            InetAddress.getAllByName(host);
+        } catch (UnknownHostException e) {
+            log.warn("Failed to resolve host when warming up. host: {}", host, e);
+        }
+    }
+
+    /**
+     * Establish a connection to the given {@code origin} by executing a HEAD request.
+     *
+     * @param origin origin
+     * @return future of whether the request succeeded, never completed exceptionally
+     */
+    private @NotNull CompletableFuture<Boolean> warmUpConnection(@NotNull String origin) {
+        try {
+            enter();
+        } catch (OAuth2RequestRejectedException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String host;
+        try {
+            host = acquireHostPermit(origin);
+        } catch (OAuth2RequestRejectedException e) {
+            exit();
+            log.warn("Failed to warm up connection. origin: {}", origin, e);
+            return CompletableFuture.completedFuture(false);
+        }
+        CompletableFuture<AbstractOAuth2Response> future;
+        try {
+            future = executeActualRequestAsync(initializeActualRequest(OAuth2RequestMethod.HEAD, origin));
+        } catch (RuntimeException e) {
+            releaseHostPermit(host);
+            exit();
+            log.warn("Failed to warm up connection. origin: {}", origin, e);
+            return CompletableFuture.completedFuture(false);
+        }
+        return future.handle((response, throwable) -> {
+            releaseHostPermit(host);
+            exit();
+            if (throwable == null) { return true; }
+            log.warn("Failed to warm up connection. origin: {}", origin, OAuth2FutureUtils.unwrap(throwable));
+            return false;
+        });
+    }
+
+    // #########################################################################################
+    // #################### execute ############################################################
+    // #########################################################################################
+
     /**
      * Execute the given {@code request}.
      *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The request goes through the {@linkplain #interceptors() interceptors} in order before being executed.</li>
+     * <li>If {@code this} executor has been closed, an {@link OAuth2RequestRejectedException} will be thrown.</li>
+     * <li>If there is an {@linkplain #admission() admission}, the calling thread may wait in its queue, and an {@link
+     * com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException} will be thrown if the request is
+     * rejected by it.</li>
+     * </ul>
+     *
      * @param request request
      * @return response
      * @throws OAuth2Exception if oauth2 related error occurs
      */
     public final @NotNull AbstractOAuth2Response execute(@NotNull OAuth2Request<?> request) throws OAuth2Exception {
-        // Initialize actual request.
-        OAuth2RequestMethod method = request.method();
-        String url = request.url().asText();
-        Q actualRequest = initializeActualRequest(method, url);
-        // Add headers to actual request.
-        OAuth2Headers headers = request.headers();
-        if (headers != null) { headers.forEach((name, value) -> addHeader(actualRequest, name, value)); }
-        // Set entity to actual request.
-        AbstractOAuth2RequestEntity entity = request.entity();
-        if (entity != null) { setContentTypeAndEntity(actualRequest, entity); }
+        enter();
+        try {
+            OAuth2RequestInterceptorChain chain = interceptorChain;
+            return (chain == null) ? executeWithoutInterceptors(request) : chain.proceed(request);
+        } finally {
+            exit();
+        }
+    }
+
+    /**
+     * Execute the given {@code request} asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The method will not throw any exception, all errors will be delivered through the returned future.</li>
+     * <li>The request goes through the {@linkplain #interceptors() interceptors} in order before being executed.</li>
+     * <li>If {@code this} executor has been closed, the future will be completed exceptionally with an {@link
+     * OAuth2RequestRejectedException}.</li>
+     * <li>If there is an {@linkplain #admission() admission}, the request may wait in its queue without blocking the
+     * calling thread, and the future will be completed exceptionally with an {@link
+     * com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException} if the request is rejected by
+     * it. A queued request is executed by the dispatcher thread of the admission, rather than the thread releasing
+     * the admission, with the {@linkplain OAuth2MetricsContext#current() metrics context} of the calling thread.</li>
+     * </ul>
+     *
+     * @param request request
+     * @return future of response
+     */
+    public final @NotNull CompletableFuture<AbstractOAuth2Response> executeAsync(@NotNull OAuth2Request<?> request) {
+        try {
+            enter();
+        } catch (OAuth2RequestRejectedException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+        CompletableFuture<AbstractOAuth2Response> future;
+        try {
+            OAuth2RequestInterceptorChain chain = interceptorChain;
+            future = (chain == null) ? executeAsyncWithoutInterceptors(request) : chain.proceedAsync(request);
+        } catch (RuntimeException e) {
+            future = OAuth2FutureUtils.failedFuture(e);
+        }
+        future.whenComplete((response, throwable) -> exit());
+        return future;
+    }
+
+    // ######################################################################################
+
+    /**
+     * Wait for the given {@code admission} to admit a request.
+     *
+     * @param admission admission
+     * @throws OAuth2Exception if the request is rejected, or the calling thread is interrupted
+     */
+    private static void awaitAdmission(@NotNull OAuth2RequestAdmission admission) throws OAuth2Exception {
+        CompletableFuture<Void> future = admission.acquire();
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            admission.cancel(future);
+            Thread.currentThread().interrupt();
+            throw new OAuth2Exception(e);
+        } catch (ExecutionException e) {
+            Throwable cause = OAuth2FutureUtils.unwrap(e);
+            throw (cause instanceof OAuth2Exception) ? (OAuth2Exception) cause : new OAuth2Exception(cause);
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Execute the given {@code request} without interceptors.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If there is an {@linkplain #admission() admission}, the calling thread may wait in its queue. The admission
+     * is released once the request completes, so every attempt of a retried request is admitted separately.</li>
+     * <li>If there is an {@linkplain OAuth2MetricsContext#current() metrics context} bound to the calling thread, the
+     * execution will be recorded (and traced) with it.</li>
+     * </ul>
+     *
+     * @param request request
+     * @return response
+     * @throws OAuth2Exception if oauth2 related error occurs
+     */
+    final @NotNull AbstractOAuth2Response executeWithoutInterceptors(
+            @NotNull OAuth2Request<?> request) throws OAuth2Exception {
+        OAuth2RequestAdmission currentAdmission = admission;
+        if (currentAdmission == null) { return executeAdmitted(request); }
+        awaitAdmission(currentAdmission);
+        try {
+            return executeAdmitted(request);
+        } finally {
+            currentAdmission.release();
+        }
+    }
+
+    /**
+     * Execute the given admitted {@code request}.
+     *
+     * @param request request
+     * @return response
+     * @throws OAuth2Exception if oauth2 related error occurs
+     */
+    private @NotNull AbstractOAuth2Response executeAdmitted(@NotNull OAuth2Request<?> request) throws OAuth2Exception {
+        Q actualRequest = initializeActualRequest(request);
+        String host = acquireHostPermit(request.url().urlWithoutQueryAndAnchor());
+        OAuth2MetricsContext metricsContext = OAuth2MetricsContext.current();
+        OAuth2MetricsContext.Execution execution =
+                (metricsContext == null) ? null : metricsContext.startExecution(request);
+        long startNanos = System.nanoTime();
         // Do execute actual request.
+        AbstractOAuth2Response response;
         try {
             log.debug("Ready to execute request. request: {}", request);
-            AbstractOAuth2Response response = executeActualRequest(actualRequest);
-            log.debug("Request has been executed. request: {}, status: {}", request, response.status());
-            return response;
+            response = executeActualRequest(actualRequest);
         } catch (IOException e) {
+            releaseHostPermit(host, startNanos, 0);
             log.error("Failed to execute request due to IOException. request: {}", request, e);
+            if (execution != null) { execution.end(0, e); }
             throw new OAuth2IOException(e);
         } catch (Exception e) {
+            releaseHostPermit(host);
             log.error("Failed to execute request due to Exception. request: {}", request, e);
+            if (execution != null) { execution.end(0, e); }
             throw new OAuth2Exception(e);
         }
+        releaseHostPermit(host, startNanos, response.status());
+        log.debug("Request has been executed. request: {}, status: {}", request, response.status());
+        if (execution != null) { execution.end(response); }
+        return response;
+    }
+
+    /**
+     * Execute the given {@code request} asynchronously without interceptors.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The method will not throw any exception, all errors will be delivered through the returned future. If an
+     * I/O error occurs, the future will be completed exceptionally with an {@link OAuth2IOException}.</li>
+     * <li>Whether the calling thread is blocked depends on {@link #executeActualRequestAsync(Object)} of the actual
+     * implementation.</li>
+     * <li>If there is an {@linkplain #admission() admission}, the request may wait in its queue without blocking the
+     * calling thread. The admission is released once the request completes, so every attempt of a retried request is
+     * admitted separately.</li>
+     * <li>If there is an {@linkplain OAuth2MetricsContext#current() metrics context} bound to the calling thread, the
+     * execution will be recorded (and traced) with it when the future completes.</li>
+     * </ul>
+     *
+     * @param request request
+     * @return future of response
+     */
+    final @NotNull CompletableFuture<AbstractOAuth2Response> executeAsyncWithoutInterceptors(
+            @NotNull OAuth2Request<?> request) {
+        OAuth2RequestAdmission currentAdmission = admission;
+        if (currentAdmission == null) { return executeAsyncAdmitted(request); }
+        // A queued request is admitted in the dispatcher thread of the admission, rebind the metrics context to it.
+        OAuth2MetricsContext metricsContext = OAuth2MetricsContext.current();
+        CompletableFuture<AbstractOAuth2Response> future = new CompletableFuture<>();
+        currentAdmission.acquire().whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+                return;
+            }
+            OAuth2MetricsContext previous = (metricsContext == null) ? null : metricsContext.bind();
+            CompletableFuture<AbstractOAuth2Response> admitted;
+            try {
+                admitted = executeAsyncAdmitted(request);
+            } catch (RuntimeException e) {
+                admitted = OAuth2FutureUtils.failedFuture(e);
+            } finally {
+                if (metricsContext != null) { OAuth2MetricsContext.restore(previous); }
+            }
+            admitted.whenComplete((response, cause) -> {
+                currentAdmission.release();
+                if (cause == null) {
+                    future.complete(response);
+                } else {
+                    future.completeExceptionally(cause);
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Execute the given admitted {@code request} asynchronously.
+     *
+     * @param request request
+     * @return future of response, errors are delivered through it
+     */
+    private @NotNull CompletableFuture<AbstractOAuth2Response> executeAsyncAdmitted(
+            @NotNull OAuth2Request<?> request) {
+        String host;
+        try {
+            host = acquireHostPermit(request.url().urlWithoutQueryAndAnchor());
+        } catch (OAuth2RequestRejectedException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+        OAuth2MetricsContext metricsContext = OAuth2MetricsContext.current();
+        OAuth2MetricsContext.Execution execution =
+                (metricsContext == null) ? null : metricsContext.startExecution(request);
+        long startNanos = System.nanoTime();
+        CompletableFuture<AbstractOAuth2Response> actualFuture;
+        try {
+            Q actualRequest = initializeActualRequest(request);
+            log.debug("Ready to execute request asynchronously. request: {}", request);
+            actualFuture = executeActualRequestAsync(actualRequest);
+        } catch (RuntimeException e) {
+            log.error("Failed to execute request asynchronously due to Exception. request: {}", request, e);
+            releaseHostPermit(host);
+            if (execution != null) { execution.end(0, e); }
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+        CompletableFuture<AbstractOAuth2Response> future = new CompletableFuture<>();
+        actualFuture.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                releaseHostPermit(host, startNanos, response.status());
+                log.debug("Request has been executed. request: {}, status: {}", request, response.status());
+                if (execution != null) { execution.end(response); }
+                future.complete(response);
+                return;
+            }
+            Throwable cause = OAuth2FutureUtils.unwrap(throwable);
+            if (cause instanceof IOException) {
+                releaseHostPermit(host, startNanos, 0);
+            } else {
+                releaseHostPermit(host);
+            }
+            if (execution != null) { execution.end(0, cause); }
+            if (cause instanceof IOException) {
+                log.error("Failed to execute request due to IOException. request: {}", request, cause);
+                future.completeExceptionally(new OAuth2IOException((IOException) cause));
+            } else if (cause instanceof OAuth2Exception) {
+                log.error("Failed to execute request due to OAuth2Exception. request: {}", request, cause);
+                future.completeExceptionally(cause);
+            } else {
+                log.error("Failed to execute request due to Exception. request: {}", request, cause);
+                future.completeExceptionally(new OAuth2Exception(cause));
+            }
+        });
+        return future;
+    }
+
+    // ######################################################################################
+
+    /**
+     * Acquire a permit of the host of the given {@code url}.
+     *
+     * @param url url
+     * @return host, or {@code null} if concurrent requests are neither partitioned by host nor limited adaptively
+     * @throws OAuth2RequestRejectedException if concurrent requests to the host have reached the limit
+     */
+    private @Nullable String acquireHostPermit(@NotNull String url) throws OAuth2RequestRejectedException {
+        OAuth2RequestHostPartitions partitions = hostPartitions;
+        OAuth2RequestAdaptiveLimiter limiter = adaptiveLimiter;
+        if ((partitions == null) && (limiter == null)) { return null; }
+        String host = OAuth2RequestHostPartitions.host(url);
+        if ((partitions != null) && !partitions.tryAcquire(host)) {
+            throw new OAuth2RequestRejectedException(
+                    String.format("Concurrent requests to host %s have reached the limit.", host)
+            );
+        }
+        if ((limiter != null) && !limiter.tryAcquire(host)) {
+            if (partitions != null) { partitions.release(host); }
+            throw new OAuth2RequestSaturatedException(String.format(
+                    "Concurrent requests to host %s have reached the adaptive limit %d.", host, limiter.limit(host)
+            ));
+        }
+        return host;
+    }
+
+    /**
+     * Release a permit of the given {@code host} without sampling round-trip time.
+     *
+     * @param host host returned by {@link #acquireHostPermit(String)}
+     */
+    private void releaseHostPermit(@Nullable String host) {
+        releaseHostPermit(host, -1, -1);
+    }
+
+    /**
+     * Release a permit of the given {@code host}.
+     *
+     * @param host host returned by {@link #acquireHostPermit(String)}
+     * @param startNanos time in nanoseconds when the request was sent, negative means no sample
+     * @param status response status, {@code 0} if failed with I/O error, negative means no sample
+     */
+    private void releaseHostPermit(@Nullable String host, long startNanos, int status) {
+        if (host == null) { return; }
+        if (hostPartitions != null) { hostPartitions.release(host); }
+        if (adaptiveLimiter != null) {
+            long rttNanos = ((startNanos < 0) || (status < 0)) ? -1 : (System.nanoTime() - startNanos);
+            adaptiveLimiter.release(host, rttNanos, (status == 0) || (status == 429) || (status == 503));
+        }
+    }
+
+    /**
+     * Initialize an actual request with the given {@code request}.
+     *
+     * @param request request
+     * @return actual request
+     */
+    private @NotNull Q initializeActualRequest(@NotNull OAuth2Request<?> request) {
+        // Initialize actual request.
+        OAuth2RequestMethod method = request.method();
+        String url = request.url().asText();
+        Q actualRequest = initializeActualRequest(method, url);
+        // Add headers to actual request.
+        OAuth2Headers headers = request.headers();
+        if (headers != null) { headers.forEach((name, value) -> addHeader(actualRequest, name, value)); }
+        // Set entity to actual request.
+        AbstractOAuth2RequestEntity entity = request.entity();
+        if (entity != null) { setContentTypeAndEntity(actualRequest, entity); }
+        return actualRequest;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /** Construct an instance without partitioning concurrent requests by host. */
+    protected AbstractOAuth2RequestExecutor() {
+        this.hostPartitions = null;
+        this.admission = null;
+        this.adaptiveLimiter = null;
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the {@code properties} {@linkplain OAuth2RequestExecutorProperties#isPartitionedByHost() partition
+     * concurrent requests by host}, the limits and reservations will be enforced by {@code this} executor, regardless
+     * of whether the actual implementation supports them.</li>
+     * <li>If the {@code properties} set {@link OAuth2RequestExecutorProperties#getMaxQueueLength()}, an {@linkplain
+     * #admission() admission} will be created.</li>
+     * <li>If the {@code properties} set {@link OAuth2RequestExecutorProperties#getAdaptiveLimit()}, an {@linkplain
+     * #adaptiveLimiter() adaptive limiter} will be created.</li>
+     * </ul>
+     *
+     * @param properties request executor properties
+     * @throws IllegalArgumentException if reservations of hosts or adaptive limit properties are illegal
+     */
+    protected AbstractOAuth2RequestExecutor(@NotNull OAuth2RequestExecutorProperties properties) {
+        this.hostPartitions = OAuth2RequestHostPartitions.of(properties);
+        this.admission = OAuth2RequestAdmission.of(properties);
+        this.adaptiveLimiter = OAuth2RequestAdaptiveLimiter.of(properties);
     }
 
     // #########################################################################################
@@ -113,4 +845,38 @@ public abstract class AbstractOAuth2RequestExecutor<Q> {
      */
     protected abstract @NotNull AbstractOAuth2Response executeActualRequest(@NotNull Q actualRequest) throws IOException;
 
+    /**
+     * Execute the given {@code actualRequest} asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Implementations based on non-blocking I/O should return immediately and complete the future in their I/O
+     * threads. Implementations based on blocking I/O may execute the request in the calling thread and return a
+     * completed future.</li>
+     * <li>If an I/O error occurs, the future should be completed exceptionally with an {@link IOException}.</li>
+     * </ul>
+     *
+     * @param actualRequest actual request
+     * @return future of response
+     */
+    protected abstract @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(@NotNull Q actualRequest);
+
+    // #########################################################################################
+    // #################### protected method ###################################################
+    // #########################################################################################
+
+    /**
+     * Release the underlying resources (e.g. connection pool, background threads) of the actual executor.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The method will be called at most once, when the last reference of {@code this} executor is released and
+     * in-flight requests have been drained (or the drain timeout has elapsed). The default implementation does
+     * nothing.</li>
+     * </ul>
+     *
+     * @throws IOException if I/O error occurs
+     */
+    protected void closeActualExecutor() throws IOException {}
+
 }
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorAdaptiveLimitProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * OAuth2 request adaptive limiter.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Concurrent requests to each host are limited by a limit which is adjusted with the round-trip time of every
+ * completed request (gradient algorithm). The long-term average round-trip time is taken as the latency without
+ * queueing. While requests complete within {@code rttTolerance} times of it, the limit grows by about its square root;
+ * once they take longer, the limit shrinks in proportion, down to half of it at a time.</li>
+ * <li>Requests failed with I/O errors or responded with {@code 429} or {@code 503} are dropped, which shrinks the limit
+ * to 90% immediately.</li>
+ * <li>The limit only grows when at least half of it is in use, so an idle host does not get an unproven limit.</li>
+ * <li>Requests exceeding the limit of their hosts are rejected with {@link OAuth2RequestSaturatedException}.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestAdaptiveLimiter {
+
+    /** Max limit used if neither the adaptive limit nor the host limits max concurrent requests. */
+    private static final int UNLIMITED_MAX_LIMIT = 1000;
+    /** Ratio the limit shrinks to when a request is dropped. */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    // ######################################################################################
+
+    /** Request executor properties. */
+    private final @NotNull OAuth2RequestExecutorProperties properties;
+    /** Initial limit. */
+    private final int initialLimit;
+    /** Min limit. */
+    private final int minLimit;
+    /** Round-trip time tolerance. */
+    private final double rttTolerance;
+    /** Smoothing. */
+    private final double smoothing;
+    /** Long round-trip time window. */
+    private final int longRttWindow;
+    /** Limits group by host. */
+    private final @NotNull Map<String, HostLimit> limits = new ConcurrentHashMap<>();
+    /** Listeners notified with a host when the limit of it is created. */
+    private final @NotNull List<@NotNull Consumer<String>> hostListeners = new CopyOnWriteArrayList<>();
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return hosts which have been requested.
+     *
+     * @return hosts (unmodifiable) which have been requested, in lower case
+     */
+    public @NotNull Set<String> hosts() {
+        return Collections.unmodifiableSet(limits.keySet());
+    }
+
+    /**
+     * Return current limit of concurrent requests to the given {@code host}.
+     *
+     * @param host host in lower case
+     * @return current limit, or the initial limit if the {@code host} has not been requested
+     */
+    public int limit(@NotNull String host) {
+        HostLimit limit = limits.get(host);
+        return (limit == null) ? Math.min(initialLimit, maxLimit(host)) : limit.current();
+    }
+
+    /**
+     * Return in-flight requests to the given {@code host}.
+     *
+     * @param host host in lower case
+     * @return in-flight requests to the {@code host}
+     */
+    public int inFlightRequests(@NotNull String host) {
+        HostLimit limit = limits.get(host);
+        return (limit == null) ? 0 : limit.inFlightRequests();
+    }
+
+    // ######################################################################################
+    // #################### listener ########################################################
+    // ######################################################################################
+
+    /**
+     * Add a listener which is notified with a host when the limit of it is created (e.g. to register meters).
+     *
+     * @param listener listener
+     */
+    public void addHostListener(@NotNull Consumer<String> listener) {
+        hostListeners.add(listener);
+    }
+
+    // ######################################################################################
+    // #################### acquire / release ###############################################
+    // ######################################################################################
+
+    /**
+     * Try to acquire a permit of the given {@code host}.
+     *
+     * @param host host in lower case
+     * @return {@code true} if the permit is acquired, otherwise {@code false}
+     */
+    boolean tryAcquire(@NotNull String host) {
+        HostLimit limit = limits.get(host);
+        if (limit == null) {
+            HostLimit created = new HostLimit(Math.min(initialLimit, maxLimit(host)), maxLimit(host));
+            limit = limits.putIfAbsent(host, created);
+            if (limit == null) {
+                limit = created;
+                for (Consumer<String> listener : hostListeners) { listener.accept(host); }
+            }
+        }
+        return limit.tryAcquire();
+    }
+
+    /**
+     * Release a permit of the given {@code host}.
+     *
+     * @param host host in lower case
+     * @param rttNanos round-trip time of the request in nanoseconds, negative means no sample (e.g. warm-up)
+     * @param dropped whether the request is dropped, i.e. failed with I/O error or responded with {@code 429} or
+     *         {@code 503}
+     */
+    void release(@NotNull String host, long rttNanos, boolean dropped) {
+        limits.get(host).release(rttNanos, dropped);
+    }
+
+    // ######################################################################################
+    // #################### internal ########################################################
+    // ######################################################################################
+
+    /**
+     * Return max limit of the given {@code host}.
+     *
+     * @param host host
+     * @return max limit of the {@code host}
+     */
+    private int maxLimit(@NotNull String host) {
+        Integer maxLimit = properties.getAdaptiveLimit().getMaxLimit();
+        if (maxLimit != null) { return maxLimit; }
+        Integer maxConcurrentRequests = properties.maxConcurrentRequestsOfHost(host);
+        return (maxConcurrentRequests == null) ? UNLIMITED_MAX_LIMIT : maxConcurrentRequests;
+    }
+
+    /** Limit of a host. */
+    private final class HostLimit {
+
+        /** Max limit. */
+        private final int maxLimit;
+        /** Current limit, guarded by {@code this}. */
+        private double limit;
+        /** In-flight requests, guarded by {@code this}. */
+        private int inFlightRequests;
+        /** Long-term average round-trip time in nanoseconds, guarded by {@code this}. */
+        private double longRttNanos;
+
+        /**
+         * Return current limit.
+         *
+         * @return current limit
+         */
+        synchronized int current() {
+            return (int) limit;
+        }
+
+        /**
+         * Return in-flight requests.
+         *
+         * @return in-flight requests
+         */
+        synchronized int inFlightRequests() {
+            return inFlightRequests;
+        }
+
+        /**
+         * Try to acquire a permit.
+         *
+         * @return {@code true} if the permit is acquired, otherwise {@code false}
+         */
+        synchronized boolean tryAcquire() {
+            if (inFlightRequests >= (int) limit) { return false; }
+            inFlightRequests++;
+            return true;
+        }
+
+        /**
+         * Release a permit and update the limit.
+         *
+         * @param rttNanos round-trip time of the request in nanoseconds, negative means no sample
+         * @param dropped whether the request is dropped
+         */
+        synchronized void release(long rttNanos, boolean dropped) {
+            int inFlightBefore = inFlightRequests--;
+            if (dropped) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                return;
+            }
+            if (rttNanos < 0) { return; }
+            double rtt = Math.max(1, rttNanos);
+            if (longRttNanos == 0) {
+                longRttNanos = rtt;
+            } else {
+                longRttNanos += (rtt - longRttNanos) / longRttWindow;
+                // Forget a stale baseline quickly once the provider recovers from a slow period.
+                if (longRttNanos > 2 * rtt) { longRttNanos *= 0.95; }
+            }
+            // Requests are limited by the application rather than the limit, there is no signal to grow.
+            if (inFlightBefore < limit / 2) { return; }
+            double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / rtt));
+            double estimated = limit * gradient + Math.sqrt(limit);
+            limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimated * smoothing));
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param initialLimit initial limit
+         * @param maxLimit max limit
+         */
+        HostLimit(int initialLimit, int maxLimit) {
+            this.limit = Math.max(minLimit, initialLimit);
+            this.maxLimit = Math.max(minLimit, maxLimit);
+        }
+
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Return adaptive limiter with the given {@code properties}.
+     *
+     * @param properties request executor properties
+     * @return adaptive limiter, or {@code null} if {@link OAuth2RequestExecutorProperties#getAdaptiveLimit()} is not
+     *         set
+     * @throws IllegalArgumentException if the adaptive limit properties are illegal
+     */
+    static @Nullable OAuth2RequestAdaptiveLimiter of(@NotNull OAuth2RequestExecutorProperties properties) {
+        return (properties.getAdaptiveLimit() == null) ? null : new OAuth2RequestAdaptiveLimiter(properties.copy());
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties request executor properties
+     */
+    private OAuth2RequestAdaptiveLimiter(@NotNull OAuth2RequestExecutorProperties properties) {
+        OAuth2RequestExecutorAdaptiveLimitProperties adaptiveLimit =
+                properties.getAdaptiveLimit().rewriteNullToDefaultValue();
+        if (adaptiveLimit.getMinLimit() < 1) { throw new IllegalArgumentException("`minLimit` must be positive."); }
+        // NaN is rejected as well.
+        if (!(adaptiveLimit.getRttTolerance() > 0)) {
+            throw new IllegalArgumentException("`rttTolerance` must be positive.");
+        }
+        if ((adaptiveLimit.getSmoothing() <= 0) || (adaptiveLimit.getSmoothing() > 1)) {
+            throw new IllegalArgumentException("`smoothing` must be in range (0, 1].");
+        }
+        if (adaptiveLimit.getLongRttWindow() < 1) {
+            throw new IllegalArgumentException("`longRttWindow` must be positive.");
+        }
+        this.properties = properties;
+        this.initialLimit = adaptiveLimit.getInitialLimit();
+        this.minLimit = adaptiveLimit.getMinLimit();
+        this.rttTolerance = adaptiveLimit.getRttTolerance();
+        this.smoothing = adaptiveLimit.getSmoothing();
+        this.longRttWindow = adaptiveLimit.getLongRttWindow();
+    }
+
+}
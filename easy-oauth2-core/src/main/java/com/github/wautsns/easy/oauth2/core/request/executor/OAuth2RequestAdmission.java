@@ -0,0 +1,392 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OAuth2 request admission.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>At most {@linkplain #maxConcurrentRequests() max concurrent requests} are admitted at the same time. Other
+ * requests wait in a FIFO queue, which length is limited by {@linkplain #maxQueueLength() max queue length}.</li>
+ * <li>Requests which can not be queued, or have waited longer than {@linkplain #maxQueueWaitTime() max queue wait
+ * time}, are rejected with {@link OAuth2RequestSaturatedException}, so that overload is shed quickly instead of piling
+ * up threads.</li>
+ * <li>Waiting does not block threads, since admission is delivered through futures. Admissions handed over to
+ * waiters are delivered by a dispatcher instead of the releasing thread, so that the releasing thread does not execute
+ * the next request (which may block) in its stack.</li>
+ * <li>Each admission has its own dispatcher, whose threads are bounded by {@linkplain #maxConcurrentRequests() max
+ * concurrent requests}: every delivery starts an admitted request, so that many threads suffice even if asynchronous
+ * requests block (e.g. executors based on blocking I/O). Idle threads are reclaimed, and in the rare case that all
+ * threads are busy, the admission is delivered by the releasing thread instead of creating more threads.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestAdmission {
+
+    /** Completed future of admission. */
+    private static final @NotNull CompletableFuture<Void> ADMITTED = CompletableFuture.completedFuture(null);
+
+    // ######################################################################################
+
+    /** Max concurrent requests. */
+    private final int maxConcurrentRequests;
+    /** Max queue length. */
+    private final int maxQueueLength;
+    /** Max queue wait time. */
+    private final @NotNull Duration maxQueueWaitTime;
+    /** Dispatcher to deliver admissions handed over to waiters. */
+    private final @NotNull Executor dispatcher;
+
+    /** Admitted requests, guarded by {@code this}. */
+    private int admittedRequests;
+    /** Waiters in the queue, guarded by {@code this}. */
+    private final @NotNull Deque<@NotNull Waiter> waiters = new ArrayDeque<>();
+
+    /** Count of queued requests. */
+    private final @NotNull LongAdder queuedCount = new LongAdder();
+    /** Total queue wait time in nanoseconds. */
+    private final @NotNull LongAdder queueWaitNanos = new LongAdder();
+    /** Count of rejected requests. */
+    private final @NotNull LongAdder rejectedCount = new LongAdder();
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return max concurrent requests.
+     *
+     * @return max concurrent requests
+     */
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Return max queue length.
+     *
+     * @return max queue length
+     */
+    public int maxQueueLength() {
+        return maxQueueLength;
+    }
+
+    /**
+     * Return max queue wait time.
+     *
+     * @return max queue wait time
+     */
+    public @NotNull Duration maxQueueWaitTime() {
+        return maxQueueWaitTime;
+    }
+
+    /**
+     * Return count of admitted requests which have not been released.
+     *
+     * @return count of admitted requests
+     */
+    public synchronized int admittedRequests() {
+        return admittedRequests;
+    }
+
+    /**
+     * Return current queue length.
+     *
+     * @return current queue length
+     */
+    public synchronized int queueLength() {
+        return waiters.size();
+    }
+
+    /**
+     * Return count of requests which have waited in the queue (including those are waiting).
+     *
+     * @return count of queued requests
+     */
+    public long queuedCount() {
+        return queuedCount.sum();
+    }
+
+    /**
+     * Return total time that requests have waited in the queue.
+     *
+     * @param unit time unit
+     * @return total queue wait time
+     */
+    public double totalQueueWaitTime(@NotNull TimeUnit unit) {
+        return (double) queueWaitNanos.sum() / unit.toNanos(1);
+    }
+
+    /**
+     * Return count of rejected requests.
+     *
+     * @return count of rejected requests
+     */
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // ######################################################################################
+    // #################### acquire / release ###############################################
+    // ######################################################################################
+
+    /**
+     * Acquire an admission.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The returned future is completed when the request is admitted, or completed exceptionally with an {@link
+     * OAuth2RequestSaturatedException} when the request is rejected. Once admitted, {@link #release()} must be
+     * called after the request completes.</li>
+     * </ul>
+     *
+     * @return future of admission
+     */
+    @NotNull CompletableFuture<Void> acquire() {
+        Waiter waiter;
+        synchronized (this) {
+            if ((admittedRequests < maxConcurrentRequests) && waiters.isEmpty()) {
+                admittedRequests++;
+                return ADMITTED;
+            }
+            if ((waiters.size() >= maxQueueLength) || maxQueueWaitTime.isZero()) {
+                rejectedCount.increment();
+                return OAuth2FutureUtils.failedFuture(new OAuth2RequestSaturatedException(String.format(
+                        "Request executor is saturated, max concurrent requests: %d, max queue length: %d.",
+                        maxConcurrentRequests, maxQueueLength
+                )));
+            }
+            waiter = new Waiter();
+            waiters.addLast(waiter);
+        }
+        queuedCount.increment();
+        waiter.timeout = Timer.INSTANCE.schedule(() -> {
+            if (remove(waiter)) {
+                queueWaitNanos.add(System.nanoTime() - waiter.startNanos);
+                rejectedCount.increment();
+                waiter.completeExceptionally(new OAuth2RequestSaturatedException(String.format(
+                        "Request executor is saturated, waited in the queue for %s.", maxQueueWaitTime
+                )));
+            }
+        }, maxQueueWaitTime.toNanos(), TimeUnit.NANOSECONDS);
+        return waiter;
+    }
+
+    /**
+     * Cancel the given admission {@code future} returned by {@link #acquire()}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the request is waiting in the queue, it will be removed. If it has been admitted (even though the future
+     * has not been completed yet), the admission will be released.</li>
+     * </ul>
+     *
+     * @param future admission future
+     */
+    void cancel(@NotNull CompletableFuture<Void> future) {
+        if (!(future instanceof Waiter)) {
+            // The request was admitted without waiting, or rejected.
+            if (!future.isCompletedExceptionally()) { release(); }
+            return;
+        }
+        Waiter waiter = (Waiter) future;
+        boolean admitted;
+        synchronized (this) {
+            admitted = waiter.admitted;
+            // The admission is taken back, so that cancelling repeatedly will not release it again.
+            waiter.admitted = false;
+            if (!admitted && !waiters.remove(waiter)) { return; }
+        }
+        waiter.cancelTimeout();
+        waiter.cancel(false);
+        if (admitted) { release(); }
+    }
+
+    /** Release an admission, and admit the next waiter in the queue if present. */
+    void release() {
+        Waiter next;
+        synchronized (this) {
+            next = waiters.pollFirst();
+            if (next == null) {
+                admittedRequests--;
+                return;
+            }
+            // The admission is handed over to the next waiter directly, it is marked in the lock, so that the waiter
+            // cancelled before its future completes still releases the admission.
+            next.admitted = true;
+        }
+        next.cancelTimeout();
+        queueWaitNanos.add(System.nanoTime() - next.startNanos);
+        dispatcher.execute(() -> next.complete(null));
+    }
+
+    /**
+     * Remove the given {@code waiter} from the queue.
+     *
+     * @param waiter waiter
+     * @return {@code true} if the {@code waiter} is removed, otherwise {@code false}
+     */
+    private synchronized boolean remove(@NotNull Waiter waiter) {
+        return waiters.remove(waiter);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Return admission with the given {@code properties}.
+     *
+     * @param properties request executor properties
+     * @return admission, or {@code null} if {@link OAuth2RequestExecutorProperties#getMaxConcurrentRequests()} or
+     *         {@link OAuth2RequestExecutorProperties#getMaxQueueLength()} is {@code null}
+     */
+    static @Nullable OAuth2RequestAdmission of(@NotNull OAuth2RequestExecutorProperties properties) {
+        if (properties.getMaxConcurrentRequests() == null) { return null; }
+        return of(properties, Dispatcher.of(properties.getMaxConcurrentRequests()));
+    }
+
+    /**
+     * Return admission with the given {@code properties} and {@code dispatcher}.
+     *
+     * @param properties request executor properties
+     * @param dispatcher dispatcher to deliver admissions handed over to waiters
+     * @return admission, or {@code null} if {@link OAuth2RequestExecutorProperties#getMaxConcurrentRequests()} or
+     *         {@link OAuth2RequestExecutorProperties#getMaxQueueLength()} is {@code null}
+     */
+    static @Nullable OAuth2RequestAdmission of(
+            @NotNull OAuth2RequestExecutorProperties properties, @NotNull Executor dispatcher) {
+        if ((properties.getMaxConcurrentRequests() == null) || (properties.getMaxQueueLength() == null)) {
+            return null;
+        }
+        Duration maxQueueWaitTime = properties.getMaxQueueWaitTime();
+        return new OAuth2RequestAdmission(
+                properties.getMaxConcurrentRequests(), properties.getMaxQueueLength(),
+                (maxQueueWaitTime != null) ? maxQueueWaitTime : properties.getConnectTimeout(), dispatcher
+        );
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param maxConcurrentRequests max concurrent requests
+     * @param maxQueueLength max queue length
+     * @param maxQueueWaitTime max queue wait time, {@code null} means {@link Duration#ZERO}
+     * @param dispatcher dispatcher to deliver admissions handed over to waiters
+     */
+    private OAuth2RequestAdmission(
+            int maxConcurrentRequests, int maxQueueLength, @Nullable Duration maxQueueWaitTime,
+            @NotNull Executor dispatcher) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Max concurrent requests should be positive.");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxQueueLength = Math.max(maxQueueLength, 0);
+        this.maxQueueWaitTime = ((maxQueueWaitTime == null) || maxQueueWaitTime.isNegative())
+                                ? Duration.ZERO : maxQueueWaitTime;
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Waiter in the queue, which is also the future of admission. */
+    private static final class Waiter extends CompletableFuture<Void> {
+
+        /** Whether the admission has been handed over to {@code this} waiter, guarded by the admission. */
+        private boolean admitted;
+        /** Start time in nanoseconds. */
+        private final long startNanos = System.nanoTime();
+        /** Timeout task. */
+        private volatile @Nullable ScheduledFuture<?> timeout;
+
+        /** Cancel timeout task. */
+        private void cancelTimeout() {
+            ScheduledFuture<?> current = timeout;
+            if (current != null) { current.cancel(false); }
+        }
+
+    }
+
+    /** Timer shared by all admissions to reject waiters which have waited too long. */
+    private static final class Timer {
+
+        /** Instance. */
+        private static final @NotNull ScheduledThreadPoolExecutor INSTANCE = new ScheduledThreadPoolExecutor(
+                1, runnable -> {
+                    Thread thread = new Thread(runnable, "easy-oauth2-admission-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+        static {
+            INSTANCE.setRemoveOnCancelPolicy(true);
+        }
+
+    }
+
+    /** Dispatcher to deliver admissions handed over to waiters. */
+    private static final class Dispatcher {
+
+        /** Thread number shared by all dispatchers. */
+        private static final @NotNull AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+        /**
+         * Return a dispatcher with at most the given number of {@code threads}.
+         *
+         * @param threads max threads
+         * @return dispatcher
+         */
+        static @NotNull Executor of(int threads) {
+            ThreadPoolExecutor dispatcher = new ThreadPoolExecutor(
+                    0, Math.max(1, threads), 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                        Thread thread = new Thread(
+                                runnable, "easy-oauth2-admission-dispatcher-" + THREAD_NUMBER.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            dispatcher.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            return dispatcher;
+        }
+
+    }
+
+}
@@ -15,11 +15,14 @@
  */
 package com.github.wautsns.easy.oauth2.core.request.executor;
 
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -29,6 +32,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  * <li style="list-style-type:none">########## Notes ###############</li>
  * <li>{@link OAuth2RequestExecutorFactory} that has implemented java spi will be automatically registered.</li>
+ * <li>Executors created through {@link #share(OAuth2RequestExecutorFactory, OAuth2RequestExecutorProperties)} are
+ * shared by equal properties, so that clients with the same configuration use the same connection pool.</li>
  * </ul>
  *
  * @author wautsns
@@ -43,12 +48,21 @@ public final class OAuth2RequestExecutorFactoryManager {
 
     /** Factory group by identifier. */
     private static final @NotNull Map<@NotNull String, @NotNull OAuth2RequestExecutorFactory<?>> factoryGroupByIdentifier = new ConcurrentHashMap<>();
+    /** Shared executor group by factory and properties. */
+    private static final @NotNull Map<@NotNull SharedExecutorKey, @NotNull AbstractOAuth2RequestExecutor<?>> sharedExecutorGroupByKey = new ConcurrentHashMap<>();
 
     // Register OAuth2RequestExecutorFactory automatically through java spi.
     static {
         log.info("Ready to register factories automatically through java spi.");
-        ServiceLoader.load(OAuth2RequestExecutorFactory.class)
-                .forEach(OAuth2RequestExecutorFactoryManager::register);
+        Iterator<OAuth2RequestExecutorFactory> iterator = ServiceLoader.load(OAuth2RequestExecutorFactory.class).iterator();
+        while (iterator.hasNext()) {
+            try {
+                register(iterator.next());
+            } catch (ServiceConfigurationError | LinkageError e) {
+                // E.g. the factory is compiled for a higher version of java than the current runtime.
+                log.warn("Failed to load factory through java spi, and it has been skipped.", e);
+            }
+        }
         log.info("All factories that have implemented java spi have been automatically registered.");
     }
 
@@ -99,6 +113,89 @@ public final class OAuth2RequestExecutorFactoryManager {
         }
     }
 
+    // ######################################################################################
+    // #################### shared executor #################################################
+    // ######################################################################################
+
+    /**
+     * Return a shared executor created by the given {@code factory} with the given {@code properties}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Executors are shared by the same {@code factory} and equal {@code properties}. If there is no such executor,
+     * a new one will be created.</li>
+     * <li>Each call acquires a reference of the returned executor, which should be released by {@link
+     * AbstractOAuth2RequestExecutor#close()} when it is no longer used. The executor will be closed and removed from
+     * {@code this} manager when all references are released.</li>
+     * <li>The {@code properties} will be copied, so later modifications of it will not affect the shared executor.</li>
+     * </ul>
+     *
+     * @param <Q> the type of actual request
+     * @param factory oauth2 request executor factory
+     * @param properties oauth2 request executor properties
+     * @return shared executor
+     */
+    @SuppressWarnings("unchecked")
+    public static <Q> @NotNull AbstractOAuth2RequestExecutor<Q> share(
+            @NotNull OAuth2RequestExecutorFactory<Q> factory, @NotNull OAuth2RequestExecutorProperties properties) {
+        SharedExecutorKey key = new SharedExecutorKey(factory, properties.copy());
+        while (true) {
+            AbstractOAuth2RequestExecutor<?> shared = sharedExecutorGroupByKey.get(key);
+            if (shared == null) {
+                // The executor is created outside the map, since factories may share executors themselves.
+                AbstractOAuth2RequestExecutor<Q> created = factory.create(key.properties.copy());
+                created.closeCallback(() -> sharedExecutorGroupByKey.remove(key, created));
+                shared = sharedExecutorGroupByKey.putIfAbsent(key, created);
+                if (shared == null) {
+                    log.info("A shared executor has been created by the factory with identifier {}.",
+                            factory.identifier());
+                    return created;
+                }
+                // Another executor has been shared concurrently, the created one is discarded.
+                created.close();
+            }
+            // The reference is acquired only if the executor is still alive, so the lookup and the acquisition are
+            // atomic as a whole. Closed executors are removed and the lookup is retried.
+            if (shared.retain()) { return (AbstractOAuth2RequestExecutor<Q>) shared; }
+            sharedExecutorGroupByKey.remove(key, shared);
+        }
+    }
+
+    /** Key of shared executor. */
+    private static final class SharedExecutorKey {
+
+        /** Factory. */
+        private final @NotNull OAuth2RequestExecutorFactory<?> factory;
+        /** Properties. */
+        private final @NotNull OAuth2RequestExecutorProperties properties;
+
+        /**
+         * Construct an instance.
+         *
+         * @param factory factory
+         * @param properties properties
+         */
+        private SharedExecutorKey(
+                @NotNull OAuth2RequestExecutorFactory<?> factory, @NotNull OAuth2RequestExecutorProperties properties) {
+            this.factory = factory;
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) { return true; }
+            if (!(obj instanceof SharedExecutorKey)) { return false; }
+            SharedExecutorKey that = (SharedExecutorKey) obj;
+            return (factory == that.factory) && properties.equals(that.properties);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(factory) + properties.hashCode();
+        }
+
+    }
+
     // ######################################################################################
     // #################### enhanced setter #################################################
     // ######################################################################################
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorHostProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * OAuth2 request host partitions.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Concurrent requests are limited per host by {@link
+ * OAuth2RequestExecutorProperties#maxConcurrentRequestsOfHost(String)}, and in total by {@link
+ * OAuth2RequestExecutorProperties#getMaxConcurrentRequests()}.</li>
+ * <li>Concurrent requests reserved for a host can only be used by requests to the host, so that a degraded host can
+ * not occupy the whole capacity.</li>
+ * <li>Requests exceeding the limits are rejected rather than queued, so that requests to a degraded host fail fast
+ * instead of piling up.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+final class OAuth2RequestHostPartitions {
+
+    /** Max concurrent requests in total. */
+    private final int maxConcurrentRequests;
+    /** Max concurrent requests of hosts without host properties, {@code null} if unlimited. */
+    private final @Nullable Integer defaultLimit;
+    /** Max concurrent requests group by host. */
+    private final @NotNull Map<@NotNull String, @Nullable Integer> limits = new HashMap<>();
+    /** Reserved concurrent requests group by host. */
+    private final @NotNull Map<@NotNull String, @NotNull Integer> reservations = new HashMap<>();
+    /** Concurrent requests in use group by host, guarded by {@code this}. */
+    private final @NotNull Map<@NotNull String, @NotNull Integer> usages = new HashMap<>();
+    /** Concurrent requests in use in total, guarded by {@code this}. */
+    private int usage;
+    /** Reserved concurrent requests which are not in use, guarded by {@code this}. */
+    private int unusedReservation;
+
+    // ######################################################################################
+    // #################### acquire / release ###############################################
+    // ######################################################################################
+
+    /**
+     * Try to acquire a permit of the given {@code host}.
+     *
+     * @param host host
+     * @return {@code true} if the permit is acquired, otherwise {@code false}
+     */
+    synchronized boolean tryAcquire(@NotNull String host) {
+        int used = usages.getOrDefault(host, 0);
+        Integer limit = limits.containsKey(host) ? limits.get(host) : defaultLimit;
+        if ((limit != null) && (used >= limit)) { return false; }
+        if (used < reservations.getOrDefault(host, 0)) {
+            // Use the reservation of the host.
+            unusedReservation--;
+        } else if (usage + unusedReservation >= maxConcurrentRequests) {
+            return false;
+        }
+        usage++;
+        usages.put(host, used + 1);
+        return true;
+    }
+
+    /**
+     * Release a permit of the given {@code host}.
+     *
+     * @param host host
+     */
+    synchronized void release(@NotNull String host) {
+        int used = usages.get(host) - 1;
+        if (used == 0) {
+            usages.remove(host);
+        } else {
+            usages.put(host, used);
+        }
+        if (used < reservations.getOrDefault(host, 0)) { unusedReservation++; }
+        usage--;
+    }
+
+    // ######################################################################################
+    // #################### static method ###################################################
+    // ######################################################################################
+
+    /**
+     * Return host of the given {@code url}.
+     *
+     * @param url url
+     * @return host in lower case
+     */
+    static @NotNull String host(@NotNull String url) {
+        int start = url.indexOf("://");
+        start = (start < 0) ? 0 : (start + 3);
+        int end = start;
+        while ((end < url.length()) && ("/?#".indexOf(url.charAt(end)) < 0)) { end++; }
+        // Remove user info.
+        start = Math.max(start, url.lastIndexOf('@', end - 1) + 1);
+        // Remove port.
+        int portStart = (url.startsWith("[", start)) ? (url.indexOf(']', start) + 1) : url.indexOf(':', start);
+        if ((portStart > start) && (portStart < end)) { end = portStart; }
+        return url.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Return host partitions with the given {@code properties}.
+     *
+     * @param properties request executor properties
+     * @return host partitions, or {@code null} if concurrent requests are not partitioned by host
+     * @throws IllegalArgumentException if total reservations exceed max concurrent requests, or reservation of a host
+     *         exceeds its limit
+     */
+    static @Nullable OAuth2RequestHostPartitions of(@NotNull OAuth2RequestExecutorProperties properties) {
+        return properties.isPartitionedByHost() ? new OAuth2RequestHostPartitions(properties.copy()) : null;
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties request executor properties
+     */
+    private OAuth2RequestHostPartitions(@NotNull OAuth2RequestExecutorProperties properties) {
+        Integer total = properties.getMaxConcurrentRequests();
+        this.maxConcurrentRequests = (total == null) ? Integer.MAX_VALUE : total;
+        this.defaultLimit = properties.maxConcurrentRequestsOfHost(null);
+        Map<String, OAuth2RequestExecutorHostProperties> hosts = properties.getHosts();
+        if (hosts == null) { return; }
+        long totalReservation = 0;
+        for (Map.Entry<String, OAuth2RequestExecutorHostProperties> entry : hosts.entrySet()) {
+            String host = entry.getKey().toLowerCase(Locale.ROOT);
+            Integer limit = properties.maxConcurrentRequestsOfHost(entry.getKey());
+            limits.put(host, limit);
+            Integer reservation = entry.getValue().getReservedConcurrentRequests();
+            if ((reservation == null) || (reservation <= 0)) { continue; }
+            if ((limit != null) && (reservation > limit)) {
+                throw new IllegalArgumentException(String.format(
+                        "Reserved concurrent requests %d of host %s exceeds its limit %d.", reservation, host, limit
+                ));
+            }
+            reservations.put(host, reservation);
+            totalReservation += reservation;
+        }
+        if (totalReservation > maxConcurrentRequests) {
+            throw new IllegalArgumentException(String.format(
+                    "Total reserved concurrent requests %d exceeds max concurrent requests %d.",
+                    totalReservation, maxConcurrentRequests
+            ));
+        }
+        this.unusedReservation = (int) totalReservation;
+    }
+
+}
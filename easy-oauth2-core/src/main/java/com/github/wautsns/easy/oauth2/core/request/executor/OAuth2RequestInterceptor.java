@@ -0,0 +1,76 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth2 request interceptor.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Interceptors are added to a request executor by {@link AbstractOAuth2RequestExecutor#addInterceptor(
+ * OAuth2RequestInterceptor)}, every request executed by the executor goes through them in order.</li>
+ * <li>An interceptor may modify the request (e.g. add headers), short-circuit it by returning a response or throwing
+ * an exception without proceeding, or proceed multiple times (e.g. retry).</li>
+ * <li>{@link #intercept(OAuth2Request, OAuth2RequestInterceptorChain)} intercepts {@link
+ * AbstractOAuth2RequestExecutor#execute(OAuth2Request)}, {@link #interceptAsync(OAuth2Request,
+ * OAuth2RequestInterceptorChain)} intercepts {@link AbstractOAuth2RequestExecutor#executeAsync(OAuth2Request)}. Both
+ * proceed directly by default, so an interceptor should override both of them unless it only cares about one.</li>
+ * <li>Interceptors are shared by all requests, so implementations should be thread-safe.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public interface OAuth2RequestInterceptor {
+
+    /**
+     * Intercept the given {@code request}.
+     *
+     * @param request request
+     * @param chain chain, call {@link OAuth2RequestInterceptorChain#proceed(OAuth2Request)} to proceed
+     * @return response
+     * @throws OAuth2Exception if oauth2 related error occurs
+     */
+    default @NotNull AbstractOAuth2Response intercept(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) throws OAuth2Exception {
+        return chain.proceed(request);
+    }
+
+    /**
+     * Intercept the given {@code request} asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Errors should be delivered through the returned future, exceptions thrown will be converted to a failed
+     * future.</li>
+     * </ul>
+     *
+     * @param request request
+     * @param chain chain, call {@link OAuth2RequestInterceptorChain#proceedAsync(OAuth2Request)} to proceed
+     * @return future of response
+     */
+    default @NotNull CompletableFuture<AbstractOAuth2Response> interceptAsync(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) {
+        return chain.proceedAsync(request);
+    }
+
+}
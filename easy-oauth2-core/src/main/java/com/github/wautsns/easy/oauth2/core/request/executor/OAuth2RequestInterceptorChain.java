@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth2 request interceptor chain.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>A chain is the rest of the interceptors (and the request executor at the end) after an interceptor. Chains are
+ * immutable and built when interceptors are changed, so no chain is allocated while executing requests.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestInterceptorChain {
+
+    /** Request executor. */
+    private final @NotNull AbstractOAuth2RequestExecutor<?> executor;
+    /** Interceptor, {@code null} if {@code this} is the end of the chain. */
+    private final @Nullable OAuth2RequestInterceptor interceptor;
+    /** Next chain, {@code null} if {@code this} is the end of the chain. */
+    private final @Nullable OAuth2RequestInterceptorChain next;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return request executor.
+     *
+     * @return request executor
+     */
+    public @NotNull AbstractOAuth2RequestExecutor<?> executor() {
+        return executor;
+    }
+
+    // ######################################################################################
+    // #################### proceed #########################################################
+    // ######################################################################################
+
+    /**
+     * Proceed the given {@code request} with the rest of the chain.
+     *
+     * @param request request
+     * @return response
+     * @throws OAuth2Exception if oauth2 related error occurs
+     */
+    public @NotNull AbstractOAuth2Response proceed(@NotNull OAuth2Request<?> request) throws OAuth2Exception {
+        if (interceptor == null) { return executor.executeWithoutInterceptors(request); }
+        return interceptor.intercept(request, next);
+    }
+
+    /**
+     * Proceed the given {@code request} with the rest of the chain asynchronously.
+     *
+     * @param request request
+     * @return future of response
+     */
+    public @NotNull CompletableFuture<AbstractOAuth2Response> proceedAsync(@NotNull OAuth2Request<?> request) {
+        if (interceptor == null) { return executor.executeAsyncWithoutInterceptors(request); }
+        try {
+            return interceptor.interceptAsync(request, next);
+        } catch (RuntimeException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+    }
+
+    // ######################################################################################
+    // #################### static factory ##################################################
+    // ######################################################################################
+
+    /**
+     * Build a chain with the given {@code interceptors}.
+     *
+     * @param executor request executor
+     * @param interceptors interceptors
+     * @return head of the chain, or {@code null} if the {@code interceptors} is empty
+     */
+    static @Nullable OAuth2RequestInterceptorChain build(
+            @NotNull AbstractOAuth2RequestExecutor<?> executor, @NotNull List<OAuth2RequestInterceptor> interceptors) {
+        if (interceptors.isEmpty()) { return null; }
+        OAuth2RequestInterceptorChain chain = new OAuth2RequestInterceptorChain(executor, null, null);
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            chain = new OAuth2RequestInterceptorChain(executor, interceptors.get(i), chain);
+        }
+        return chain;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param interceptor interceptor
+     * @param next next chain
+     */
+    private OAuth2RequestInterceptorChain(
+            @NotNull AbstractOAuth2RequestExecutor<?> executor, @Nullable OAuth2RequestInterceptor interceptor,
+            @Nullable OAuth2RequestInterceptorChain next) {
+        this.executor = executor;
+        this.interceptor = interceptor;
+        this.next = next;
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker.configuration.OAuth2CircuitBreakerProperties;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * OAuth2 circuit breaker.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The circuit breaker records outcomes of the latest {@code slidingWindowSize} calls. Once at least {@code
+ * minimumNumberOfCalls} calls are recorded and the failure rate or slow call rate reaches its threshold, the circuit
+ * breaker transitions from {@link State#CLOSED} to {@link State#OPEN}.</li>
+ * <li>An open circuit breaker rejects all calls until {@code waitDurationInOpenState} elapses, then it transitions to
+ * {@link State#HALF_OPEN} and permits {@code permittedNumberOfCallsInHalfOpenState} trial calls. If rates of the trial
+ * calls are below thresholds, the circuit breaker closes, otherwise it opens again.</li>
+ * <li>Every permitted call must end with either {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link
+ * #release()}.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2CircuitBreaker {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuth2CircuitBreaker.class);
+
+    /** Outcome flag: failure. */
+    private static final byte FAILURE = 1;
+    /** Outcome flag: slow. */
+    private static final byte SLOW = 2;
+
+    /** Name. */
+    private final @NotNull String name;
+    /** Minimum number of calls in sliding window before rates are calculated. */
+    private final int minimumNumberOfCalls;
+    /** Failure rate threshold. */
+    private final double failureRateThreshold;
+    /** Slow call duration threshold in nanoseconds. */
+    private final long slowCallDurationThresholdNanos;
+    /** Slow call rate threshold. */
+    private final double slowCallRateThreshold;
+    /** Wait duration in open state in nanoseconds. */
+    private final long waitDurationInOpenStateNanos;
+    /** Permitted number of calls in half-open state. */
+    private final int permittedNumberOfCallsInHalfOpenState;
+
+    /** Sliding window, a ring of outcome flags. */
+    private final byte[] window;
+    /** Index of the next outcome in {@link #window}. */
+    private int windowIndex;
+    /** Number of outcomes in {@link #window}. */
+    private int windowCount;
+    /** Number of failures in {@link #window}. */
+    private int failures;
+    /** Number of slow calls in {@link #window}. */
+    private int slowCalls;
+
+    /** State. */
+    private volatile @NotNull State state = State.CLOSED;
+    /** Time in nanoseconds when the circuit breaker opened. */
+    private long openedAt;
+    /** Number of trial calls permitted in the current half-open state. */
+    private int halfOpenPermitted;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return name.
+     *
+     * @return name
+     */
+    public @NotNull String name() {
+        return name;
+    }
+
+    /**
+     * Return state.
+     *
+     * @return state
+     */
+    public @NotNull State state() {
+        return state;
+    }
+
+    // ######################################################################################
+    // #################### permission ######################################################
+    // ######################################################################################
+
+    /**
+     * Try to acquire a permission to call.
+     *
+     * @return {@code true} if the call is permitted, otherwise {@code false}
+     */
+    public boolean tryAcquirePermission() {
+        // Fast path without locking, the volatile read is all a closed circuit breaker costs.
+        if (state == State.CLOSED) { return true; }
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < waitDurationInOpenStateNanos) { return false; }
+                    transitionTo(State.HALF_OPEN);
+                    halfOpenPermitted = 1;
+                    return true;
+                case HALF_OPEN:
+                    if (halfOpenPermitted >= permittedNumberOfCallsInHalfOpenState) { return false; }
+                    halfOpenPermitted++;
+                    return true;
+                default:
+                    throw new IllegalStateException(state.name());
+            }
+        }
+    }
+
+    /**
+     * Release the permission without recording outcome (e.g. the call was rejected before being sent).
+     */
+    public synchronized void release() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) { halfOpenPermitted--; }
+    }
+
+    /**
+     * Record a successful call.
+     *
+     * @param durationNanos duration of the call in nanoseconds
+     */
+    public void onSuccess(long durationNanos) {
+        record(durationNanos, false);
+    }
+
+    /**
+     * Record a failed call.
+     *
+     * @param durationNanos duration of the call in nanoseconds
+     */
+    public void onFailure(long durationNanos) {
+        record(durationNanos, true);
+    }
+
+    // ######################################################################################
+    // #################### internal ########################################################
+    // ######################################################################################
+
+    /**
+     * Record outcome of a call.
+     *
+     * @param durationNanos duration of the call in nanoseconds
+     * @param failure whether the call failed
+     */
+    private synchronized void record(long durationNanos, boolean failure) {
+        // Outcomes of calls permitted in a previous state are still recorded, they are as fresh as any other.
+        if (state == State.OPEN) { return; }
+        byte outcome = 0;
+        if (failure) { outcome |= FAILURE; }
+        if (durationNanos >= slowCallDurationThresholdNanos) { outcome |= SLOW; }
+        if (windowCount == window.length) {
+            byte evicted = window[windowIndex];
+            if ((evicted & FAILURE) != 0) { failures--; }
+            if ((evicted & SLOW) != 0) { slowCalls--; }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if (failure) { failures++; }
+        if ((outcome & SLOW) != 0) { slowCalls++; }
+        if (state == State.CLOSED) {
+            if (windowCount >= minimumNumberOfCalls && exceedsThresholds()) { transitionTo(State.OPEN); }
+        } else if (windowCount >= permittedNumberOfCallsInHalfOpenState) {
+            transitionTo(exceedsThresholds() ? State.OPEN : State.CLOSED);
+        }
+    }
+
+    /**
+     * Return whether the failure rate or slow call rate in sliding window reaches its threshold.
+     *
+     * @return {@code true} if the failure rate or slow call rate reaches its threshold, otherwise {@code false}
+     */
+    private boolean exceedsThresholds() {
+        return failures >= failureRateThreshold * windowCount || slowCalls >= slowCallRateThreshold * windowCount;
+    }
+
+    /**
+     * Transition to the given {@code target} state and reset the sliding window.
+     *
+     * @param target target state
+     */
+    private void transitionTo(@NotNull State target) {
+        if (target == State.OPEN) {
+            openedAt = System.nanoTime();
+            log.warn("Circuit breaker {} transitioned from {} to OPEN. [failures: {}, slowCalls: {}, calls: {}]",
+                    name, state, failures, slowCalls, windowCount);
+        } else {
+            log.info("Circuit breaker {} transitioned from {} to {}.", name, state, target);
+        }
+        state = target;
+        windowIndex = 0;
+        windowCount = 0;
+        failures = 0;
+        slowCalls = 0;
+        halfOpenPermitted = 0;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param name name
+     * @param properties circuit breaker properties
+     */
+    public OAuth2CircuitBreaker(@NotNull String name, @NotNull OAuth2CircuitBreakerProperties properties) {
+        properties.rewriteNullToDefaultValue();
+        if (properties.getSlidingWindowSize() < 1) {
+            throw new IllegalArgumentException("`slidingWindowSize` must be positive.");
+        }
+        if (properties.getPermittedNumberOfCallsInHalfOpenState() < 1) {
+            throw new IllegalArgumentException("`permittedNumberOfCallsInHalfOpenState` must be positive.");
+        }
+        this.name = name;
+        this.window = new byte[properties.getSlidingWindowSize()];
+        this.minimumNumberOfCalls = Math.max(1, Math.min(
+                properties.getMinimumNumberOfCalls(), properties.getSlidingWindowSize()));
+        this.failureRateThreshold = properties.getFailureRateThreshold();
+        this.slowCallDurationThresholdNanos = properties.getSlowCallDurationThreshold().toNanos();
+        this.slowCallRateThreshold = properties.getSlowCallRateThreshold();
+        this.waitDurationInOpenStateNanos = properties.getWaitDurationInOpenState().toNanos();
+        this.permittedNumberOfCallsInHalfOpenState = Math.min(
+                properties.getPermittedNumberOfCallsInHalfOpenState(), properties.getSlidingWindowSize());
+    }
+
+    // ######################################################################################
+    // #################### state ###########################################################
+    // ######################################################################################
+
+    /**
+     * State of circuit breaker.
+     *
+     * @author wautsns
+     * @since Oct 16, 2026
+     */
+    public enum State {
+
+        /** Calls are permitted and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected. */
+        OPEN,
+        /** A limited number of trial calls are permitted to decide whether to close or reopen. */
+        HALF_OPEN
+
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2CircuitBreakerOpenException;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestRejectedException;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestInterceptor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestInterceptorChain;
+import com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker.configuration.OAuth2CircuitBreakerProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OAuth2 circuit breaker interceptor.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Requests are guarded by a {@link OAuth2CircuitBreaker} per endpoint, which is the request method and the url
+ * without query and anchor. Since an endpoint url belongs to exactly one platform, circuit breakers are isolated per
+ * platform as well, and requests to the same endpoint always share a circuit breaker no matter whether the client
+ * has a metrics recorder or tracer.</li>
+ * <li>A request fails if an exception is thrown (except {@link OAuth2RequestRejectedException}, the request is not
+ * sent at all) or the response status is {@code 429} or {@code 5xx}. Other responses (e.g. {@code 400} for an invalid
+ * authorization code) are caller errors and count as successes.</li>
+ * <li>Requests rejected by an open circuit breaker fail with {@link OAuth2CircuitBreakerOpenException} immediately,
+ * without touching the request executor.</li>
+ * <li>The interceptor should be added after interceptors that retry (i.e. closer to the executor), so that every
+ * attempt is recorded.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2CircuitBreakerInterceptor implements OAuth2RequestInterceptor {
+
+    /** Circuit breaker properties. */
+    private final @NotNull OAuth2CircuitBreakerProperties properties;
+    /** Circuit breakers, key is the name of circuit breaker. */
+    private final @NotNull Map<String, OAuth2CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return circuit breakers created so far.
+     *
+     * @return circuit breakers (unmodifiable), key is the name of circuit breaker
+     */
+    public @NotNull Map<String, OAuth2CircuitBreaker> circuitBreakers() {
+        return Collections.unmodifiableMap(circuitBreakers);
+    }
+
+    // ######################################################################################
+    // #################### intercept #######################################################
+    // ######################################################################################
+
+    @Override
+    public @NotNull AbstractOAuth2Response intercept(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) throws OAuth2Exception {
+        OAuth2CircuitBreaker circuitBreaker = acquirePermission(request);
+        long startNanos = System.nanoTime();
+        AbstractOAuth2Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (OAuth2RequestRejectedException e) {
+            circuitBreaker.release();
+            throw e;
+        } catch (OAuth2Exception | RuntimeException e) {
+            circuitBreaker.onFailure(System.nanoTime() - startNanos);
+            throw e;
+        }
+        record(circuitBreaker, response.status(), System.nanoTime() - startNanos);
+        return response;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<AbstractOAuth2Response> interceptAsync(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) {
+        OAuth2CircuitBreaker circuitBreaker;
+        try {
+            circuitBreaker = acquirePermission(request);
+        } catch (OAuth2CircuitBreakerOpenException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<AbstractOAuth2Response> future;
+        try {
+            future = chain.proceedAsync(request);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(System.nanoTime() - startNanos);
+            throw e;
+        }
+        return future.whenComplete((response, throwable) -> {
+            long durationNanos = System.nanoTime() - startNanos;
+            if (throwable == null) {
+                record(circuitBreaker, response.status(), durationNanos);
+            } else if (OAuth2FutureUtils.unwrap(throwable) instanceof OAuth2RequestRejectedException) {
+                circuitBreaker.release();
+            } else {
+                circuitBreaker.onFailure(durationNanos);
+            }
+        });
+    }
+
+    // ######################################################################################
+    // #################### internal ########################################################
+    // ######################################################################################
+
+    /**
+     * Acquire permission from the circuit breaker of the given {@code request}.
+     *
+     * @param request request
+     * @return circuit breaker which permits the request
+     * @throws OAuth2CircuitBreakerOpenException if the circuit breaker is open
+     */
+    private @NotNull OAuth2CircuitBreaker acquirePermission(
+            @NotNull OAuth2Request<?> request) throws OAuth2CircuitBreakerOpenException {
+        String name = name(request);
+        OAuth2CircuitBreaker circuitBreaker = circuitBreakers.get(name);
+        if (circuitBreaker == null) {
+            circuitBreaker = circuitBreakers.computeIfAbsent(name, n -> new OAuth2CircuitBreaker(n, properties));
+        }
+        if (!circuitBreaker.tryAcquirePermission()) { throw new OAuth2CircuitBreakerOpenException(name); }
+        return circuitBreaker;
+    }
+
+    /**
+     * Record outcome of a call according to the response {@code status}.
+     *
+     * @param circuitBreaker circuit breaker
+     * @param status response status
+     * @param durationNanos duration of the call in nanoseconds
+     */
+    private static void record(@NotNull OAuth2CircuitBreaker circuitBreaker, int status, long durationNanos) {
+        if (status == 429 || status >= 500) {
+            circuitBreaker.onFailure(durationNanos);
+        } else {
+            circuitBreaker.onSuccess(durationNanos);
+        }
+    }
+
+    /**
+     * Return name of circuit breaker of the given {@code request}.
+     *
+     * @param request request
+     * @return name of circuit breaker, {@code METHOD url}
+     */
+    private static @NotNull String name(@NotNull OAuth2Request<?> request) {
+        return request.method() + " " + request.url().urlWithoutQueryAndAnchor();
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance with {@link OAuth2CircuitBreakerProperties#DEFAULT}.
+     */
+    public OAuth2CircuitBreakerInterceptor() {
+        this(OAuth2CircuitBreakerProperties.DEFAULT);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties circuit breaker properties
+     */
+    public OAuth2CircuitBreakerInterceptor(@NotNull OAuth2CircuitBreakerProperties properties) {
+        this.properties = properties.rewriteNullToDefaultValue();
+    }
+
+}
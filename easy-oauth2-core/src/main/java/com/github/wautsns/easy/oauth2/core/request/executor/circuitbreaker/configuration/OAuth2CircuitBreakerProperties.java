@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker.configuration;
+
+import java.time.Duration;
+
+/**
+ * OAuth2 circuit breaker properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2CircuitBreakerProperties {
+
+    /**
+     * Default oauth2 circuit breaker properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>slidingWindowSize: {@code 20}</li>
+     * <li>minimumNumberOfCalls: {@code 10}</li>
+     * <li>failureRateThreshold: {@code 0.5}</li>
+     * <li>slowCallDurationThreshold: {@code Duration.parse("PT2S")}</li>
+     * <li>slowCallRateThreshold: {@code 0.8}</li>
+     * <li>waitDurationInOpenState: {@code Duration.parse("PT10S")}</li>
+     * <li>permittedNumberOfCallsInHalfOpenState: {@code 3}</li>
+     * </ul>
+     */
+    public static final OAuth2CircuitBreakerProperties DEFAULT = new OAuth2CircuitBreakerProperties()
+            .setSlidingWindowSize(20)
+            .setMinimumNumberOfCalls(10)
+            .setFailureRateThreshold(0.5)
+            .setSlowCallDurationThreshold(Duration.parse("PT2S"))
+            .setSlowCallRateThreshold(0.8)
+            .setWaitDurationInOpenState(Duration.parse("PT10S"))
+            .setPermittedNumberOfCallsInHalfOpenState(3);
+
+    // ######################################################################################
+
+    /** Size of sliding window, i.e. count of the latest calls used to calculate rates. */
+    private Integer slidingWindowSize;
+    /** Minimum number of calls in sliding window before rates are calculated. */
+    private Integer minimumNumberOfCalls;
+    /** Failure rate threshold in range (0, 1], the circuit breaker opens when the failure rate reaches it. */
+    private Double failureRateThreshold;
+    /** Calls taking longer than the duration are slow calls. */
+    private Duration slowCallDurationThreshold;
+    /** Slow call rate threshold in range (0, 1], the circuit breaker opens when the slow call rate reaches it. */
+    private Double slowCallRateThreshold;
+    /** Duration that the circuit breaker stays open before transitioning to half-open. */
+    private Duration waitDurationInOpenState;
+    /** Number of calls permitted in half-open state, used to decide whether to close or reopen. */
+    private Integer permittedNumberOfCallsInHalfOpenState;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public OAuth2CircuitBreakerProperties rewriteNullToDefaultValue() {
+        if (slidingWindowSize == null) { slidingWindowSize = DEFAULT.slidingWindowSize; }
+        if (minimumNumberOfCalls == null) { minimumNumberOfCalls = DEFAULT.minimumNumberOfCalls; }
+        if (failureRateThreshold == null) { failureRateThreshold = DEFAULT.failureRateThreshold; }
+        if (slowCallDurationThreshold == null) { slowCallDurationThreshold = DEFAULT.slowCallDurationThreshold; }
+        if (slowCallRateThreshold == null) { slowCallRateThreshold = DEFAULT.slowCallRateThreshold; }
+        if (waitDurationInOpenState == null) { waitDurationInOpenState = DEFAULT.waitDurationInOpenState; }
+        if (permittedNumberOfCallsInHalfOpenState == null) {
+            permittedNumberOfCallsInHalfOpenState = DEFAULT.permittedNumberOfCallsInHalfOpenState;
+        }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2CircuitBreakerProperties{" +
+                "slidingWindowSize=" + slidingWindowSize +
+                ", minimumNumberOfCalls=" + minimumNumberOfCalls +
+                ", failureRateThreshold=" + failureRateThreshold +
+                ", slowCallDurationThreshold=" + slowCallDurationThreshold +
+                ", slowCallRateThreshold=" + slowCallRateThreshold +
+                ", waitDurationInOpenState=" + waitDurationInOpenState +
+                ", permittedNumberOfCallsInHalfOpenState=" + permittedNumberOfCallsInHalfOpenState +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    public OAuth2CircuitBreakerProperties setSlidingWindowSize(Integer slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+        return this;
+    }
+
+    public Integer getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    public OAuth2CircuitBreakerProperties setMinimumNumberOfCalls(Integer minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        return this;
+    }
+
+    public Double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public OAuth2CircuitBreakerProperties setFailureRateThreshold(Double failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+        return this;
+    }
+
+    public Duration getSlowCallDurationThreshold() {
+        return slowCallDurationThreshold;
+    }
+
+    public OAuth2CircuitBreakerProperties setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+        this.slowCallDurationThreshold = slowCallDurationThreshold;
+        return this;
+    }
+
+    public Double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public OAuth2CircuitBreakerProperties setSlowCallRateThreshold(Double slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        return this;
+    }
+
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    public OAuth2CircuitBreakerProperties setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+        return this;
+    }
+
+    public Integer getPermittedNumberOfCallsInHalfOpenState() {
+        return permittedNumberOfCallsInHalfOpenState;
+    }
+
+    public OAuth2CircuitBreakerProperties setPermittedNumberOfCallsInHalfOpenState(
+            Integer permittedNumberOfCallsInHalfOpenState) {
+        this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+        return this;
+    }
+
+}
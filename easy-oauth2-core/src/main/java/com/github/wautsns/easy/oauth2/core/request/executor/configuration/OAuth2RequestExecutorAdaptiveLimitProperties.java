@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.configuration;
+
+import java.util.Objects;
+
+/**
+ * OAuth2 request executor adaptive limit properties.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>initialLimit: limit of concurrent requests to a host before any request to it completes.</li>
+ * <li>minLimit: the limit never drops below it.</li>
+ * <li>maxLimit: the limit never exceeds it, {@code null} means {@link
+ * OAuth2RequestExecutorProperties#maxConcurrentRequestsOfHost(String)} of the host (or {@code 1000} if
+ * unlimited).</li>
+ * <li>rttTolerance: a request whose round-trip time is within {@code rttTolerance} times the long-term average is not
+ * considered queued by the provider, so the limit keeps growing.</li>
+ * <li>smoothing: weight of a new estimate when updating the limit, in range (0, 1].</li>
+ * <li>longRttWindow: number of requests that the long-term average round-trip time roughly covers.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorAdaptiveLimitProperties {
+
+    /**
+     * Default oauth2 request executor adaptive limit properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>initialLimit: {@code 20}</li>
+     * <li>minLimit: {@code 1}</li>
+     * <li>maxLimit: {@code null}</li>
+     * <li>rttTolerance: {@code 1.5}</li>
+     * <li>smoothing: {@code 0.2}</li>
+     * <li>longRttWindow: {@code 600}</li>
+     * </ul>
+     */
+    public static final OAuth2RequestExecutorAdaptiveLimitProperties DEFAULT =
+            new OAuth2RequestExecutorAdaptiveLimitProperties()
+                    .setInitialLimit(20)
+                    .setMinLimit(1)
+                    .setRttTolerance(1.5)
+                    .setSmoothing(0.2)
+                    .setLongRttWindow(600);
+
+    // ######################################################################################
+
+    /** Initial limit. */
+    private Integer initialLimit;
+    /** Min limit. */
+    private Integer minLimit;
+    /** Max limit. */
+    private Integer maxLimit;
+    /** Round-trip time tolerance. */
+    private Double rttTolerance;
+    /** Smoothing. */
+    private Double smoothing;
+    /** Long round-trip time window. */
+    private Integer longRttWindow;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return a new instance by copying {@code this} object.
+     *
+     * @return a copy of {@code this} object
+     */
+    public OAuth2RequestExecutorAdaptiveLimitProperties copy() {
+        return new OAuth2RequestExecutorAdaptiveLimitProperties()
+                .setInitialLimit(initialLimit)
+                .setMinLimit(minLimit)
+                .setMaxLimit(maxLimit)
+                .setRttTolerance(rttTolerance)
+                .setSmoothing(smoothing)
+                .setLongRttWindow(longRttWindow);
+    }
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public OAuth2RequestExecutorAdaptiveLimitProperties rewriteNullToDefaultValue() {
+        if (initialLimit == null) { initialLimit = DEFAULT.initialLimit; }
+        if (minLimit == null) { minLimit = DEFAULT.minLimit; }
+        if (maxLimit == null) { maxLimit = DEFAULT.maxLimit; }
+        if (rttTolerance == null) { rttTolerance = DEFAULT.rttTolerance; }
+        if (smoothing == null) { smoothing = DEFAULT.smoothing; }
+        if (longRttWindow == null) { longRttWindow = DEFAULT.longRttWindow; }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### equals / hashCode ###############################################
+    // ######################################################################################
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof OAuth2RequestExecutorAdaptiveLimitProperties)) { return false; }
+        OAuth2RequestExecutorAdaptiveLimitProperties that = (OAuth2RequestExecutorAdaptiveLimitProperties) obj;
+        return Objects.equals(initialLimit, that.initialLimit)
+                && Objects.equals(minLimit, that.minLimit)
+                && Objects.equals(maxLimit, that.maxLimit)
+                && Objects.equals(rttTolerance, that.rttTolerance)
+                && Objects.equals(smoothing, that.smoothing)
+                && Objects.equals(longRttWindow, that.longRttWindow);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hashCode(initialLimit);
+        hash = 31 * hash + Objects.hashCode(minLimit);
+        hash = 31 * hash + Objects.hashCode(maxLimit);
+        hash = 31 * hash + Objects.hashCode(rttTolerance);
+        hash = 31 * hash + Objects.hashCode(smoothing);
+        hash = 31 * hash + Objects.hashCode(longRttWindow);
+        return hash;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2RequestExecutorAdaptiveLimitProperties{" +
+                "initialLimit=" + initialLimit +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", rttTolerance=" + rttTolerance +
+                ", smoothing=" + smoothing +
+                ", longRttWindow=" + longRttWindow +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getInitialLimit() {
+        return initialLimit;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setInitialLimit(Integer initialLimit) {
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    public Integer getMinLimit() {
+        return minLimit;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setMinLimit(Integer minLimit) {
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    public Integer getMaxLimit() {
+        return maxLimit;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    public Double getRttTolerance() {
+        return rttTolerance;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setRttTolerance(Double rttTolerance) {
+        this.rttTolerance = rttTolerance;
+        return this;
+    }
+
+    public Double getSmoothing() {
+        return smoothing;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setSmoothing(Double smoothing) {
+        this.smoothing = smoothing;
+        return this;
+    }
+
+    public Integer getLongRttWindow() {
+        return longRttWindow;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties setLongRttWindow(Integer longRttWindow) {
+        this.longRttWindow = longRttWindow;
+        return this;
+    }
+
+}
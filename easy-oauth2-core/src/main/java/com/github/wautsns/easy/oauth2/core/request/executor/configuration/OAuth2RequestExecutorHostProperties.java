@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.configuration;
+
+import java.util.Objects;
+
+/**
+ * OAuth2 request executor host properties.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>maxConcurrentRequests: max concurrent requests to the host, {@code null} means {@link
+ * OAuth2RequestExecutorProperties#getMaxConcurrentRequestsPerHost()}.</li>
+ * <li>reservedConcurrentRequests: concurrent requests reserved for the host, requests to other hosts can not use the
+ * reserved part of {@link OAuth2RequestExecutorProperties#getMaxConcurrentRequests()}, {@code null} means no
+ * reservation.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorHostProperties {
+
+    /** Max concurrent requests to the host. */
+    private Integer maxConcurrentRequests;
+    /** Concurrent requests reserved for the host. */
+    private Integer reservedConcurrentRequests;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return a new instance by copying {@code this} object.
+     *
+     * @return a copy of {@code this} object
+     */
+    public OAuth2RequestExecutorHostProperties copy() {
+        return new OAuth2RequestExecutorHostProperties()
+                .setMaxConcurrentRequests(maxConcurrentRequests)
+                .setReservedConcurrentRequests(reservedConcurrentRequests);
+    }
+
+    // ######################################################################################
+    // #################### equals / hashCode ###############################################
+    // ######################################################################################
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof OAuth2RequestExecutorHostProperties)) { return false; }
+        OAuth2RequestExecutorHostProperties that = (OAuth2RequestExecutorHostProperties) obj;
+        return Objects.equals(maxConcurrentRequests, that.maxConcurrentRequests)
+                && Objects.equals(reservedConcurrentRequests, that.reservedConcurrentRequests);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hashCode(maxConcurrentRequests) + Objects.hashCode(reservedConcurrentRequests);
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2RequestExecutorHostProperties{" +
+                "maxConcurrentRequests=" + maxConcurrentRequests +
+                ", reservedConcurrentRequests=" + reservedConcurrentRequests +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public OAuth2RequestExecutorHostProperties setMaxConcurrentRequests(Integer maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    public Integer getReservedConcurrentRequests() {
+        return reservedConcurrentRequests;
+    }
+
+    public OAuth2RequestExecutorHostProperties setReservedConcurrentRequests(Integer reservedConcurrentRequests) {
+        this.reservedConcurrentRequests = reservedConcurrentRequests;
+        return this;
+    }
+
+}
@@ -18,6 +18,7 @@ package com.github.wautsns.easy.oauth2.core.request.executor.configuration;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * OAuth2 request executor properties.
@@ -38,6 +39,10 @@ public final class OAuth2RequestExecutorProperties {
      * <li>maxIdleTime: {@code Duration.parse("PT5M")}</li>
      * <li>keepAliveTimeout: {@code Duration.parse("PT3M")}</li>
      * <li>retryTimes: {@code 1}</li>
+     * <li>maxConcurrentRequestsPerHost: {@code null}, which means the same as maxConcurrentRequests</li>
+     * <li>maxQueueLength: {@code null}, which means requests are not queued by the executor</li>
+     * <li>maxQueueWaitTime: {@code null}, which means the same as connectTimeout</li>
+     * <li>adaptiveLimit: {@code null}, which means concurrent requests are not limited adaptively</li>
      * </ul>
      */
     public static final OAuth2RequestExecutorProperties DEFAULT = new OAuth2RequestExecutorProperties()
@@ -66,6 +71,127 @@ public final class OAuth2RequestExecutorProperties {
     private String proxy;
     /** Custom properties. */
     private Map<String, String> custom;
+    /** Max concurrent requests per host, {@code null} means the same as {@link #maxConcurrentRequests}. */
+    private Integer maxConcurrentRequestsPerHost;
+    /** Host properties group by host (case-insensitive), used to override limits and reserve concurrent requests. */
+    private Map<String, OAuth2RequestExecutorHostProperties> hosts;
+    /**
+     * Max count of requests waiting for admission when {@link #maxConcurrentRequests} requests are being executed,
+     * {@code null} means requests are not queued by the executor.
+     */
+    private Integer maxQueueLength;
+    /** Max time that a request waits for admission, {@code null} means the same as {@link #connectTimeout}. */
+    private Duration maxQueueWaitTime;
+    /**
+     * Adaptive limit properties, if set, concurrent requests to each host are limited by a limit adjusted with
+     * observed round-trip time, {@code null} means concurrent requests are not limited adaptively.
+     */
+    private OAuth2RequestExecutorAdaptiveLimitProperties adaptiveLimit;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return a new instance by copying {@code this} object.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The custom properties will be copied, so the copy will not be affected by modifications of {@code this}
+     * object.</li>
+     * </ul>
+     *
+     * @return a copy of {@code this} object
+     */
+    public OAuth2RequestExecutorProperties copy() {
+        OAuth2RequestExecutorProperties copy = new OAuth2RequestExecutorProperties()
+                .setConnectTimeout(connectTimeout)
+                .setReadTimeout(readTimeout)
+                .setMaxConcurrentRequests(maxConcurrentRequests)
+                .setMaxIdleTime(maxIdleTime)
+                .setKeepAliveTimeout(keepAliveTimeout)
+                .setRetryTimes(retryTimes)
+                .setProxy(proxy);
+        if (custom != null) { copy.setCustom(new HashMap<>(custom)); }
+        copy.setMaxConcurrentRequestsPerHost(maxConcurrentRequestsPerHost);
+        if (hosts != null) {
+            Map<String, OAuth2RequestExecutorHostProperties> copiedHosts = new HashMap<>();
+            hosts.forEach((host, properties) -> copiedHosts.put(host, properties.copy()));
+            copy.setHosts(copiedHosts);
+        }
+        copy.setMaxQueueLength(maxQueueLength).setMaxQueueWaitTime(maxQueueWaitTime);
+        if (adaptiveLimit != null) { copy.setAdaptiveLimit(adaptiveLimit.copy()); }
+        return copy;
+    }
+
+    /**
+     * Return whether concurrent requests are partitioned by host.
+     *
+     * @return {@code true} if {@link #maxConcurrentRequestsPerHost} or {@link #hosts} is set, otherwise {@code
+     * false}
+     */
+    public boolean isPartitionedByHost() {
+        return (maxConcurrentRequestsPerHost != null) || ((hosts != null) && !hosts.isEmpty());
+    }
+
+    /**
+     * Return host properties of the given {@code host}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Hosts are case-insensitive, so keys of {@link #hosts} match the {@code host} in any case.</li>
+     * </ul>
+     *
+     * @param host host, {@code null} means hosts without host properties
+     * @return host properties of the {@code host}, or {@code null} if absent
+     */
+    public OAuth2RequestExecutorHostProperties hostProperties(String host) {
+        if ((hosts == null) || (host == null)) { return null; }
+        OAuth2RequestExecutorHostProperties properties = hosts.get(host);
+        if (properties != null) { return properties; }
+        for (Map.Entry<String, OAuth2RequestExecutorHostProperties> entry : hosts.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(host)) { return entry.getValue(); }
+        }
+        return null;
+    }
+
+    /**
+     * Return max concurrent requests to the given {@code host}.
+     *
+     * @param host host (case-insensitive), {@code null} means hosts without host properties
+     * @return max concurrent requests to the {@code host}, or {@code null} if unlimited
+     */
+    public Integer maxConcurrentRequestsOfHost(String host) {
+        OAuth2RequestExecutorHostProperties properties = hostProperties(host);
+        if ((properties != null) && (properties.getMaxConcurrentRequests() != null)) {
+            return properties.getMaxConcurrentRequests();
+        }
+        return (maxConcurrentRequestsPerHost != null) ? maxConcurrentRequestsPerHost : maxConcurrentRequests;
+    }
+
+    /**
+     * Return max concurrent requests to any single host.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The value is the max of {@link #maxConcurrentRequestsOfHost(String)} of all hosts, it can be used as the
+     * default limit per route of connection pools which can not limit routes by host.</li>
+     * </ul>
+     *
+     * @return max concurrent requests to any single host, or {@code null} if unlimited
+     */
+    public Integer maxConcurrentRequestsOfAnyHost() {
+        Integer max = maxConcurrentRequestsOfHost(null);
+        if (max == null) { return null; }
+        if (hosts != null) {
+            for (String host : hosts.keySet()) {
+                Integer limit = maxConcurrentRequestsOfHost(host);
+                if (limit == null) { return null; }
+                max = Math.max(max, limit);
+            }
+        }
+        return max;
+    }
 
     // ######################################################################################
     // #################### enhanced setter #################################################
@@ -85,9 +211,61 @@ public final class OAuth2RequestExecutorProperties {
         if (retryTimes == null) { retryTimes = DEFAULT.retryTimes; }
         if (proxy == null) { proxy = DEFAULT.proxy; }
         if ((custom == null) && (DEFAULT.custom != null)) { custom = new HashMap<>(DEFAULT.custom); }
+        if (maxConcurrentRequestsPerHost == null) {
+            maxConcurrentRequestsPerHost = DEFAULT.maxConcurrentRequestsPerHost;
+        }
+        if (maxQueueLength == null) { maxQueueLength = DEFAULT.maxQueueLength; }
+        if (maxQueueWaitTime == null) { maxQueueWaitTime = DEFAULT.maxQueueWaitTime; }
+        if (adaptiveLimit == null) {
+            adaptiveLimit = (DEFAULT.adaptiveLimit == null) ? null : DEFAULT.adaptiveLimit.copy();
+        } else {
+            adaptiveLimit.rewriteNullToDefaultValue();
+        }
         return this;
     }
 
+    // ######################################################################################
+    // #################### equals / hashCode ###############################################
+    // ######################################################################################
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) { return true; }
+        if (!(obj instanceof OAuth2RequestExecutorProperties)) { return false; }
+        OAuth2RequestExecutorProperties that = (OAuth2RequestExecutorProperties) obj;
+        return Objects.equals(connectTimeout, that.connectTimeout)
+                && Objects.equals(readTimeout, that.readTimeout)
+                && Objects.equals(maxConcurrentRequests, that.maxConcurrentRequests)
+                && Objects.equals(maxIdleTime, that.maxIdleTime)
+                && Objects.equals(keepAliveTimeout, that.keepAliveTimeout)
+                && Objects.equals(retryTimes, that.retryTimes)
+                && Objects.equals(proxy, that.proxy)
+                && Objects.equals(custom, that.custom)
+                && Objects.equals(maxConcurrentRequestsPerHost, that.maxConcurrentRequestsPerHost)
+                && Objects.equals(hosts, that.hosts)
+                && Objects.equals(maxQueueLength, that.maxQueueLength)
+                && Objects.equals(maxQueueWaitTime, that.maxQueueWaitTime)
+                && Objects.equals(adaptiveLimit, that.adaptiveLimit);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = Objects.hashCode(connectTimeout);
+        hash = 31 * hash + Objects.hashCode(readTimeout);
+        hash = 31 * hash + Objects.hashCode(maxConcurrentRequests);
+        hash = 31 * hash + Objects.hashCode(maxIdleTime);
+        hash = 31 * hash + Objects.hashCode(keepAliveTimeout);
+        hash = 31 * hash + Objects.hashCode(retryTimes);
+        hash = 31 * hash + Objects.hashCode(proxy);
+        hash = 31 * hash + Objects.hashCode(custom);
+        hash = 31 * hash + Objects.hashCode(maxConcurrentRequestsPerHost);
+        hash = 31 * hash + Objects.hashCode(hosts);
+        hash = 31 * hash + Objects.hashCode(maxQueueLength);
+        hash = 31 * hash + Objects.hashCode(maxQueueWaitTime);
+        hash = 31 * hash + Objects.hashCode(adaptiveLimit);
+        return hash;
+    }
+
     // ######################################################################################
     // #################### stringifier #####################################################
     // ######################################################################################
@@ -103,6 +281,11 @@ public final class OAuth2RequestExecutorProperties {
                 ", retryTimes=" + retryTimes +
                 ", proxy=" + proxy +
                 ", custom=" + custom +
+                ", maxConcurrentRequestsPerHost=" + maxConcurrentRequestsPerHost +
+                ", hosts=" + hosts +
+                ", maxQueueLength=" + maxQueueLength +
+                ", maxQueueWaitTime=" + maxQueueWaitTime +
+                ", adaptiveLimit=" + adaptiveLimit +
                 '}';
     }
 
@@ -181,4 +364,50 @@ public final class OAuth2RequestExecutorProperties {
         this.custom = custom;
     }
 
+    public Integer getMaxConcurrentRequestsPerHost() {
+        return maxConcurrentRequestsPerHost;
+    }
+
+    public OAuth2RequestExecutorProperties setMaxConcurrentRequestsPerHost(Integer maxConcurrentRequestsPerHost) {
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+        return this;
+    }
+
+    public Map<String, OAuth2RequestExecutorHostProperties> getHosts() {
+        return hosts;
+    }
+
+    public OAuth2RequestExecutorProperties setHosts(Map<String, OAuth2RequestExecutorHostProperties> hosts) {
+        this.hosts = hosts;
+        return this;
+    }
+
+    public Integer getMaxQueueLength() {
+        return maxQueueLength;
+    }
+
+    public OAuth2RequestExecutorProperties setMaxQueueLength(Integer maxQueueLength) {
+        this.maxQueueLength = maxQueueLength;
+        return this;
+    }
+
+    public Duration getMaxQueueWaitTime() {
+        return maxQueueWaitTime;
+    }
+
+    public OAuth2RequestExecutorProperties setMaxQueueWaitTime(Duration maxQueueWaitTime) {
+        this.maxQueueWaitTime = maxQueueWaitTime;
+        return this;
+    }
+
+    public OAuth2RequestExecutorAdaptiveLimitProperties getAdaptiveLimit() {
+        return adaptiveLimit;
+    }
+
+    public OAuth2RequestExecutorProperties setAdaptiveLimit(
+            OAuth2RequestExecutorAdaptiveLimitProperties adaptiveLimit) {
+        this.adaptiveLimit = adaptiveLimit;
+        return this;
+    }
+
 }
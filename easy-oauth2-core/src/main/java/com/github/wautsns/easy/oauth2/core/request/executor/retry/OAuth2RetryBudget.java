@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.retry;
+
+/**
+ * OAuth2 retry budget.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>The budget is a token bucket. Every request deposits {@code ratio} tokens and every retry withdraws one token,
+ * so retries are at most {@code ratio} of requests in the long run, plus a burst of {@code capacity} retries.</li>
+ * <li>When a provider is down, the budget runs out quickly and requests fail after the first attempt, so retries can
+ * not multiply the load on the provider.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RetryBudget {
+
+    /** Tokens deposited by each request. */
+    private final double ratio;
+    /** Max tokens. */
+    private final double capacity;
+    /** Current tokens, guarded by {@code this}. */
+    private double tokens;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return current tokens.
+     *
+     * @return current tokens
+     */
+    public synchronized double tokens() {
+        return tokens;
+    }
+
+    // ######################################################################################
+    // #################### deposit / withdraw ##############################################
+    // ######################################################################################
+
+    /** Deposit tokens for a request. */
+    public synchronized void deposit() {
+        tokens = Math.min(capacity, tokens + ratio);
+    }
+
+    /**
+     * Try to withdraw a token for a retry.
+     *
+     * @return {@code true} if the retry is allowed, otherwise {@code false}
+     */
+    public synchronized boolean tryWithdraw() {
+        if (tokens < 1) { return false; }
+        tokens--;
+        return true;
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance, the bucket is full initially.
+     *
+     * @param ratio tokens deposited by each request
+     * @param capacity max tokens
+     */
+    public OAuth2RetryBudget(double ratio, int capacity) {
+        if (ratio < 0) { throw new IllegalArgumentException("`ratio` must not be negative."); }
+        if (capacity < 0) { throw new IllegalArgumentException("`capacity` must not be negative."); }
+        this.ratio = ratio;
+        this.capacity = capacity;
+        this.tokens = capacity;
+    }
+
+}
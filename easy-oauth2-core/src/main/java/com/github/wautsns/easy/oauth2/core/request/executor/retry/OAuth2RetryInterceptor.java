@@ -0,0 +1,380 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.retry;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2IOException;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestInterceptor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestInterceptorChain;
+import com.github.wautsns.easy.oauth2.core.request.executor.retry.configuration.OAuth2RetryProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth2 retry interceptor.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>A request is attempted at most {@code maxAttempts} times. It is retried if the response status is one of {@code
+ * retryableStatuses}, or it failed with an I/O error or {@link OAuth2RequestSaturatedException}. Errors which will not
+ * go away by retrying (e.g. {@link UnknownHostException}, {@link SSLException}, open circuit breakers) are not
+ * retried.</li>
+ * <li>Requests which are not idempotent ({@code POST} and {@code PATCH}, e.g. exchanging an authorization code for an
+ * access token, which can be used only once) are retried only if they have certainly not been processed by the
+ * provider: the connection could not be established, the executor rejected them before sending, or the response
+ * status is {@code 429}.</li>
+ * <li>Delays between attempts follow decorrelated jitter backoff, i.e. a random duration between {@code baseDelay} and
+ * three times of the previous delay, capped by {@code maxDelay}. If the response has a {@code Retry-After} header,
+ * the delay is at least as long as it; if it is longer than {@code maxDelay}, the response is returned without
+ * retrying.</li>
+ * <li>Retries are limited by a {@linkplain #budget() retry budget} shared by all requests through the interceptor, so
+ * retries can not amplify an outage.</li>
+ * <li>Every attempt goes through the {@linkplain
+ * com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor#admission() admission} of the
+ * executor separately, so no admission is held while backing off.</li>
+ * <li>The interceptor should be added before a {@linkplain
+ * com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker.OAuth2CircuitBreakerInterceptor circuit breaker
+ * interceptor}, so that every attempt is recorded by the circuit breaker and an open circuit breaker stops
+ * retrying.</li>
+ * <li>Executors which retry by themselves (e.g. apache httpclient with {@code retryTimes}) retry I/O errors before the
+ * interceptor sees them, so {@code retryTimes} should be {@code 0} when the interceptor is used.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RetryInterceptor implements OAuth2RequestInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(OAuth2RetryInterceptor.class);
+
+    /** Max attempts. */
+    private final int maxAttempts;
+    /** Base delay in nanoseconds. */
+    private final long baseDelayNanos;
+    /** Max delay in nanoseconds. */
+    private final long maxDelayNanos;
+    /** Retryable statuses. */
+    private final @NotNull Set<Integer> retryableStatuses;
+    /** Retry budget. */
+    private final @NotNull OAuth2RetryBudget budget;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return retry budget.
+     *
+     * @return retry budget
+     */
+    public @NotNull OAuth2RetryBudget budget() {
+        return budget;
+    }
+
+    // ######################################################################################
+    // #################### intercept #######################################################
+    // ######################################################################################
+
+    @Override
+    public @NotNull AbstractOAuth2Response intercept(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) throws OAuth2Exception {
+        budget.deposit();
+        long previousDelayNanos = baseDelayNanos;
+        for (int attempt = 1; ; attempt++) {
+            AbstractOAuth2Response response = null;
+            OAuth2Exception failure = null;
+            try {
+                response = chain.proceed(request);
+            } catch (OAuth2Exception e) {
+                failure = e;
+            }
+            long delayNanos = delayBeforeRetry(request, attempt, response, failure, previousDelayNanos);
+            if (delayNanos < 0) {
+                if (failure != null) { throw failure; }
+                return response;
+            }
+            discard(response);
+            log.debug("Retry request after {}ms. request: {}, attempt: {}, status: {}, failure: {}",
+                    TimeUnit.NANOSECONDS.toMillis(delayNanos), request, attempt,
+                    (response == null) ? null : response.status(), failure);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OAuth2Exception(e);
+            }
+            previousDelayNanos = delayNanos;
+        }
+    }
+
+    @Override
+    public @NotNull CompletableFuture<AbstractOAuth2Response> interceptAsync(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain) {
+        budget.deposit();
+        CompletableFuture<AbstractOAuth2Response> future = new CompletableFuture<>();
+        attemptAsync(request, chain, OAuth2MetricsContext.current(), 1, baseDelayNanos, future);
+        return future;
+    }
+
+    // ######################################################################################
+    // #################### internal ########################################################
+    // ######################################################################################
+
+    /**
+     * Attempt the given {@code request} asynchronously, and retry it later if needed.
+     *
+     * @param request request
+     * @param chain chain
+     * @param metricsContext metrics context of the request, rebound to the thread of retries
+     * @param attempt number of the attempt, starting from {@code 1}
+     * @param previousDelayNanos previous delay in nanoseconds
+     * @param future future to complete with the final outcome
+     */
+    private void attemptAsync(
+            @NotNull OAuth2Request<?> request, @NotNull OAuth2RequestInterceptorChain chain,
+            @Nullable OAuth2MetricsContext metricsContext, int attempt, long previousDelayNanos,
+            @NotNull CompletableFuture<AbstractOAuth2Response> future) {
+        chain.proceedAsync(request).whenComplete((response, throwable) -> {
+            Throwable cause = (throwable == null) ? null : OAuth2FutureUtils.unwrap(throwable);
+            if ((cause != null) && !(cause instanceof OAuth2Exception)) {
+                future.completeExceptionally(cause);
+                return;
+            }
+            long delayNanos = delayBeforeRetry(request, attempt, response, (OAuth2Exception) cause, previousDelayNanos);
+            if (delayNanos < 0) {
+                if (cause == null) {
+                    future.complete(response);
+                } else {
+                    future.completeExceptionally(cause);
+                }
+                return;
+            }
+            discard(response);
+            log.debug("Retry request after {}ms asynchronously. request: {}, attempt: {}, status: {}, failure: {}",
+                    TimeUnit.NANOSECONDS.toMillis(delayNanos), request, attempt,
+                    (response == null) ? null : response.status(), cause);
+            // The timer only hands the retry over, so that blocking executors do not delay other retries.
+            Timer.INSTANCE.schedule(() -> Dispatcher.INSTANCE.execute(() -> {
+                OAuth2MetricsContext previous = (metricsContext == null) ? null : metricsContext.bind();
+                try {
+                    attemptAsync(request, chain, metricsContext, attempt + 1, delayNanos, future);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    if (metricsContext != null) { OAuth2MetricsContext.restore(previous); }
+                }
+            }), delayNanos, TimeUnit.NANOSECONDS);
+        });
+    }
+
+    /**
+     * Return delay before retrying the given {@code request}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>A token of the {@linkplain #budget() retry budget} is withdrawn if the request should be retried.</li>
+     * </ul>
+     *
+     * @param request request
+     * @param attempt number of the attempt, starting from {@code 1}
+     * @param response response, {@code null} if the attempt failed
+     * @param failure failure, {@code null} if the attempt responded
+     * @param previousDelayNanos previous delay in nanoseconds
+     * @return delay in nanoseconds, or {@code -1} if the request should not be retried
+     */
+    private long delayBeforeRetry(
+            @NotNull OAuth2Request<?> request, int attempt, @Nullable AbstractOAuth2Response response,
+            @Nullable OAuth2Exception failure, long previousDelayNanos) {
+        if ((attempt >= maxAttempts) || !isRetryable(request, response, failure)) { return -1; }
+        long upper = Math.min(maxDelayNanos, Math.max(baseDelayNanos, previousDelayNanos) * 3);
+        long delayNanos = (upper <= baseDelayNanos)
+                ? upper
+                : ThreadLocalRandom.current().nextLong(baseDelayNanos, upper + 1);
+        Long retryAfterNanos = (response == null) ? null : retryAfterNanos(response);
+        if (retryAfterNanos != null) {
+            // The provider will not be ready in time, retrying is pointless.
+            if (retryAfterNanos > maxDelayNanos) { return -1; }
+            delayNanos = Math.max(delayNanos, retryAfterNanos);
+        }
+        return budget.tryWithdraw() ? delayNanos : -1;
+    }
+
+    /**
+     * Return whether the given {@code request} can be retried after the outcome of an attempt.
+     *
+     * @param request request
+     * @param response response, {@code null} if the attempt failed
+     * @param failure failure, {@code null} if the attempt responded
+     * @return {@code true} if the request can be retried, otherwise {@code false}
+     */
+    private boolean isRetryable(
+            @NotNull OAuth2Request<?> request, @Nullable AbstractOAuth2Response response,
+            @Nullable OAuth2Exception failure) {
+        boolean idempotent = (request.method() != OAuth2RequestMethod.POST)
+                && (request.method() != OAuth2RequestMethod.PATCH);
+        if (response != null) {
+            int status = response.status();
+            return retryableStatuses.contains(status) && (idempotent || (status == 429));
+        }
+        // Saturated requests have not been sent.
+        if (failure instanceof OAuth2RequestSaturatedException) { return true; }
+        if (!(failure instanceof OAuth2IOException)) { return false; }
+        IOException cause = ((OAuth2IOException) failure).getCause();
+        if ((cause instanceof UnknownHostException) || (cause instanceof SSLException)) { return false; }
+        // The connection could not be established, so the request has not been sent.
+        if ((cause instanceof ConnectException) || (cause instanceof NoRouteToHostException)) { return true; }
+        return idempotent;
+    }
+
+    /**
+     * Return {@code Retry-After} of the given {@code response}.
+     *
+     * @param response response
+     * @return {@code Retry-After} in nanoseconds, or {@code null} if absent or malformed
+     */
+    private static @Nullable Long retryAfterNanos(@NotNull AbstractOAuth2Response response) {
+        String retryAfter = response.firstHeader("Retry-After");
+        if (retryAfter == null) { return null; }
+        retryAfter = retryAfter.trim();
+        try {
+            if (!retryAfter.isEmpty() && retryAfter.chars().allMatch(Character::isDigit)) {
+                return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter));
+            }
+            ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toNanos());
+        } catch (NumberFormatException | DateTimeParseException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Discard the given {@code response}, so that the connection can be reused.
+     *
+     * @param response response, {@code null} if absent
+     */
+    private static void discard(@Nullable AbstractOAuth2Response response) {
+        if (response == null) { return; }
+        try {
+            InputStream body = response.bodyInputStream();
+            if (body != null) { body.close(); }
+        } catch (OAuth2IOException | IOException e) {
+            log.debug("Failed to discard response before retrying.", e);
+        }
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance with {@link OAuth2RetryProperties#DEFAULT}.
+     */
+    public OAuth2RetryInterceptor() {
+        this(OAuth2RetryProperties.DEFAULT);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties retry properties
+     */
+    public OAuth2RetryInterceptor(@NotNull OAuth2RetryProperties properties) {
+        properties.rewriteNullToDefaultValue();
+        if (properties.getMaxAttempts() < 1) { throw new IllegalArgumentException("`maxAttempts` must be positive."); }
+        this.maxAttempts = properties.getMaxAttempts();
+        this.baseDelayNanos = properties.getBaseDelay().toNanos();
+        this.maxDelayNanos = Math.max(baseDelayNanos, properties.getMaxDelay().toNanos());
+        this.retryableStatuses = Collections.unmodifiableSet(new HashSet<>(properties.getRetryableStatuses()));
+        this.budget = new OAuth2RetryBudget(properties.getBudgetRatio(), properties.getBudgetCapacity());
+    }
+
+    // ######################################################################################
+    // #################### timer and dispatcher ############################################
+    // ######################################################################################
+
+    /** Timer shared by all retry interceptors to schedule asynchronous retries. */
+    private static final class Timer {
+
+        /** Instance. */
+        private static final @NotNull ScheduledThreadPoolExecutor INSTANCE = new ScheduledThreadPoolExecutor(
+                1, runnable -> {
+                    Thread thread = new Thread(runnable, "easy-oauth2-retry-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+
+    }
+
+    /**
+     * Dispatcher shared by all retry interceptors to start asynchronous retries.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Threads are bounded by the number of processors and retries beyond them are queued, so that a burst of
+     * retries neither piles up threads nor occupies the common pool of the application.</li>
+     * </ul>
+     */
+    private static final class Dispatcher {
+
+        /** Instance. */
+        private static final @NotNull ThreadPoolExecutor INSTANCE;
+
+        static {
+            int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+            AtomicInteger threadNumber = new AtomicInteger();
+            INSTANCE = new ThreadPoolExecutor(
+                    threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(
+                                runnable, "easy-oauth2-retry-dispatcher-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            INSTANCE.allowCoreThreadTimeOut(true);
+        }
+
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.retry.configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * OAuth2 retry properties.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RetryProperties {
+
+    /**
+     * Default oauth2 retry properties.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>maxAttempts: {@code 3}</li>
+     * <li>baseDelay: {@code Duration.parse("PT0.1S")}</li>
+     * <li>maxDelay: {@code Duration.parse("PT2S")}</li>
+     * <li>retryableStatuses: {@code [429, 502, 503, 504]}</li>
+     * <li>budgetRatio: {@code 0.1}</li>
+     * <li>budgetCapacity: {@code 10}</li>
+     * </ul>
+     */
+    public static final OAuth2RetryProperties DEFAULT = new OAuth2RetryProperties()
+            .setMaxAttempts(3)
+            .setBaseDelay(Duration.parse("PT0.1S"))
+            .setMaxDelay(Duration.parse("PT2S"))
+            .setRetryableStatuses(Collections.unmodifiableSet(new HashSet<>(Arrays.asList(429, 502, 503, 504))))
+            .setBudgetRatio(0.1)
+            .setBudgetCapacity(10);
+
+    // ######################################################################################
+
+    /** Max attempts of a request, including the first attempt. */
+    private Integer maxAttempts;
+    /** Base delay of backoff, also the min delay between attempts. */
+    private Duration baseDelay;
+    /** Max delay between attempts, a {@code Retry-After} longer than it stops retrying. */
+    private Duration maxDelay;
+    /** Response statuses which are retried. */
+    private Set<Integer> retryableStatuses;
+    /** Retry tokens earned by each request, i.e. retries are limited to the ratio of requests in the long run. */
+    private Double budgetRatio;
+    /** Max retry tokens, i.e. max retries in a burst. */
+    private Integer budgetCapacity;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Rewrite properties which value is {@code null} to {@link #DEFAULT} value.
+     *
+     * @return self reference
+     */
+    public OAuth2RetryProperties rewriteNullToDefaultValue() {
+        if (maxAttempts == null) { maxAttempts = DEFAULT.maxAttempts; }
+        if (baseDelay == null) { baseDelay = DEFAULT.baseDelay; }
+        if (maxDelay == null) { maxDelay = DEFAULT.maxDelay; }
+        if (retryableStatuses == null) { retryableStatuses = DEFAULT.retryableStatuses; }
+        if (budgetRatio == null) { budgetRatio = DEFAULT.budgetRatio; }
+        if (budgetCapacity == null) { budgetCapacity = DEFAULT.budgetCapacity; }
+        return this;
+    }
+
+    // ######################################################################################
+    // #################### stringifier #####################################################
+    // ######################################################################################
+
+    @Override
+    public String toString() {
+        return "OAuth2RetryProperties{" +
+                "maxAttempts=" + maxAttempts +
+                ", baseDelay=" + baseDelay +
+                ", maxDelay=" + maxDelay +
+                ", retryableStatuses=" + retryableStatuses +
+                ", budgetRatio=" + budgetRatio +
+                ", budgetCapacity=" + budgetCapacity +
+                '}';
+    }
+
+    // ######################################################################################
+    // #################### getter / setter #################################################
+    // ######################################################################################
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public OAuth2RetryProperties setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public OAuth2RetryProperties setBaseDelay(Duration baseDelay) {
+        this.baseDelay = baseDelay;
+        return this;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public OAuth2RetryProperties setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    public Set<Integer> getRetryableStatuses() {
+        return retryableStatuses;
+    }
+
+    public OAuth2RetryProperties setRetryableStatuses(Set<Integer> retryableStatuses) {
+        this.retryableStatuses = retryableStatuses;
+        return this;
+    }
+
+    public Double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public OAuth2RetryProperties setBudgetRatio(Double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+        return this;
+    }
+
+    public Integer getBudgetCapacity() {
+        return budgetCapacity;
+    }
+
+    public OAuth2RetryProperties setBudgetCapacity(Integer budgetCapacity) {
+        this.budgetCapacity = budgetCapacity;
+        return this;
+    }
+
+}
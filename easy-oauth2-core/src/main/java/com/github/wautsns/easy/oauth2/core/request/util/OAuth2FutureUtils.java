@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.util;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import org.jetbrains.annotations.NotNull;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * OAuth2 future utils.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2FutureUtils {
+
+    // ######################################################################################
+    // #################### new #############################################################
+    // ######################################################################################
+
+    /**
+     * Return a new future that is already completed exceptionally with the given {@code throwable}.
+     *
+     * @param <T> the type of result
+     * @param throwable throwable
+     * @return failed future
+     */
+    public static <T> @NotNull CompletableFuture<T> failedFuture(@NotNull Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Return a new future that is already completed with the result of the given {@code supplier}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The {@code supplier} will be invoked in the calling thread. If it throws an {@link OAuth2Exception} or a
+     * {@link RuntimeException}, the returned future will be completed exceptionally with it.</li>
+     * </ul>
+     *
+     * @param <T> the type of result
+     * @param supplier supplier
+     * @return completed future
+     */
+    public static <T> @NotNull CompletableFuture<T> supply(@NotNull OAuth2Supplier<? extends T> supplier) {
+        try {
+            return CompletableFuture.completedFuture(supplier.get());
+        } catch (OAuth2Exception | RuntimeException e) {
+            return failedFuture(e);
+        }
+    }
+
+    // ######################################################################################
+    // #################### compose #########################################################
+    // ######################################################################################
+
+    /**
+     * Return a new future that is completed with the result of applying the given {@code function} to the result of
+     * the given {@code future}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the {@code function} throws an {@link OAuth2Exception}, the returned future will be completed
+     * exceptionally with a {@link CompletionException} which cause is the exception.</li>
+     * </ul>
+     *
+     * @param <T> the type of result of the {@code future}
+     * @param <R> the type of result of the {@code function}
+     * @param future future
+     * @param function function
+     * @return new future
+     */
+    public static <T, R> @NotNull CompletableFuture<R> thenApply(
+            @NotNull CompletableFuture<T> future, @NotNull OAuth2Function<? super T, ? extends R> function) {
+        return future.thenApply(result -> {
+            try {
+                return function.apply(result);
+            } catch (OAuth2Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    // ######################################################################################
+    // #################### join ############################################################
+    // ######################################################################################
+
+    /**
+     * Wait for the given {@code future} to complete and return its result.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If the {@code future} is completed exceptionally, the {@linkplain #unwrap(Throwable) unwrapped} cause will
+     * be rethrown as is if it is an {@link OAuth2Exception}, a {@link RuntimeException} or an {@link Error},
+     * otherwise it will be wrapped in an {@link OAuth2Exception}.</li>
+     * </ul>
+     *
+     * @param <T> the type of result
+     * @param future future
+     * @return result
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
+    public static <T> T join(@NotNull CompletableFuture<T> future) throws OAuth2Exception {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof OAuth2Exception) {
+                throw (OAuth2Exception) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new OAuth2Exception(cause);
+            }
+        }
+    }
+
+    // ######################################################################################
+    // #################### unwrap ##########################################################
+    // ######################################################################################
+
+    /**
+     * Unwrap the given {@code throwable}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>{@link CompletionException} and {@link ExecutionException} which have cause will be unwrapped recursively,
+     * other throwable will be returned directly.</li>
+     * </ul>
+     *
+     * @param throwable throwable
+     * @return unwrapped throwable
+     */
+    public static @NotNull Throwable unwrap(@NotNull Throwable throwable) {
+        Throwable current = throwable;
+        while (((current instanceof CompletionException) || (current instanceof ExecutionException))
+                && (current.getCause() != null)) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    // ######################################################################################
+    // #################### functional interface ############################################
+    // ######################################################################################
+
+    /**
+     * Supplier which may throw {@link OAuth2Exception}.
+     *
+     * @param <T> the type of result
+     */
+    @FunctionalInterface
+    public interface OAuth2Supplier<T> {
+
+        /**
+         * Get a result.
+         *
+         * @return result
+         * @throws OAuth2Exception if an oauth2 related error occurs
+         */
+        T get() throws OAuth2Exception;
+
+    }
+
+    /**
+     * Function which may throw {@link OAuth2Exception}.
+     *
+     * @param <T> the type of input
+     * @param <R> the type of result
+     */
+    @FunctionalInterface
+    public interface OAuth2Function<T, R> {
+
+        /**
+         * Apply {@code this} function to the given {@code input}.
+         *
+         * @param input input
+         * @return result
+         * @throws OAuth2Exception if an oauth2 related error occurs
+         */
+        R apply(T input) throws OAuth2Exception;
+
+    }
+
+    // ######################################################################################
+
+    /** Utility. */
+    private OAuth2FutureUtils() {}
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.tracing;
+
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * OAuth2 span started by {@link OAuth2Tracer}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public interface OAuth2Span {
+
+    /**
+     * End {@code this} span.
+     *
+     * @param status response status if {@code this} is a span of execution and a response is received, otherwise
+     *         {@code 0}
+     * @param throwable unwrapped throwable if failed, otherwise {@code null}
+     */
+    void end(int status, @Nullable Throwable throwable);
+
+    /**
+     * End {@code this} span of execution with the received {@code response}.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Implementations may override it to obtain more information (e.g. headers) from the response, the body
+     * should not be read.</li>
+     * </ul>
+     *
+     * @param response received response
+     */
+    default void end(@NotNull AbstractOAuth2Response response) {
+        end(response.status(), null);
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.tracing;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * OAuth2 tracer.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>A span is started for every operation of oauth2 client, and a child span is started for every execution of
+ * request during the operation.</li>
+ * <li>Spans are passed explicitly rather than through thread locals, so asynchronous executions completed in I/O
+ * threads still have the right parent.</li>
+ * <li>Methods may be invoked in I/O threads of the request executor, so implementations should be thread-safe and
+ * should return quickly. Exceptions thrown by implementations will not be caught.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public interface OAuth2Tracer {
+
+    /**
+     * Start a span of an operation of oauth2 client.
+     *
+     * @param parent span of the enclosing operation (e.g. refreshing token automatically during exchanging token for
+     *         user), or {@code null} if there is none
+     * @param platform platform identifier
+     * @param operation operation
+     * @return started span
+     */
+    @NotNull OAuth2Span startOperation(
+            @Nullable OAuth2Span parent, @NotNull String platform, @NotNull OAuth2ClientOperation operation);
+
+    /**
+     * Start a span of an execution of request.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The query of the request url may contain secrets (e.g. client secret, access token), implementations
+     * should only use {@link com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL#urlWithoutQueryAndAnchor()
+     * urlWithoutQueryAndAnchor}.</li>
+     * </ul>
+     *
+     * @param parent span of the operation during which the request is executed
+     * @param request request
+     * @return started span
+     */
+    @NotNull OAuth2Span startExecution(@NotNull OAuth2Span parent, @NotNull OAuth2Request<?> request);
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client;
+
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub.StubToken;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test {@link AbstractTokenRefreshableOAuth2Client}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class AbstractTokenRefreshableOAuth2ClientTest {
+
+    @Test
+    public void testConcurrentRefreshingIsCoalesced() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(request -> {
+            entered.countDown();
+            awaitQuietly(released);
+            return OAuth2RequestExecutorBasedOnStub.response(200);
+        });
+        AtomicInteger callbacks = new AtomicInteger();
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, Clock.systemUTC())) {
+            client.callbacksAfterRefreshingToken().add((token, refreshedToken) -> callbacks.incrementAndGet());
+            StubToken token = initializeToken();
+            List<CompletableFuture<StubToken>> futures = new ArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                CompletableFuture<StubToken> future = new CompletableFuture<>();
+                futures.add(future);
+                threads.add(new Thread(() -> {
+                    try {
+                        future.complete(client.refreshToken(token));
+                    } catch (Throwable e) {
+                        future.completeExceptionally(e);
+                    }
+                }));
+            }
+            // The first caller sends the request and holds it until the others join.
+            threads.get(0).start();
+            Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < threads.size(); i++) { threads.get(i).start(); }
+            for (int i = 1; i < threads.size(); i++) { awaitWaiting(threads.get(i)); }
+            released.countDown();
+            for (CompletableFuture<StubToken> future : futures) {
+                Assert.assertEquals("refresh-1", future.get(5, TimeUnit.SECONDS).refreshToken());
+            }
+            Assert.assertEquals(1, executor.executions());
+            Assert.assertEquals(1, callbacks.get());
+            // The in-flight refreshing is removed after completion, so the next refreshing sends a new request.
+            Assert.assertEquals("refresh-2", client.refreshToken(token).refreshToken());
+            Assert.assertEquals(2, executor.executions());
+        }
+    }
+
+    @Test
+    public void testConcurrentRefreshingIsCoalescedAsynchronously() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(request -> {
+            entered.countDown();
+            awaitQuietly(released);
+            return OAuth2RequestExecutorBasedOnStub.response(200);
+        });
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, Clock.systemUTC())) {
+            StubToken token = initializeToken();
+            // The stub executor responds in the calling thread, so start the first refreshing in another thread.
+            CompletableFuture<StubToken> first = refreshTokenAsyncInAnotherThread(client, token);
+            Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            // Later callers join the in-flight refreshing instead of sending requests.
+            List<CompletableFuture<StubToken>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) { futures.add(client.refreshTokenAsync(token)); }
+            for (CompletableFuture<StubToken> future : futures) { Assert.assertFalse(future.isDone()); }
+            released.countDown();
+            Assert.assertEquals("refresh-1", first.get(5, TimeUnit.SECONDS).refreshToken());
+            for (CompletableFuture<StubToken> future : futures) {
+                Assert.assertEquals("refresh-1", future.get(5, TimeUnit.SECONDS).refreshToken());
+            }
+            Assert.assertEquals(1, executor.executions());
+        }
+    }
+
+    @Test
+    public void testFailedRefreshingIsShared() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(request -> {
+            entered.countDown();
+            awaitQuietly(released);
+            throw new IOException("Connection reset.");
+        });
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, Clock.systemUTC())) {
+            StubToken token = initializeToken();
+            CompletableFuture<StubToken> first = refreshTokenAsyncInAnotherThread(client, token);
+            Assert.assertTrue(entered.await(5, TimeUnit.SECONDS));
+            CompletableFuture<StubToken> joined = client.refreshTokenAsync(token);
+            released.countDown();
+            Assert.assertTrue(awaitFailure(first));
+            Assert.assertTrue(awaitFailure(joined));
+            Assert.assertEquals(1, executor.executions());
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize a token to refresh.
+     *
+     * @return token
+     */
+    private static StubToken initializeToken() {
+        return new StubToken(OAuth2DataUtils.newObjectNode()
+                .put("access_token", "access-0")
+                .put("refresh_token", "refresh-0"), Instant.now());
+    }
+
+    /**
+     * Refresh the given {@code token} asynchronously in another thread.
+     *
+     * @param client client
+     * @param token token
+     * @return future of refreshed token
+     */
+    private static CompletableFuture<StubToken> refreshTokenAsyncInAnotherThread(
+            OAuth2ClientBasedOnStub client, StubToken token) {
+        return CompletableFuture.supplyAsync(() -> client.refreshTokenAsync(token)).thenCompose(Function.identity());
+    }
+
+    /**
+     * Wait until the given {@code thread} is waiting (for the in-flight refreshing).
+     *
+     * @param thread thread
+     * @throws InterruptedException if interrupted
+     */
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+    }
+
+    /**
+     * Wait for the given {@code latch} without throwing.
+     *
+     * @param latch latch
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the given {@code future} and return whether it is failed.
+     *
+     * @param future future
+     * @return {@code true} if the future is failed, otherwise {@code false}
+     */
+    private static boolean awaitFailure(CompletableFuture<?> future) {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return false;
+        } catch (Exception e) {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.wautsns.easy.oauth2.core.client.configuration.AbstractOAuth2ApplicationProperties;
+import com.github.wautsns.easy.oauth2.core.client.configuration.AbstractOAuth2AuthorizationProperties;
+import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeCallbackQueryForToken;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeCallbackQueryForUser;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeCallbackQueryForUserIdentifier;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUser;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUserIdentifier;
+import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIRefreshToken;
+import com.github.wautsns.easy.oauth2.core.client.function.operation.OAuth2OperationInitializeAuthorizeURL;
+import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
+import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth2 client based on stub, which sends requests with {@link OAuth2RequestExecutorBasedOnStub} and issues tokens
+ * by itself.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Issued tokens are numbered, e.g. the first token is {@code access-1} with refresh token {@code refresh-1}, and
+ * their access token is valid for {@link #ACCESS_TOKEN_VALID_TIME}.</li>
+ * <li>Users are identified by the access token exchanged for them.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2ClientBasedOnStub extends AbstractTokenRefreshableOAuth2Client<OAuth2ClientBasedOnStub.StubApplicationProperties, OAuth2ClientBasedOnStub.StubAuthorizationProperties, OAuth2ClientBasedOnStub.StubToken, OAuth2ClientBasedOnStub.StubUser> {
+
+    /** Platform identifier. */
+    public static final @NotNull String PLATFORM = "stub";
+    /** Url of token endpoint. */
+    public static final @NotNull String TOKEN_URL = "https://stub.invalid/token";
+    /** Url of user endpoint. */
+    public static final @NotNull String USER_URL = "https://stub.invalid/user";
+    /** Valid time of access token. */
+    public static final @NotNull Duration ACCESS_TOKEN_VALID_TIME = Duration.ofHours(2);
+
+    /** Number of issued tokens. */
+    private final @NotNull AtomicInteger issuedTokens = new AtomicInteger();
+
+    // #########################################################################################
+    // #################### oauth2 function ####################################################
+    // #########################################################################################
+
+    @Override
+    protected @NotNull OAuth2OperationInitializeAuthorizeURL initializeOAuth2OperationInitializeAuthorizeURL() {
+        return state -> {
+            OAuth2URL url = new OAuth2URL("https://stub.invalid/authorize", 1);
+            url.query().unique("state", state);
+            return url;
+        };
+    }
+
+    @Override
+    protected @NotNull OAuth2APIExchangeCallbackQueryForToken<StubToken> initializeOAuth2APIExchangeCallbackQueryForToken() {
+        return query -> issueToken();
+    }
+
+    @Override
+    protected @NotNull OAuth2APIRefreshToken<StubToken> initializeOAuth2APIRefreshToken() {
+        return token -> issueToken();
+    }
+
+    @Override
+    protected @NotNull OAuth2APIExchangeTokenForUserIdentifier<StubToken> initializeOAuth2APIExchangeTokenForUserIdentifierWithoutTryingToRefreshTokenAutomatically() {
+        return token -> requestUser(token).identifier();
+    }
+
+    @Override
+    protected @NotNull OAuth2APIExchangeTokenForUser<StubToken, StubUser> initializeOAuth2APIExchangeTokenForUserWithoutTryingToRefreshTokenAutomatically() {
+        return this::requestUser;
+    }
+
+    @Override
+    protected @NotNull OAuth2APIExchangeCallbackQueryForUserIdentifier initializeOAuth2APIExchangeCallbackQueryForUserIdentifier() {
+        return query -> exchangeForUserIdentifier(exchangeForToken(query));
+    }
+
+    @Override
+    protected @NotNull OAuth2APIExchangeCallbackQueryForUser<StubUser> initializeOAuth2APIExchangeCallbackQueryForUser() {
+        return query -> exchangeForUser(exchangeForToken(query));
+    }
+
+    // ######################################################################################
+
+    /**
+     * Request the token endpoint and issue a new token.
+     *
+     * @return new token
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
+    private @NotNull StubToken issueToken() throws OAuth2Exception {
+        metadata.requestExecutor().execute(new OAuth2Request<>(OAuth2RequestMethod.POST, new OAuth2URL(TOKEN_URL, 0)));
+        int number = issuedTokens.incrementAndGet();
+        return new StubToken(OAuth2DataUtils.newObjectNode()
+                .put("access_token", "access-" + number)
+                .put("refresh_token", "refresh-" + number), metadata.clock().instant());
+    }
+
+    /**
+     * Request the user endpoint with the given {@code token}.
+     *
+     * @param token token
+     * @return user identified by the access token
+     * @throws OAuth2Exception if an oauth2 related error occurs
+     */
+    private @NotNull StubUser requestUser(@NotNull StubToken token) throws OAuth2Exception {
+        metadata.requestExecutor().execute(new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL(USER_URL, 0)));
+        return new StubUser(OAuth2DataUtils.newObjectNode().put("id", token.accessToken()));
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param requestExecutor request executor
+     * @param clock clock
+     */
+    public OAuth2ClientBasedOnStub(@NotNull OAuth2RequestExecutorBasedOnStub requestExecutor, @NotNull Clock clock) {
+        super(new OAuth2ClientMetadata<>(
+                PLATFORM, new StubApplicationProperties(), new StubAuthorizationProperties(), requestExecutor, clock
+        ));
+    }
+
+    // ######################################################################################
+    // #################### model ###########################################################
+    // ######################################################################################
+
+    /** Stub application properties. */
+    public static final class StubApplicationProperties extends AbstractOAuth2ApplicationProperties {
+
+        @Override
+        public @NotNull String platformIdentifier() {
+            return PLATFORM;
+        }
+
+        @Override
+        public void validate() {}
+
+    }
+
+    /** Stub authorization properties. */
+    public static final class StubAuthorizationProperties extends AbstractOAuth2AuthorizationProperties {
+
+        @Override
+        public @NotNull String platformIdentifier() {
+            return PLATFORM;
+        }
+
+        @Override
+        public void validate() {}
+
+    }
+
+    /** Stub token. */
+    public static final class StubToken extends AbstractRefreshableOAuth2Token {
+
+        @Override
+        public @NotNull String platformIdentifier() {
+            return PLATFORM;
+        }
+
+        @Override
+        public @NotNull String accessToken() {
+            return raw.path("access_token").asText();
+        }
+
+        @Override
+        public @NotNull Duration accessTokenValidTime() {
+            return ACCESS_TOKEN_VALID_TIME;
+        }
+
+        @Override
+        public @NotNull String refreshToken() {
+            return raw.path("refresh_token").asText();
+        }
+
+        @Override
+        public @NotNull Duration refreshTokenValidTime() {
+            return ACCESS_TOKEN_VALID_TIME.multipliedBy(12);
+        }
+
+        /**
+         * Construct an instance restored from the given {@code raw} token.
+         *
+         * @param raw raw
+         * @param clock clock
+         */
+        public StubToken(@NotNull JsonNode raw, @NotNull Clock clock) {
+            super(raw, clock);
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param raw raw
+         * @param issuedAt issued at
+         */
+        public StubToken(@NotNull JsonNode raw, @NotNull Instant issuedAt) {
+            super(raw, issuedAt);
+        }
+
+    }
+
+    /** Stub user. */
+    public static final class StubUser extends AbstractOAuth2User {
+
+        @Override
+        public @NotNull String platformIdentifier() {
+            return PLATFORM;
+        }
+
+        @Override
+        public @NotNull String identifier() {
+            return raw.path("id").asText();
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param raw raw
+         */
+        public StubUser(@NotNull JsonNode raw) {
+            super(raw);
+        }
+
+    }
+
+}
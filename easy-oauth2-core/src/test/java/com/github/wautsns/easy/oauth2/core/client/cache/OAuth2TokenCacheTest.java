@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.cache;
+
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub.StubToken;
+import com.github.wautsns.easy.oauth2.core.client.cache.configuration.OAuth2TokenCacheProperties;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2TokenCache}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2TokenCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        OAuth2TokenCache<String> cache = new OAuth2TokenCache<>(new OAuth2TokenCacheProperties());
+        Assert.assertNull(cache.get(token(1)));
+        cache.put(token(1), "user-1");
+        Assert.assertEquals("user-1", cache.get(token(1)));
+        // Tokens are identified by their access token rather than the token instance.
+        Assert.assertEquals("user-1", cache.get(token(1)));
+        Assert.assertNull(cache.get(token(2)));
+        cache.invalidate(token(1));
+        Assert.assertNull(cache.get(token(1)));
+        cache.put(token(1), "user-1");
+        cache.put(token(2), "user-2");
+        cache.invalidateAll();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testHitAndMissCount() {
+        OAuth2TokenCache<String> cache = new OAuth2TokenCache<>(new OAuth2TokenCacheProperties());
+        cache.get(token(1));
+        cache.put(token(1), "user-1");
+        cache.get(token(1));
+        cache.get(token(1));
+        cache.get(token(2));
+        Assert.assertEquals(2, cache.hits());
+        Assert.assertEquals(2, cache.misses());
+        // Invalidation does not count.
+        cache.invalidate(token(1));
+        Assert.assertEquals(2, cache.hits());
+        Assert.assertEquals(2, cache.misses());
+    }
+
+    @Test
+    public void testTimeToLive() throws InterruptedException {
+        OAuth2TokenCache<String> cache = new OAuth2TokenCache<>(new OAuth2TokenCacheProperties()
+                .setTimeToLive(Duration.ofMillis(100)));
+        cache.put(token(1), "user-1");
+        Assert.assertEquals("user-1", cache.get(token(1)));
+        TimeUnit.MILLISECONDS.sleep(200);
+        // Expired entries are treated as misses and removed when read.
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNull(cache.get(token(1)));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(1, cache.hits());
+        Assert.assertEquals(1, cache.misses());
+        // Putting again renews the entry.
+        cache.put(token(1), "user-1'");
+        Assert.assertEquals("user-1'", cache.get(token(1)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        // Small caches have only one segment, so the eviction is exactly LRU.
+        OAuth2TokenCache<String> cache = new OAuth2TokenCache<>(new OAuth2TokenCacheProperties().setMaxSize(2));
+        cache.put(token(1), "user-1");
+        cache.put(token(2), "user-2");
+        // Reading token 1 makes token 2 the least recently used.
+        Assert.assertEquals("user-1", cache.get(token(1)));
+        cache.put(token(3), "user-3");
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("user-1", cache.get(token(1)));
+        Assert.assertNull(cache.get(token(2)));
+        Assert.assertEquals("user-3", cache.get(token(3)));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvictionPerSegment() {
+        // Large caches are split into 16 segments, each of which holds at most 1024 / 16 entries.
+        OAuth2TokenCache<String> cache = new OAuth2TokenCache<>(new OAuth2TokenCacheProperties().setMaxSize(1024));
+        cache.put(token(0), "user-0");
+        for (int i = 1; i <= 4096; i++) {
+            cache.put(token(i), "user-" + i);
+            // Token 0 keeps being used, so it is never the eldest of its segment.
+            Assert.assertEquals("user-0", cache.get(token(0)));
+        }
+        // Each segment receives far more than 64 entries, so every segment is full.
+        Assert.assertEquals(1024, cache.size());
+        int survivors = 0;
+        for (int i = 1; i <= 4096; i++) {
+            if (cache.get(token(i)) != null) { survivors++; }
+        }
+        Assert.assertEquals(1023, survivors);
+        // The most recently put entries are kept by their segments.
+        Assert.assertEquals("user-4096", cache.get(token(4096)));
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize token with the given {@code number}.
+     *
+     * @param number number
+     * @return token
+     */
+    private static StubToken token(int number) {
+        return new StubToken(OAuth2DataUtils.newObjectNode()
+                .put("access_token", "access-" + number)
+                .put("refresh_token", "refresh-" + number), Instant.now());
+    }
+
+}
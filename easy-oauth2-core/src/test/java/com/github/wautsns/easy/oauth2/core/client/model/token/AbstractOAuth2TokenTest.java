@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.model.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub.StubToken;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Test {@link AbstractOAuth2Token}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class AbstractOAuth2TokenTest {
+
+    /** Issued at of tokens. */
+    private static final Instant ISSUED_AT = Instant.parse("2026-10-16T00:00:00Z");
+
+    // ######################################################################################
+
+    @Test
+    public void testIsAccessTokenExpired() {
+        StubToken token = new StubToken(initializeRaw(), ISSUED_AT);
+        Duration validTime = OAuth2ClientBasedOnStub.ACCESS_TOKEN_VALID_TIME;
+        Assert.assertEquals(ISSUED_AT.plus(validTime), token.accessTokenExpiresAt());
+        Assert.assertFalse(token.isAccessTokenExpired(fixedClock(ISSUED_AT)));
+        Assert.assertFalse(token.isAccessTokenExpired(fixedClock(ISSUED_AT.plus(validTime).minusMillis(1))));
+        // The access token expires exactly at the expiration instant.
+        Assert.assertTrue(token.isAccessTokenExpired(fixedClock(ISSUED_AT.plus(validTime))));
+        Assert.assertTrue(token.isAccessTokenExpired(fixedClock(ISSUED_AT.plus(validTime).plusSeconds(1))));
+        Assert.assertFalse(token.isRefreshTokenExpired(fixedClock(ISSUED_AT.plus(validTime))));
+        Assert.assertTrue(token.isRefreshTokenExpired(fixedClock(ISSUED_AT.plus(token.refreshTokenValidTime()))));
+    }
+
+    @Test
+    public void testIssuedAtIsTakenFromClock() {
+        StubToken token = new StubToken(initializeRaw(), fixedClock(ISSUED_AT));
+        Assert.assertEquals(ISSUED_AT, token.issuedAt());
+        Assert.assertFalse(token.isAccessTokenExpired(fixedClock(ISSUED_AT.plusSeconds(1))));
+    }
+
+    @Test
+    public void testIssuedAtIsPersistedAndRestored() throws Exception {
+        StubToken token = new StubToken(initializeRaw(), ISSUED_AT);
+        Assert.assertEquals(ISSUED_AT.toEpochMilli(), token.raw().path(AbstractOAuth2Token.ISSUED_AT).asLong());
+        // Persist the raw token and restore it later, issued at is restored rather than taken from the clock.
+        JsonNode persisted = OAuth2DataUtils.readJSONAsTree(
+                new ByteArrayInputStream(OAuth2DataUtils.writeObjectAsJSONBytes(token.raw()))
+        );
+        Instant later = ISSUED_AT.plus(Duration.ofDays(1));
+        StubToken restoredToken = new StubToken(persisted, fixedClock(later));
+        Assert.assertEquals(ISSUED_AT, restoredToken.issuedAt());
+        Assert.assertTrue(restoredToken.isAccessTokenExpired(fixedClock(later)));
+    }
+
+    @Test
+    public void testRawIsNotModified() {
+        ObjectNode raw = initializeRaw();
+        StubToken token = new StubToken(raw, ISSUED_AT);
+        Assert.assertFalse(raw.has(AbstractOAuth2Token.ISSUED_AT));
+        Assert.assertNotSame(raw, token.raw());
+        // Reusing the raw token does not carry issued at of the previous token.
+        Instant later = ISSUED_AT.plus(Duration.ofDays(1));
+        Assert.assertEquals(later, new StubToken(raw, fixedClock(later)).issuedAt());
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize raw token.
+     *
+     * @return raw token
+     */
+    private static ObjectNode initializeRaw() {
+        return OAuth2DataUtils.newObjectNode()
+                .put("access_token", "access-0")
+                .put("refresh_token", "refresh-0");
+    }
+
+    /**
+     * Return a clock fixed at the given {@code instant}.
+     *
+     * @param instant instant
+     * @return clock
+     */
+    private static Clock fixedClock(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+
+}
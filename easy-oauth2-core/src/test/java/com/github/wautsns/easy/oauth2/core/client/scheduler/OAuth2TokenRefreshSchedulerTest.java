@@ -0,0 +1,273 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.client.scheduler;
+
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub.StubToken;
+import com.github.wautsns.easy.oauth2.core.client.scheduler.configuration.OAuth2TokenRefreshSchedulerProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Test {@link OAuth2TokenRefreshScheduler}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2TokenRefreshSchedulerTest {
+
+    /** Start instant of the fake clock. */
+    private static final Instant START = Instant.parse("2026-10-16T00:00:00Z");
+
+    // ######################################################################################
+
+    @Test
+    public void testJitteredScheduling() {
+        FakeClock clock = new FakeClock(START);
+        OAuth2RequestExecutorBasedOnStub executor = initializeExecutor();
+        OAuth2TokenRefreshSchedulerProperties properties = new OAuth2TokenRefreshSchedulerProperties()
+                .setAdvance(Duration.ofMinutes(10))
+                .setJitter(Duration.ofMinutes(10));
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, clock);
+             OAuth2TokenRefreshScheduler<StubToken> scheduler = new OAuth2TokenRefreshScheduler<>(client, properties)) {
+            Duration validTime = OAuth2ClientBasedOnStub.ACCESS_TOKEN_VALID_TIME;
+            Set<Long> delayMinutes = new HashSet<>();
+            for (int i = 0; i < 64; i++) {
+                StubToken token = initializeToken(i, START);
+                scheduler.register(token);
+                Duration delay = scheduler.delay(token);
+                Assert.assertNotNull(delay);
+                // Refreshed ahead of expiration by the advance plus a random jitter.
+                Assert.assertTrue(delay.toString(), delay.compareTo(validTime.minusMinutes(20)) >= 0);
+                Assert.assertTrue(delay.toString(), delay.compareTo(validTime.minusMinutes(10)) <= 0);
+                delayMinutes.add(delay.toMinutes());
+            }
+            Assert.assertEquals(64, scheduler.size());
+            // Refreshing of tokens issued at the same time is spread out.
+            Assert.assertTrue(delayMinutes.toString(), delayMinutes.size() > 1);
+            Assert.assertEquals(0, executor.executions());
+        }
+    }
+
+    @Test
+    public void testSchedulingByClock() {
+        FakeClock clock = new FakeClock(START);
+        OAuth2RequestExecutorBasedOnStub executor = initializeExecutor();
+        OAuth2TokenRefreshSchedulerProperties properties = new OAuth2TokenRefreshSchedulerProperties()
+                .setAdvance(Duration.ofMinutes(10))
+                .setJitter(Duration.ZERO);
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, clock);
+             OAuth2TokenRefreshScheduler<StubToken> scheduler = new OAuth2TokenRefreshScheduler<>(client, properties)) {
+            StubToken token = initializeToken(0, START);
+            clock.advance(Duration.ofMinutes(50));
+            scheduler.register(token);
+            // The delay is computed with the clock of the client: 2h - 50min (elapsed) - 10min (advance).
+            assertApproximatelyEquals(Duration.ofMinutes(60), scheduler.delay(token));
+        }
+    }
+
+    @Test
+    public void testReschedulingAfterRefreshing() throws Exception {
+        FakeClock clock = new FakeClock(START);
+        OAuth2RequestExecutorBasedOnStub executor = initializeExecutor();
+        OAuth2TokenRefreshSchedulerProperties properties = new OAuth2TokenRefreshSchedulerProperties()
+                .setAdvance(Duration.ofMinutes(10))
+                .setJitter(Duration.ZERO);
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, clock);
+             OAuth2TokenRefreshScheduler<StubToken> scheduler = new OAuth2TokenRefreshScheduler<>(client, properties)) {
+            // The token is about to expire, so it is refreshed immediately.
+            StubToken token = initializeToken(0, START.minus(Duration.ofHours(2)));
+            scheduler.register(token);
+            awaitTrue(() -> executor.executions() == 1 && scheduler.delay(token) == null);
+            // The refreshed token (issued now) replaces the old one and is scheduled ahead of its expiration.
+            StubToken refreshedToken = initializeToken(1, START);
+            awaitTrue(() -> scheduler.delay(refreshedToken) != null);
+            Assert.assertEquals(1, scheduler.size());
+            assertApproximatelyEquals(Duration.ofMinutes(110), scheduler.delay(refreshedToken));
+            // Tokens refreshed by others are rescheduled too.
+            clock.advance(Duration.ofMinutes(30));
+            Assert.assertEquals("refresh-2", client.refreshToken(refreshedToken).refreshToken());
+            Assert.assertNull(scheduler.delay(refreshedToken));
+            assertApproximatelyEquals(Duration.ofMinutes(110), scheduler.delay(initializeToken(2, clock.instant())));
+            Assert.assertEquals(1, scheduler.size());
+            Assert.assertEquals(2, executor.executions());
+        }
+    }
+
+    @Test
+    public void testUnregisteringWhileRefreshingIsFailing() throws Exception {
+        FakeClock clock = new FakeClock(START);
+        CountDownLatch failing = new CountDownLatch(1);
+        CountDownLatch unregistered = new CountDownLatch(1);
+        AtomicInteger attempts = new AtomicInteger();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(request -> {
+            // The first attempt fails and is retried, the second one fails after the token is unregistered.
+            if (attempts.incrementAndGet() == 2) {
+                failing.countDown();
+                try {
+                    Assert.assertTrue(unregistered.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            throw new IOException("stub failure");
+        });
+        OAuth2TokenRefreshSchedulerProperties properties = new OAuth2TokenRefreshSchedulerProperties()
+                .setJitter(Duration.ZERO)
+                .setRetryInterval(Duration.ZERO);
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, clock);
+             OAuth2TokenRefreshScheduler<StubToken> scheduler = new OAuth2TokenRefreshScheduler<>(client, properties)) {
+            StubToken token = initializeToken(0, START.minus(Duration.ofHours(2)));
+            scheduler.register(token);
+            Assert.assertTrue(failing.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(scheduler.unregister(token));
+            unregistered.countDown();
+            // The failed refreshing must not register the token again.
+            Thread.sleep(200);
+            Assert.assertEquals(0, scheduler.size());
+            Assert.assertNull(scheduler.delay(token));
+            Assert.assertEquals(2, attempts.get());
+        }
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        FakeClock clock = new FakeClock(START);
+        OAuth2RequestExecutorBasedOnStub executor = initializeExecutor();
+        try (OAuth2ClientBasedOnStub client = new OAuth2ClientBasedOnStub(executor, clock)) {
+            OAuth2TokenRefreshScheduler<StubToken> scheduler =
+                    new OAuth2TokenRefreshScheduler<>(client, new OAuth2TokenRefreshSchedulerProperties());
+            Assert.assertEquals(1, client.callbacksAfterRefreshingToken().size());
+            StubToken token = initializeToken(0, START);
+            scheduler.register(token);
+            scheduler.close();
+            // Registered tokens are dropped and the callback is removed from the client.
+            Assert.assertEquals(0, scheduler.size());
+            Assert.assertTrue(client.callbacksAfterRefreshingToken().isEmpty());
+            // Refreshing and registering after closing do not fail.
+            Assert.assertEquals("refresh-1", client.refreshTokenAsync(token).get(5, TimeUnit.SECONDS).refreshToken());
+            scheduler.register(token);
+            Assert.assertEquals(0, scheduler.size());
+            scheduler.close();
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize executor which always responds with {@code 200}.
+     *
+     * @return executor
+     */
+    private static OAuth2RequestExecutorBasedOnStub initializeExecutor() {
+        return new OAuth2RequestExecutorBasedOnStub(request -> OAuth2RequestExecutorBasedOnStub.response(200));
+    }
+
+    /**
+     * Initialize token numbered as the stub client does.
+     *
+     * @param number number
+     * @param issuedAt issued at
+     * @return token
+     */
+    private static StubToken initializeToken(int number, Instant issuedAt) {
+        return new StubToken(OAuth2DataUtils.newObjectNode()
+                .put("access_token", "access-" + number)
+                .put("refresh_token", "refresh-" + number), issuedAt);
+    }
+
+    /**
+     * Assert that the {@code actual} delay approximately equals to the {@code expected} one.
+     *
+     * @param expected expected delay
+     * @param actual actual delay
+     */
+    private static void assertApproximatelyEquals(Duration expected, Duration actual) {
+        Assert.assertNotNull(actual);
+        Assert.assertTrue(actual.toString(), Math.abs(expected.minus(actual).toMillis()) < 5_000);
+    }
+
+    /**
+     * Wait until the given {@code condition} is {@code true}.
+     *
+     * @param condition condition
+     */
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.yield();
+        }
+    }
+
+    // ######################################################################################
+
+    /** Fake clock which only moves when advanced. */
+    private static final class FakeClock extends Clock {
+
+        /** Current instant. */
+        private volatile Instant instant;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        /**
+         * Advance {@code this} clock.
+         *
+         * @param duration duration to advance
+         */
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param instant start instant
+         */
+        FakeClock(Instant instant) {
+            this.instant = instant;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2MetricsRecorderBasedOnLongAdder}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2MetricsRecorderBasedOnLongAdderTest {
+
+    @Test
+    public void testRecord() {
+        OAuth2MetricsRecorderBasedOnLongAdder recorder = new OAuth2MetricsRecorderBasedOnLongAdder();
+        for (int i = 1; i <= 100; i++) {
+            recorder.recordOperation("github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, millis(i), null);
+        }
+        recorder.recordOperation("github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, millis(5), new IOException());
+        recorder.recordExecution("github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, 304, millis(1), null);
+        recorder.recordExecution("github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER, 304, millis(3), null);
+        OAuth2MetricsSnapshot snapshot = recorder.snapshot();
+        Assert.assertEquals(2, snapshot.operations().size());
+        OAuth2MetricsSnapshot.Meter succeeded = meter(snapshot.operations(), null);
+        Assert.assertEquals(100, succeeded.count());
+        Assert.assertEquals(millis(100), succeeded.maxNanos());
+        Assert.assertEquals(millis(5050) / 100, succeeded.meanNanos());
+        assertApproximatelyEquals(millis(50), succeeded.percentileNanos(50.0));
+        assertApproximatelyEquals(millis(99), succeeded.percentileNanos(99.0));
+        Assert.assertEquals(millis(100), succeeded.percentileNanos(100.0));
+        Assert.assertEquals(1, meter(snapshot.operations(), "IOException").count());
+        Assert.assertEquals(1, snapshot.executions().size());
+        Assert.assertEquals(304, snapshot.executions().get(0).status());
+        Assert.assertEquals(2, snapshot.executions().get(0).count());
+    }
+
+    @Test
+    public void testRecordConcurrently() throws InterruptedException {
+        OAuth2MetricsRecorderBasedOnLongAdder recorder = new OAuth2MetricsRecorderBasedOnLongAdder();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    recorder.recordExecution("gitee", OAuth2ClientOperation.REFRESH_TOKEN, 200, j, null);
+                }
+            }));
+        }
+        for (Thread thread : threads) { thread.start(); }
+        for (Thread thread : threads) { thread.join(); }
+        OAuth2MetricsSnapshot.Meter meter = recorder.snapshot().executions().get(0);
+        Assert.assertEquals(40000, meter.count());
+        Assert.assertEquals(9999, meter.maxNanos());
+    }
+
+    @Test
+    public void testBucket() {
+        long[] values = {0L, 1L, 15L, 16L, 31L, 32L, 1000L, 123456789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = OAuth2MetricsSnapshot.bucketIndex(value);
+            Assert.assertTrue(index < OAuth2MetricsSnapshot.BUCKETS);
+            long highestValue = OAuth2MetricsSnapshot.bucketValue(index);
+            if (value < (1L << 40)) {
+                Assert.assertTrue(highestValue >= value);
+                Assert.assertTrue(highestValue - value <= value / 16);
+                Assert.assertEquals(index, OAuth2MetricsSnapshot.bucketIndex(highestValue));
+            }
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return nanoseconds of the given {@code millis}.
+     *
+     * @param millis milliseconds
+     * @return nanoseconds
+     */
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Return meter with the given {@code exceptionType}.
+     *
+     * @param meters meters
+     * @param exceptionType exception type
+     * @return meter
+     */
+    private static OAuth2MetricsSnapshot.Meter meter(List<OAuth2MetricsSnapshot.Meter> meters, String exceptionType) {
+        for (OAuth2MetricsSnapshot.Meter meter : meters) {
+            if (Objects.equals(meter.exceptionType(), exceptionType)) { return meter; }
+        }
+        throw new AssertionError("Meter does not exist. exceptionType: " + exceptionType);
+    }
+
+    /**
+     * Assert that the {@code actual} is within the relative error of histogram buckets.
+     *
+     * @param expected expected nanoseconds
+     * @param actual actual nanoseconds
+     */
+    private static void assertApproximatelyEquals(long expected, long actual) {
+        Assert.assertTrue(actual >= expected);
+        Assert.assertTrue(actual - expected <= expected / 16);
+    }
+
+}
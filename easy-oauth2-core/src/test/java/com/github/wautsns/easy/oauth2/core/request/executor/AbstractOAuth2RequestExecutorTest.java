@@ -0,0 +1,183 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.client.OAuth2ClientBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestRejectedException;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link AbstractOAuth2RequestExecutor}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class AbstractOAuth2RequestExecutorTest {
+
+    @Test
+    public void testDrain() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OAuth2RequestExecutorBasedOnStub.response(200);
+        });
+        CompletableFuture<AbstractOAuth2Response> inFlight =
+                CompletableFuture.supplyAsync(() -> executor.executeAsync(request()).join());
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, executor.inFlightRequests());
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(() -> executor.close(Duration.ofSeconds(5)));
+        // New requests should be rejected while draining.
+        while (!executor.isClosed()) { Thread.yield(); }
+        try {
+            executor.execute(request());
+            Assert.fail();
+        } catch (OAuth2RequestRejectedException ignored) {
+        }
+        try {
+            executor.executeAsync(request()).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof OAuth2RequestRejectedException);
+        }
+        Assert.assertFalse(closing.isDone());
+        // The in-flight request should complete, and then the executor should be closed.
+        release.countDown();
+        Assert.assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).status());
+        closing.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(0, executor.inFlightRequests());
+        Assert.assertEquals(1, executor.executions());
+    }
+
+    @Test
+    public void testDrainTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OAuth2RequestExecutorBasedOnStub.response(200);
+        });
+        CompletableFuture<AbstractOAuth2Response> inFlight =
+                CompletableFuture.supplyAsync(() -> executor.executeAsync(request()).join());
+        while (executor.inFlightRequests() == 0) { Thread.yield(); }
+        long startNanos = System.nanoTime();
+        executor.close(Duration.ofMillis(100));
+        Assert.assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(100));
+        Assert.assertTrue(executor.isClosed());
+        release.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testMetadataReleasesReferenceOnce() {
+        OAuth2RequestExecutorBasedOnStub executor =
+                new OAuth2RequestExecutorBasedOnStub(actualRequest -> OAuth2RequestExecutorBasedOnStub.response(200));
+        Assert.assertTrue(executor.retain());
+        OAuth2ClientMetadata<?, ?> metadata = new OAuth2ClientMetadata<>(
+                OAuth2ClientBasedOnStub.PLATFORM, new OAuth2ClientBasedOnStub.StubApplicationProperties(),
+                new OAuth2ClientBasedOnStub.StubAuthorizationProperties(), executor
+        );
+        // Closing the metadata repeatedly should not release references held by others.
+        metadata.close();
+        metadata.close(Duration.ofMillis(100));
+        metadata.close();
+        Assert.assertFalse(executor.isClosed());
+        executor.close();
+        Assert.assertTrue(executor.isClosed());
+    }
+
+    @Test
+    public void testWarmUp() throws Exception {
+        List<String> urls = new CopyOnWriteArrayList<>();
+        CountDownLatch concurrent = new CountDownLatch(3);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            Assert.assertEquals(OAuth2RequestMethod.HEAD, actualRequest.method);
+            urls.add(actualRequest.url);
+            // Warm-up requests of the same origin should be executed concurrently.
+            concurrent.countDown();
+            try {
+                concurrent.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OAuth2RequestExecutorBasedOnStub.response(404);
+        });
+        int succeeded = executor.warmUp(Arrays.asList(
+                "http://localhost:8080/login/oauth/access_token?client_id=id",
+                "http://localhost:8080/user",
+                "https://127.0.0.1/user",
+                "illegal url"
+        ), 3).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(6, succeeded);
+        Assert.assertEquals(6, urls.size());
+        Assert.assertEquals(3, urls.stream().filter("http://localhost:8080/"::equals).count());
+        Assert.assertEquals(3, urls.stream().filter("https://127.0.0.1/"::equals).count());
+        Assert.assertEquals(0, executor.inFlightRequests());
+        Assert.assertEquals(0, (int) executor.warmUp(Collections.emptyList(), 3).get());
+    }
+
+    @Test
+    public void testWarmUpThreadsAreBounded() throws Exception {
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            concurrent.decrementAndGet();
+            return OAuth2RequestExecutorBasedOnStub.response(404);
+        });
+        int succeeded = executor.warmUp(Arrays.asList(
+                "http://localhost:8080/", "http://localhost:8081/", "http://localhost:8082/"
+        ), 20).get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(60, succeeded);
+        Assert.assertTrue(maxConcurrent.get() <= AbstractOAuth2RequestExecutor.MAX_WARM_UP_THREADS);
+    }
+
+    // ######################################################################################
+
+    private static OAuth2Request<?> request() {
+        return new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL("https://api.github.com/user", 0));
+    }
+
+}
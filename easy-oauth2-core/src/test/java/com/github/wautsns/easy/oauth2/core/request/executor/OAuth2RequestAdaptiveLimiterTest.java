@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorAdaptiveLimitProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorHostProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2RequestAdaptiveLimiter}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestAdaptiveLimiterTest {
+
+    private static final String HOST = "api.github.com";
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void testGrowAndShrink() {
+        OAuth2RequestAdaptiveLimiter limiter = limiter();
+        Assert.assertEquals(4, limiter.limit(HOST));
+        // The limit grows while round-trip time stays flat and the limit is in use.
+        acquireAndRelease(limiter, 4, RTT);
+        Assert.assertEquals(8, limiter.limit(HOST));
+        for (int i = 0; i < 8; i++) { Assert.assertTrue(limiter.tryAcquire(HOST)); }
+        Assert.assertFalse(limiter.tryAcquire(HOST));
+        for (int i = 0; i < 8; i++) { limiter.release(HOST, -1, false); }
+        // The limit shrinks once requests are queued by the provider.
+        acquireAndRelease(limiter, 8, RTT * 10);
+        Assert.assertTrue(limiter.limit(HOST) < 8);
+        Assert.assertEquals(0, limiter.inFlightRequests(HOST));
+    }
+
+    @Test
+    public void testAppLimited() {
+        OAuth2RequestAdaptiveLimiter limiter = limiter();
+        for (int i = 0; i < 10; i++) { acquireAndRelease(limiter, 1, RTT); }
+        Assert.assertEquals(4, limiter.limit(HOST));
+    }
+
+    @Test
+    public void testDrop() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(
+                properties(), actualRequest -> OAuth2RequestExecutorBasedOnStub.response(503)
+        );
+        OAuth2RequestAdaptiveLimiter limiter = executor.adaptiveLimiter();
+        Assert.assertNotNull(limiter);
+        OAuth2Request<?> request =
+                new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL("https://API.github.com/user", 0));
+        // 4 * 0.9 = 3.6
+        executor.execute(request);
+        Assert.assertEquals(3, limiter.limit(HOST));
+        // 4 * 0.9 * 0.9 = 3.24
+        executor.executeAsync(request).get();
+        Assert.assertEquals(3, limiter.limit(HOST));
+        for (int i = 0; i < 10; i++) { executor.execute(request); }
+        Assert.assertEquals(1, limiter.limit(HOST));
+    }
+
+    @Test
+    public void testMaxLimitOfHostInAnyCase() {
+        OAuth2RequestExecutorProperties properties = properties().setHosts(Collections.singletonMap(
+                "API.GitHub.com", new OAuth2RequestExecutorHostProperties().setMaxConcurrentRequests(6)
+        ));
+        Objects.requireNonNull(properties.getAdaptiveLimit()).setMaxLimit(null);
+        OAuth2RequestAdaptiveLimiter limiter = OAuth2RequestAdaptiveLimiter.of(properties);
+        Assert.assertNotNull(limiter);
+        acquireAndRelease(limiter, 4, RTT);
+        Assert.assertEquals(6, limiter.limit(HOST));
+    }
+
+    @Test
+    public void testIllegalRttTolerance() {
+        for (double rttTolerance : new double[]{ 0, -1, Double.NaN }) {
+            OAuth2RequestExecutorProperties properties = properties();
+            Objects.requireNonNull(properties.getAdaptiveLimit()).setRttTolerance(rttTolerance);
+            try {
+                OAuth2RequestAdaptiveLimiter.of(properties);
+                Assert.fail(String.valueOf(rttTolerance));
+            } catch (IllegalArgumentException expected) {
+                Assert.assertTrue(expected.getMessage().contains("rttTolerance"));
+            }
+        }
+    }
+
+    // ######################################################################################
+
+    private static OAuth2RequestExecutorProperties properties() {
+        return new OAuth2RequestExecutorProperties().setAdaptiveLimit(
+                new OAuth2RequestExecutorAdaptiveLimitProperties()
+                        .setInitialLimit(4)
+                        .setMaxLimit(8)
+                        .setSmoothing(1.0)
+        );
+    }
+
+    private static OAuth2RequestAdaptiveLimiter limiter() {
+        OAuth2RequestAdaptiveLimiter limiter = OAuth2RequestAdaptiveLimiter.of(properties());
+        Assert.assertNotNull(limiter);
+        return limiter;
+    }
+
+    private static void acquireAndRelease(OAuth2RequestAdaptiveLimiter limiter, int count, long rttNanos) {
+        for (int i = 0; i < count; i++) { Assert.assertTrue(limiter.tryAcquire(HOST)); }
+        for (int i = 0; i < count; i++) { limiter.release(HOST, rttNanos, false); }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2RequestSaturatedException;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2RequestAdmission}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestAdmissionTest {
+
+    @Test
+    public void testQueue() throws Exception {
+        OAuth2RequestAdmission admission = OAuth2RequestAdmission.of(new OAuth2RequestExecutorProperties()
+                .setMaxConcurrentRequests(1)
+                .setMaxQueueLength(1)
+                .setMaxQueueWaitTime(Duration.ofSeconds(5)));
+        Assert.assertNotNull(admission);
+        Assert.assertTrue(admission.acquire().isDone());
+        CompletableFuture<Void> queued = admission.acquire();
+        Assert.assertFalse(queued.isDone());
+        Assert.assertEquals(1, admission.queueLength());
+        // The queue is full.
+        assertSaturated(admission.acquire());
+        // The admission is handed over to the queued request, which is not admitted in the releasing thread.
+        CompletableFuture<Thread> admittedThread = queued.thenApply(ignored -> Thread.currentThread());
+        admission.release();
+        Assert.assertNotSame(Thread.currentThread(), admittedThread.get(1, TimeUnit.SECONDS));
+        Assert.assertEquals(1, admission.admittedRequests());
+        Assert.assertEquals(0, admission.queueLength());
+        admission.release();
+        Assert.assertEquals(0, admission.admittedRequests());
+        Assert.assertEquals(1, admission.queuedCount());
+        Assert.assertEquals(1, admission.rejectedCount());
+    }
+
+    @Test
+    public void testQueueWaitTimeout() throws Exception {
+        OAuth2RequestAdmission admission = OAuth2RequestAdmission.of(new OAuth2RequestExecutorProperties()
+                .setMaxConcurrentRequests(1)
+                .setMaxQueueLength(8)
+                .setMaxQueueWaitTime(Duration.ofMillis(50)));
+        Assert.assertNotNull(admission);
+        Assert.assertTrue(admission.acquire().isDone());
+        assertSaturated(admission.acquire());
+        Assert.assertEquals(0, admission.queueLength());
+        Assert.assertTrue(admission.totalQueueWaitTime(TimeUnit.MILLISECONDS) >= 50);
+        // The timed out request should not take the admission.
+        admission.release();
+        Assert.assertTrue(admission.acquire().isDone());
+    }
+
+    @Test
+    public void testCancelDuringHandOver() throws Exception {
+        List<Runnable> dispatched = new ArrayList<>();
+        OAuth2RequestAdmission admission = OAuth2RequestAdmission.of(new OAuth2RequestExecutorProperties()
+                .setMaxConcurrentRequests(1)
+                .setMaxQueueLength(2)
+                .setMaxQueueWaitTime(Duration.ofSeconds(5)), dispatched::add);
+        Assert.assertNotNull(admission);
+        Assert.assertTrue(admission.acquire().isDone());
+        CompletableFuture<Void> cancelled = admission.acquire();
+        CompletableFuture<Void> queued = admission.acquire();
+        // The admission is handed over to the first waiter, but its future has not been completed yet.
+        admission.release();
+        Assert.assertEquals(1, dispatched.size());
+        Assert.assertFalse(cancelled.isDone());
+        admission.cancel(cancelled);
+        admission.cancel(cancelled);
+        Assert.assertTrue(cancelled.isCancelled());
+        // The admission released by the cancelled waiter is handed over to the next waiter.
+        Assert.assertEquals(2, dispatched.size());
+        dispatched.forEach(Runnable::run);
+        Assert.assertTrue(cancelled.isCancelled());
+        Assert.assertTrue(queued.isDone());
+        Assert.assertEquals(1, admission.admittedRequests());
+        Assert.assertEquals(0, admission.queueLength());
+        admission.cancel(queued);
+        Assert.assertEquals(0, admission.admittedRequests());
+        Assert.assertTrue(admission.acquire().isDone());
+    }
+
+    @Test
+    public void testExecutor() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(
+                new OAuth2RequestExecutorProperties()
+                        .setMaxConcurrentRequests(1)
+                        .setMaxQueueLength(1)
+                        .setMaxQueueWaitTime(Duration.ofSeconds(5)),
+                actualRequest -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return OAuth2RequestExecutorBasedOnStub.response(200);
+                }
+        );
+        OAuth2RequestAdmission admission = executor.admission();
+        Assert.assertNotNull(admission);
+        CompletableFuture<AbstractOAuth2Response> first =
+                CompletableFuture.supplyAsync(() -> executor.executeAsync(request()).join());
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<AbstractOAuth2Response> second = executor.executeAsync(request());
+        Assert.assertEquals(1, admission.queueLength());
+        try {
+            executor.execute(request());
+            Assert.fail();
+        } catch (OAuth2RequestSaturatedException ignored) {
+        }
+        release.countDown();
+        Assert.assertEquals(200, first.get(5, TimeUnit.SECONDS).status());
+        Assert.assertEquals(200, second.get(5, TimeUnit.SECONDS).status());
+        Assert.assertEquals(0, admission.admittedRequests());
+        Assert.assertEquals(0, executor.inFlightRequests());
+        Assert.assertEquals(200, executor.execute(request()).status());
+    }
+
+    // ######################################################################################
+
+    private static void assertSaturated(CompletableFuture<Void> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof OAuth2RequestSaturatedException);
+        }
+    }
+
+    private static OAuth2Request<?> request() {
+        return new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL("https://api.github.com/user", 0));
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OAuth2 request executor based on stub, which responds in the calling thread with a {@link Handler}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorBasedOnStub
+        extends AbstractOAuth2RequestExecutor<OAuth2RequestExecutorBasedOnStub.StubRequest> {
+
+    /** Handler. */
+    private volatile @NotNull Handler handler;
+    /** Number of executed actual requests. */
+    private final @NotNull AtomicInteger executions = new AtomicInteger();
+
+    // ######################################################################################
+
+    /**
+     * Return number of executed actual requests.
+     *
+     * @return number of executed actual requests
+     */
+    public int executions() {
+        return executions.get();
+    }
+
+    /**
+     * Set handler.
+     *
+     * @param handler handler
+     */
+    public void handler(@NotNull Handler handler) {
+        this.handler = handler;
+    }
+
+    // ######################################################################################
+
+    @Override
+    protected @NotNull StubRequest initializeActualRequest(@NotNull OAuth2RequestMethod method, @NotNull String url) {
+        return new StubRequest(method, url);
+    }
+
+    @Override
+    protected void addHeader(@NotNull StubRequest actualRequest, @NotNull String name, @NotNull String value) {
+        actualRequest.headers.put(name, value);
+    }
+
+    @Override
+    protected void setContentTypeAndEntity(
+            @NotNull StubRequest actualRequest, @NotNull AbstractOAuth2RequestEntity entity) {}
+
+    @Override
+    protected @NotNull AbstractOAuth2Response executeActualRequest(@NotNull StubRequest actualRequest)
+            throws IOException {
+        executions.incrementAndGet();
+        return handler.handle(actualRequest);
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(
+            @NotNull StubRequest actualRequest) {
+        try {
+            return CompletableFuture.completedFuture(executeActualRequest(actualRequest));
+        } catch (IOException | RuntimeException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return a response with the given {@code status} and {@code headers}.
+     *
+     * @param status status
+     * @param headers headers in pairs of name and value
+     * @return response
+     */
+    public static @NotNull AbstractOAuth2Response response(int status, @NotNull String... headers) {
+        Map<String, String> headerMap = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < headers.length; i += 2) { headerMap.put(headers[i].toLowerCase(), headers[i + 1]); }
+        return new AbstractOAuth2Response() {
+            @Override
+            public int status() {
+                return status;
+            }
+
+            @Override
+            public @Nullable String firstHeader(@NotNull String name) {
+                return headerMap.get(name.toLowerCase());
+            }
+
+            @Override
+            public @Nullable String lastHeader(@NotNull String name) {
+                return headerMap.get(name.toLowerCase());
+            }
+
+            @Override
+            public @NotNull List<@NotNull String> headers(@NotNull String name) {
+                String value = headerMap.get(name.toLowerCase());
+                return (value == null) ? Collections.emptyList() : Collections.singletonList(value);
+            }
+
+            @Override
+            public @Nullable InputStream bodyInputStream() {
+                return null;
+            }
+        };
+    }
+
+    // ######################################################################################
+
+    /** Stub request. */
+    public static final class StubRequest {
+
+        /** Method. */
+        public final @NotNull OAuth2RequestMethod method;
+        /** Url. */
+        public final @NotNull String url;
+        /** Headers. */
+        public final @NotNull Map<String, String> headers = new LinkedHashMap<>();
+
+        /**
+         * Construct an instance.
+         *
+         * @param method method
+         * @param url url
+         */
+        private StubRequest(@NotNull OAuth2RequestMethod method, @NotNull String url) {
+            this.method = method;
+            this.url = url;
+        }
+
+    }
+
+    /** Handler of stub request. */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * Handle the given {@code request}.
+         *
+         * @param request request
+         * @return response
+         * @throws IOException if I/O error occurs
+         */
+        @NotNull AbstractOAuth2Response handle(@NotNull StubRequest request) throws IOException;
+
+    }
+
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param handler handler
+     */
+    public OAuth2RequestExecutorBasedOnStub(@NotNull Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties request executor properties
+     * @param handler handler
+     */
+    public OAuth2RequestExecutorBasedOnStub(
+            @NotNull OAuth2RequestExecutorProperties properties, @NotNull Handler handler) {
+        super(properties);
+        this.handler = handler;
+    }
+
+}
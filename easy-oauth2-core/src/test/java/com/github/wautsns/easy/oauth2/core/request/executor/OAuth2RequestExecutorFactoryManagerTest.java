@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+
+/**
+ * Test {@link OAuth2RequestExecutorFactoryManager}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestExecutorFactoryManagerTest {
+
+    @Test
+    public void testShare() {
+        StubFactory factory = new StubFactory();
+        OAuth2RequestExecutorProperties properties = new OAuth2RequestExecutorProperties().rewriteNullToDefaultValue();
+        AbstractOAuth2RequestExecutor<?> first = OAuth2RequestExecutorFactoryManager.share(factory, properties);
+        AbstractOAuth2RequestExecutor<?> second = OAuth2RequestExecutorFactoryManager.share(
+                factory, new OAuth2RequestExecutorProperties().rewriteNullToDefaultValue()
+        );
+        Assert.assertSame(first, second);
+        // Modifications of the properties should not affect the shared executor.
+        properties.setReadTimeout(Duration.ofSeconds(30));
+        AbstractOAuth2RequestExecutor<?> third = OAuth2RequestExecutorFactoryManager.share(factory, properties);
+        Assert.assertNotSame(first, third);
+        Assert.assertEquals(2, factory.created);
+        // Shared executor should be closed when all references are released.
+        first.close();
+        Assert.assertFalse(second.isClosed());
+        second.close();
+        Assert.assertTrue(second.isClosed());
+        third.close();
+        Assert.assertTrue(third.isClosed());
+        // A new executor should be created after the previous is closed.
+        AbstractOAuth2RequestExecutor<?> fourth = OAuth2RequestExecutorFactoryManager.share(factory, properties);
+        Assert.assertNotSame(third, fourth);
+        Assert.assertFalse(fourth.isClosed());
+        Assert.assertEquals(3, factory.created);
+        fourth.close();
+    }
+
+    @Test
+    public void testShareInFactory() {
+        OAuth2RequestExecutorProperties properties = new OAuth2RequestExecutorProperties().rewriteNullToDefaultValue();
+        StubFactory inner = new StubFactory();
+        StubFactory outer = new StubFactory();
+        AbstractOAuth2RequestExecutor<?>[] innerExecutor = new AbstractOAuth2RequestExecutor<?>[1];
+        // Factories may share executors of other factories while creating.
+        outer.beforeCreating = () -> innerExecutor[0] = OAuth2RequestExecutorFactoryManager.share(inner, properties);
+        AbstractOAuth2RequestExecutor<?> outerExecutor = OAuth2RequestExecutorFactoryManager.share(outer, properties);
+        Assert.assertSame(innerExecutor[0], OAuth2RequestExecutorFactoryManager.share(inner, properties));
+        Assert.assertSame(outerExecutor, OAuth2RequestExecutorFactoryManager.share(outer, properties));
+        Assert.assertEquals(1, inner.created);
+        Assert.assertEquals(1, outer.created);
+        for (int i = 0; i < 2; i++) {
+            innerExecutor[0].close();
+            outerExecutor.close();
+        }
+        Assert.assertTrue(innerExecutor[0].isClosed());
+        Assert.assertTrue(outerExecutor.isClosed());
+    }
+
+    /** Factory creating {@link OAuth2RequestExecutorBasedOnStub}. */
+    private static final class StubFactory
+            implements OAuth2RequestExecutorFactory<OAuth2RequestExecutorBasedOnStub.StubRequest> {
+
+        /** Count of created executors. */
+        private int created;
+        /** Callback before creating executors. */
+        private Runnable beforeCreating = () -> {};
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public @NotNull AbstractOAuth2RequestExecutor<OAuth2RequestExecutorBasedOnStub.StubRequest> create(
+                @NotNull OAuth2RequestExecutorProperties properties) {
+            beforeCreating.run();
+            created++;
+            return new OAuth2RequestExecutorBasedOnStub(actualRequest -> OAuth2RequestExecutorBasedOnStub.response(200));
+        }
+
+    }
+
+}
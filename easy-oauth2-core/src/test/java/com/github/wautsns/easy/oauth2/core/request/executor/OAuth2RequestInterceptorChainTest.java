@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2Headers;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Test {@link OAuth2RequestInterceptorChain}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestInterceptorChainTest {
+
+    @Test
+    public void testOrder() throws Exception {
+        List<String> trace = new ArrayList<>();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            trace.add("execute " + String.join(",", actualRequest.headers.values()));
+            return OAuth2RequestExecutorBasedOnStub.response(200);
+        });
+        executor.addInterceptor(new TracingInterceptor("outer", trace));
+        executor.addInterceptor(new TracingInterceptor("inner", trace));
+        Assert.assertEquals(200, executor.execute(request()).status());
+        Assert.assertEquals(5, trace.size());
+        Assert.assertEquals("before outer", trace.get(0));
+        Assert.assertEquals("before inner", trace.get(1));
+        Assert.assertEquals("execute outer,inner", trace.get(2));
+        Assert.assertEquals("after inner", trace.get(3));
+        Assert.assertEquals("after outer", trace.get(4));
+        trace.clear();
+        Assert.assertEquals(200, executor.executeAsync(request()).get().status());
+        Assert.assertEquals("execute outer,inner", trace.get(2));
+        Assert.assertEquals(5, trace.size());
+    }
+
+    @Test
+    public void testShortCircuit() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor =
+                new OAuth2RequestExecutorBasedOnStub(actualRequest -> OAuth2RequestExecutorBasedOnStub.response(200));
+        OAuth2RequestInterceptor rejecting = new OAuth2RequestInterceptor() {
+            @Override
+            public AbstractOAuth2Response intercept(OAuth2Request<?> request, OAuth2RequestInterceptorChain chain)
+                    throws OAuth2Exception {
+                throw new OAuth2Exception("rejected");
+            }
+
+            @Override
+            public CompletableFuture<AbstractOAuth2Response> interceptAsync(
+                    OAuth2Request<?> request, OAuth2RequestInterceptorChain chain) {
+                throw new IllegalStateException("rejected");
+            }
+        };
+        executor.addInterceptor(rejecting);
+        try {
+            executor.execute(request());
+            Assert.fail();
+        } catch (OAuth2Exception e) {
+            Assert.assertEquals("rejected", e.getMessage());
+        }
+        try {
+            executor.executeAsync(request()).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertEquals(0, executor.executions());
+        Assert.assertTrue(executor.removeInterceptor(rejecting));
+        Assert.assertTrue(executor.interceptors().isEmpty());
+        Assert.assertEquals(200, executor.execute(request()).status());
+        Assert.assertEquals(1, executor.executions());
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return a request.
+     *
+     * @return request
+     */
+    private static OAuth2Request<?> request() {
+        return new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL("https://api.github.com/user", 0));
+    }
+
+    /** Interceptor which traces invocations and adds header {@code X-Trace-<name>} with its name. */
+    private static final class TracingInterceptor implements OAuth2RequestInterceptor {
+
+        /** Name. */
+        private final String name;
+        /** Trace. */
+        private final List<String> trace;
+
+        @Override
+        public AbstractOAuth2Response intercept(OAuth2Request<?> request, OAuth2RequestInterceptorChain chain)
+                throws OAuth2Exception {
+            trace.add("before " + name);
+            AbstractOAuth2Response response = chain.proceed(withTrace(request));
+            trace.add("after " + name);
+            return response;
+        }
+
+        @Override
+        public CompletableFuture<AbstractOAuth2Response> interceptAsync(
+                OAuth2Request<?> request, OAuth2RequestInterceptorChain chain) {
+            trace.add("before " + name);
+            return chain.proceedAsync(withTrace(request))
+                    .whenComplete((response, throwable) -> trace.add("after " + name));
+        }
+
+        /**
+         * Return a copy of the given {@code request} with header {@code X-Trace-<name>} added.
+         *
+         * @param request request
+         * @return request with header added
+         */
+        private OAuth2Request<?> withTrace(OAuth2Request<?> request) {
+            OAuth2Request<?> copied = request.copy(true, false, true);
+            if (copied.headers() == null) { copied.headers(new OAuth2Headers(1)); }
+            copied.headers().unique("X-Trace-" + name, name);
+            return copied;
+        }
+
+        private TracingInterceptor(String name, List<String> trace) {
+            this.name = name;
+            this.trace = trace;
+        }
+
+    }
+
+}
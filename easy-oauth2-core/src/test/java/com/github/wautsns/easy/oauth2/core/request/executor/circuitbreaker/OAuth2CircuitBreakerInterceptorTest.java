@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2CircuitBreakerOpenException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsRecorderBasedOnLongAdder;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.request.executor.circuitbreaker.configuration.OAuth2CircuitBreakerProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import org.junit.Assert;
+import org.junit.Test;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test {@link OAuth2CircuitBreakerInterceptor}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2CircuitBreakerInterceptorTest {
+
+    private static final OAuth2CircuitBreakerProperties PROPERTIES = new OAuth2CircuitBreakerProperties()
+            .setSlidingWindowSize(4)
+            .setMinimumNumberOfCalls(4)
+            .setFailureRateThreshold(0.5)
+            .setSlowCallDurationThreshold(Duration.ofSeconds(1))
+            .setSlowCallRateThreshold(1.0)
+            .setWaitDurationInOpenState(Duration.ofMillis(100))
+            .setPermittedNumberOfCallsInHalfOpenState(2);
+
+    @Test
+    public void testOpenAndRecover() throws Exception {
+        AtomicInteger status = new AtomicInteger(503);
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(
+                actualRequest -> OAuth2RequestExecutorBasedOnStub.response(status.get()));
+        OAuth2CircuitBreakerInterceptor interceptor = new OAuth2CircuitBreakerInterceptor(PROPERTIES);
+        executor.addInterceptor(interceptor);
+        for (int i = 0; i < 4; i++) { Assert.assertEquals(503, executor.execute(request("/user")).status()); }
+        OAuth2CircuitBreaker circuitBreaker = interceptor.circuitBreakers().get("GET https://api.github.com/user");
+        Assert.assertEquals(OAuth2CircuitBreaker.State.OPEN, circuitBreaker.state());
+        try {
+            executor.execute(request("/user"));
+            Assert.fail();
+        } catch (OAuth2CircuitBreakerOpenException expected) {
+            // Rejected without touching the executor.
+        }
+        try {
+            executor.executeAsync(request("/user")).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof OAuth2CircuitBreakerOpenException);
+        }
+        Assert.assertEquals(4, executor.executions());
+        // Other endpoints are isolated.
+        status.set(200);
+        Assert.assertEquals(200, executor.execute(request("/emails")).status());
+        // Recover after the wait duration.
+        TimeUnit.MILLISECONDS.sleep(150);
+        Assert.assertEquals(200, executor.execute(request("/user")).status());
+        Assert.assertEquals(OAuth2CircuitBreaker.State.HALF_OPEN, circuitBreaker.state());
+        Assert.assertEquals(200, executor.executeAsync(request("/user")).get().status());
+        Assert.assertEquals(OAuth2CircuitBreaker.State.CLOSED, circuitBreaker.state());
+    }
+
+    @Test
+    public void testNameIgnoresMetricsContext() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(
+                actualRequest -> OAuth2RequestExecutorBasedOnStub.response(200));
+        OAuth2CircuitBreakerInterceptor interceptor = new OAuth2CircuitBreakerInterceptor(PROPERTIES);
+        executor.addInterceptor(interceptor);
+        OAuth2Request<?> requestWithQuery = request("/user");
+        requestWithQuery.url().query().unique("access_token", "secret");
+        executor.execute(requestWithQuery);
+        OAuth2MetricsContext context = new OAuth2MetricsContext(
+                new OAuth2MetricsRecorderBasedOnLongAdder(), "github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER);
+        OAuth2MetricsContext previous = context.bind();
+        try {
+            executor.execute(request("/user"));
+            executor.executeAsync(request("/user")).get();
+        } finally {
+            OAuth2MetricsContext.restore(previous);
+        }
+        // Requests to the same endpoint share a circuit breaker whether or not a metrics context is bound.
+        Assert.assertEquals(
+                Collections.singleton("GET https://api.github.com/user"), interceptor.circuitBreakers().keySet()
+        );
+    }
+
+    @Test
+    public void testHalfOpen() throws Exception {
+        OAuth2CircuitBreaker circuitBreaker = new OAuth2CircuitBreaker("test", PROPERTIES);
+        long slow = TimeUnit.SECONDS.toNanos(2);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+            circuitBreaker.onSuccess(slow);
+        }
+        Assert.assertEquals(OAuth2CircuitBreaker.State.OPEN, circuitBreaker.state());
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+        TimeUnit.MILLISECONDS.sleep(150);
+        // Only permitted number of trial calls are allowed, released permissions can be reused.
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        Assert.assertFalse(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.release();
+        Assert.assertTrue(circuitBreaker.tryAcquirePermission());
+        circuitBreaker.onSuccess(0);
+        circuitBreaker.onFailure(0);
+        Assert.assertEquals(OAuth2CircuitBreaker.State.OPEN, circuitBreaker.state());
+    }
+
+    private static OAuth2Request<?> request(String path) {
+        return new OAuth2Request<>(OAuth2RequestMethod.GET, new OAuth2URL("https://api.github.com" + path, 0));
+    }
+
+}
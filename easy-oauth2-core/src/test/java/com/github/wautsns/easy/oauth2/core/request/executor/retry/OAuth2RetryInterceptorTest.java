@@ -0,0 +1,231 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.core.request.executor.retry;
+
+import com.github.wautsns.easy.oauth2.core.exception.OAuth2IOException;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsContext;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsRecorderBasedOnLongAdder;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsSnapshot;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestAdmission;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorBasedOnStub;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.executor.retry.configuration.OAuth2RetryProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2RetryInterceptor}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RetryInterceptorTest {
+
+    @Test
+    public void testRetryStatus() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor = executor(properties(), 503, 502, 200);
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(3, executor.executions());
+        executor = executor(properties(), 503, 200);
+        Assert.assertEquals(200, executor.executeAsync(request(OAuth2RequestMethod.GET)).get().status());
+        Assert.assertEquals(2, executor.executions());
+        // Attempts are limited.
+        executor = executor(properties(), 503, 503, 503, 200);
+        Assert.assertEquals(503, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(3, executor.executions());
+        // Retryable statuses are copied, later changes of the properties have no effect.
+        Set<Integer> retryableStatuses = new HashSet<>(Collections.singleton(503));
+        executor = executor(properties().setRetryableStatuses(retryableStatuses), 503, 200);
+        retryableStatuses.clear();
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(2, executor.executions());
+    }
+
+    @Test
+    public void testNonIdempotent() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor = executor(properties(), 503, 200);
+        Assert.assertEquals(503, executor.execute(request(OAuth2RequestMethod.POST)).status());
+        Assert.assertEquals(1, executor.executions());
+        executor = executor(properties(), 429, 200);
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.POST)).status());
+        Assert.assertEquals(2, executor.executions());
+        // A timed out code exchange may have been processed.
+        executor = executorOf(
+                properties(), new SocketTimeoutException(), OAuth2RequestExecutorBasedOnStub.response(200)
+        );
+        try {
+            executor.execute(request(OAuth2RequestMethod.POST));
+            Assert.fail();
+        } catch (OAuth2IOException expected) {
+            Assert.assertEquals(1, executor.executions());
+        }
+        executor = executorOf(properties(), new ConnectException(), OAuth2RequestExecutorBasedOnStub.response(200));
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.POST)).status());
+        Assert.assertEquals(2, executor.executions());
+    }
+
+    @Test
+    public void testRetryAfter() throws Exception {
+        OAuth2RequestExecutorBasedOnStub executor = executorOf(
+                properties(), OAuth2RequestExecutorBasedOnStub.response(503, "Retry-After", "120"),
+                OAuth2RequestExecutorBasedOnStub.response(200)
+        );
+        Assert.assertEquals(503, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(1, executor.executions());
+        executor = executorOf(
+                properties().setMaxDelay(Duration.ofSeconds(1)),
+                OAuth2RequestExecutorBasedOnStub.response(503, "Retry-After", "0"),
+                OAuth2RequestExecutorBasedOnStub.response(200)
+        );
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(2, executor.executions());
+    }
+
+    @Test
+    public void testBudget() throws Exception {
+        OAuth2RetryProperties properties = properties().setBudgetRatio(0.5).setBudgetCapacity(1);
+        OAuth2RequestExecutorBasedOnStub executor = executor(properties, 503, 200, 503, 200, 503, 200);
+        OAuth2RetryInterceptor interceptor = (OAuth2RetryInterceptor) executor.interceptors().get(0);
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(0.0, interceptor.budget().tokens(), 0.0);
+        // Half a token is not enough for a retry.
+        Assert.assertEquals(503, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        // Two requests earn a retry.
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(6, executor.executions());
+    }
+
+    @Test
+    public void testBackoffAsyncDoesNotHoldAdmission() throws Exception {
+        Iterator<Integer> statuses = Arrays.asList(503, 200, 200).iterator();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(
+                new OAuth2RequestExecutorProperties()
+                        .setMaxConcurrentRequests(1)
+                        .setMaxQueueLength(0),
+                actualRequest -> OAuth2RequestExecutorBasedOnStub.response(statuses.next())
+        );
+        executor.addInterceptor(new OAuth2RetryInterceptor(
+                properties().setBaseDelay(Duration.ofMillis(200)).setMaxDelay(Duration.ofMillis(200))
+        ));
+        OAuth2RequestAdmission admission = executor.admission();
+        Assert.assertNotNull(admission);
+        CompletableFuture<AbstractOAuth2Response> retried = executor.executeAsync(request(OAuth2RequestMethod.GET));
+        // The retry is scheduled, and the admission is released while backing off.
+        Assert.assertFalse(retried.isDone());
+        Assert.assertEquals(1, executor.executions());
+        Assert.assertEquals(0, admission.admittedRequests());
+        Assert.assertEquals(200, executor.execute(request(OAuth2RequestMethod.GET)).status());
+        Assert.assertEquals(200, retried.get(5, TimeUnit.SECONDS).status());
+        Assert.assertEquals(3, executor.executions());
+        Assert.assertEquals(0, admission.admittedRequests());
+        Assert.assertEquals(0, admission.rejectedCount());
+    }
+
+    @Test
+    public void testBudgetAsync() throws Exception {
+        OAuth2RetryProperties properties = properties().setBudgetRatio(0.5).setBudgetCapacity(1);
+        OAuth2RequestExecutorBasedOnStub executor = executor(properties, 503, 200, 503, 200, 503, 200);
+        OAuth2RetryInterceptor interceptor = (OAuth2RetryInterceptor) executor.interceptors().get(0);
+        Assert.assertEquals(200, executor.executeAsync(request(OAuth2RequestMethod.GET)).get().status());
+        Assert.assertEquals(0.0, interceptor.budget().tokens(), 0.0);
+        // The budget is exhausted, so the response is returned without scheduling a retry.
+        CompletableFuture<AbstractOAuth2Response> exhausted = executor.executeAsync(request(OAuth2RequestMethod.GET));
+        Assert.assertTrue(exhausted.isDone());
+        Assert.assertEquals(503, exhausted.get().status());
+        Assert.assertEquals(200, executor.executeAsync(request(OAuth2RequestMethod.GET)).get().status());
+        Assert.assertEquals(200, executor.executeAsync(request(OAuth2RequestMethod.GET)).get().status());
+        Assert.assertEquals(6, executor.executions());
+    }
+
+    @Test
+    public void testMetricsContextAsync() throws Exception {
+        List<OAuth2MetricsContext> contexts = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        Iterator<Integer> statuses = Arrays.asList(503, 502, 200).iterator();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            contexts.add(OAuth2MetricsContext.current());
+            threads.add(Thread.currentThread());
+            return OAuth2RequestExecutorBasedOnStub.response(statuses.next());
+        });
+        executor.addInterceptor(new OAuth2RetryInterceptor(properties()));
+        OAuth2MetricsRecorderBasedOnLongAdder recorder = new OAuth2MetricsRecorderBasedOnLongAdder();
+        OAuth2MetricsContext context = new OAuth2MetricsContext(
+                recorder, "github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER);
+        CompletableFuture<AbstractOAuth2Response> future;
+        OAuth2MetricsContext previous = context.bind();
+        try {
+            future = executor.executeAsync(request(OAuth2RequestMethod.GET));
+        } finally {
+            OAuth2MetricsContext.restore(previous);
+        }
+        Assert.assertEquals(200, future.get(5, TimeUnit.SECONDS).status());
+        // Retries run in other threads, but still belong to the operation.
+        Assert.assertEquals(Arrays.asList(context, context, context), contexts);
+        Assert.assertNotSame(Thread.currentThread(), threads.get(1));
+        Assert.assertTrue(threads.get(1).getName(), threads.get(1).getName().startsWith("easy-oauth2-retry-"));
+        Assert.assertEquals(3, recorder.snapshot().executions().stream()
+                .filter(meter -> meter.operation() == OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER)
+                .mapToLong(OAuth2MetricsSnapshot.Meter::count)
+                .sum());
+        Assert.assertNull(OAuth2MetricsContext.current());
+    }
+
+    // ######################################################################################
+
+    private static OAuth2RetryProperties properties() {
+        return new OAuth2RetryProperties().setBaseDelay(Duration.ofMillis(1)).setMaxDelay(Duration.ofMillis(10));
+    }
+
+    private static OAuth2RequestExecutorBasedOnStub executor(OAuth2RetryProperties properties, int... statuses) {
+        Object[] outcomes = Arrays.stream(statuses).mapToObj(OAuth2RequestExecutorBasedOnStub::response).toArray();
+        return executorOf(properties, outcomes);
+    }
+
+    private static OAuth2RequestExecutorBasedOnStub executorOf(OAuth2RetryProperties properties, Object... outcomes) {
+        Iterator<Object> iterator = Arrays.asList(outcomes).iterator();
+        OAuth2RequestExecutorBasedOnStub executor = new OAuth2RequestExecutorBasedOnStub(actualRequest -> {
+            Object outcome = iterator.next();
+            if (outcome instanceof IOException) { throw (IOException) outcome; }
+            return (AbstractOAuth2Response) outcome;
+        });
+        executor.addInterceptor(new OAuth2RetryInterceptor(properties));
+        return executor;
+    }
+
+    private static OAuth2Request<?> request(OAuth2RequestMethod method) {
+        return new OAuth2Request<>(method, new OAuth2URL("https://api.github.com/user", 0));
+    }
+
+}
@@ -25,6 +25,8 @@ import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchange
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUserIdentifier;
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIRefreshToken;
 import com.github.wautsns.easy.oauth2.core.client.function.operation.OAuth2OperationInitializeAuthorizeURL;
+import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
+import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
 import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2AccessTokenExpiredException;
 import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2RefreshTokenExpiredException;
@@ -34,11 +36,16 @@ import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
 import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
 import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
 import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2ApplicationProperties;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.configuration.GiteeOAuth2AuthorizationProperties;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.model.GiteeOAuth2Token;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.model.GiteeOAuth2User;
 import org.jetbrains.annotations.NotNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Gitee oauth2 client.
@@ -49,6 +56,11 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class GiteeOAuth2Client extends AbstractTokenRefreshableOAuth2Client<GiteeOAuth2ApplicationProperties, GiteeOAuth2AuthorizationProperties, GiteeOAuth2Token, GiteeOAuth2User> {
 
+    /** Url of token endpoint. */
+    private static final @NotNull String TOKEN_URL = "https://gitee.com/oauth/token";
+    /** Url of user endpoint. */
+    private static final @NotNull String USER_URL = "https://gitee.com/api/v5/user";
+
     // #########################################################################################
     // #################### oauth2 function ####################################################
     // #########################################################################################
@@ -73,7 +85,7 @@ public final class GiteeOAuth2Client extends AbstractTokenRefreshableOAuth2Clien
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForToken<GiteeOAuth2Token> initializeOAuth2APIExchangeCallbackQueryForToken() {
-        String urlWithoutQueryAndAnchor = "https://gitee.com/oauth/token";
+        String urlWithoutQueryAndAnchor = TOKEN_URL;
         OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 5);
         OAuth2Request<?> template = new OAuth2Request<>(OAuth2RequestMethod.POST, url);
         template.url().query()
@@ -82,16 +94,33 @@ public final class GiteeOAuth2Client extends AbstractTokenRefreshableOAuth2Clien
                 .unique("client_secret", metadata.application().getClientSecret())
                 .repeatable("redirect_uri", metadata.application().getCallbacks());
         template.headers(new OAuth2Headers(1).userAgentEasyOAuth2());
-        return query -> {
-            OAuth2Request<?> request = template.copy(false, true, true);
-            request.url().query().unique("code", query.code());
-            AbstractOAuth2Response response = metadata.requestExecutor().execute(request);
-            JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
-            String error = root.path("error").asText(null);
-            if (error != null) {
-                throw new OAuth2Exception(root.toString());
-            } else {
-                return new GiteeOAuth2Token(root);
+        return new OAuth2APIExchangeCallbackQueryForToken<GiteeOAuth2Token>() {
+            @Override
+            public @NotNull GiteeOAuth2Token exchangeForToken(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return parseResponse(metadata.requestExecutor().execute(initializeRequest(query)));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GiteeOAuth2Token> exchangeForTokenAsync(@NotNull OAuth2CallbackQuery query) {
+                return OAuth2FutureUtils.thenApply(
+                        metadata.requestExecutor().executeAsync(initializeRequest(query)), this::parseResponse
+                );
+            }
+
+            private @NotNull OAuth2Request<?> initializeRequest(@NotNull OAuth2CallbackQuery query) {
+                OAuth2Request<?> request = template.copy(false, true, true);
+                request.url().query().unique("code", query.code());
+                return request;
+            }
+
+            private @NotNull GiteeOAuth2Token parseResponse(@NotNull AbstractOAuth2Response response) throws OAuth2Exception {
+                JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
+                String error = root.path("error").asText(null);
+                if (error != null) {
+                    throw new OAuth2Exception(root.toString());
+                } else {
+                    return new GiteeOAuth2Token(root, metadata.clock().instant());
+                }
             }
         };
     }
@@ -100,44 +129,94 @@ public final class GiteeOAuth2Client extends AbstractTokenRefreshableOAuth2Clien
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForUserIdentifier initializeOAuth2APIExchangeCallbackQueryForUserIdentifier() {
-        return query -> exchangeForUser(query).identifier();
+        return new OAuth2APIExchangeCallbackQueryForUserIdentifier() {
+            @Override
+            public @NotNull String exchangeForUserIdentifier(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return exchangeForUser(query).identifier();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull OAuth2CallbackQuery query) {
+                return exchangeForUserAsync(query).thenApply(AbstractOAuth2User::identifier);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForUser<GiteeOAuth2User> initializeOAuth2APIExchangeCallbackQueryForUser() {
-        return query -> exchangeForUser(exchangeForToken(query));
+        return new OAuth2APIExchangeCallbackQueryForUser<GiteeOAuth2User>() {
+            @Override
+            public @NotNull GiteeOAuth2User exchangeForUser(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return GiteeOAuth2Client.this.exchangeForUser(exchangeForToken(query));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GiteeOAuth2User> exchangeForUserAsync(@NotNull OAuth2CallbackQuery query) {
+                // Exchanging token for user runs in the thread which completes exchanging callback query for token.
+                Function<GiteeOAuth2Token, CompletableFuture<GiteeOAuth2User>> exchangeForUserAsync =
+                        bindMetricsContext(GiteeOAuth2Client.this::exchangeForUserAsync);
+                return exchangeForTokenAsync(query).thenCompose(exchangeForUserAsync);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeTokenForUserIdentifier<GiteeOAuth2Token> initializeOAuth2APIExchangeTokenForUserIdentifierWithoutTryingToRefreshTokenAutomatically() {
-        return token -> exchangeForUser(token).identifier();
+        return new OAuth2APIExchangeTokenForUserIdentifier<GiteeOAuth2Token>() {
+            @Override
+            public @NotNull String exchangeForUserIdentifier(@NotNull GiteeOAuth2Token token) throws OAuth2Exception {
+                return exchangeForUser(token).identifier();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull GiteeOAuth2Token token) {
+                return exchangeForUserAsync(token).thenApply(AbstractOAuth2User::identifier);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeTokenForUser<GiteeOAuth2Token, GiteeOAuth2User> initializeOAuth2APIExchangeTokenForUserWithoutTryingToRefreshTokenAutomatically() {
-        String urlWithoutQueryAndAnchor = "https://gitee.com/api/v5/user";
+        String urlWithoutQueryAndAnchor = USER_URL;
         OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 1);
         OAuth2Request<?> template = new OAuth2Request<>(OAuth2RequestMethod.GET, url);
         template.headers(new OAuth2Headers(1).userAgentEasyOAuth2());
-        return token -> {
-            OAuth2Request<?> request = template.copy(false, true, true);
-            request.url().query().unique("access_token", token.accessToken());
-            AbstractOAuth2Response response = metadata.requestExecutor().execute(request);
-            JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
-            if (response.status() < 300) {
-                return new GiteeOAuth2User(root);
-            } else {
-                String message = root.path("message").asText(null);
-                if ("401 Unauthorized: Access token is expired".equals(message)) {
-                    throw new OAuth2AccessTokenExpiredException(root.toString());
+        return new OAuth2APIExchangeTokenForUser<GiteeOAuth2Token, GiteeOAuth2User>() {
+            @Override
+            public @NotNull GiteeOAuth2User exchangeForUser(@NotNull GiteeOAuth2Token token) throws OAuth2Exception {
+                return parseResponse(metadata.requestExecutor().execute(initializeRequest(token)));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GiteeOAuth2User> exchangeForUserAsync(@NotNull GiteeOAuth2Token token) {
+                return OAuth2FutureUtils.thenApply(
+                        metadata.requestExecutor().executeAsync(initializeRequest(token)), this::parseResponse
+                );
+            }
+
+            private @NotNull OAuth2Request<?> initializeRequest(@NotNull GiteeOAuth2Token token) {
+                OAuth2Request<?> request = template.copy(false, true, true);
+                request.url().query().unique("access_token", token.accessToken());
+                return request;
+            }
+
+            private @NotNull GiteeOAuth2User parseResponse(@NotNull AbstractOAuth2Response response) throws OAuth2Exception {
+                JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
+                if (response.status() < 300) {
+                    return new GiteeOAuth2User(root);
                 } else {
-                    throw new OAuth2Exception(root.toString());
+                    String message = root.path("message").asText(null);
+                    if ("401 Unauthorized: Access token is expired".equals(message)) {
+                        throw new OAuth2AccessTokenExpiredException(root.toString());
+                    } else {
+                        throw new OAuth2Exception(root.toString());
+                    }
                 }
             }
         };
@@ -147,27 +226,51 @@ public final class GiteeOAuth2Client extends AbstractTokenRefreshableOAuth2Clien
 
     @Override
     protected @NotNull OAuth2APIRefreshToken<GiteeOAuth2Token> initializeOAuth2APIRefreshToken() {
-        String urlWithoutQueryAndAnchor = "https://gitee.com/oauth/token";
+        String urlWithoutQueryAndAnchor = TOKEN_URL;
         OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 2);
         OAuth2Request<?> template = new OAuth2Request<>(OAuth2RequestMethod.POST, url);
         template.url().query().unique("grant_type", "refresh_token");
         template.headers(new OAuth2Headers(1).userAgentEasyOAuth2());
-        return token -> {
-            OAuth2Request<?> request = template.copy(false, true, true);
-            request.url().query().unique("refresh_token", token.refreshToken());
-            AbstractOAuth2Response response = metadata.requestExecutor().execute(request);
-            JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
-            String error = root.path("error").asText(null);
-            if (error == null) {
-                return new GiteeOAuth2Token(root);
-            } else if ("invalid_grant".equals(error)) {
-                throw new OAuth2RefreshTokenExpiredException(root.toString());
-            } else {
-                throw new OAuth2Exception(root.toString());
+        return new OAuth2APIRefreshToken<GiteeOAuth2Token>() {
+            @Override
+            public @NotNull GiteeOAuth2Token refreshToken(@NotNull GiteeOAuth2Token token) throws OAuth2Exception {
+                return parseResponse(metadata.requestExecutor().execute(initializeRequest(token)));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GiteeOAuth2Token> refreshTokenAsync(@NotNull GiteeOAuth2Token token) {
+                return OAuth2FutureUtils.thenApply(
+                        metadata.requestExecutor().executeAsync(initializeRequest(token)), this::parseResponse
+                );
+            }
+
+            private @NotNull OAuth2Request<?> initializeRequest(@NotNull GiteeOAuth2Token token) {
+                OAuth2Request<?> request = template.copy(false, true, true);
+                request.url().query().unique("refresh_token", token.refreshToken());
+                return request;
+            }
+
+            private @NotNull GiteeOAuth2Token parseResponse(@NotNull AbstractOAuth2Response response) throws OAuth2Exception {
+                JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
+                String error = root.path("error").asText(null);
+                if (error == null) {
+                    return new GiteeOAuth2Token(root, metadata.clock().instant());
+                } else if ("invalid_grant".equals(error)) {
+                    throw new OAuth2RefreshTokenExpiredException(root.toString());
+                } else {
+                    throw new OAuth2Exception(root.toString());
+                }
             }
         };
     }
 
+    // ######################################################################################
+
+    @Override
+    protected @NotNull List<@NotNull String> warmUpURLs() {
+        return Arrays.asList(TOKEN_URL, USER_URL);
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
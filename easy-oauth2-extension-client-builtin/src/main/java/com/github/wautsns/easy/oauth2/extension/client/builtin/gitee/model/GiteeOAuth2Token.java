@@ -19,7 +19,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractRefreshableOAuth2Token;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.BuiltinOAuth2Platform;
 import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * Gitee oauth2 token.
@@ -79,12 +81,44 @@ public final class GiteeOAuth2Token extends AbstractRefreshableOAuth2Token {
     // ######################################################################################
 
     /**
-     * Construct an instance.
+     * Construct an instance restored from the given {@code raw} token with the system clock.
      *
      * @param raw raw
+     * @see #GiteeOAuth2Token(JsonNode, Clock)
      */
     public GiteeOAuth2Token(@NotNull JsonNode raw) {
-        super(raw);
+        this(raw, Clock.systemUTC());
+    }
+
+    /**
+     * Construct an instance restored from the given {@code raw} token.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Issued at is restored from {@value
+     * com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token#ISSUED_AT} of the raw token if
+     * present, which is recorded when the token is issued, so that restoring a persisted token does not change its
+     * expiry. Otherwise it is {@code created_at} of the raw token if present, or the current instant of the given
+     * {@code clock}.</li>
+     * </ul>
+     *
+     * @param raw raw
+     * @param clock clock
+     */
+    public GiteeOAuth2Token(@NotNull JsonNode raw, @NotNull Clock clock) {
+        super(raw, (!raw.has(ISSUED_AT) && raw.has("created_at"))
+                ? Instant.ofEpochSecond(raw.get("created_at").asLong())
+                : issuedAt(raw, clock));
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param raw raw
+     * @param issuedAt issued at
+     */
+    public GiteeOAuth2Token(@NotNull JsonNode raw, @NotNull Instant issuedAt) {
+        super(raw, issuedAt);
     }
 
 }
@@ -17,6 +17,8 @@ package com.github.wautsns.easy.oauth2.extension.client.builtin.github;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.wautsns.easy.oauth2.core.client.AbstractTokenAvailableOAuth2Client;
+import com.github.wautsns.easy.oauth2.core.client.cache.OAuth2TokenCache;
+import com.github.wautsns.easy.oauth2.core.client.cache.configuration.OAuth2TokenCacheProperties;
 import com.github.wautsns.easy.oauth2.core.client.configuration.OAuth2ClientMetadata;
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeCallbackQueryForToken;
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeCallbackQueryForUser;
@@ -24,6 +26,8 @@ import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchange
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUser;
 import com.github.wautsns.easy.oauth2.core.client.function.api.OAuth2APIExchangeTokenForUserIdentifier;
 import com.github.wautsns.easy.oauth2.core.client.function.operation.OAuth2OperationInitializeAuthorizeURL;
+import com.github.wautsns.easy.oauth2.core.client.model.OAuth2CallbackQuery;
+import com.github.wautsns.easy.oauth2.core.client.model.user.AbstractOAuth2User;
 import com.github.wautsns.easy.oauth2.core.exception.OAuth2Exception;
 import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2AccessTokenExpiredException;
 import com.github.wautsns.easy.oauth2.core.exception.specific.OAuth2UserDeniedAuthorizationException;
@@ -33,11 +37,17 @@ import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
 import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
 import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
 import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2ApplicationProperties;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.github.configuration.GitHubOAuth2AuthorizationProperties;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.github.model.GitHubOAuth2Token;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.github.model.GitHubOAuth2User;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * GitHub oauth2 client.
@@ -49,6 +59,37 @@ import org.jetbrains.annotations.NotNull;
  */
 public final class GitHubOAuth2Client extends AbstractTokenAvailableOAuth2Client<GitHubOAuth2ApplicationProperties, GitHubOAuth2AuthorizationProperties, GitHubOAuth2Token, GitHubOAuth2User> {
 
+    /** Url of access token endpoint. */
+    private static final @NotNull String ACCESS_TOKEN_URL = "https://github.com/login/oauth/access_token";
+    /** Url of user endpoint. */
+    private static final @NotNull String USER_URL = "https://api.github.com/user";
+
+    /** Users with entity tag, key is access token of token. */
+    private volatile @Nullable OAuth2TokenCache<ETaggedUser> etaggedUsers;
+
+    // ######################################################################################
+    // #################### enhanced setter #################################################
+    // ######################################################################################
+
+    /**
+     * Set properties of entity tag cache, which is used to revalidate users with conditional requests.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>If set, entity tags and users will be cached by access token of token, and exchanging the same token for
+     * user again will send {@code If-None-Match}. Requests answered with {@code 304} are not counted against the rate
+     * limit by GitHub, and the cached user is reused without transferring and parsing the body.</li>
+     * <li>Unlike {@linkplain #userCache(OAuth2TokenCache) user cache}, a request is still sent for each exchange, so
+     * changes of users are always observed.</li>
+     * <li>Disabled by default.</li>
+     * </ul>
+     *
+     * @param properties entity tag cache properties, {@code null} to disable entity tag cache
+     */
+    public void etagCache(@Nullable OAuth2TokenCacheProperties properties) {
+        this.etaggedUsers = (properties == null) ? null : new OAuth2TokenCache<>(properties);
+    }
+
     // #########################################################################################
     // #################### oauth2 function ####################################################
     // #########################################################################################
@@ -74,30 +115,50 @@ public final class GitHubOAuth2Client extends AbstractTokenAvailableOAuth2Client
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForToken<GitHubOAuth2Token> initializeOAuth2APIExchangeCallbackQueryForToken() {
-        String urlWithoutQueryAndAnchor = "https://github.com/login/oauth/access_token";
+        String urlWithoutQueryAndAnchor = ACCESS_TOKEN_URL;
         OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 3);
         OAuth2Request<?> template = new OAuth2Request<>(OAuth2RequestMethod.POST, url);
         template.url().query()
                 .unique("client_id", metadata.application().getClientId())
                 .unique("client_secret", metadata.application().getClientSecret());
         template.headers(new OAuth2Headers(1).acceptJSON());
-        return query -> {
-            String code = query.code();
-            if (code == null) {
-                String error = query.raw().path("error").asText(null);
-                if ("access_denied".equals(error)) {
-                    throw new OAuth2UserDeniedAuthorizationException(query.raw().toString());
-                } else {
-                    throw new OAuth2Exception("Authorize code does not exist.");
+        return new OAuth2APIExchangeCallbackQueryForToken<GitHubOAuth2Token>() {
+            @Override
+            public @NotNull GitHubOAuth2Token exchangeForToken(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return parseResponse(metadata.requestExecutor().execute(initializeRequest(query)));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GitHubOAuth2Token> exchangeForTokenAsync(@NotNull OAuth2CallbackQuery query) {
+                OAuth2Request<?> request;
+                try {
+                    request = initializeRequest(query);
+                } catch (OAuth2Exception e) {
+                    return OAuth2FutureUtils.failedFuture(e);
+                }
+                return OAuth2FutureUtils.thenApply(metadata.requestExecutor().executeAsync(request), this::parseResponse);
+            }
+
+            private @NotNull OAuth2Request<?> initializeRequest(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                String code = query.code();
+                if (code == null) {
+                    String error = query.raw().path("error").asText(null);
+                    if ("access_denied".equals(error)) {
+                        throw new OAuth2UserDeniedAuthorizationException(query.raw().toString());
+                    } else {
+                        throw new OAuth2Exception("Authorize code does not exist.");
+                    }
                 }
-            } else {
                 OAuth2Request<?> request = template.copy(false, true, true);
                 request.url().query().unique("code", code);
-                AbstractOAuth2Response response = metadata.requestExecutor().execute(request);
+                return request;
+            }
+
+            private @NotNull GitHubOAuth2Token parseResponse(@NotNull AbstractOAuth2Response response) throws OAuth2Exception {
                 JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
                 String error = root.path("error").asText(null);
                 if (error == null) {
-                    return new GitHubOAuth2Token(root);
+                    return new GitHubOAuth2Token(root, metadata.clock().instant());
                 } else {
                     throw new OAuth2Exception(root.toString());
                 }
@@ -109,48 +170,125 @@ public final class GitHubOAuth2Client extends AbstractTokenAvailableOAuth2Client
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForUserIdentifier initializeOAuth2APIExchangeCallbackQueryForUserIdentifier() {
-        return query -> exchangeForUser(query).identifier();
+        return new OAuth2APIExchangeCallbackQueryForUserIdentifier() {
+            @Override
+            public @NotNull String exchangeForUserIdentifier(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return exchangeForUser(query).identifier();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull OAuth2CallbackQuery query) {
+                return exchangeForUserAsync(query).thenApply(AbstractOAuth2User::identifier);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeCallbackQueryForUser<GitHubOAuth2User> initializeOAuth2APIExchangeCallbackQueryForUser() {
-        return query -> exchangeForUser(exchangeForToken(query));
+        return new OAuth2APIExchangeCallbackQueryForUser<GitHubOAuth2User>() {
+            @Override
+            public @NotNull GitHubOAuth2User exchangeForUser(@NotNull OAuth2CallbackQuery query) throws OAuth2Exception {
+                return GitHubOAuth2Client.this.exchangeForUser(exchangeForToken(query));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GitHubOAuth2User> exchangeForUserAsync(@NotNull OAuth2CallbackQuery query) {
+                // Exchanging token for user runs in the thread which completes exchanging callback query for token.
+                Function<GitHubOAuth2Token, CompletableFuture<GitHubOAuth2User>> exchangeForUserAsync =
+                        bindMetricsContext(GitHubOAuth2Client.this::exchangeForUserAsync);
+                return exchangeForTokenAsync(query).thenCompose(exchangeForUserAsync);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeTokenForUserIdentifier<GitHubOAuth2Token> initializeOAuth2APIExchangeTokenForUserIdentifier() {
-        return token -> exchangeForUser(token).identifier();
+        return new OAuth2APIExchangeTokenForUserIdentifier<GitHubOAuth2Token>() {
+            @Override
+            public @NotNull String exchangeForUserIdentifier(@NotNull GitHubOAuth2Token token) throws OAuth2Exception {
+                return exchangeForUser(token).identifier();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<String> exchangeForUserIdentifierAsync(@NotNull GitHubOAuth2Token token) {
+                return exchangeForUserAsync(token).thenApply(AbstractOAuth2User::identifier);
+            }
+        };
     }
 
     // ######################################################################################
 
     @Override
     protected @NotNull OAuth2APIExchangeTokenForUser<GitHubOAuth2Token, GitHubOAuth2User> initializeOAuth2APIExchangeTokenForUser() {
-        String urlWithoutQueryAndAnchor = "https://api.github.com/user";
+        String urlWithoutQueryAndAnchor = USER_URL;
         OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 0);
         OAuth2Request<?> template = new OAuth2Request<>(OAuth2RequestMethod.GET, url);
-        return token -> {
-            OAuth2Request<?> request = template.copy(true, false, true);
-            request.headers(new OAuth2Headers(1).authorization("token", token.accessToken()));
-            AbstractOAuth2Response response = metadata.requestExecutor().execute(request);
-            JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
-            if (response.status() < 300) {
-                return new GitHubOAuth2User(root);
-            } else {
-                String message = root.path("message").asText(null);
-                if ("Bad credentials".equals(message)) {
-                    throw new OAuth2AccessTokenExpiredException(root.toString());
+        return new OAuth2APIExchangeTokenForUser<GitHubOAuth2Token, GitHubOAuth2User>() {
+            @Override
+            public @NotNull GitHubOAuth2User exchangeForUser(@NotNull GitHubOAuth2Token token) throws OAuth2Exception {
+                OAuth2TokenCache<ETaggedUser> cache = etaggedUsers;
+                ETaggedUser etaggedUser = (cache == null) ? null : cache.get(token);
+                OAuth2Request<?> request = initializeRequest(token, etaggedUser);
+                return parseResponse(token, cache, etaggedUser, metadata.requestExecutor().execute(request));
+            }
+
+            @Override
+            public @NotNull CompletableFuture<GitHubOAuth2User> exchangeForUserAsync(@NotNull GitHubOAuth2Token token) {
+                OAuth2TokenCache<ETaggedUser> cache = etaggedUsers;
+                ETaggedUser etaggedUser = (cache == null) ? null : cache.get(token);
+                return OAuth2FutureUtils.thenApply(
+                        metadata.requestExecutor().executeAsync(initializeRequest(token, etaggedUser)),
+                        response -> parseResponse(token, cache, etaggedUser, response)
+                );
+            }
+
+            private @NotNull OAuth2Request<?> initializeRequest(
+                    @NotNull GitHubOAuth2Token token, @Nullable ETaggedUser etaggedUser) {
+                OAuth2Request<?> request = template.copy(true, false, true);
+                OAuth2Headers headers = new OAuth2Headers(2).authorization("token", token.accessToken());
+                if (etaggedUser != null) { headers.unique("If-None-Match", etaggedUser.etag); }
+                request.headers(headers);
+                return request;
+            }
+
+            private @NotNull GitHubOAuth2User parseResponse(
+                    @NotNull GitHubOAuth2Token token,
+                    @Nullable OAuth2TokenCache<ETaggedUser> cache, @Nullable ETaggedUser etaggedUser,
+                    @NotNull AbstractOAuth2Response response) throws OAuth2Exception {
+                if ((response.status() == 304) && (cache != null) && (etaggedUser != null)) {
+                    cache.put(token, etaggedUser);
+                    return etaggedUser.user;
+                }
+                JsonNode root = OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
+                if (response.status() < 300) {
+                    GitHubOAuth2User user = new GitHubOAuth2User(root);
+                    String etag = response.firstHeader("ETag");
+                    if ((cache != null) && (etag != null)) { cache.put(token, new ETaggedUser(etag, user)); }
+                    return user;
                 } else {
-                    throw new OAuth2Exception(root.toString());
+                    if (cache != null) { cache.invalidate(token); }
+                    String message = root.path("message").asText(null);
+                    if ("Bad credentials".equals(message)) {
+                        throw new OAuth2AccessTokenExpiredException(root.toString());
+                    } else {
+                        throw new OAuth2Exception(root.toString());
+                    }
                 }
             }
         };
     }
 
+    // ######################################################################################
+
+    @Override
+    protected @NotNull List<@NotNull String> warmUpURLs() {
+        return Arrays.asList(ACCESS_TOKEN_URL, USER_URL);
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
@@ -164,4 +302,29 @@ public final class GitHubOAuth2Client extends AbstractTokenAvailableOAuth2Client
         super(metadata);
     }
 
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** User with its entity tag, used to revalidate user with conditional request. */
+    private static final class ETaggedUser {
+
+        /** Entity tag. */
+        private final @NotNull String etag;
+        /** User. */
+        private final @NotNull GitHubOAuth2User user;
+
+        /**
+         * Construct an instance.
+         *
+         * @param etag entity tag
+         * @param user user
+         */
+        private ETaggedUser(@NotNull String etag, @NotNull GitHubOAuth2User user) {
+            this.etag = etag;
+            this.user = user;
+        }
+
+    }
+
 }
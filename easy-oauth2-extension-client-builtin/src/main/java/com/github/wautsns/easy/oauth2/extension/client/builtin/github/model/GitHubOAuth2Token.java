@@ -19,7 +19,9 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.github.wautsns.easy.oauth2.core.client.model.token.AbstractOAuth2Token;
 import com.github.wautsns.easy.oauth2.extension.client.builtin.BuiltinOAuth2Platform;
 import org.jetbrains.annotations.NotNull;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
 
 /**
  * GitHub oauth2 token.
@@ -66,12 +68,40 @@ public final class GitHubOAuth2Token extends AbstractOAuth2Token {
     // ######################################################################################
 
     /**
-     * Construct an instance.
+     * Construct an instance restored from the given {@code raw} token with the system clock.
      *
      * @param raw raw
+     * @see AbstractOAuth2Token#AbstractOAuth2Token(JsonNode, Clock)
      */
     public GitHubOAuth2Token(@NotNull JsonNode raw) {
         super(raw);
     }
 
+    /**
+     * Construct an instance restored from the given {@code raw} token.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>GitHub does not return when the token is issued, so issued at is restored from {@value
+     * AbstractOAuth2Token#ISSUED_AT} of the raw token, or the current instant of the given {@code clock} if
+     * absent.</li>
+     * </ul>
+     *
+     * @param raw raw
+     * @param clock clock
+     */
+    public GitHubOAuth2Token(@NotNull JsonNode raw, @NotNull Clock clock) {
+        super(raw, clock);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param raw raw
+     * @param issuedAt issued at
+     */
+    public GitHubOAuth2Token(@NotNull JsonNode raw, @NotNull Instant issuedAt) {
+        super(raw, issuedAt);
+    }
+
 }
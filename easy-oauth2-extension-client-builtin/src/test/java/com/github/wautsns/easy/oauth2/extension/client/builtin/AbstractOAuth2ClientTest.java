@@ -114,6 +114,7 @@ public abstract class AbstractOAuth2ClientTest {
         Assert.assertNotNull(user);
         String userIdentifier = client.exchangeForUserIdentifier(token);
         Assert.assertNotNull(userIdentifier);
+        Assert.assertEquals(userIdentifier, client.exchangeForUserIdentifierAsync(token).join());
     }
 
     /**
@@ -135,6 +136,10 @@ public abstract class AbstractOAuth2ClientTest {
         Assert.assertNotNull(token);
         user = client.exchangeForUser(token);
         Assert.assertNotNull(user);
+        token = (AbstractOAuth2Token) client.refreshTokenAsync((AbstractRefreshableOAuth2Token) token).join();
+        Assert.assertNotNull(token);
+        user = (AbstractOAuth2User) client.exchangeForUserAsync(token).join();
+        Assert.assertEquals(userIdentifier, user.identifier());
     }
 
     // #########################################################################################
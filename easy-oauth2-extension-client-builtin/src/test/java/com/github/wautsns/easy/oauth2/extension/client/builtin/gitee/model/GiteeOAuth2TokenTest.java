@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.client.builtin.gitee.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.ByteArrayInputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+/**
+ * Test {@link GiteeOAuth2Token}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class GiteeOAuth2TokenTest {
+
+    /** Issued at of tokens. */
+    private static final Instant ISSUED_AT = Instant.parse("2026-10-16T00:00:00Z");
+
+    // ######################################################################################
+
+    @Test
+    public void testRestoreWithCreatedAt() {
+        ObjectNode raw = initializeRaw().put("created_at", ISSUED_AT.getEpochSecond());
+        Clock later = Clock.fixed(ISSUED_AT.plus(Duration.ofDays(2)), ZoneOffset.UTC);
+        GiteeOAuth2Token token = new GiteeOAuth2Token(raw, later);
+        // Issued at is taken from created_at rather than the clock.
+        Assert.assertEquals(ISSUED_AT, token.issuedAt());
+        Assert.assertEquals(ISSUED_AT.plus(Duration.ofDays(1)), token.accessTokenExpiresAt());
+        Assert.assertTrue(token.isAccessTokenExpired(later));
+        Assert.assertFalse(token.isAccessTokenExpired(Clock.fixed(ISSUED_AT.plusSeconds(86399), ZoneOffset.UTC)));
+    }
+
+    @Test
+    public void testRestoreWithoutCreatedAt() {
+        Clock clock = Clock.fixed(ISSUED_AT, ZoneOffset.UTC);
+        GiteeOAuth2Token token = new GiteeOAuth2Token(initializeRaw(), clock);
+        Assert.assertEquals(ISSUED_AT, token.issuedAt());
+        // Restored again later, issued at recorded in the raw token is used.
+        Clock later = Clock.fixed(ISSUED_AT.plus(Duration.ofDays(2)), ZoneOffset.UTC);
+        Assert.assertEquals(ISSUED_AT, new GiteeOAuth2Token(token.raw().deepCopy(), later).issuedAt());
+    }
+
+    @Test
+    public void testRoundTripKeepsIssuedAt() throws Exception {
+        // Gitee's clock is ahead of the local one, the token is stamped with the local clock when issued.
+        Instant localIssuedAt = ISSUED_AT.minusSeconds(30);
+        ObjectNode raw = initializeRaw().put("created_at", ISSUED_AT.getEpochSecond());
+        GiteeOAuth2Token token = new GiteeOAuth2Token(raw, localIssuedAt);
+        JsonNode persisted = OAuth2DataUtils.readJSONAsTree(
+                new ByteArrayInputStream(OAuth2DataUtils.writeObjectAsJSONBytes(token.raw()))
+        );
+        Clock later = Clock.fixed(ISSUED_AT.plus(Duration.ofDays(2)), ZoneOffset.UTC);
+        GiteeOAuth2Token restoredToken = new GiteeOAuth2Token(persisted, later);
+        Assert.assertEquals(localIssuedAt, restoredToken.issuedAt());
+        Assert.assertEquals(token.accessTokenExpiresAt(), restoredToken.accessTokenExpiresAt());
+        Assert.assertEquals(token.refreshTokenExpiresAt(), restoredToken.refreshTokenExpiresAt());
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize raw token.
+     *
+     * @return raw token
+     */
+    private static ObjectNode initializeRaw() {
+        return OAuth2DataUtils.newObjectNode()
+                .put("access_token", "c3a7a4a1c2a4b1d6e5f9e8c7b6a5d4e3")
+                .put("token_type", "bearer")
+                .put("expires_in", 86400)
+                .put("refresh_token", "f3a7a4a1c2a4b1d6e5f9e8c7b6a5d4e3")
+                .put("scope", "user_info emails");
+    }
+
+}
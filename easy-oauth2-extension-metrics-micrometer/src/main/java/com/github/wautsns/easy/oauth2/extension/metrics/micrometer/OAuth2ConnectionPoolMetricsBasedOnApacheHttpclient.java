@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.metrics.micrometer;
+
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpclient.OAuth2RequestExecutorBasedOnApacheHttpclient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jetbrains.annotations.NotNull;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * OAuth2 connection pool metrics based on apache httpclient.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Binds gauges of the connection pool of an {@link OAuth2RequestExecutorBasedOnApacheHttpclient}:
+ * {@value #METER_NAME_PREFIX}{@code .leased}, {@code .pending}, {@code .available}, {@code .max} and
+ * {@code .max.per.route}.</li>
+ * <li>{@code pending} is the number of requests waiting for a connection, it keeps above zero when the pool is
+ * exhausted (i.e. {@code leased} reaches {@code max} or {@code max.per.route}).</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient implements MeterBinder {
+
+    /** Prefix of meter name. */
+    public static final String METER_NAME_PREFIX = "easy.oauth2.executor.connections";
+
+    // ######################################################################################
+
+    /** Connection manager. */
+    private final @NotNull PoolingHttpClientConnectionManager connectionManager;
+    /** Common tags. */
+    private final @NotNull Tags tags;
+
+    // ######################################################################################
+    // #################### bind ############################################################
+    // ######################################################################################
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        bindTo(registry, "leased", "Connections leased from the pool.", cm -> cm.getTotalStats().getLeased());
+        bindTo(registry, "pending", "Requests waiting for a connection.", cm -> cm.getTotalStats().getPending());
+        bindTo(registry, "available", "Idle connections in the pool.", cm -> cm.getTotalStats().getAvailable());
+        bindTo(registry, "max", "Max connections of the pool.", cm -> cm.getTotalStats().getMax());
+        bindTo(registry, "max.per.route", "Max connections per route.", cm -> cm.getDefaultMaxPerRoute());
+    }
+
+    /**
+     * Bind a gauge to the given {@code registry}.
+     *
+     * @param registry meter registry
+     * @param suffix suffix of meter name
+     * @param description description
+     * @param function function to obtain value from connection manager
+     */
+    private void bindTo(
+            @NotNull MeterRegistry registry, @NotNull String suffix, @NotNull String description,
+            @NotNull ToDoubleFunction<PoolingHttpClientConnectionManager> function) {
+        Gauge.builder(METER_NAME_PREFIX + '.' + suffix, connectionManager, function)
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param name name of the executor, used as tag {@code executor} to distinguish pools
+     */
+    public OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient(
+            @NotNull OAuth2RequestExecutorBasedOnApacheHttpclient executor, @NotNull String name) {
+        this(executor, Tags.of("executor", name));
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param tags common tags added to all meters
+     */
+    public OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient(
+            @NotNull OAuth2RequestExecutorBasedOnApacheHttpclient executor, @NotNull Iterable<Tag> tags) {
+        this.connectionManager = executor.connectionManager();
+        this.tags = Tags.of(Objects.requireNonNull(tags));
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.metrics.micrometer;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2MetricsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2 metrics recorder based on micrometer.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Operations are recorded to timer {@value #OPERATION_METER_NAME} with tags {@code platform}, {@code operation}
+ * and {@code exception}.</li>
+ * <li>Executions are recorded to timer {@value #EXECUTION_METER_NAME} with tags {@code platform}, {@code operation},
+ * {@code status} and {@code exception}.</li>
+ * <li>Tag {@code exception} is the simple name of class of the exception, or {@value #NONE} if succeeded. Tag
+ * {@code status} is {@value #NONE} if no response is received.</li>
+ * <li>Timers are cached by their tags, so recording does not build and register timers again.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2MetricsRecorderBasedOnMicrometer implements OAuth2MetricsRecorder {
+
+    /** Name of operation meter. */
+    public static final String OPERATION_METER_NAME = "easy.oauth2.client.operations";
+    /** Name of execution meter. */
+    public static final String EXECUTION_METER_NAME = "easy.oauth2.request.executions";
+    /** Tag value if the tag is absent. */
+    public static final String NONE = "none";
+
+    // ######################################################################################
+
+    /** Meter registry. */
+    private final @NotNull MeterRegistry registry;
+    /** Common tags. */
+    private final @NotNull Tags tags;
+    /** Operation timers group by key. */
+    private final @NotNull ConcurrentMap<@NotNull TimerKey, @NotNull Timer> operationTimers = new ConcurrentHashMap<>();
+    /** Execution timers group by key. */
+    private final @NotNull ConcurrentMap<@NotNull TimerKey, @NotNull Timer> executionTimers = new ConcurrentHashMap<>();
+
+    // ######################################################################################
+    // #################### record ##########################################################
+    // ######################################################################################
+
+    @Override
+    public void recordOperation(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            long durationNanos, @Nullable Throwable throwable) {
+        TimerKey key = new TimerKey(platform, operation, 0, (throwable == null) ? null : throwable.getClass());
+        operationTimers.computeIfAbsent(key, k -> Timer.builder(OPERATION_METER_NAME)
+                .description("Operations of oauth2 client.")
+                .tags(tags)
+                .tag("platform", platform)
+                .tag("operation", operation.operationName())
+                .tag("exception", exceptionType(throwable))
+                .register(registry)
+        ).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordExecution(
+            @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+            int status, long durationNanos, @Nullable Throwable throwable) {
+        TimerKey key = new TimerKey(platform, operation, status, (throwable == null) ? null : throwable.getClass());
+        executionTimers.computeIfAbsent(key, k -> Timer.builder(EXECUTION_METER_NAME)
+                .description("Executions of request during operations of oauth2 client.")
+                .tags(tags)
+                .tag("platform", platform)
+                .tag("operation", operation.operationName())
+                .tag("status", (status == 0) ? NONE : Integer.toString(status))
+                .tag("exception", exceptionType(throwable))
+                .register(registry)
+        ).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return exception type of the given {@code throwable}.
+     *
+     * @param throwable throwable
+     * @return simple name of class of the throwable, or {@value #NONE} if the throwable is {@code null}
+     */
+    private static @NotNull String exceptionType(@Nullable Throwable throwable) {
+        if (throwable == null) { return NONE; }
+        String simpleName = throwable.getClass().getSimpleName();
+        return simpleName.isEmpty() ? throwable.getClass().getName() : simpleName;
+    }
+
+    /** Key of timer, the exception tag is derived from the class of the exception. */
+    private static final class TimerKey {
+
+        /** Platform. */
+        private final @NotNull String platform;
+        /** Operation. */
+        private final @NotNull OAuth2ClientOperation operation;
+        /** Status, {@code 0} if absent. */
+        private final int status;
+        /** Class of the exception, {@code null} if succeeded. */
+        private final @Nullable Class<?> exceptionClass;
+
+        /**
+         * Construct an instance.
+         *
+         * @param platform platform
+         * @param operation operation
+         * @param status status, {@code 0} if absent
+         * @param exceptionClass class of the exception, {@code null} if succeeded
+         */
+        private TimerKey(
+                @NotNull String platform, @NotNull OAuth2ClientOperation operation,
+                int status, @Nullable Class<?> exceptionClass) {
+            this.platform = platform;
+            this.operation = operation;
+            this.status = status;
+            this.exceptionClass = exceptionClass;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) { return true; }
+            if (!(obj instanceof TimerKey)) { return false; }
+            TimerKey that = (TimerKey) obj;
+            return (status == that.status) && (operation == that.operation) && (exceptionClass == that.exceptionClass)
+                    && platform.equals(that.platform);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = platform.hashCode();
+            hash = 31 * hash + operation.hashCode();
+            hash = 31 * hash + status;
+            hash = 31 * hash + Objects.hashCode(exceptionClass);
+            return hash;
+        }
+
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param registry meter registry
+     */
+    public OAuth2MetricsRecorderBasedOnMicrometer(@NotNull MeterRegistry registry) {
+        this(registry, Tags.empty());
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param registry meter registry
+     * @param tags common tags added to all meters
+     */
+    public OAuth2MetricsRecorderBasedOnMicrometer(@NotNull MeterRegistry registry, @NotNull Iterable<Tag> tags) {
+        this.registry = Objects.requireNonNull(registry);
+        this.tags = Tags.of(tags);
+    }
+
+}
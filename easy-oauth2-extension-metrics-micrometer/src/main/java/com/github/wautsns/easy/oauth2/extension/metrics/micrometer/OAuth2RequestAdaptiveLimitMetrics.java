@@ -0,0 +1,114 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.metrics.micrometer;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestAdaptiveLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import java.util.Objects;
+
+/**
+ * OAuth2 request adaptive limit metrics.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Binds gauges {@value #METER_NAME_PREFIX}{@code .limit} and {@code .in.flight} of every host of the {@linkplain
+ * AbstractOAuth2RequestExecutor#adaptiveLimiter() adaptive limiter} of a request executor, with tag {@code
+ * host}.</li>
+ * <li>Hosts requested after binding are registered when they are first requested.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestAdaptiveLimitMetrics implements MeterBinder {
+
+    /** Prefix of meter name. */
+    public static final String METER_NAME_PREFIX = "easy.oauth2.executor.adaptive";
+
+    // ######################################################################################
+
+    /** Adaptive limiter. */
+    private final @NotNull OAuth2RequestAdaptiveLimiter limiter;
+    /** Common tags. */
+    private final @NotNull Tags tags;
+
+    // ######################################################################################
+    // #################### bind ############################################################
+    // ######################################################################################
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        limiter.addHostListener(host -> bindTo(registry, host));
+        for (String host : limiter.hosts()) { bindTo(registry, host); }
+    }
+
+    /**
+     * Bind gauges of the given {@code host} to the given {@code registry}.
+     *
+     * @param registry meter registry
+     * @param host host
+     */
+    private void bindTo(@NotNull MeterRegistry registry, @NotNull String host) {
+        Tags hostTags = tags.and("host", host);
+        Gauge.builder(METER_NAME_PREFIX + ".limit", limiter, l -> l.limit(host))
+                .description("Current adaptive limit of concurrent requests to the host.")
+                .tags(hostTags)
+                .register(registry);
+        Gauge.builder(METER_NAME_PREFIX + ".in.flight", limiter, l -> l.inFlightRequests(host))
+                .description("In-flight requests to the host.")
+                .tags(hostTags)
+                .register(registry);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param name name of the executor, used as tag {@code executor} to distinguish executors
+     * @throws IllegalArgumentException if the {@code executor} has no adaptive limiter
+     */
+    public OAuth2RequestAdaptiveLimitMetrics(@NotNull AbstractOAuth2RequestExecutor<?> executor, @NotNull String name) {
+        this(executor, Tags.of("executor", name));
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param tags common tags added to all meters
+     * @throws IllegalArgumentException if the {@code executor} has no adaptive limiter
+     */
+    public OAuth2RequestAdaptiveLimitMetrics(
+            @NotNull AbstractOAuth2RequestExecutor<?> executor, @NotNull Iterable<Tag> tags) {
+        OAuth2RequestAdaptiveLimiter current = executor.adaptiveLimiter();
+        if (current == null) {
+            throw new IllegalArgumentException("The executor has no adaptive limiter, adaptive limit should be set.");
+        }
+        this.limiter = current;
+        this.tags = Tags.of(Objects.requireNonNull(tags));
+    }
+
+}
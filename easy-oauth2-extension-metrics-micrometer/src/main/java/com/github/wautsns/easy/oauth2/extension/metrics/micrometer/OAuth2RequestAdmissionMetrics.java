@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.metrics.micrometer;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestAdmission;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.jetbrains.annotations.NotNull;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2 request admission metrics.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Binds meters of the {@linkplain AbstractOAuth2RequestExecutor#admission() admission} of a request executor:
+ * gauges {@value #METER_NAME_PREFIX}{@code .queue.length}, {@code .admitted} and {@code .max}, counter {@code
+ * .rejected}, and timer {@code .queue.wait}.</li>
+ * <li>{@code queue.wait} records requests which have waited in the queue, a request admitted immediately is not
+ * recorded.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestAdmissionMetrics implements MeterBinder {
+
+    /** Prefix of meter name. */
+    public static final String METER_NAME_PREFIX = "easy.oauth2.executor.admission";
+
+    // ######################################################################################
+
+    /** Admission. */
+    private final @NotNull OAuth2RequestAdmission admission;
+    /** Common tags. */
+    private final @NotNull Tags tags;
+
+    // ######################################################################################
+    // #################### bind ############################################################
+    // ######################################################################################
+
+    @Override
+    public void bindTo(@NotNull MeterRegistry registry) {
+        Gauge.builder(METER_NAME_PREFIX + ".queue.length", admission, OAuth2RequestAdmission::queueLength)
+                .description("Requests waiting in the queue.")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(METER_NAME_PREFIX + ".admitted", admission, OAuth2RequestAdmission::admittedRequests)
+                .description("Requests admitted and not released.")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(METER_NAME_PREFIX + ".max", admission, OAuth2RequestAdmission::maxConcurrentRequests)
+                .description("Max concurrent requests admitted.")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(METER_NAME_PREFIX + ".rejected", admission, OAuth2RequestAdmission::rejectedCount)
+                .description("Requests rejected because the queue is full or the wait timed out.")
+                .tags(tags)
+                .register(registry);
+        FunctionTimer.builder(
+                METER_NAME_PREFIX + ".queue.wait", admission,
+                OAuth2RequestAdmission::queuedCount,
+                a -> a.totalQueueWaitTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS
+        ).description("Time requests waited in the queue.").tags(tags).register(registry);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param name name of the executor, used as tag {@code executor} to distinguish executors
+     * @throws IllegalArgumentException if the {@code executor} has no admission
+     */
+    public OAuth2RequestAdmissionMetrics(@NotNull AbstractOAuth2RequestExecutor<?> executor, @NotNull String name) {
+        this(executor, Tags.of("executor", name));
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param executor request executor
+     * @param tags common tags added to all meters
+     * @throws IllegalArgumentException if the {@code executor} has no admission
+     */
+    public OAuth2RequestAdmissionMetrics(
+            @NotNull AbstractOAuth2RequestExecutor<?> executor, @NotNull Iterable<Tag> tags) {
+        OAuth2RequestAdmission current = executor.admission();
+        if (current == null) {
+            throw new IllegalArgumentException("The executor has no admission, max queue length should be set.");
+        }
+        this.admission = current;
+        this.tags = Tags.of(Objects.requireNonNull(tags));
+    }
+
+}
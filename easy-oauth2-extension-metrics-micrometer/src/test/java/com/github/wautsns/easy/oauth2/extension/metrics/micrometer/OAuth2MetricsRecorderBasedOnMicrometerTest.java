@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.metrics.micrometer;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.extension.request.apache.httpclient.OAuth2RequestExecutorBasedOnApacheHttpclient;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2MetricsRecorderBasedOnMicrometer} and {@link OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2MetricsRecorderBasedOnMicrometerTest {
+
+    @Test
+    public void testRecord() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OAuth2MetricsRecorderBasedOnMicrometer recorder = new OAuth2MetricsRecorderBasedOnMicrometer(registry);
+        OAuth2ClientOperation operation = OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER;
+        recorder.recordOperation("github", operation, TimeUnit.MILLISECONDS.toNanos(3), null);
+        recorder.recordOperation("github", operation, TimeUnit.MILLISECONDS.toNanos(5), null);
+        recorder.recordOperation("github", operation, TimeUnit.MILLISECONDS.toNanos(7), new IOException());
+        recorder.recordExecution("github", operation, 200, TimeUnit.MILLISECONDS.toNanos(2), null);
+        Timer succeeded = registry.get(OAuth2MetricsRecorderBasedOnMicrometer.OPERATION_METER_NAME)
+                .tag("platform", "github")
+                .tag("operation", "exchangeTokenForUser")
+                .tag("exception", OAuth2MetricsRecorderBasedOnMicrometer.NONE)
+                .timer();
+        Assert.assertEquals(2, succeeded.count());
+        Assert.assertEquals(8.0, succeeded.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        Timer failed = registry.get(OAuth2MetricsRecorderBasedOnMicrometer.OPERATION_METER_NAME)
+                .tag("exception", "IOException")
+                .timer();
+        Assert.assertEquals(1, failed.count());
+        // Timers are cached by tags, so each tuple of tags is registered once.
+        String operationMeterName = OAuth2MetricsRecorderBasedOnMicrometer.OPERATION_METER_NAME;
+        Assert.assertEquals(2, registry.find(operationMeterName).timers().size());
+        Timer execution = registry.get(OAuth2MetricsRecorderBasedOnMicrometer.EXECUTION_METER_NAME)
+                .tag("status", "200")
+                .timer();
+        Assert.assertEquals(1, execution.count());
+    }
+
+    @Test
+    public void testBindConnectionPool() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OAuth2RequestExecutorBasedOnApacheHttpclient executor = new OAuth2RequestExecutorBasedOnApacheHttpclient(
+                new OAuth2RequestExecutorProperties().setMaxConcurrentRequests(8)
+        );
+        new OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient(executor, "default").bindTo(registry);
+        String prefix = OAuth2ConnectionPoolMetricsBasedOnApacheHttpclient.METER_NAME_PREFIX;
+        Assert.assertEquals(8.0, registry.get(prefix + ".max").tag("executor", "default").gauge().value(), 0.0);
+        Assert.assertEquals(8.0, registry.get(prefix + ".max.per.route").gauge().value(), 0.0);
+        Assert.assertEquals(0.0, registry.get(prefix + ".leased").gauge().value(), 0.0);
+        Assert.assertEquals(0.0, registry.get(prefix + ".pending").gauge().value(), 0.0);
+        Assert.assertEquals(0.0, registry.get(prefix + ".available").gauge().value(), 0.0);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.request.apache.httpasyncclient;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpOptions;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2 request executor based on apache httpasyncclient.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Requests are executed by the non-blocking I/O reactor of apache httpasyncclient, so {@link
+ * #executeAsync(com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request)} will not block the calling
+ * thread.</li>
+ * <li>Apache httpasyncclient does not support automatic retry, so {@link OAuth2RequestExecutorProperties#getRetryTimes()}
+ * will be ignored. Add an {@link com.github.wautsns.easy.oauth2.core.request.executor.retry.OAuth2RetryInterceptor}
+ * to retry requests.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorBasedOnApacheHttpasyncclient extends AbstractOAuth2RequestExecutor<HttpRequestBase> {
+
+    /** Raw http async client. */
+    private final @NotNull CloseableHttpAsyncClient raw;
+    /** Idle connection evictor, {@code null} if max idle time is not set. */
+    private final @Nullable ScheduledExecutorService idleConnectionEvictor;
+
+    // #########################################################################################
+    // #################### implement protected abstract method ################################
+    // #########################################################################################
+
+    @Override
+    protected @NotNull HttpRequestBase initializeActualRequest(
+            @NotNull OAuth2RequestMethod method, @NotNull String url) {
+        switch (method) {
+            case GET:
+                return new HttpGet(url);
+            case POST:
+                return new HttpPost(url);
+            case PUT:
+                return new HttpPut(url);
+            case PATCH:
+                return new HttpPatch(url);
+            case DELETE:
+                return new HttpDelete(url);
+            case OPTIONS:
+                return new HttpOptions(url);
+            case HEAD:
+                return new HttpHead(url);
+            default:
+                throw new IllegalStateException(String.format("Illegal method: %s", method));
+        }
+    }
+
+    @Override
+    protected void addHeader(@NotNull HttpRequestBase actualRequest, @NotNull String name, @NotNull String value) {
+        actualRequest.addHeader(name, value);
+    }
+
+    @Override
+    protected void setContentTypeAndEntity(
+            @NotNull HttpRequestBase actualRequest, @NotNull AbstractOAuth2RequestEntity entity) {
+        if (actualRequest instanceof HttpEntityEnclosingRequestBase) {
+            ByteArrayEntity actualEntity = new ByteArrayEntity(entity.bytes());
+            actualEntity.setContentType(entity.contentType());
+            ((HttpEntityEnclosingRequestBase) actualRequest).setEntity(actualEntity);
+        }
+    }
+
+    @Override
+    protected @NotNull AbstractOAuth2Response executeActualRequest(@NotNull HttpRequestBase actualRequest) throws IOException {
+        try {
+            return new OAuth2ResponseBasedOnApacheHttpasyncclient(raw.execute(actualRequest, null).get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            actualRequest.abort();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while executing request.");
+            exception.initCause(e);
+            throw exception;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(
+            @NotNull HttpRequestBase actualRequest) {
+        CompletableFuture<AbstractOAuth2Response> future = new CompletableFuture<>();
+        raw.execute(actualRequest, new FutureCallback<HttpResponse>() {
+            @Override
+            public void completed(HttpResponse result) {
+                future.complete(new OAuth2ResponseBasedOnApacheHttpasyncclient(result));
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                future.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                future.completeExceptionally(new InterruptedIOException("Request has been cancelled."));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Close raw http async client and shut down idle connection evictor.
+     *
+     * @throws IOException if I/O error occurs
+     */
+    @Override
+    protected void closeActualExecutor() throws IOException {
+        if (idleConnectionEvictor != null) { idleConnectionEvictor.shutdownNow(); }
+        raw.close();
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties request executor properties
+     */
+    public OAuth2RequestExecutorBasedOnApacheHttpasyncclient(@NotNull OAuth2RequestExecutorProperties properties) {
+        super(properties);
+        HttpAsyncClientBuilder builder = HttpAsyncClientBuilder.create();
+        // Set request config.
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        IOReactorConfig.Builder ioReactorConfigBuilder = IOReactorConfig.custom();
+        if (properties.getConnectTimeout() != null) {
+            requestConfigBuilder.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+            ioReactorConfigBuilder.setConnectTimeout((int) properties.getConnectTimeout().toMillis());
+        }
+        if (properties.getReadTimeout() != null) {
+            requestConfigBuilder.setSocketTimeout((int) properties.getReadTimeout().toMillis());
+            ioReactorConfigBuilder.setSoTimeout((int) properties.getReadTimeout().toMillis());
+        }
+        builder.setDefaultRequestConfig(requestConfigBuilder.build());
+        // Set connect manager.
+        PoolingNHttpClientConnectionManager connectionManager;
+        try {
+            connectionManager = new PoolingNHttpClientConnectionManager(
+                    new DefaultConnectingIOReactor(ioReactorConfigBuilder.build())
+            );
+        } catch (IOReactorException e) {
+            throw new IllegalStateException("Failed to initialize I/O reactor.", e);
+        }
+        if (properties.getMaxConcurrentRequests() != null) {
+            connectionManager.setMaxTotal(properties.getMaxConcurrentRequests());
+        }
+        // Limits and reservations of hosts are enforced by the abstract executor, routes are only limited by the max.
+        if (properties.maxConcurrentRequestsOfAnyHost() != null) {
+            connectionManager.setDefaultMaxPerRoute(properties.maxConcurrentRequestsOfAnyHost());
+        }
+        builder.setConnectionManager(connectionManager);
+        // Set max idle time.
+        if (properties.getMaxIdleTime() != null) {
+            long maxIdleTimeMillis = properties.getMaxIdleTime().toMillis();
+            this.idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "easy-oauth2-idle-connection-evictor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.idleConnectionEvictor.scheduleWithFixedDelay(() -> {
+                connectionManager.closeExpiredConnections();
+                connectionManager.closeIdleConnections(maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+            }, maxIdleTimeMillis, maxIdleTimeMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.idleConnectionEvictor = null;
+        }
+        // Set keep alive.
+        if (properties.getKeepAliveTimeout() != null) {
+            long keepAliveTimeoutMillis = properties.getKeepAliveTimeout().toMillis();
+            ConnectionKeepAliveStrategy keepAliveStrategy = (resp, ctx) -> keepAliveTimeoutMillis;
+            builder.setKeepAliveStrategy(keepAliveStrategy);
+        }
+        // Set proxy.
+        if (properties.getProxy() != null) {
+            builder.setProxy(HttpHost.create(properties.getProxy()));
+        }
+        // Build and start apache http async client.
+        this.raw = builder.build();
+        this.raw.start();
+        log.info("Request executor has been initialized with properties: {}", properties);
+    }
+
+}
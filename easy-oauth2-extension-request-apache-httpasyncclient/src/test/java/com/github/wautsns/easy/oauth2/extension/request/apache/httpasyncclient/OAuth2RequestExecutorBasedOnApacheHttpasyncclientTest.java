@@ -0,0 +1,197 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.request.apache.httpasyncclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2Headers;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.request.builtin.entity.OAuth2RequestURLEncodedFormEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2DataUtils;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test {@link OAuth2RequestExecutorBasedOnApacheHttpasyncclient}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2RequestExecutorBasedOnApacheHttpasyncclientTest {
+
+    /** Local http server. */
+    private static HttpServer server;
+    /** Latch holding responses of {@code /slow} until counted down. */
+    private static volatile CountDownLatch slowLatch;
+
+    // ######################################################################################
+
+    @BeforeClass
+    public static void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // Responds with the method, the body and the client port (which identifies the connection).
+        server.createContext("/echo", exchange -> {
+            String body;
+            try (InputStream inputStream = exchange.getRequestBody()) {
+                body = OAuth2DataUtils.readInputStreamAsText(inputStream);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] bytes = OAuth2DataUtils.writeObjectAsJSONBytes(OAuth2DataUtils.newObjectNode()
+                    .put("method", exchange.getRequestMethod())
+                    .put("contentType", exchange.getRequestHeaders().getFirst("Content-Type"))
+                    .put("body", body)
+                    .put("port", exchange.getRemoteAddress().getPort()));
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                slowLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "test-http-server");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.stop(0);
+    }
+
+    // ######################################################################################
+
+    @Test
+    public void testExecuteWithEntity() throws Exception {
+        try (OAuth2RequestExecutorBasedOnApacheHttpasyncclient executor = initializeExecutor(null)) {
+            OAuth2Request<?> request = initializeRequest(OAuth2RequestMethod.POST, "/echo")
+                    .entity(new OAuth2RequestURLEncodedFormEntity(1).unique("code", "a b"));
+            JsonNode body = readBody(executor.execute(request));
+            Assert.assertEquals("POST", body.path("method").asText());
+            Assert.assertEquals("code=a+b", body.path("body").asText());
+            Assert.assertTrue(body.path("contentType").asText().startsWith("application/x-www-form-urlencoded"));
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncWithoutBlocking() throws Exception {
+        slowLatch = new CountDownLatch(1);
+        try (OAuth2RequestExecutorBasedOnApacheHttpasyncclient executor = initializeExecutor(null)) {
+            CompletableFuture<AbstractOAuth2Response> future =
+                    executor.executeAsync(initializeRequest(OAuth2RequestMethod.GET, "/slow"));
+            // The calling thread returns before the response arrives.
+            Assert.assertFalse(future.isDone());
+            CompletableFuture<String> callbackThread = future.thenApply(response -> Thread.currentThread().getName());
+            slowLatch.countDown();
+            // Wait for the dependent rather than the future itself, a thread waiting for the future may run dependents.
+            String threadName = callbackThread.get(5, TimeUnit.SECONDS);
+            // The future is completed by the I/O reactor of apache httpasyncclient.
+            Assert.assertTrue(threadName, threadName.startsWith("I/O dispatcher"));
+            Assert.assertEquals(204, future.get().status());
+        }
+    }
+
+    @Test
+    public void testIdleConnectionEviction() throws Exception {
+        try (OAuth2RequestExecutorBasedOnApacheHttpasyncclient executor =
+                     initializeExecutor(Duration.ofMillis(100))) {
+            int port = readBody(executor.execute(initializeRequest(OAuth2RequestMethod.GET, "/echo")))
+                    .path("port").asInt();
+            // The connection is reused while it is not idle for long.
+            Assert.assertEquals(port, readBody(executor.execute(initializeRequest(OAuth2RequestMethod.GET, "/echo")))
+                    .path("port").asInt());
+            TimeUnit.MILLISECONDS.sleep(500);
+            // The idle connection has been evicted, so a new connection is established.
+            Assert.assertNotEquals(port, readBody(executor.execute(initializeRequest(OAuth2RequestMethod.GET, "/echo")))
+                    .path("port").asInt());
+        }
+    }
+
+    @Test
+    public void testClose() {
+        OAuth2RequestExecutorBasedOnApacheHttpasyncclient executor = initializeExecutor(Duration.ofMillis(100));
+        executor.close();
+        Assert.assertTrue(executor.isClosed());
+        Assert.assertTrue(executor.executeAsync(initializeRequest(OAuth2RequestMethod.GET, "/echo"))
+                .isCompletedExceptionally());
+    }
+
+    // ######################################################################################
+
+    /**
+     * Initialize executor.
+     *
+     * @param maxIdleTime max idle time of connection, {@code null} means default
+     * @return executor
+     */
+    private static OAuth2RequestExecutorBasedOnApacheHttpasyncclient initializeExecutor(Duration maxIdleTime) {
+        return new OAuth2RequestExecutorBasedOnApacheHttpasyncclient(
+                new OAuth2RequestExecutorProperties().setMaxIdleTime(maxIdleTime).rewriteNullToDefaultValue()
+        );
+    }
+
+    /**
+     * Initialize request.
+     *
+     * @param method method
+     * @param path path
+     * @return request
+     */
+    private static OAuth2Request<OAuth2RequestURLEncodedFormEntity> initializeRequest(
+            OAuth2RequestMethod method, String path) {
+        String urlWithoutQueryAndAnchor = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+        return new OAuth2Request<OAuth2RequestURLEncodedFormEntity>(method, new OAuth2URL(urlWithoutQueryAndAnchor, 0))
+                .headers(new OAuth2Headers(1).userAgentEasyOAuth2());
+    }
+
+    /**
+     * Read body of the given {@code response} as json.
+     *
+     * @param response response
+     * @return body
+     * @throws Exception if error occurs
+     */
+    private static JsonNode readBody(AbstractOAuth2Response response) throws Exception {
+        Assert.assertEquals(200, response.status());
+        return OAuth2DataUtils.readJSONAsTree(response.bodyInputStream());
+    }
+
+}
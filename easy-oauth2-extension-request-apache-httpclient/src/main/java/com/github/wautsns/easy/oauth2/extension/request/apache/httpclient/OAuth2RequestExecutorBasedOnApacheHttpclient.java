@@ -20,8 +20,8 @@ import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2
 import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
 import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
 import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.request.util.OAuth2FutureUtils;
 import org.apache.http.HttpHost;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
@@ -34,10 +34,12 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.jetbrains.annotations.NotNull;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -49,7 +51,28 @@ import java.util.concurrent.TimeUnit;
 public final class OAuth2RequestExecutorBasedOnApacheHttpclient extends AbstractOAuth2RequestExecutor<HttpRequestBase> {
 
     /** Raw http client. */
-    private final @NotNull HttpClient raw;
+    private final @NotNull CloseableHttpClient raw;
+    /** Connection manager of raw http client. */
+    private final @NotNull PoolingHttpClientConnectionManager connectionManager;
+
+    // ######################################################################################
+    // #################### enhanced getter #################################################
+    // ######################################################################################
+
+    /**
+     * Return connection manager of raw http client.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The connection manager is exposed to monitor the pool (e.g. {@link
+     * PoolingHttpClientConnectionManager#getTotalStats()}), it should not be modified.</li>
+     * </ul>
+     *
+     * @return connection manager
+     */
+    public @NotNull PoolingHttpClientConnectionManager connectionManager() {
+        return connectionManager;
+    }
 
     // #########################################################################################
     // #################### implement protected abstract method ################################
@@ -98,6 +121,43 @@ public final class OAuth2RequestExecutorBasedOnApacheHttpclient extends Abstract
         return new OAuth2ResponseBasedOnApacheHttpclient(raw.execute(actualRequest));
     }
 
+    /**
+     * Execute the given {@code actualRequest} asynchronously.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>Apache httpclient is based on blocking I/O, so the request will be executed in the calling thread and a
+     * completed future will be returned.</li>
+     * </ul>
+     *
+     * @param actualRequest actual request
+     * @return completed future of response
+     */
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(
+            @NotNull HttpRequestBase actualRequest) {
+        try {
+            return CompletableFuture.completedFuture(executeActualRequest(actualRequest));
+        } catch (IOException | RuntimeException e) {
+            return OAuth2FutureUtils.failedFuture(e);
+        }
+    }
+
+    /**
+     * Close raw http client.
+     *
+     * <ul>
+     * <li style="list-style-type:none">########## Notes ###############</li>
+     * <li>The connection manager and the idle connection evictor will be shut down as well.</li>
+     * </ul>
+     *
+     * @throws IOException if I/O error occurs
+     */
+    @Override
+    protected void closeActualExecutor() throws IOException {
+        raw.close();
+    }
+
     // ######################################################################################
     // #################### constructor #####################################################
     // ######################################################################################
@@ -108,6 +168,7 @@ public final class OAuth2RequestExecutorBasedOnApacheHttpclient extends Abstract
      * @param properties request executor properties
      */
     public OAuth2RequestExecutorBasedOnApacheHttpclient(@NotNull OAuth2RequestExecutorProperties properties) {
+        super(properties);
         HttpClientBuilder builder = HttpClientBuilder.create();
         // Set request config.
         RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
@@ -122,9 +183,13 @@ public final class OAuth2RequestExecutorBasedOnApacheHttpclient extends Abstract
         PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
         if (properties.getMaxConcurrentRequests() != null) {
             connectionManager.setMaxTotal(properties.getMaxConcurrentRequests());
-            connectionManager.setDefaultMaxPerRoute(properties.getMaxConcurrentRequests());
+        }
+        // Limits and reservations of hosts are enforced by the abstract executor, routes are only limited by the max.
+        if (properties.maxConcurrentRequestsOfAnyHost() != null) {
+            connectionManager.setDefaultMaxPerRoute(properties.maxConcurrentRequestsOfAnyHost());
         }
         builder.setConnectionManager(connectionManager);
+        this.connectionManager = connectionManager;
         // Set max idle time.
         if (properties.getMaxIdleTime() != null) {
             builder.evictIdleConnections(properties.getMaxIdleTime().toMillis(), TimeUnit.MILLISECONDS);
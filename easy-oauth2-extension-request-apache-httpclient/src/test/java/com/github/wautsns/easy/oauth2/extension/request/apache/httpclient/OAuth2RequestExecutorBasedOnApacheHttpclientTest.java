@@ -61,4 +61,18 @@ public class OAuth2RequestExecutorBasedOnApacheHttpclientTest {
         log.info("response status: {}, response body: {}", response.status(), body);
     }
 
+    @Test
+    public void testExecuteAsync() throws Exception {
+        OAuth2RequestExecutorFactory<?> factory = OAuth2RequestExecutorFactoryManager.any();
+        AbstractOAuth2RequestExecutor<?> executor = factory.create(new OAuth2RequestExecutorProperties());
+        String urlWithoutQueryAndAnchor = "https://api.github.com/users/wautsns";
+        OAuth2URL url = new OAuth2URL(urlWithoutQueryAndAnchor, 0);
+        OAuth2Request<?> request = new OAuth2Request<>(OAuth2RequestMethod.GET, url);
+        request.headers(new OAuth2Headers(1).userAgentEasyOAuth2());
+        AbstractOAuth2Response response = executor.executeAsync(request).get();
+        Assert.assertEquals(200, response.status());
+        String body = OAuth2DataUtils.readInputStreamAsText(response.bodyInputStream());
+        log.info("response status: {}, response body: {}", response.status(), body);
+    }
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.request.jdk.httpclient;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.AbstractOAuth2RequestExecutor;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import com.github.wautsns.easy.oauth2.core.request.model.request.AbstractOAuth2RequestEntity;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * OAuth2 request executor based on jdk httpclient.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>HTTP/2 is preferred, so concurrent requests to the same host are multiplexed over a few connections, and
+ * {@link #executeAsync(com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request)} will not block the
+ * calling thread.</li>
+ * <li>Jdk httpclient manages its connections by itself, so {@link
+ * OAuth2RequestExecutorProperties#getMaxConcurrentRequests()}, {@link OAuth2RequestExecutorProperties#getMaxIdleTime()},
+ * {@link OAuth2RequestExecutorProperties#getKeepAliveTimeout()} and {@link
+ * OAuth2RequestExecutorProperties#getRetryTimes()} will be ignored. However, if concurrent requests are {@linkplain
+ * OAuth2RequestExecutorProperties#isPartitionedByHost() partitioned by host}, the limits (including the max concurrent
+ * requests) and reservations will be enforced before requests are sent.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorBasedOnJdkHttpclient extends AbstractOAuth2RequestExecutor<OAuth2RequestExecutorBasedOnJdkHttpclient.ActualRequest> {
+
+    /** Raw http client. */
+    private final @NotNull HttpClient raw;
+    /** Read timeout. */
+    private final @Nullable Duration readTimeout;
+
+    // #########################################################################################
+    // #################### implement protected abstract method ################################
+    // #########################################################################################
+
+    @Override
+    protected @NotNull ActualRequest initializeActualRequest(@NotNull OAuth2RequestMethod method, @NotNull String url) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .method(method.name(), HttpRequest.BodyPublishers.noBody());
+        if (readTimeout != null) { builder.timeout(readTimeout); }
+        return new ActualRequest(method, builder);
+    }
+
+    @Override
+    protected void addHeader(@NotNull ActualRequest actualRequest, @NotNull String name, @NotNull String value) {
+        actualRequest.builder.header(name, value);
+    }
+
+    @Override
+    protected void setContentTypeAndEntity(
+            @NotNull ActualRequest actualRequest, @NotNull AbstractOAuth2RequestEntity entity) {
+        switch (actualRequest.method) {
+            case POST:
+            case PUT:
+            case PATCH:
+                actualRequest.builder.header("Content-Type", entity.contentType());
+                actualRequest.builder.method(
+                        actualRequest.method.name(), HttpRequest.BodyPublishers.ofByteArray(entity.bytes()));
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    protected @NotNull AbstractOAuth2Response executeActualRequest(@NotNull ActualRequest actualRequest)
+            throws IOException {
+        try {
+            HttpResponse<byte[]> response =
+                    raw.send(actualRequest.builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            return new OAuth2ResponseBasedOnJdkHttpclient(response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while executing request.");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    @Override
+    protected @NotNull CompletableFuture<AbstractOAuth2Response> executeActualRequestAsync(
+            @NotNull ActualRequest actualRequest) {
+        return raw.sendAsync(actualRequest.builder.build(), HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(OAuth2ResponseBasedOnJdkHttpclient::new);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param properties request executor properties
+     */
+    public OAuth2RequestExecutorBasedOnJdkHttpclient(@NotNull OAuth2RequestExecutorProperties properties) {
+        super(properties);
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL);
+        // Set timeout.
+        if (properties.getConnectTimeout() != null) {
+            builder.connectTimeout(properties.getConnectTimeout());
+        }
+        this.readTimeout = properties.getReadTimeout();
+        // Set proxy.
+        if (properties.getProxy() != null) {
+            String proxy = properties.getProxy();
+            URI proxyURI = URI.create(proxy.contains("://") ? proxy : ("http://" + proxy));
+            int port = proxyURI.getPort();
+            if (port == -1) { port = "https".equalsIgnoreCase(proxyURI.getScheme()) ? 443 : 80; }
+            builder.proxy(ProxySelector.of(new InetSocketAddress(proxyURI.getHost(), port)));
+        }
+        // Build jdk http client.
+        this.raw = builder.build();
+        log.info("Request executor has been initialized with properties: {}", properties);
+    }
+
+    // ######################################################################################
+    // #################### actual request ##################################################
+    // ######################################################################################
+
+    /**
+     * Actual request, the request method is kept alongside the builder since the builder does not expose it.
+     *
+     * @author wautsns
+     * @since Oct 16, 2026
+     */
+    public static final class ActualRequest {
+
+        /** Request method. */
+        private final @NotNull OAuth2RequestMethod method;
+        /** Jdk http request builder. */
+        private final @NotNull HttpRequest.Builder builder;
+
+        /**
+         * Construct an instance.
+         *
+         * @param method request method
+         * @param builder jdk http request builder
+         */
+        ActualRequest(@NotNull OAuth2RequestMethod method, @NotNull HttpRequest.Builder builder) {
+            this.method = method;
+            this.builder = builder;
+        }
+
+    }
+
+}
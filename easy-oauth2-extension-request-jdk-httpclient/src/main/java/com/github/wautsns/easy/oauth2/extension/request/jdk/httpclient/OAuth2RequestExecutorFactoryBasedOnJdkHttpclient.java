@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.request.jdk.httpclient;
+
+import com.github.wautsns.easy.oauth2.core.request.executor.OAuth2RequestExecutorFactory;
+import com.github.wautsns.easy.oauth2.core.request.executor.configuration.OAuth2RequestExecutorProperties;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * OAuth2 request executor factory based on jdk httpclient.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2RequestExecutorFactoryBasedOnJdkHttpclient implements
+        OAuth2RequestExecutorFactory<OAuth2RequestExecutorBasedOnJdkHttpclient.ActualRequest> {
+
+    @Override
+    public boolean isEnabled() {
+        try {
+            Class.forName("java.net.http.HttpClient");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public @NotNull OAuth2RequestExecutorBasedOnJdkHttpclient create(@NotNull OAuth2RequestExecutorProperties properties) {
+        return new OAuth2RequestExecutorBasedOnJdkHttpclient(properties);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.request.jdk.httpclient;
+
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * OAuth2 response based on jdk httpclient.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2ResponseBasedOnJdkHttpclient extends AbstractOAuth2Response {
+
+    /** Raw http response. */
+    private final @NotNull HttpResponse<byte[]> raw;
+
+    // ######################################################################################
+
+    @Override
+    public int status() {
+        return raw.statusCode();
+    }
+
+    @Override
+    public @Nullable String firstHeader(@NotNull String name) {
+        return raw.headers().firstValue(name).orElse(null);
+    }
+
+    @Override
+    public @Nullable String lastHeader(@NotNull String name) {
+        List<String> values = raw.headers().allValues(name);
+        return values.isEmpty() ? null : values.get(values.size() - 1);
+    }
+
+    @Override
+    public @NotNull List<@NotNull String> headers(@NotNull String name) {
+        return raw.headers().allValues(name);
+    }
+
+    @Override
+    public @Nullable InputStream bodyInputStream() {
+        byte[] body = raw.body();
+        return (body == null) ? null : new ByteArrayInputStream(body);
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param raw raw http response
+     */
+    public OAuth2ResponseBasedOnJdkHttpclient(@NotNull HttpResponse<byte[]> raw) {
+        this.raw = Objects.requireNonNull(raw);
+    }
+
+}
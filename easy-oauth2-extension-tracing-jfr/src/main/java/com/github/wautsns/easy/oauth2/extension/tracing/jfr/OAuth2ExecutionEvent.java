@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event: execution of request during an operation of oauth2 client.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+@Name(OAuth2ExecutionEvent.NAME)
+@Label("OAuth2 Request Execution")
+@Category({ "easy-oauth2" })
+@Description("Execution of request during an operation of oauth2 client.")
+@StackTrace(false)
+public final class OAuth2ExecutionEvent extends Event {
+
+    /** Event name. */
+    public static final String NAME = "com.github.wautsns.easy.oauth2.Execution";
+
+    // ######################################################################################
+
+    @Label("Platform")
+    String platform;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Method")
+    String method;
+
+    @Label("URL")
+    @Description("URL without query and anchor.")
+    String url;
+
+    @Label("Status")
+    @Description("Response status, or 0 if no response is received.")
+    int status;
+
+    @Label("Bytes Received")
+    @Description("Content length of the response, or -1 if unknown.")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Exception Type")
+    @Description("Simple name of class of the exception if no response is received.")
+    String exceptionType;
+
+}
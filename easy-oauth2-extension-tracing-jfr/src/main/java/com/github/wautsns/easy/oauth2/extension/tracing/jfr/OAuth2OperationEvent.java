@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event: operation of oauth2 client.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+@Name(OAuth2OperationEvent.NAME)
+@Label("OAuth2 Operation")
+@Category({ "easy-oauth2" })
+@Description("Operation of oauth2 client, e.g. exchanging token for user, refreshing token.")
+@StackTrace(false)
+public final class OAuth2OperationEvent extends Event {
+
+    /** Event name. */
+    public static final String NAME = "com.github.wautsns.easy.oauth2.Operation";
+
+    // ######################################################################################
+
+    @Label("Platform")
+    String platform;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Exception Type")
+    @Description("Simple name of class of the exception if the operation failed.")
+    String exceptionType;
+
+}
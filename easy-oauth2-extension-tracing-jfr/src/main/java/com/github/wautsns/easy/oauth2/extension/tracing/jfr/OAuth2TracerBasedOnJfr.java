@@ -0,0 +1,194 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.jfr;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.response.AbstractOAuth2Response;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Tracer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * OAuth2 tracer based on java flight recorder.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>Operations are emitted as {@link OAuth2OperationEvent}, executions are emitted as {@link
+ * OAuth2ExecutionEvent}.</li>
+ * <li>If no recording enables an event, the event is neither timed nor committed, so the cost is a few field
+ * accesses.</li>
+ * <li>{@linkplain OAuth2ExecutionEvent#bytesReceived Bytes received} is obtained from header {@code Content-Length}
+ * since the body is read after the execution.</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TracerBasedOnJfr implements OAuth2Tracer {
+
+    @Override
+    public @NotNull OAuth2Span startOperation(
+            @Nullable OAuth2Span parent, @NotNull String platform, @NotNull OAuth2ClientOperation operation) {
+        OAuth2OperationEvent event = new OAuth2OperationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            return new OperationSpan(event, platform, operation);
+        }
+        return new OperationSpan(null, platform, operation);
+    }
+
+    @Override
+    public @NotNull OAuth2Span startExecution(@NotNull OAuth2Span parent, @NotNull OAuth2Request<?> request) {
+        OAuth2ExecutionEvent event = new OAuth2ExecutionEvent();
+        if (!event.isEnabled()) { return NoopSpan.INSTANCE; }
+        event.begin();
+        if (parent instanceof OperationSpan) {
+            event.platform = ((OperationSpan) parent).platform;
+            event.operation = ((OperationSpan) parent).operation.operationName();
+        }
+        event.method = request.method().name();
+        event.url = request.url().urlWithoutQueryAndAnchor();
+        return new ExecutionSpan(event);
+    }
+
+    // ######################################################################################
+
+    /**
+     * Return exception type of the given {@code throwable}.
+     *
+     * @param throwable throwable
+     * @return simple name of class of the throwable, or {@code null} if the throwable is {@code null}
+     */
+    private static @Nullable String exceptionType(@Nullable Throwable throwable) {
+        if (throwable == null) { return null; }
+        String simpleName = throwable.getClass().getSimpleName();
+        return simpleName.isEmpty() ? throwable.getClass().getName() : simpleName;
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Span of operation. */
+    private static final class OperationSpan implements OAuth2Span {
+
+        /** Event, {@code null} if the event is disabled. */
+        private final @Nullable OAuth2OperationEvent event;
+        /** Platform identifier. */
+        private final @NotNull String platform;
+        /** Operation. */
+        private final @NotNull OAuth2ClientOperation operation;
+
+        @Override
+        public void end(int status, @Nullable Throwable throwable) {
+            if (event == null) { return; }
+            event.end();
+            if (event.shouldCommit()) {
+                event.platform = platform;
+                event.operation = operation.operationName();
+                event.exceptionType = exceptionType(throwable);
+                event.commit();
+            }
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param event event
+         * @param platform platform identifier
+         * @param operation operation
+         */
+        private OperationSpan(
+                @Nullable OAuth2OperationEvent event, @NotNull String platform,
+                @NotNull OAuth2ClientOperation operation) {
+            this.event = event;
+            this.platform = platform;
+            this.operation = operation;
+        }
+
+    }
+
+    /** Span of execution. */
+    private static final class ExecutionSpan implements OAuth2Span {
+
+        /** Event. */
+        private final @NotNull OAuth2ExecutionEvent event;
+
+        @Override
+        public void end(@NotNull AbstractOAuth2Response response) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = response.status();
+                event.bytesReceived = contentLength(response);
+                event.commit();
+            }
+        }
+
+        @Override
+        public void end(int status, @Nullable Throwable throwable) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.status = status;
+                event.bytesReceived = -1L;
+                event.exceptionType = exceptionType(throwable);
+                event.commit();
+            }
+        }
+
+        /**
+         * Return content length of the given {@code response}.
+         *
+         * @param response response
+         * @return content length, or {@code -1} if unknown
+         */
+        private static long contentLength(@NotNull AbstractOAuth2Response response) {
+            String contentLength = response.firstHeader("Content-Length");
+            if (contentLength == null) { return -1L; }
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                return -1L;
+            }
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param event event
+         */
+        private ExecutionSpan(@NotNull OAuth2ExecutionEvent event) {
+            this.event = event;
+        }
+
+    }
+
+    /** Span which does nothing. */
+    private static final class NoopSpan implements OAuth2Span {
+
+        /** Instance. */
+        private static final NoopSpan INSTANCE = new NoopSpan();
+
+        @Override
+        public void end(int status, @Nullable Throwable throwable) {}
+
+        @Override
+        public void end(@NotNull AbstractOAuth2Response response) {}
+
+    }
+
+}
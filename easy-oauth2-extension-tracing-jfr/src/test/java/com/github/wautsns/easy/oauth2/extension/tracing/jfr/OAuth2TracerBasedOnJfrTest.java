@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.jfr;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Assert;
+import org.junit.Test;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test {@link OAuth2TracerBasedOnJfr}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2TracerBasedOnJfrTest {
+
+    @Test
+    public void testTrace() throws IOException {
+        OAuth2TracerBasedOnJfr tracer = new OAuth2TracerBasedOnJfr();
+        OAuth2URL url = new OAuth2URL("https://gitee.com/oauth/token", 1);
+        url.query().unique("refresh_token", "secret");
+        OAuth2Request<?> request = new OAuth2Request<>(OAuth2RequestMethod.POST, url);
+        // Not recorded since there is no recording.
+        tracer.startExecution(tracer.startOperation(null, "gitee", OAuth2ClientOperation.REFRESH_TOKEN), request)
+                .end(0, new SocketTimeoutException());
+        Path file = Files.createTempFile("easy-oauth2", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(OAuth2OperationEvent.NAME);
+            recording.enable(OAuth2ExecutionEvent.NAME);
+            recording.start();
+            OAuth2Span operation = tracer.startOperation(null, "gitee", OAuth2ClientOperation.REFRESH_TOKEN);
+            tracer.startExecution(operation, request).end(0, new SocketTimeoutException());
+            operation.end(0, new SocketTimeoutException());
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("com.github.wautsns"))
+                    .collect(Collectors.toList());
+            Assert.assertEquals(2, events.size());
+            RecordedEvent execution = events.stream()
+                    .filter(event -> event.getEventType().getName().equals(OAuth2ExecutionEvent.NAME))
+                    .findAny().orElseThrow(AssertionError::new);
+            Assert.assertEquals("gitee", execution.getString("platform"));
+            Assert.assertEquals("refreshToken", execution.getString("operation"));
+            Assert.assertEquals("POST", execution.getString("method"));
+            Assert.assertEquals("https://gitee.com/oauth/token", execution.getString("url"));
+            Assert.assertEquals(0, execution.getInt("status"));
+            Assert.assertEquals(-1L, execution.getLong("bytesReceived"));
+            Assert.assertEquals("SocketTimeoutException", execution.getString("exceptionType"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
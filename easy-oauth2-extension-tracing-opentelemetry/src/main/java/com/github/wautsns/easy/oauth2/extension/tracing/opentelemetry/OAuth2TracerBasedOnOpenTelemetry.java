@@ -0,0 +1,213 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.opentelemetry;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Tracer;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OAuth2 tracer based on opentelemetry.
+ *
+ * <ul>
+ * <li style="list-style-type:none">########## Notes ###############</li>
+ * <li>A span of operation is named by the {@linkplain OAuth2ClientOperation#operationName() operation name}, its
+ * parent is the span of the enclosing operation if any, otherwise the {@linkplain Context#current() current
+ * context}.</li>
+ * <li>A span of execution is named {@code HTTP <method>} with kind {@link SpanKind#CLIENT}, attribute {@code http.url}
+ * is the url without query and anchor (the query may contain secrets).</li>
+ * <li>Attribute {@value #RETRY_COUNT_KEY} of a span of execution is the number of previous executions of the same
+ * method and url during the operation (e.g. exchanging token for user again after refreshing token
+ * automatically).</li>
+ * </ul>
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public final class OAuth2TracerBasedOnOpenTelemetry implements OAuth2Tracer {
+
+    /** Instrumentation name. */
+    public static final String INSTRUMENTATION_NAME = "com.github.wautsns.easy-oauth2";
+
+    /** Key of attribute: platform identifier. */
+    public static final String PLATFORM_KEY = "easy_oauth2.platform";
+    /** Key of attribute: operation name. */
+    public static final String OPERATION_KEY = "easy_oauth2.operation";
+    /** Key of attribute: retry count. */
+    public static final String RETRY_COUNT_KEY = "easy_oauth2.retry_count";
+
+    /** Attribute key: platform identifier. */
+    private static final AttributeKey<String> PLATFORM = AttributeKey.stringKey(PLATFORM_KEY);
+    /** Attribute key: operation name. */
+    private static final AttributeKey<String> OPERATION = AttributeKey.stringKey(OPERATION_KEY);
+    /** Attribute key: retry count. */
+    private static final AttributeKey<Long> RETRY_COUNT = AttributeKey.longKey(RETRY_COUNT_KEY);
+    /** Attribute key: http method. */
+    private static final AttributeKey<String> HTTP_METHOD = AttributeKey.stringKey("http.method");
+    /** Attribute key: http url. */
+    private static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+    /** Attribute key: http status code. */
+    private static final AttributeKey<Long> HTTP_STATUS_CODE = AttributeKey.longKey("http.status_code");
+
+    // ######################################################################################
+
+    /** Raw tracer. */
+    private final @NotNull Tracer raw;
+
+    // ######################################################################################
+    // #################### start ###########################################################
+    // ######################################################################################
+
+    @Override
+    public @NotNull OAuth2Span startOperation(
+            @Nullable OAuth2Span parent, @NotNull String platform, @NotNull OAuth2ClientOperation operation) {
+        SpanBuilder builder = raw.spanBuilder(operation.operationName())
+                .setSpanKind(SpanKind.INTERNAL)
+                .setAttribute(PLATFORM, platform)
+                .setAttribute(OPERATION, operation.operationName());
+        if (parent instanceof OperationSpan) {
+            builder.setParent(Context.current().with(((OperationSpan) parent).raw));
+        }
+        return new OperationSpan(builder.startSpan(), platform, operation);
+    }
+
+    @Override
+    public @NotNull OAuth2Span startExecution(@NotNull OAuth2Span parent, @NotNull OAuth2Request<?> request) {
+        String method = request.method().name();
+        String url = request.url().urlWithoutQueryAndAnchor();
+        SpanBuilder builder = raw.spanBuilder("HTTP " + method)
+                .setSpanKind(SpanKind.CLIENT)
+                .setAttribute(HTTP_METHOD, method)
+                .setAttribute(HTTP_URL, url);
+        if (parent instanceof OperationSpan) {
+            OperationSpan operationSpan = (OperationSpan) parent;
+            builder.setParent(Context.current().with(operationSpan.raw))
+                    .setAttribute(PLATFORM, operationSpan.platform)
+                    .setAttribute(OPERATION, operationSpan.operation.operationName())
+                    .setAttribute(RETRY_COUNT, (long) operationSpan.countExecution(method + ' ' + url));
+        }
+        return new ExecutionSpan(builder.startSpan());
+    }
+
+    // ######################################################################################
+    // #################### inner class #####################################################
+    // ######################################################################################
+
+    /** Span of operation. */
+    private static final class OperationSpan implements OAuth2Span {
+
+        /** Raw span. */
+        private final @NotNull Span raw;
+        /** Platform identifier. */
+        private final @NotNull String platform;
+        /** Operation. */
+        private final @NotNull OAuth2ClientOperation operation;
+        /** Number of executions group by method and url, lazily initialized. */
+        private @Nullable Map<String, Integer> executionCounts;
+
+        @Override
+        public void end(int status, @Nullable Throwable throwable) {
+            if (throwable != null) {
+                raw.recordException(throwable);
+                raw.setStatus(StatusCode.ERROR);
+            }
+            raw.end();
+        }
+
+        /**
+         * Count an execution with the given {@code key}.
+         *
+         * @param key method and url
+         * @return number of previous executions with the same key
+         */
+        private synchronized int countExecution(@NotNull String key) {
+            if (executionCounts == null) { executionCounts = new HashMap<>(4); }
+            Integer previous = executionCounts.put(key, executionCounts.getOrDefault(key, 0) + 1);
+            return (previous == null) ? 0 : previous;
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param raw raw span
+         * @param platform platform identifier
+         * @param operation operation
+         */
+        private OperationSpan(@NotNull Span raw, @NotNull String platform, @NotNull OAuth2ClientOperation operation) {
+            this.raw = raw;
+            this.platform = platform;
+            this.operation = operation;
+        }
+
+    }
+
+    /** Span of execution. */
+    private static final class ExecutionSpan implements OAuth2Span {
+
+        /** Raw span. */
+        private final @NotNull Span raw;
+
+        @Override
+        public void end(int status, @Nullable Throwable throwable) {
+            if (status != 0) {
+                raw.setAttribute(HTTP_STATUS_CODE, (long) status);
+                if (status >= 400) { raw.setStatus(StatusCode.ERROR); }
+            }
+            if (throwable != null) {
+                raw.recordException(throwable);
+                raw.setStatus(StatusCode.ERROR);
+            }
+            raw.end();
+        }
+
+        /**
+         * Construct an instance.
+         *
+         * @param raw raw span
+         */
+        private ExecutionSpan(@NotNull Span raw) {
+            this.raw = raw;
+        }
+
+    }
+
+    // ######################################################################################
+    // #################### constructor #####################################################
+    // ######################################################################################
+
+    /**
+     * Construct an instance.
+     *
+     * @param openTelemetry opentelemetry
+     */
+    public OAuth2TracerBasedOnOpenTelemetry(@NotNull OpenTelemetry openTelemetry) {
+        this.raw = openTelemetry.getTracer(INSTRUMENTATION_NAME);
+    }
+
+}
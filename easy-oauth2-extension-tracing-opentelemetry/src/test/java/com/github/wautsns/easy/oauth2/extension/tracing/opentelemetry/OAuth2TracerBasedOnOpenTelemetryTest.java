@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.wautsns.easy.oauth2.extension.tracing.opentelemetry;
+
+import com.github.wautsns.easy.oauth2.core.metrics.OAuth2ClientOperation;
+import com.github.wautsns.easy.oauth2.core.request.model.basic.OAuth2URL;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2Request;
+import com.github.wautsns.easy.oauth2.core.request.model.request.OAuth2RequestMethod;
+import com.github.wautsns.easy.oauth2.core.tracing.OAuth2Span;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.testing.junit4.OpenTelemetryRule;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Test {@link OAuth2TracerBasedOnOpenTelemetry}.
+ *
+ * @author wautsns
+ * @since Oct 16, 2026
+ */
+public class OAuth2TracerBasedOnOpenTelemetryTest {
+
+    @Rule
+    public final OpenTelemetryRule otel = OpenTelemetryRule.create();
+
+    @Test
+    public void testTrace() {
+        OAuth2TracerBasedOnOpenTelemetry tracer = new OAuth2TracerBasedOnOpenTelemetry(otel.getOpenTelemetry());
+        OAuth2URL url = new OAuth2URL("https://api.github.com/user", 1);
+        url.query().unique("access_token", "secret");
+        OAuth2Request<?> request = new OAuth2Request<>(OAuth2RequestMethod.GET, url);
+        OAuth2Span operation = tracer.startOperation(null, "github", OAuth2ClientOperation.EXCHANGE_TOKEN_FOR_USER);
+        tracer.startExecution(operation, request).end(401, null);
+        OAuth2Span refreshing = tracer.startOperation(operation, "github", OAuth2ClientOperation.REFRESH_TOKEN);
+        refreshing.end(0, new IOException());
+        tracer.startExecution(operation, request).end(200, null);
+        operation.end(0, null);
+
+        List<SpanData> spans = otel.getSpans();
+        Assert.assertEquals(4, spans.size());
+        SpanData first = spans.get(0);
+        SpanData refresh = spans.get(1);
+        SpanData second = spans.get(2);
+        SpanData root = spans.get(3);
+        Assert.assertEquals("exchangeTokenForUser", root.getName());
+        Assert.assertEquals("github", root.getAttributes().get(AttributeKey.stringKey("easy_oauth2.platform")));
+        for (SpanData child : new SpanData[]{ first, refresh, second }) {
+            Assert.assertEquals(root.getSpanId(), child.getParentSpanId());
+            Assert.assertEquals(root.getTraceId(), child.getTraceId());
+        }
+        Assert.assertEquals(StatusCode.ERROR, refresh.getStatus().getStatusCode());
+        Assert.assertEquals("HTTP GET", first.getName());
+        Assert.assertEquals(SpanKind.CLIENT, first.getKind());
+        Assert.assertEquals("https://api.github.com/user", first.getAttributes().get(AttributeKey.stringKey("http.url")));
+        Assert.assertEquals(401L, (long) first.getAttributes().get(AttributeKey.longKey("http.status_code")));
+        Assert.assertEquals(StatusCode.ERROR, first.getStatus().getStatusCode());
+        Assert.assertEquals(0L, (long) first.getAttributes().get(AttributeKey.longKey("easy_oauth2.retry_count")));
+        Assert.assertEquals(1L, (long) second.getAttributes().get(AttributeKey.longKey("easy_oauth2.retry_count")));
+        Assert.assertEquals(StatusCode.UNSET, second.getStatus().getStatusCode());
+    }
+
+}